@@ -1,30 +1,36 @@
 package software.amazon.rds.dbcluster;
 
 import com.amazonaws.util.StringUtils;
-import com.google.common.collect.Sets;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.CloudwatchLogsExportConfiguration;
 import software.amazon.awssdk.services.rds.model.DBCluster;
 import software.amazon.awssdk.services.rds.model.DbClusterNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbClusterRoleAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbClusterRoleNotFoundException;
+import software.amazon.awssdk.services.rds.model.InvalidDbClusterStateException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.exceptions.TerminalException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.CallChain;
+import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.Logger;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.cloudformation.proxy.Delay;
 
 import java.time.Duration;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static software.amazon.rds.dbcluster.Translator.*;
 
@@ -32,8 +38,18 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     private static final String MESSAGE_FORMAT_FAILED_TO_STABILIZE = "DBCluster %s failed to stabilize.";
     protected static final int DBCLUSTER_ID_MAX_LENGTH = 63;
     protected static final int PAUSE_TIME_SECONDS = 60;
-    protected static final Constant BACKOFF_STRATEGY = Constant.of().timeout(Duration.ofMinutes(120L)).delay(Duration.ofSeconds(30L)).build();
+    // Backoff schedules keyed by the transitional status being waited out. Creates and deletes take minutes, so
+    // they settle at a longer interval; modifications and role changes usually finish within the first few polls.
+    protected static final Delay CREATING_BACKOFF = ExponentialBackoff.of().initialDelay(Duration.ofSeconds(10L)).maxDelay(Duration.ofSeconds(60L)).timeout(Duration.ofMinutes(120L)).build();
+    protected static final Delay MODIFYING_BACKOFF = ExponentialBackoff.of().initialDelay(Duration.ofSeconds(5L)).maxDelay(Duration.ofSeconds(30L)).timeout(Duration.ofMinutes(120L)).build();
+    protected static final Delay DELETING_BACKOFF = ExponentialBackoff.of().initialDelay(Duration.ofSeconds(10L)).maxDelay(Duration.ofSeconds(60L)).timeout(Duration.ofMinutes(120L)).build();
     protected static final BiFunction<ResourceModel, ProxyClient<RdsClient>, ResourceModel> EMPTY_CALL = (model, proxyClient) -> model;
+    private static final String ADD_ROLES_CALL_GRAPH = "rds::add-roles-to-dbcluster";
+    private static final String ROLE_STATUS_ACTIVE = "ACTIVE";
+    // Role associations are sent MAX_ROLE_CALLS_IN_FLIGHT at a time
+    protected static final int MAX_ROLE_CALLS_IN_FLIGHT = 4;
+    private static final RoleReconciler ROLE_RECONCILER = new RoleReconciler(MAX_ROLE_CALLS_IN_FLIGHT);
+    private static final String DEFAULT_PARTITION = "aws";
 
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
@@ -41,7 +57,12 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                              final CallbackContext callbackContext,
                                                                              final Logger logger) {
 
-        return handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(), proxy.newProxy(ClientBuilder::getClient), logger);
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        context.setInvocations(context.getInvocations() + 1);
+        context.resetResponseCache();
+        final ProgressEvent<ResourceModel, CallbackContext> progress = handleRequest(proxy, request, context, proxy.newProxy(ClientBuilder::getClient), logger);
+        if (progress.getStatus() != OperationStatus.IN_PROGRESS) logStepSummary(logger, progress.getStatus(), context);
+        return progress;
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(AmazonWebServicesClientProxy proxy,
@@ -50,6 +71,45 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                                    ProxyClient<RdsClient> proxyClient,
                                                                                    Logger logger);
 
+    // Starts a call chain whose API calls are accounted to the callGraph step in the callback context.
+    // Describe and List calls are served from the invocation's response cache where possible and are not counted.
+    protected CallChain.RequestMaker<RdsClient, ResourceModel, CallbackContext> initiate(final AmazonWebServicesClientProxy proxy,
+                                                                                         final String callGraph,
+                                                                                         final ProxyClient<RdsClient> proxyClient,
+                                                                                         final ResourceModel model,
+                                                                                         final CallbackContext callbackContext) {
+        final ProxyClient<RdsClient> metered = new MeteredProxyClient<>(proxyClient, callbackContext.stepMetrics(callGraph));
+        return proxy.initiate(callGraph, new CachingProxyClient<>(metered, callbackContext.responseCache()), model, callbackContext);
+    }
+
+    // Stabilization polls always go to the service and refresh the cached response for later steps
+    protected static <RequestT, ResponseT> CallChain.Callback<RequestT, ResponseT, RdsClient, ResourceModel, CallbackContext, Boolean> countingPolls(
+        final String callGraph,
+        final CallChain.Callback<RequestT, ResponseT, RdsClient, ResourceModel, CallbackContext, Boolean> stabilizer) {
+        return (request, response, proxyInvocation, model, callbackContext) -> {
+            callbackContext.stepMetrics(callGraph).recordPoll();
+            return callbackContext.responseCache().refreshing(() -> stabilizer.invoke(request, response, proxyInvocation, model, callbackContext));
+        };
+    }
+
+    // ARN the resource will have in the request's partition, account and region, or null when the request does not
+    // carry them. RDS stores identifiers in lower case.
+    protected static String resourceArn(final ResourceHandlerRequest<ResourceModel> request, final String resourceType, final String resourceName) {
+        if (StringUtils.isNullOrEmpty(request.getAwsAccountId()) || StringUtils.isNullOrEmpty(request.getRegion()) || StringUtils.isNullOrEmpty(resourceName)) {
+            return null;
+        }
+        final String partition = Optional.ofNullable(request.getAwsPartition()).orElse(DEFAULT_PARTITION);
+        return String.format("arn:%s:rds:%s:%s:%s:%s", partition, request.getRegion(), request.getAwsAccountId(), resourceType, resourceName.toLowerCase(Locale.ROOT));
+    }
+
+    private void logStepSummary(final Logger logger, final OperationStatus status, final CallbackContext callbackContext) {
+        logger.log(String.format("%s finished with %s after %d invocation(s)", getClass().getSimpleName(), status, callbackContext.getInvocations()));
+        callbackContext.getStepMetrics().forEach((callGraph, metrics) -> logger.log(String.format("%s: wall=%dms api=%dms calls=%d polls=%d",
+            callGraph, metrics.wallTimeMillis(), metrics.getApiTimeMillis(), metrics.getApiCalls(), metrics.getStabilizationPolls())));
+        final ResponseCache responseCache = callbackContext.responseCache();
+        logger.log(String.format("response cache: hits=%d misses=%d", responseCache.getHits(), responseCache.getMisses()));
+    }
+
     // DBCluster Stabilization
     protected boolean isDBClusterStabilized(final ProxyClient<RdsClient> proxyClient,
                                             final ResourceModel model,
@@ -76,17 +136,20 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected ProgressEvent<ResourceModel, CallbackContext> waitForDBClusterAvailableStatus(
         final AmazonWebServicesClientProxy proxy,
         final ProxyClient<RdsClient> proxyClient,
-        final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final Delay backoff) {
         // this is a stabilizer for dbcluster
-        return proxy.initiate("rds::stabilize-dbcluster" + getClass().getSimpleName(), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        final String callGraph = "rds::stabilize-dbcluster" + getClass().getSimpleName();
+        return initiate(proxy, callGraph, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
             // only stabilization is necessary so this is a dummy call
             // Function.identity() takes ResourceModel as an input and returns (the same) ResourceModel
             // Function.identity() is roughly similar to `model -> model`
             .translateToServiceRequest(Function.identity())
+            .backoffDelay(backoff)
             // this skips the call and goes directly to stabilization
             .makeServiceCall(EMPTY_CALL)
-            .stabilize((resourceModel, response, proxyInvocation, model, callbackContext) ->
-                isDBClusterStabilized(proxyInvocation, resourceModel, DBClusterStatus.Available)).progress();
+            .stabilize(countingPolls(callGraph, (resourceModel, response, proxyInvocation, model, callbackContext) ->
+                isDBClusterStabilized(proxyInvocation, resourceModel, DBClusterStatus.Available))).progress();
     }
 
     // Modify or Post Create
@@ -94,13 +157,22 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                             final ProxyClient<RdsClient> proxyClient,
                                                                             final ProgressEvent<ResourceModel, CallbackContext> progress,
                                                                             final CloudwatchLogsExportConfiguration config) {
-        if (progress.getCallbackContext().isModified()) return progress;
-        return proxy.initiate("rds::modify-dbcluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-            .translateToServiceRequest((modelRequest) -> modifyDbClusterRequest(modelRequest, config))
-            .backoffDelay(BACKOFF_STRATEGY)
+        return modifyDBCluster(proxy, proxyClient, progress, ModifyPlan.full(progress.getResourceModel(), config));
+    }
+
+    // Sends the plan's request. Changes that need stabilization pause before the first poll; instant ones carry on.
+    protected ProgressEvent<ResourceModel, CallbackContext> modifyDBCluster(final AmazonWebServicesClientProxy proxy,
+                                                                            final ProxyClient<RdsClient> proxyClient,
+                                                                            final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                            final ModifyPlan plan) {
+        if (progress.getCallbackContext().isModified() || plan.isEmpty()) return progress;
+        return initiate(proxy, "rds::modify-dbcluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            .translateToServiceRequest((modelRequest) -> plan.getRequest())
+            .backoffDelay(MODIFYING_BACKOFF)
             .makeServiceCall((dbClusterModifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(dbClusterModifyRequest, proxyInvocation.client()::modifyDBCluster))
             .done((modifyDbClusterRequest, modifyDbClusterResponse, proxyInvocation, resourceModel, callbackContext) ->  {
                 callbackContext.setModified(true);
+                if (!plan.needsStabilization()) return ProgressEvent.progress(resourceModel, callbackContext);
                 return ProgressEvent.defaultInProgressHandler(callbackContext, PAUSE_TIME_SECONDS, resourceModel);
             });
     }
@@ -110,54 +182,119 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                                final ProxyClient<RdsClient> proxyClient,
                                                                                final ProgressEvent<ResourceModel, CallbackContext> progress,
                                                                                final List<DBClusterRole> roles) {
-        final ResourceModel model = progress.getResourceModel();
-        final CallbackContext callbackContext = progress.getCallbackContext();
-        for(final DBClusterRole dbClusterRole: Optional.ofNullable(roles).orElse(Collections.emptyList())) {
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy.initiate("rds::add-roles-to-dbcluster", proxyClient, model, callbackContext)
-                .translateToServiceRequest(modelRequest -> addRoleToDbClusterRequest(modelRequest.getDBClusterIdentifier(), dbClusterRole.getRoleArn(), dbClusterRole.getFeatureName()))
-                .makeServiceCall((modelRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(modelRequest, proxyInvocation.client()::addRoleToDBCluster))
-                .stabilize((addRoleToDbClusterRequest, addRoleToDBClusterResponse, proxyInvocation, modelRequest, context) ->
-                    isRoleStabilized(proxyInvocation, modelRequest, dbClusterRole, true))
-                .success();
-            if (!progressEvent.isSuccess()) return progressEvent;
-        }
-        return progress;
+        return reconcileAssociatedRoles(proxy, proxyClient, progress, ADD_ROLES_CALL_GRAPH, Collections.emptyList(), roles);
     }
 
-    protected boolean isRoleStabilized(final ProxyClient<RdsClient> proxyClient,
-                                       final ResourceModel model,
-                                       final software.amazon.rds.dbcluster.DBClusterRole addedRole,
-                                       final boolean attached) { // true is attached / false is detached
-        final Predicate<software.amazon.awssdk.services.rds.model.DBClusterRole> isAttached = dbCluster ->
-                dbCluster.roleArn().equals(addedRole.getRoleArn()) &&
-                (dbCluster.featureName().equals(addedRole.getFeatureName()) || StringUtils.isNullOrEmpty(dbCluster.featureName()));
-        final Predicate<software.amazon.awssdk.services.rds.model.DBClusterRole> isDetached = dbCluster -> !dbCluster.roleArn().equals(addedRole.getRoleArn());
+    // Moves the cluster from previousRoles to desiredRoles. The calls go out concurrently, and every poll checks all of
+    // them against a single describe. Calls RDS turned down because another association was still in progress are
+    // sent again once the cluster reports no pending role.
+    protected ProgressEvent<ResourceModel, CallbackContext> reconcileAssociatedRoles(final AmazonWebServicesClientProxy proxy,
+                                                                                     final ProxyClient<RdsClient> proxyClient,
+                                                                                     final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                                     final String callGraph,
+                                                                                     final List<DBClusterRole> previousRoles,
+                                                                                     final List<DBClusterRole> roles) {
+        final List<DBClusterRole> desiredRoles = Optional.ofNullable(roles).orElse(Collections.emptyList());
+        final List<DBClusterRole> rolesToAdd = RoleReconciler.missing(previousRoles, desiredRoles);
+        final List<DBClusterRole> rolesToRemove = RoleReconciler.missing(desiredRoles, previousRoles);
+        if (rolesToAdd.isEmpty() && rolesToRemove.isEmpty()) return progress;
 
-        final DBCluster dbCluster = proxyClient.injectCredentialsAndInvokeV2(
+        return initiate(proxy, callGraph, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            .translateToServiceRequest(Function.identity())
+            .backoffDelay(MODIFYING_BACKOFF)
+            .makeServiceCall((resourceModel, proxyInvocation) -> {
+                applyRoleChanges(proxyInvocation, resourceModel, rolesToAdd, rolesToRemove);
+                return resourceModel;
+            })
+            .stabilize(countingPolls(callGraph, (resourceModel, response, proxyInvocation, model, callbackContext) ->
+                areRolesStabilized(proxyInvocation, model, desiredRoles, rolesToRemove)))
+            .progress();
+    }
+
+    protected boolean areRolesStabilized(final ProxyClient<RdsClient> proxyClient,
+                                         final ResourceModel model,
+                                         final List<DBClusterRole> desiredRoles,
+                                         final List<DBClusterRole> removedRoles) {
+        final List<software.amazon.awssdk.services.rds.model.DBClusterRole> actualRoles = proxyClient.injectCredentialsAndInvokeV2(
             Translator.describeDbClustersRequest(model),
-            proxyClient.client()::describeDBClusters).dbClusters().stream().findFirst().get();
+            proxyClient.client()::describeDBClusters).dbClusters().stream().findFirst().get().associatedRoles();
+
+        final List<DBClusterRole> rolesToAdd = desiredRoles.stream()
+            .filter(role -> actualRoles.stream().noneMatch(actualRole -> isAssociated(actualRole, role)))
+            .collect(Collectors.toList());
+        // a removal is only outstanding while the exact association remains; a role the cluster reports without a
+        // feature name is another association and does not hold it back
+        final List<DBClusterRole> rolesToRemove = removedRoles.stream()
+            .filter(role -> actualRoles.stream().anyMatch(actualRole -> RoleReconciler.sameKey(DBClusterRole.builder()
+                .roleArn(actualRole.roleArn())
+                .featureName(actualRole.featureName())
+                .build(), role)))
+            .collect(Collectors.toList());
+        if (rolesToAdd.isEmpty() && rolesToRemove.isEmpty()) return true;
 
-        if (attached) return dbCluster.associatedRoles().stream().anyMatch(isAttached);
-        return dbCluster.associatedRoles().isEmpty() || dbCluster.associatedRoles().stream().anyMatch(isDetached);
+        final boolean pending = actualRoles.stream().anyMatch(actualRole ->
+            !StringUtils.isNullOrEmpty(actualRole.status()) && !ROLE_STATUS_ACTIVE.equalsIgnoreCase(actualRole.status()));
+        if (!pending) applyRoleChanges(proxyClient, model, rolesToAdd, rolesToRemove);
+        return false;
     }
 
-    // Tag DBCluster
+    // An associated role without a feature name stands for the role under any feature when checking additions
+    private static boolean isAssociated(final software.amazon.awssdk.services.rds.model.DBClusterRole actualRole, final DBClusterRole role) {
+        return actualRole.roleArn().equals(role.getRoleArn())
+            && (StringUtils.isNullOrEmpty(actualRole.featureName()) || actualRole.featureName().equals(role.getFeatureName()));
+    }
+
+    private void applyRoleChanges(final ProxyClient<RdsClient> proxyClient,
+                                  final ResourceModel model,
+                                  final List<DBClusterRole> rolesToAdd,
+                                  final List<DBClusterRole> rolesToRemove) {
+        final List<RuntimeException> failures = ROLE_RECONCILER.run(rolesToAdd, rolesToRemove,
+            role -> {
+                try {
+                    proxyClient.injectCredentialsAndInvokeV2(addRoleToDbClusterRequest(model.getDBClusterIdentifier(), role.getRoleArn(), role.getFeatureName()), proxyClient.client()::addRoleToDBCluster);
+                } catch (DbClusterRoleAlreadyExistsException e) {
+                    // already associated
+                }
+            },
+            role -> {
+                try {
+                    proxyClient.injectCredentialsAndInvokeV2(removeRoleFromDbClusterRequest(model.getDBClusterIdentifier(), role.getRoleArn(), role.getFeatureName()), proxyClient.client()::removeRoleFromDBCluster);
+                } catch (DbClusterRoleNotFoundException e) {
+                    // already gone
+                }
+            });
+        // a call turned down for the cluster state is sent again by a later poll
+        failures.stream().filter(failure -> !(failure instanceof InvalidDbClusterStateException)).findFirst().ifPresent(failure -> {
+            throw failure;
+        });
+    }
+
+    // Tag DBCluster. previousTags are the tags from the previous resource state, or null when unknown, in which case
+    // the current tags are listed. No call is made at all when the previous and desired tags already match.
     protected ProgressEvent<ResourceModel, CallbackContext> tagResource(final AmazonWebServicesClientProxy proxy,
                                                                         final ProxyClient<RdsClient> proxyClient,
-                                                                        final ProgressEvent<ResourceModel, CallbackContext> progress) {
-        return proxy.initiate("rds::tag-dbcluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                                                                        final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                        final Set<Tag> previousTags) {
+        if (previousTags != null && TagDelta.between(previousTags, progress.getResourceModel().getTags()).isEmpty()) return progress;
+        return initiate(proxy, "rds::tag-dbcluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::describeDbClustersRequest)
                 .makeServiceCall((describeDbClusterRequest, rdsClientProxyClient) -> rdsClientProxyClient.injectCredentialsAndInvokeV2(describeDbClusterRequest, rdsClientProxyClient.client()::describeDBClusters))
                 .done((describeDbClusterRequest, describeDbClusterResponse, rdsClientProxyClient, resourceModel, context) -> {
                     final String arn = describeDbClusterResponse.dbClusters().stream().findFirst().get().dbClusterArn();
 
-                    final Set<Tag> currentTags = new HashSet<>(Optional.ofNullable(resourceModel.getTags()).orElse(Collections.emptySet()));
-                    final Set<Tag> existingTags = Translator.translateTagsFromSdk(rdsClientProxyClient.injectCredentialsAndInvokeV2(listTagsForResourceRequest(arn), rdsClientProxyClient.client()::listTagsForResource).tagList());
-                    final Set<Tag> tagsToRemove = Sets.difference(existingTags, currentTags);
-                    final Set<Tag> tagsToAdd = Sets.difference(currentTags, existingTags);
-                    rdsClientProxyClient.injectCredentialsAndInvokeV2(removeTagsFromResourceRequest(arn, tagsToRemove), rdsClientProxyClient.client()::removeTagsFromResource);
-                    rdsClientProxyClient.injectCredentialsAndInvokeV2(addTagsToResourceRequest(arn, tagsToAdd), rdsClientProxyClient.client()::addTagsToResource);
+                    final Set<Tag> existingTags = previousTags != null ? previousTags : Translator.translateTagsFromSdk(rdsClientProxyClient.injectCredentialsAndInvokeV2(listTagsForResourceRequest(arn), rdsClientProxyClient.client()::listTagsForResource).tagList());
+                    TagDelta.between(existingTags, resourceModel.getTags()).apply(rdsClientProxyClient, arn);
                     return ProgressEvent.progress(resourceModel, context);
                 });
     }
+
+    // The proxy's call chain reports AccessDenied as CfnAccessDeniedException; a direct injectCredentialsAndInvokeV2
+    // call lets the service's 403 through as it is
+    protected static boolean isAccessDenied(final Exception e) {
+        if (e instanceof CfnAccessDeniedException) return true;
+        if (!(e instanceof AwsServiceException)) return false;
+        final AwsServiceException serviceException = (AwsServiceException) e;
+        return serviceException.statusCode() == 403
+                || (serviceException.awsErrorDetails() != null && "AccessDenied".equals(serviceException.awsErrorDetails().errorCode()));
+    }
 }
@@ -0,0 +1,83 @@
+package software.amazon.rds.dbcluster;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * ProxyClient decorator that serves repeated Describe and List calls from the invocation's ResponseCache and clears
+ * the cache after every other call.
+ *
+ * Only the synchronous single-response calls are cached; the remaining variants are passed through.
+ */
+public class CachingProxyClient<ClientT> implements ProxyClient<ClientT> {
+    private final ProxyClient<ClientT> delegate;
+    private final ResponseCache cache;
+
+    public CachingProxyClient(final ProxyClient<ClientT> delegate, final ResponseCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction) {
+        if (ResponseCache.isReadOnly(request)) {
+            return cache.readThrough(request, () -> delegate.injectCredentialsAndInvokeV2(request, requestFunction));
+        }
+        return invalidating(request, () -> delegate.injectCredentialsAndInvokeV2(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        final CompletableFuture<ResponseT> response = delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+        if (ResponseCache.isReadOnly(request)) return response;
+        return response.whenComplete((result, exception) -> cache.invalidate());
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+            final RequestT request,
+            final Function<RequestT, IterableT> requestFunction) {
+        return invalidating(request, () -> delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+            final RequestT request,
+            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        return invalidating(request, () -> delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+            final RequestT request,
+            final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        return invalidating(request, () -> delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction));
+    }
+
+    @Override
+    public ClientT client() {
+        return delegate.client();
+    }
+
+    // A failed mutation may still have been applied, so the cache is cleared either way
+    private <T> T invalidating(final AwsRequest request, final Supplier<T> call) {
+        if (ResponseCache.isReadOnly(request)) return call.get();
+        try {
+            return call.get();
+        } finally {
+            cache.invalidate();
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package software.amazon.rds.dbcluster;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 @lombok.Getter
@@ -8,4 +11,24 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
     private boolean modified;
+    private int invocations;
+    private Map<String, StepMetrics> stepMetrics = new LinkedHashMap<>();
+
+    // Scoped to one handler invocation: transient and without accessors, so it is never serialized with the context
+    @lombok.Getter(lombok.AccessLevel.NONE)
+    @lombok.Setter(lombok.AccessLevel.NONE)
+    @lombok.ToString.Exclude
+    private transient ResponseCache responseCache = new ResponseCache();
+
+    synchronized StepMetrics stepMetrics(final String callGraph) {
+        return stepMetrics.computeIfAbsent(callGraph, key -> new StepMetrics());
+    }
+
+    synchronized ResponseCache responseCache() {
+        return responseCache;
+    }
+
+    synchronized void resetResponseCache() {
+        responseCache = new ResponseCache();
+    }
 }
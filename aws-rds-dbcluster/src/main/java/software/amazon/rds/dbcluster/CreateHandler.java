@@ -27,9 +27,9 @@ public class CreateHandler extends BaseHandlerStd {
             .then(progress -> {
                 if (!StringUtils.isNullOrEmpty(progress.getResourceModel().getSourceDBClusterIdentifier())) {
                     // restore to point in time
-                    return proxy.initiate("rds::restore-dbcluster-in-time", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                    return initiate(proxy, "rds::restore-dbcluster-in-time", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(Translator::restoreDbClusterToPointInTimeRequest)
-                        .backoffDelay(BACKOFF_STRATEGY)
+                        .backoffDelay(CREATING_BACKOFF)
                         .makeServiceCall((dbClusterRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(dbClusterRequest, proxyInvocation.client()::restoreDBClusterToPointInTime))
                         .progress();
                 }
@@ -39,9 +39,9 @@ public class CreateHandler extends BaseHandlerStd {
                 if (!StringUtils.isNullOrEmpty(progress.getResourceModel().getSnapshotIdentifier()) &&
                     StringUtils.isNullOrEmpty(progress.getResourceModel().getSourceDBClusterIdentifier())) {
                     // restore from snapshot
-                    return proxy.initiate("rds::restore-dbcluster-snapshot", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                    return initiate(proxy, "rds::restore-dbcluster-snapshot", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(Translator::restoreDbClusterFromSnapshotRequest)
-                        .backoffDelay(BACKOFF_STRATEGY)
+                        .backoffDelay(CREATING_BACKOFF)
                         .makeServiceCall((dbClusterRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(dbClusterRequest, proxyInvocation.client()::restoreDBClusterFromSnapshot))
                         .progress();
                 }
@@ -51,23 +51,22 @@ public class CreateHandler extends BaseHandlerStd {
                 if(StringUtils.isNullOrEmpty(progress.getResourceModel().getSnapshotIdentifier()) &&
                     StringUtils.isNullOrEmpty(progress.getResourceModel().getSourceDBClusterIdentifier())) {
                     // regular create dbcluster
-                    return proxy
-                        .initiate("rds::create-dbcluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                    return initiate(proxy, "rds::create-dbcluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(Translator::createDbClusterRequest)
-                        .backoffDelay(BACKOFF_STRATEGY)
+                        .backoffDelay(CREATING_BACKOFF)
                         .makeServiceCall((dbClusterRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(dbClusterRequest, proxyInvocation.client()::createDBCluster))
                         .progress();
                 }
                 return progress;
             })
-            .then(progress -> waitForDBClusterAvailableStatus(proxy, proxyClient, progress))
+            .then(progress -> waitForDBClusterAvailableStatus(proxy, proxyClient, progress, CREATING_BACKOFF))
             .then(progress -> {
                 // check if db cluster was restored and needs post-restore update
                 if (!StringUtils.isNullOrEmpty(progress.getResourceModel().getSnapshotIdentifier()))
                     return modifyDBCluster(proxy, proxyClient, progress, CloudwatchLogsExportConfiguration.builder().build());
                 return progress;
             })
-            .then(progress -> waitForDBClusterAvailableStatus(proxy, proxyClient, progress))
+            .then(progress -> waitForDBClusterAvailableStatus(proxy, proxyClient, progress, MODIFYING_BACKOFF))
             .then(progress -> addAssociatedRoles(proxy, proxyClient, progress, progress.getResourceModel().getAssociatedRoles()))
             .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
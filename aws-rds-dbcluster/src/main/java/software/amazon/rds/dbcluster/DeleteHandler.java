@@ -8,19 +8,20 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.Logger;
 
 public class DeleteHandler extends BaseHandlerStd {
+    private static final String DELETE_CALL_GRAPH = "rds::delete-dbcluster";
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                           final ResourceHandlerRequest<ResourceModel> request,
                                                                           final CallbackContext callbackContext,
                                                                           final ProxyClient<RdsClient> proxyClient,
                                                                           final Logger logger) {
-        return proxy.initiate("rds::delete-dbcluster", proxyClient, request.getDesiredResourceState(), callbackContext)
+        return initiate(proxy, DELETE_CALL_GRAPH, proxyClient, request.getDesiredResourceState(), callbackContext)
                 // request to delete db cluster
                 .translateToServiceRequest(Translator::deleteDbClusterRequest)
-                .backoffDelay(BACKOFF_STRATEGY)
+                .backoffDelay(DELETING_BACKOFF)
                 .makeServiceCall((deleteDbClusterRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(deleteDbClusterRequest, proxyInvocation.client()::deleteDBCluster))
                 // wait until deleted
-                .stabilize((deleteDbClusterRequest, deleteDbClusterResponse, proxyInvocation, model, context) -> isDBClusterStabilized(proxyInvocation, model, DBClusterStatus.Deleted))
+                .stabilize(countingPolls(DELETE_CALL_GRAPH, (deleteDbClusterRequest, deleteDbClusterResponse, proxyInvocation, model, context) -> isDBClusterStabilized(proxyInvocation, model, DBClusterStatus.Deleted)))
                 .success();
     }
 }
@@ -1,6 +1,7 @@
 package software.amazon.rds.dbcluster;
 
 import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBCluster;
 import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -9,9 +10,26 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 
 public class ListHandler extends BaseHandlerStd {
+    // Setting this environment variable to true on the handler function lists fully populated models, as Read returns
+    // them, instead of identifiers only. Tags are then listed for every cluster of the page, MAX_TAG_LISTS_IN_FLIGHT
+    // at a time.
+    static final String FULL_MODELS_VARIABLE = "RDS_LIST_FULL_MODELS";
+    static final int MAX_TAG_LISTS_IN_FLIGHT = 4;
+
+    private final boolean fullModels;
+
+    public ListHandler() {
+        this(Boolean.parseBoolean(System.getenv(FULL_MODELS_VARIABLE)));
+    }
+
+    ListHandler(final boolean fullModels) {
+        this.fullModels = fullModels;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -23,14 +41,30 @@ public class ListHandler extends BaseHandlerStd {
 
         final DescribeDbClustersResponse describeDbClustersResponse = proxy.injectCredentialsAndInvokeV2(Translator.describeDbClustersRequest(request.getNextToken()), proxyClient.client()::describeDBClusters);
 
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModels(describeDbClustersResponse.dbClusters()
+        final List<ResourceModel> models = fullModels
+                ? new ListEnricher(MAX_TAG_LISTS_IN_FLIGHT).map(describeDbClustersResponse.dbClusters(), dbCluster -> fullModel(proxyClient, dbCluster))
+                : describeDbClustersResponse.dbClusters()
                         .stream()
                         .map(dbCluster -> ResourceModel.builder()
                                 .dBClusterIdentifier(dbCluster.dbClusterIdentifier()).build())
-                        .collect(Collectors.toList()))
+                        .collect(Collectors.toList());
+
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(models)
                 .nextToken(describeDbClustersResponse.marker())
                 .status(OperationStatus.SUCCESS)
                 .build();
     }
+
+    private ResourceModel fullModel(final ProxyClient<RdsClient> proxyClient, final DBCluster dbCluster) {
+        List<software.amazon.awssdk.services.rds.model.Tag> tags;
+        try {
+            tags = proxyClient.injectCredentialsAndInvokeV2(Translator.listTagsForResourceRequest(dbCluster.dbClusterArn()), proxyClient.client()::listTagsForResource).tagList();
+        } catch (RuntimeException e) {
+            // a cluster whose tags the caller may not list comes back without them
+            if (!isAccessDenied(e)) throw e;
+            tags = Collections.emptyList();
+        }
+        return Translator.translateDbClusterFromSdk(dbCluster, tags);
+    }
 }
@@ -0,0 +1,76 @@
+package software.amazon.rds.dbcluster;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * ProxyClient decorator that records every API call made on behalf of one call-graph step into its StepMetrics.
+ */
+public class MeteredProxyClient<ClientT> implements ProxyClient<ClientT> {
+    private final ProxyClient<ClientT> delegate;
+    private final StepMetrics metrics;
+
+    public MeteredProxyClient(final ProxyClient<ClientT> delegate, final StepMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction) {
+        return metered(() -> delegate.injectCredentialsAndInvokeV2(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        final long start = System.currentTimeMillis();
+        return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction)
+                .whenComplete((response, exception) -> metrics.recordCall(start, System.currentTimeMillis()));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+            final RequestT request,
+            final Function<RequestT, IterableT> requestFunction) {
+        return metered(() -> delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+            final RequestT request,
+            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        return metered(() -> delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+            final RequestT request,
+            final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        return metered(() -> delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction));
+    }
+
+    @Override
+    public ClientT client() {
+        return delegate.client();
+    }
+
+    private <T> T metered(final Supplier<T> call) {
+        final long start = System.currentTimeMillis();
+        try {
+            return call.get();
+        } finally {
+            metrics.recordCall(start, System.currentTimeMillis());
+        }
+    }
+}
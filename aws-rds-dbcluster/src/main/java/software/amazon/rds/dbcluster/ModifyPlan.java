@@ -0,0 +1,121 @@
+package software.amazon.rds.dbcluster;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import software.amazon.awssdk.services.rds.model.CloudwatchLogsExportConfiguration;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterRequest;
+
+/**
+ * ModifyDBCluster request carrying only the attributes that differ between the previous and the desired model.
+ *
+ * Attributes fall in two classes. Backup retention, the backup and maintenance windows and deletion protection are
+ * recorded by RDS without the cluster leaving "available", so a plan made of those alone needs no stabilization.
+ * Everything else (password, parameter group, port, engine version, security groups, log exports and so on) takes
+ * the cluster through "modifying" or a similar status, and the handler has to wait for it to become available again.
+ * Without a previous model nothing can be compared, and the plan sends every attribute the way a post-create modify does.
+ */
+public final class ModifyPlan {
+    private final ModifyDbClusterRequest request;
+    private final boolean stabilizationNeeded;
+
+    private ModifyPlan(final ModifyDbClusterRequest request, final boolean stabilizationNeeded) {
+        this.request = request;
+        this.stabilizationNeeded = stabilizationNeeded;
+    }
+
+    public static ModifyPlan full(final ResourceModel desired, final CloudwatchLogsExportConfiguration config) {
+        return new ModifyPlan(Translator.modifyDbClusterRequest(desired, config), true);
+    }
+
+    public static ModifyPlan between(final ResourceModel previous,
+                                     final ResourceModel desired,
+                                     final CloudwatchLogsExportConfiguration config) {
+        if (previous == null) return full(desired, config);
+
+        final ModifyDbClusterRequest.Builder builder = ModifyDbClusterRequest.builder().dbClusterIdentifier(desired.getDBClusterIdentifier());
+        boolean changed = false;
+        boolean stabilizationNeeded = false;
+
+        if (!Objects.equals(previous.getBackupRetentionPeriod(), desired.getBackupRetentionPeriod())) {
+            builder.backupRetentionPeriod(desired.getBackupRetentionPeriod());
+            changed = true;
+        }
+        if (!Objects.equals(previous.getPreferredBackupWindow(), desired.getPreferredBackupWindow())) {
+            builder.preferredBackupWindow(desired.getPreferredBackupWindow());
+            changed = true;
+        }
+        if (!Objects.equals(previous.getPreferredMaintenanceWindow(), desired.getPreferredMaintenanceWindow())) {
+            builder.preferredMaintenanceWindow(desired.getPreferredMaintenanceWindow());
+            changed = true;
+        }
+        if (!Objects.equals(previous.getDeletionProtection(), desired.getDeletionProtection())) {
+            builder.deletionProtection(desired.getDeletionProtection());
+            changed = true;
+        }
+
+        if (!Objects.equals(previous.getBacktrackWindow(), desired.getBacktrackWindow())) {
+            builder.backtrackWindow(Translator.castToLong(desired.getBacktrackWindow()));
+            stabilizationNeeded = true;
+        }
+        if (!Objects.equals(previous.getDBClusterParameterGroupName(), desired.getDBClusterParameterGroupName())) {
+            builder.dbClusterParameterGroupName(desired.getDBClusterParameterGroupName());
+            stabilizationNeeded = true;
+        }
+        if (!Objects.equals(previous.getEnableIAMDatabaseAuthentication(), desired.getEnableIAMDatabaseAuthentication())) {
+            builder.enableIAMDatabaseAuthentication(desired.getEnableIAMDatabaseAuthentication());
+            stabilizationNeeded = true;
+        }
+        if (!Objects.equals(previous.getEnableHttpEndpoint(), desired.getEnableHttpEndpoint())) {
+            builder.enableHttpEndpoint(desired.getEnableHttpEndpoint());
+            stabilizationNeeded = true;
+        }
+        if (!Objects.equals(previous.getMasterUserPassword(), desired.getMasterUserPassword())) {
+            builder.masterUserPassword(desired.getMasterUserPassword());
+            stabilizationNeeded = true;
+        }
+        if (!Objects.equals(previous.getPort(), desired.getPort())) {
+            builder.port(desired.getPort());
+            stabilizationNeeded = true;
+        }
+        if (!Objects.equals(previous.getScalingConfiguration(), desired.getScalingConfiguration())) {
+            builder.scalingConfiguration(Translator.translateScalingConfigurationToSdk(desired.getScalingConfiguration()));
+            stabilizationNeeded = true;
+        }
+        if (!asSet(previous.getVpcSecurityGroupIds()).equals(asSet(desired.getVpcSecurityGroupIds()))) {
+            builder.vpcSecurityGroupIds(desired.getVpcSecurityGroupIds());
+            stabilizationNeeded = true;
+        }
+        if (!Objects.equals(previous.getEngineVersion(), desired.getEngineVersion())) {
+            builder.engineVersion(desired.getEngineVersion());
+            stabilizationNeeded = true;
+        }
+        if (config != null && (!config.enableLogTypes().isEmpty() || !config.disableLogTypes().isEmpty())) {
+            builder.cloudwatchLogsExportConfiguration(config);
+            stabilizationNeeded = true;
+        }
+
+        if (!changed && !stabilizationNeeded) return new ModifyPlan(null, false);
+        return new ModifyPlan(builder.build(), stabilizationNeeded);
+    }
+
+    public boolean isEmpty() {
+        return request == null;
+    }
+
+    public boolean needsStabilization() {
+        return stabilizationNeeded;
+    }
+
+    public ModifyDbClusterRequest getRequest() {
+        return request;
+    }
+
+    private static Set<String> asSet(final Collection<String> values) {
+        return new HashSet<>(Optional.ofNullable(values).orElse(Collections.emptyList()));
+    }
+}
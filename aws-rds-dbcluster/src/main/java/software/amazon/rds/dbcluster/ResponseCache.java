@@ -0,0 +1,73 @@
+package software.amazon.rds.dbcluster;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+
+/**
+ * Read-through cache of Describe and List responses for a single handler invocation.
+ *
+ * Responses are keyed by request, which the SDK compares field by field. Any mutating call clears the cache, since
+ * one invocation only ever changes its own cluster. Stabilization polls skip the lookup and refresh the entry instead,
+ * so a waiter always sees the current status while the steps after it reuse the final poll.
+ */
+public class ResponseCache {
+    private final Map<AwsRequest, AwsResponse> responses = new HashMap<>();
+    private long generation;
+    private int refreshing;
+    private int hits;
+    private int misses;
+
+    static boolean isReadOnly(final AwsRequest request) {
+        final String operation = request.getClass().getSimpleName();
+        return operation.startsWith("Describe") || operation.startsWith("List");
+    }
+
+    @SuppressWarnings("unchecked")
+    <ResponseT extends AwsResponse> ResponseT readThrough(final AwsRequest request, final Supplier<ResponseT> call) {
+        final long requestGeneration;
+        synchronized (this) {
+            if (refreshing == 0 && responses.containsKey(request)) {
+                hits++;
+                return (ResponseT) responses.get(request);
+            }
+            misses++;
+            requestGeneration = generation;
+        }
+        final ResponseT response = call.get();
+        synchronized (this) {
+            // a mutation that completed while this read was in flight may have made the response stale
+            if (requestGeneration == generation) responses.put(request, response);
+        }
+        return response;
+    }
+
+    synchronized void invalidate() {
+        responses.clear();
+        generation++;
+    }
+
+    <T> T refreshing(final Supplier<T> read) {
+        synchronized (this) {
+            refreshing++;
+        }
+        try {
+            return read.get();
+        } finally {
+            synchronized (this) {
+                refreshing--;
+            }
+        }
+    }
+
+    synchronized int getHits() {
+        return hits;
+    }
+
+    synchronized int getMisses() {
+        return misses;
+    }
+}
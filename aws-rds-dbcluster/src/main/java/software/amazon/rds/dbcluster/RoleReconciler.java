@@ -0,0 +1,91 @@
+package software.amazon.rds.dbcluster;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import com.amazonaws.util.StringUtils;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Brings the roles associated with a cluster from one set to another, keyed by (roleArn, featureName).
+ *
+ * Only roles whose key is missing on one side are touched, so an unchanged role is neither removed nor re-added.
+ * Removals go first, since a role may be swapped to another feature, then additions; each group runs with at most
+ * maxInFlight calls at a time on a shared pool. A failed call does not stop the others, and the failures come back
+ * in call order for the caller to decide on.
+ */
+public class RoleReconciler {
+    private static final int POOL_SIZE = 8;
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(POOL_SIZE,
+            new ThreadFactoryBuilder().setNameFormat("rds-cluster-role-%d").setDaemon(true).build());
+
+    private final int maxInFlight;
+
+    public RoleReconciler(final int maxInFlight) {
+        Preconditions.checkArgument(maxInFlight >= 1, "maxInFlight must be >= 1");
+        this.maxInFlight = maxInFlight;
+    }
+
+    public List<RuntimeException> run(final List<DBClusterRole> toAdd,
+                                      final List<DBClusterRole> toRemove,
+                                      final Consumer<DBClusterRole> add,
+                                      final Consumer<DBClusterRole> remove) {
+        final List<RuntimeException> failures = new ArrayList<>(runAll(toRemove, remove));
+        failures.addAll(runAll(toAdd, add));
+        return failures;
+    }
+
+    // Roles of desired that current does not have
+    public static List<DBClusterRole> missing(final Collection<DBClusterRole> current, final Collection<DBClusterRole> desired) {
+        final Collection<DBClusterRole> currentRoles = Optional.ofNullable(current).orElse(Collections.emptyList());
+        return Optional.ofNullable(desired).orElse(Collections.emptyList()).stream()
+                .filter(role -> currentRoles.stream().noneMatch(currentRole -> sameKey(currentRole, role)))
+                .collect(Collectors.toList());
+    }
+
+    public static boolean sameKey(final DBClusterRole left, final DBClusterRole right) {
+        return left.getRoleArn().equals(right.getRoleArn())
+                && normalize(left.getFeatureName()).equals(normalize(right.getFeatureName()));
+    }
+
+    private static String normalize(final String featureName) {
+        return StringUtils.isNullOrEmpty(featureName) ? "" : featureName;
+    }
+
+    private List<RuntimeException> runAll(final List<DBClusterRole> roles, final Consumer<DBClusterRole> call) {
+        final Semaphore inFlight = new Semaphore(maxInFlight);
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (final DBClusterRole role : roles) {
+            inFlight.acquireUninterruptibly();
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    call.accept(role);
+                } finally {
+                    inFlight.release();
+                }
+            }, EXECUTOR));
+        }
+
+        final List<RuntimeException> failures = new ArrayList<>();
+        for (final CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Error) throw (Error) e.getCause();
+                failures.add(e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e);
+            }
+        }
+        return failures;
+    }
+}
@@ -0,0 +1,34 @@
+package software.amazon.rds.dbcluster;
+
+/**
+ * Timing totals for one call-graph step, kept in the CallbackContext so they survive re-invocations.
+ *
+ * Wall time spans from the start of the first API call to the end of the last one, which includes
+ * any callback delay spent waiting between stabilization polls.
+ */
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
+@lombok.EqualsAndHashCode
+public class StepMetrics {
+    private long firstCallStartMillis;
+    private long lastCallEndMillis;
+    private long apiTimeMillis;
+    private int apiCalls;
+    private int stabilizationPolls;
+
+    synchronized void recordCall(final long startMillis, final long endMillis) {
+        if (apiCalls == 0 || startMillis < firstCallStartMillis) firstCallStartMillis = startMillis;
+        lastCallEndMillis = Math.max(lastCallEndMillis, endMillis);
+        apiTimeMillis += endMillis - startMillis;
+        apiCalls++;
+    }
+
+    synchronized void recordPoll() {
+        stabilizationPolls++;
+    }
+
+    synchronized long wallTimeMillis() {
+        return apiCalls == 0 ? 0L : lastCallEndMillis - firstCallStartMillis;
+    }
+}
@@ -3,6 +3,7 @@ package software.amazon.rds.dbcluster;
 import com.google.common.collect.Sets;
 import software.amazon.awssdk.services.rds.model.CloudwatchLogsExportConfiguration;
 import software.amazon.awssdk.services.rds.model.CreateDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.DBCluster;
 import software.amazon.awssdk.services.rds.model.RestoreDbClusterToPointInTimeRequest;
 import software.amazon.awssdk.services.rds.model.RestoreDbClusterFromSnapshotRequest;
 import software.amazon.awssdk.services.rds.model.AddRoleToDbClusterRequest;
@@ -16,6 +17,7 @@ import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
 import software.amazon.awssdk.services.rds.model.ScalingConfigurationInfo;
 import software.amazon.awssdk.services.rds.model.ScalingConfiguration;
 import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.Collection;
@@ -141,7 +143,10 @@ public class Translator {
         CloudwatchLogsExportConfiguration.Builder config = CloudwatchLogsExportConfiguration.builder();
 
         final List<String> currentLogsExports = request.getDesiredResourceState().getEnableCloudwatchLogsExports();
-        final List<String> previousLogsExports = request.getPreviousResourceState().getEnableCloudwatchLogsExports();
+        // without a previous state every desired log type is enabled and none is disabled
+        final List<String> previousLogsExports = Optional.ofNullable(request.getPreviousResourceState())
+                .map(ResourceModel::getEnableCloudwatchLogsExports)
+                .orElse(null);
 
 
         final Set<String> existingLogs = new HashSet<>(Optional.ofNullable(previousLogsExports).orElse(Collections.emptyList()));
@@ -228,4 +233,47 @@ public class Translator {
                 .minCapacity(scalingConfiguration.minCapacity())
                 .secondsUntilAutoPause(scalingConfiguration.secondsUntilAutoPause()).build();
     }
+
+    // Model of a described cluster as Read and the full-model List return it
+    static ResourceModel translateDbClusterFromSdk(final DBCluster dbCluster, final Collection<Tag> tags) {
+        return ResourceModel.builder()
+                // read only properties GetAtt
+                .endpoint(Endpoint.builder()
+                        .address(dbCluster.endpoint())
+                        .port(dbCluster.port().toString()).build())
+                .readEndpoint(ReadEndpoint.builder()
+                        .address(dbCluster.readerEndpoint()).build())
+
+                .associatedRoles(dbCluster.associatedRoles().stream()
+                        .map(dbClusterRole -> software.amazon.rds.dbcluster.DBClusterRole.builder()
+                                .roleArn(dbClusterRole.roleArn())
+                                .featureName(dbClusterRole.featureName())
+                                .build())
+                        .collect(Collectors.toList()))
+                .availabilityZones(dbCluster.availabilityZones())
+                .backtrackWindow(castToInt(dbCluster.backtrackWindow()))
+                .backupRetentionPeriod(dbCluster.backupRetentionPeriod())
+                .databaseName(dbCluster.databaseName())
+                .dBClusterIdentifier(dbCluster.dbClusterIdentifier())
+                .dBClusterParameterGroupName(dbCluster.dbClusterParameterGroup())
+                .dBSubnetGroupName(dbCluster.dbSubnetGroup())
+                .deletionProtection(dbCluster.deletionProtection())
+                .enableCloudwatchLogsExports(dbCluster.enabledCloudwatchLogsExports())
+                .enableHttpEndpoint(dbCluster.httpEndpointEnabled())
+                .enableIAMDatabaseAuthentication(dbCluster.iamDatabaseAuthenticationEnabled())
+                .engine(dbCluster.engine())
+                .engineMode(dbCluster.engineMode())
+                .engineVersion(dbCluster.engineVersion())
+                .kmsKeyId(dbCluster.kmsKeyId())
+                .masterUsername(dbCluster.masterUsername())
+                .port(dbCluster.port())
+                .preferredBackupWindow(dbCluster.preferredBackupWindow())
+                .preferredMaintenanceWindow(dbCluster.preferredMaintenanceWindow())
+                .replicationSourceIdentifier(dbCluster.replicationSourceIdentifier())
+                .scalingConfiguration(translateScalingConfigurationFromSdk(dbCluster.scalingConfigurationInfo()))
+                .storageEncrypted(dbCluster.storageEncrypted())
+                .tags(translateTagsFromSdk(tags))
+                .vpcSecurityGroupIds(dbCluster.vpcSecurityGroups().stream().map(VpcSecurityGroupMembership::vpcSecurityGroupId).collect(Collectors.toList()))
+                .build();
+    }
 }
@@ -1,10 +1,9 @@
 package software.amazon.rds.dbcluster;
 
 import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import software.amazon.awssdk.services.rds.RdsClient;
-import software.amazon.awssdk.services.rds.model.DbClusterRoleNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -13,9 +12,9 @@ import software.amazon.cloudformation.proxy.Logger;
 
 import static software.amazon.rds.dbcluster.ModelAdapter.setDefaults;
 import static software.amazon.rds.dbcluster.Translator.cloudwatchLogsExportConfiguration;
-import static software.amazon.rds.dbcluster.Translator.removeRoleFromDbClusterRequest;
 
 public class UpdateHandler extends BaseHandlerStd {
+    private static final String RECONCILE_ROLES_CALL_GRAPH = "rds::reconcile-roles-dbcluster";
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -24,36 +23,22 @@ public class UpdateHandler extends BaseHandlerStd {
         final ProxyClient<RdsClient> proxyClient,
         final Logger logger) {
 
-      return ProgressEvent.progress(setDefaults(request.getDesiredResourceState()), callbackContext)
-          .then(progress -> modifyDBCluster(proxy, proxyClient, progress, cloudwatchLogsExportConfiguration(request)))
-          .then(progress -> waitForDBClusterAvailableStatus(proxy, proxyClient, progress))
-          .then(progress -> removeAssociatedRoles(proxy, proxyClient, progress, setDefaults(request.getPreviousResourceState()).getAssociatedRoles()))
-          .then(progress -> addAssociatedRoles(proxy, proxyClient, progress, progress.getResourceModel().getAssociatedRoles()))
-          .then(progress -> tagResource(proxy, proxyClient, progress))
+      final ResourceModel desiredModel = setDefaults(request.getDesiredResourceState());
+      final ResourceModel previousModel = request.getPreviousResourceState() == null ? null : setDefaults(request.getPreviousResourceState());
+      final ModifyPlan modifyPlan = ModifyPlan.between(previousModel, desiredModel, cloudwatchLogsExportConfiguration(request));
+
+      return ProgressEvent.progress(desiredModel, callbackContext)
+          .then(progress -> modifyDBCluster(proxy, proxyClient, progress, modifyPlan))
+          .then(progress -> modifyPlan.needsStabilization() ? waitForDBClusterAvailableStatus(proxy, proxyClient, progress, MODIFYING_BACKOFF) : progress)
+          .then(progress -> reconcileAssociatedRoles(proxy, proxyClient, progress, RECONCILE_ROLES_CALL_GRAPH,
+              previousModel == null ? Collections.emptyList() : previousModel.getAssociatedRoles(), progress.getResourceModel().getAssociatedRoles()))
+          .then(progress -> tagResource(proxy, proxyClient, progress, previousTags(request)))
           .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
-    private ProgressEvent<ResourceModel, CallbackContext> removeAssociatedRoles(
-        final AmazonWebServicesClientProxy proxy,
-        final ProxyClient<RdsClient> proxyClient,
-        final ProgressEvent<ResourceModel, CallbackContext> progress,
-        final List<DBClusterRole> roles) {
-      final ResourceModel model = progress.getResourceModel();
-      final CallbackContext callbackContext = progress.getCallbackContext();
-      for(final DBClusterRole dbClusterRole: Optional.ofNullable(roles).orElse(Collections.emptyList())) {
-        final ProgressEvent<ResourceModel, CallbackContext> progressEvent =  proxy.initiate("rds::remove-roles-to-dbcluster", proxyClient, model, callbackContext)
-            .translateToServiceRequest(modelRequest -> removeRoleFromDbClusterRequest(modelRequest.getDBClusterIdentifier(), dbClusterRole.getRoleArn(), dbClusterRole.getFeatureName()))
-            .makeServiceCall((modelRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(modelRequest, proxyInvocation.client()::removeRoleFromDBCluster))
-            .stabilize((removeRoleFromDbClusterRequest, removeRoleFromDBClusterResponse, proxyInvocation, modelRequest, callbackContext1) ->
-                isRoleStabilized(proxyInvocation, modelRequest, dbClusterRole, false))
-            .handleError((removeRoleFromDbClusterRequest, exception, proxyInvocation, resourceModel, context) -> {
-              if (exception instanceof DbClusterRoleNotFoundException)
-                return ProgressEvent.success(resourceModel, context);
-              throw exception;
-            })
-            .success();
-        if (!progressEvent.isSuccess()) return progressEvent;
-      }
-      return ProgressEvent.progress(model, callbackContext);
+    // Tags of the previous resource state, or null when there is none and the current tags have to be listed
+    private static Set<Tag> previousTags(final ResourceHandlerRequest<ResourceModel> request) {
+      if (request.getPreviousResourceState() == null) return null;
+      return Optional.ofNullable(request.getPreviousResourceState().getTags()).orElse(Collections.emptySet());
     }
 }
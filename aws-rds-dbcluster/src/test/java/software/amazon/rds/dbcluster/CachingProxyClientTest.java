@@ -0,0 +1,68 @@
+package software.amazon.rds.dbcluster;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CachingProxyClientTest extends AbstractTestBase {
+
+    private static final DescribeDbClustersRequest DESCRIBE = DescribeDbClustersRequest.builder().dbClusterIdentifier(DBCLUSTER_IDENTIFIER).build();
+
+    private FakeRdsClient rds;
+    private ResponseCache cache;
+    private ProxyClient<RdsClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        rds = new FakeRdsClient().withCluster(DBCLUSTER_ACTIVE.toBuilder().dbClusterIdentifier(DBCLUSTER_IDENTIFIER).build());
+        cache = new ResponseCache();
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = new CachingProxyClient<>(MOCK_PROXY(proxy, rds), cache);
+    }
+
+    @Test
+    public void describe_isServedFromCacheForEqualRequests() {
+        final DescribeDbClustersResponse first = describe();
+        final DescribeDbClustersResponse second = proxyClient.injectCredentialsAndInvokeV2(
+                DescribeDbClustersRequest.builder().dbClusterIdentifier(DBCLUSTER_IDENTIFIER).build(),
+                proxyClient.client()::describeDBClusters);
+
+        assertThat(second).isSameAs(first);
+        assertThat(rds.getCallCount("describeDBClusters")).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void mutatingCall_invalidatesCache() {
+        describe();
+        proxyClient.injectCredentialsAndInvokeV2(
+                ModifyDbClusterRequest.builder().dbClusterIdentifier(DBCLUSTER_IDENTIFIER).backupRetentionPeriod(7).build(),
+                proxyClient.client()::modifyDBCluster);
+
+        assertThat(describe().dbClusters().get(0).backupRetentionPeriod()).isEqualTo(7);
+        assertThat(rds.getCallCount("describeDBClusters")).isEqualTo(2);
+    }
+
+    @Test
+    public void refreshing_bypassesLookupAndUpdatesEntry() {
+        describe();
+        final DescribeDbClustersResponse polled = cache.refreshing(this::describe);
+
+        assertThat(describe()).isSameAs(polled);
+        assertThat(rds.getCallCount("describeDBClusters")).isEqualTo(2);
+    }
+
+    private DescribeDbClustersResponse describe() {
+        return proxyClient.injectCredentialsAndInvokeV2(DESCRIBE, proxyClient.client()::describeDBClusters);
+    }
+}
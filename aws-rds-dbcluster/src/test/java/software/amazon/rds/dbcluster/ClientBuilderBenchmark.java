@@ -0,0 +1,51 @@
+package software.amazon.rds.dbcluster;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.services.rds.RdsClient;
+
+/**
+ * Compares the per-invocation cost of building a fresh RdsClient with fetching the container-scoped one.
+ *
+ * Not part of the unit test suite; run the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientBuilderBenchmark {
+
+    private static final String REGION = "us-east-1";
+
+    @Benchmark
+    public RdsClient buildClientPerInvocation() {
+        final RdsClient client = ClientBuilder.buildClient(REGION);
+        client.close();
+        return client;
+    }
+
+    @Benchmark
+    public RdsClient getSharedClient() {
+        return ClientBuilder.getClient(REGION);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ClientBuilderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
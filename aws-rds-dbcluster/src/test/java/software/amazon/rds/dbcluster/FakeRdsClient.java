@@ -0,0 +1,410 @@
+package software.amazon.rds.dbcluster;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.AddRoleToDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.AddRoleToDbClusterResponse;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceResponse;
+import software.amazon.awssdk.services.rds.model.CreateDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbClusterResponse;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DBClusterRole;
+import software.amazon.awssdk.services.rds.model.DbClusterAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbClusterNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbClusterRoleAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbClusterRoleNotFoundException;
+import software.amazon.awssdk.services.rds.model.DeleteDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbClusterResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterResponse;
+import software.amazon.awssdk.services.rds.model.RemoveRoleFromDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.RemoveRoleFromDbClusterResponse;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceResponse;
+import software.amazon.awssdk.services.rds.model.RestoreDbClusterFromSnapshotRequest;
+import software.amazon.awssdk.services.rds.model.RestoreDbClusterFromSnapshotResponse;
+import software.amazon.awssdk.services.rds.model.RestoreDbClusterToPointInTimeRequest;
+import software.amazon.awssdk.services.rds.model.RestoreDbClusterToPointInTimeResponse;
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
+
+/**
+ * Stateful in-memory stand-in for RdsClient that models DB clusters, their IAM roles and tags.
+ *
+ * Mutating calls move a cluster into a transitional status (creating, modifying, deleting). Every describe that
+ * returns the cluster counts as one poll, and the cluster moves on to the next status once the configured number
+ * of polls has been observed. Each call can be delayed by a fixed latency and is counted per operation, so the
+ * real handler chains can be driven end-to-end and measured without network access.
+ */
+public class FakeRdsClient implements RdsClient {
+
+    private static final String ARN_PREFIX = "arn:aws:rds:us-east-1:123456789012:cluster:";
+    private static final String ENDPOINT_SUFFIX = ".cluster-fake.us-east-1.rds.amazonaws.com";
+    private static final String ROLE_STATUS_ACTIVE = "ACTIVE";
+    private static final int DEFAULT_PORT = 3306;
+
+    private final Map<String, Resource> clusters = new LinkedHashMap<>();
+    private final Map<String, Map<String, String>> tags = new HashMap<>();
+    private final Map<String, Transition> transitions = new HashMap<>();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private volatile Duration latency = Duration.ZERO;
+
+    public FakeRdsClient() {
+        withTransition("creating", "available", 0);
+        withTransition("modifying", "available", 0);
+        withTransition("deleting", null, 0);
+    }
+
+    /**
+     * A cluster in status {@code from} is reported as such by the next {@code polls} describe calls
+     * and as {@code to} afterwards. A {@code null} target removes the cluster.
+     */
+    public synchronized FakeRdsClient withTransition(final String from, final String to, final int polls) {
+        transitions.put(from, new Transition(to, polls));
+        return this;
+    }
+
+    public FakeRdsClient withLatency(final Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    public synchronized FakeRdsClient withCluster(final DBCluster cluster) {
+        clusters.put(cluster.dbClusterIdentifier(), new Resource(cluster));
+        return this;
+    }
+
+    public int getCallCount(final String operation) {
+        return Optional.ofNullable(calls.get(operation)).map(AtomicInteger::get).orElse(0);
+    }
+
+    public int getTotalCallCount() {
+        return calls.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    public synchronized Optional<String> getStatus(final String dbClusterIdentifier) {
+        return Optional.ofNullable(clusters.get(dbClusterIdentifier)).map(resource -> resource.status);
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public CreateDbClusterResponse createDBCluster(final CreateDbClusterRequest request) {
+        return call("createDBCluster", () -> {
+            final DBCluster cluster = newCluster(request.dbClusterIdentifier())
+                    .availabilityZones(request.availabilityZones())
+                    .backupRetentionPeriod(request.backupRetentionPeriod())
+                    .backtrackWindow(request.backtrackWindow())
+                    .databaseName(request.databaseName())
+                    .dbClusterParameterGroup(request.dbClusterParameterGroupName())
+                    .dbSubnetGroup(request.dbSubnetGroupName())
+                    .deletionProtection(request.deletionProtection())
+                    .enabledCloudwatchLogsExports(request.enableCloudwatchLogsExports())
+                    .engine(request.engine())
+                    .engineMode(request.engineMode())
+                    .engineVersion(request.engineVersion())
+                    .iamDatabaseAuthenticationEnabled(request.enableIAMDatabaseAuthentication())
+                    .kmsKeyId(request.kmsKeyId())
+                    .masterUsername(request.masterUsername())
+                    .port(Optional.ofNullable(request.port()).orElse(DEFAULT_PORT))
+                    .preferredBackupWindow(request.preferredBackupWindow())
+                    .preferredMaintenanceWindow(request.preferredMaintenanceWindow())
+                    .replicationSourceIdentifier(request.replicationSourceIdentifier())
+                    .storageEncrypted(request.storageEncrypted())
+                    .vpcSecurityGroups(toMemberships(request.vpcSecurityGroupIds()))
+                    .build();
+            return CreateDbClusterResponse.builder().dbCluster(addCluster(cluster, request.tags())).build();
+        });
+    }
+
+    @Override
+    public RestoreDbClusterFromSnapshotResponse restoreDBClusterFromSnapshot(final RestoreDbClusterFromSnapshotRequest request) {
+        return call("restoreDBClusterFromSnapshot", () -> {
+            final DBCluster cluster = newCluster(request.dbClusterIdentifier())
+                    .availabilityZones(request.availabilityZones())
+                    .backtrackWindow(request.backtrackWindow())
+                    .databaseName(request.databaseName())
+                    .dbSubnetGroup(request.dbSubnetGroupName())
+                    .deletionProtection(request.deletionProtection())
+                    .enabledCloudwatchLogsExports(request.enableCloudwatchLogsExports())
+                    .engine(request.engine())
+                    .engineMode(request.engineMode())
+                    .engineVersion(request.engineVersion())
+                    .iamDatabaseAuthenticationEnabled(request.enableIAMDatabaseAuthentication())
+                    .kmsKeyId(request.kmsKeyId())
+                    .port(Optional.ofNullable(request.port()).orElse(DEFAULT_PORT))
+                    .vpcSecurityGroups(toMemberships(request.vpcSecurityGroupIds()))
+                    .build();
+            return RestoreDbClusterFromSnapshotResponse.builder().dbCluster(addCluster(cluster, request.tags())).build();
+        });
+    }
+
+    @Override
+    public RestoreDbClusterToPointInTimeResponse restoreDBClusterToPointInTime(final RestoreDbClusterToPointInTimeRequest request) {
+        return call("restoreDBClusterToPointInTime", () -> {
+            final DBCluster source = getCluster(request.sourceDBClusterIdentifier()).cluster;
+            final DBCluster cluster = source.toBuilder()
+                    .dbClusterIdentifier(request.dbClusterIdentifier())
+                    .dbClusterArn(ARN_PREFIX + request.dbClusterIdentifier())
+                    .endpoint(request.dbClusterIdentifier() + ENDPOINT_SUFFIX)
+                    .readerEndpoint(request.dbClusterIdentifier() + "-ro" + ENDPOINT_SUFFIX)
+                    .associatedRoles(Collections.emptyList())
+                    .build();
+            return RestoreDbClusterToPointInTimeResponse.builder().dbCluster(addCluster(cluster, request.tags())).build();
+        });
+    }
+
+    @Override
+    public DescribeDbClustersResponse describeDBClusters(final DescribeDbClustersRequest request) {
+        return call("describeDBClusters", () -> {
+            if (request.dbClusterIdentifier() != null) {
+                final Resource resource = getCluster(request.dbClusterIdentifier());
+                if (!poll(request.dbClusterIdentifier(), resource)) {
+                    throw DbClusterNotFoundException.builder().message("DBCluster " + request.dbClusterIdentifier() + " not found").build();
+                }
+                return DescribeDbClustersResponse.builder().dbClusters(resource.describe()).build();
+            }
+            final List<String> identifiers = new ArrayList<>(clusters.keySet());
+            final int from = request.marker() == null ? 0 : Integer.parseInt(request.marker());
+            final int to = request.maxRecords() == null ? identifiers.size() : Math.min(identifiers.size(), from + request.maxRecords());
+            final List<DBCluster> page = new ArrayList<>();
+            for (final String identifier : identifiers.subList(from, to)) {
+                final Resource resource = clusters.get(identifier);
+                if (poll(identifier, resource)) {
+                    page.add(resource.describe());
+                }
+            }
+            return DescribeDbClustersResponse.builder()
+                    .dbClusters(page)
+                    .marker(to < identifiers.size() ? String.valueOf(to) : null)
+                    .build();
+        });
+    }
+
+    @Override
+    public ModifyDbClusterResponse modifyDBCluster(final ModifyDbClusterRequest request) {
+        return call("modifyDBCluster", () -> {
+            final Resource resource = getCluster(request.dbClusterIdentifier());
+            final DBCluster.Builder builder = resource.cluster.toBuilder();
+            Optional.ofNullable(request.backupRetentionPeriod()).ifPresent(builder::backupRetentionPeriod);
+            Optional.ofNullable(request.backtrackWindow()).ifPresent(builder::backtrackWindow);
+            Optional.ofNullable(request.dbClusterParameterGroupName()).ifPresent(builder::dbClusterParameterGroup);
+            Optional.ofNullable(request.deletionProtection()).ifPresent(builder::deletionProtection);
+            Optional.ofNullable(request.enableHttpEndpoint()).ifPresent(builder::httpEndpointEnabled);
+            Optional.ofNullable(request.enableIAMDatabaseAuthentication()).ifPresent(builder::iamDatabaseAuthenticationEnabled);
+            Optional.ofNullable(request.engineVersion()).ifPresent(builder::engineVersion);
+            Optional.ofNullable(request.port()).ifPresent(builder::port);
+            Optional.ofNullable(request.preferredBackupWindow()).ifPresent(builder::preferredBackupWindow);
+            Optional.ofNullable(request.preferredMaintenanceWindow()).ifPresent(builder::preferredMaintenanceWindow);
+            if (request.hasVpcSecurityGroupIds()) {
+                builder.vpcSecurityGroups(toMemberships(request.vpcSecurityGroupIds()));
+            }
+            if (request.cloudwatchLogsExportConfiguration() != null) {
+                final List<String> logTypes = new ArrayList<>(resource.cluster.enabledCloudwatchLogsExports());
+                logTypes.removeAll(request.cloudwatchLogsExportConfiguration().disableLogTypes());
+                logTypes.addAll(request.cloudwatchLogsExportConfiguration().enableLogTypes());
+                builder.enabledCloudwatchLogsExports(logTypes);
+            }
+            resource.cluster = builder.build();
+            resource.transition("modifying");
+            return ModifyDbClusterResponse.builder().dbCluster(resource.describe()).build();
+        });
+    }
+
+    @Override
+    public DeleteDbClusterResponse deleteDBCluster(final DeleteDbClusterRequest request) {
+        return call("deleteDBCluster", () -> {
+            final Resource resource = getCluster(request.dbClusterIdentifier());
+            resource.transition("deleting");
+            return DeleteDbClusterResponse.builder().dbCluster(resource.describe()).build();
+        });
+    }
+
+    @Override
+    public AddRoleToDbClusterResponse addRoleToDBCluster(final AddRoleToDbClusterRequest request) {
+        return call("addRoleToDBCluster", () -> {
+            final Resource resource = getCluster(request.dbClusterIdentifier());
+            final List<DBClusterRole> roles = new ArrayList<>(resource.cluster.associatedRoles());
+            if (roles.stream().anyMatch(role -> role.roleArn().equals(request.roleArn()))) {
+                throw DbClusterRoleAlreadyExistsException.builder().message("Role " + request.roleArn() + " is already associated").build();
+            }
+            roles.add(DBClusterRole.builder()
+                    .roleArn(request.roleArn())
+                    .featureName(request.featureName())
+                    .status(ROLE_STATUS_ACTIVE)
+                    .build());
+            resource.cluster = resource.cluster.toBuilder().associatedRoles(roles).build();
+            return AddRoleToDbClusterResponse.builder().build();
+        });
+    }
+
+    @Override
+    public RemoveRoleFromDbClusterResponse removeRoleFromDBCluster(final RemoveRoleFromDbClusterRequest request) {
+        return call("removeRoleFromDBCluster", () -> {
+            final Resource resource = getCluster(request.dbClusterIdentifier());
+            final List<DBClusterRole> roles = resource.cluster.associatedRoles().stream()
+                    .filter(role -> !role.roleArn().equals(request.roleArn()))
+                    .collect(Collectors.toList());
+            if (roles.size() == resource.cluster.associatedRoles().size()) {
+                throw DbClusterRoleNotFoundException.builder().message("Role " + request.roleArn() + " is not associated").build();
+            }
+            resource.cluster = resource.cluster.toBuilder().associatedRoles(roles).build();
+            return RemoveRoleFromDbClusterResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        return call("listTagsForResource", () -> ListTagsForResourceResponse.builder()
+                .tagList(tags.getOrDefault(request.resourceName(), Collections.emptyMap()).entrySet().stream()
+                        .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    @Override
+    public AddTagsToResourceResponse addTagsToResource(final AddTagsToResourceRequest request) {
+        return call("addTagsToResource", () -> {
+            putTags(request.resourceName(), request.tags());
+            return AddTagsToResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public RemoveTagsFromResourceResponse removeTagsFromResource(final RemoveTagsFromResourceRequest request) {
+        return call("removeTagsFromResource", () -> {
+            tags.getOrDefault(request.resourceName(), new HashMap<>()).keySet().removeAll(request.tagKeys());
+            return RemoveTagsFromResourceResponse.builder().build();
+        });
+    }
+
+    private <T> T call(final String operation, final Supplier<T> body) {
+        calls.computeIfAbsent(operation, key -> new AtomicInteger()).incrementAndGet();
+        final Duration delay = latency;
+        if (!delay.isZero()) {
+            Uninterruptibles.sleepUninterruptibly(delay.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        synchronized (this) {
+            return body.get();
+        }
+    }
+
+    private DBCluster.Builder newCluster(final String dbClusterIdentifier) {
+        if (clusters.containsKey(dbClusterIdentifier)) {
+            throw DbClusterAlreadyExistsException.builder().message("DBCluster " + dbClusterIdentifier + " already exists").build();
+        }
+        return DBCluster.builder()
+                .dbClusterIdentifier(dbClusterIdentifier)
+                .dbClusterArn(ARN_PREFIX + dbClusterIdentifier)
+                .endpoint(dbClusterIdentifier + ENDPOINT_SUFFIX)
+                .readerEndpoint(dbClusterIdentifier + "-ro" + ENDPOINT_SUFFIX)
+                .associatedRoles(Collections.emptyList());
+    }
+
+    private DBCluster addCluster(final DBCluster cluster, final Collection<Tag> clusterTags) {
+        final Resource resource = new Resource(cluster);
+        resource.transition("creating");
+        clusters.put(cluster.dbClusterIdentifier(), resource);
+        putTags(cluster.dbClusterArn(), clusterTags);
+        return resource.describe();
+    }
+
+    private Resource getCluster(final String dbClusterIdentifier) {
+        final Resource resource = clusters.get(dbClusterIdentifier);
+        if (resource == null) {
+            throw DbClusterNotFoundException.builder().message("DBCluster " + dbClusterIdentifier + " not found").build();
+        }
+        return resource;
+    }
+
+    private void putTags(final String arn, final Collection<Tag> newTags) {
+        final Map<String, String> resourceTags = tags.computeIfAbsent(arn, key -> new LinkedHashMap<>());
+        Optional.ofNullable(newTags).orElse(Collections.emptyList())
+                .forEach(tag -> resourceTags.put(tag.key(), tag.value()));
+    }
+
+    /**
+     * Counts a describe poll against the cluster and advances its status if the transition is due.
+     * Returns false if the cluster has been removed as a result.
+     */
+    private boolean poll(final String dbClusterIdentifier, final Resource resource) {
+        final Transition transition = transitions.get(resource.status);
+        if (transition == null) {
+            return true;
+        }
+        if (resource.polls < transition.polls) {
+            resource.polls++;
+            return true;
+        }
+        if (transition.to == null) {
+            clusters.remove(dbClusterIdentifier);
+            tags.remove(resource.cluster.dbClusterArn());
+            return false;
+        }
+        resource.transition(transition.to);
+        return true;
+    }
+
+    private static List<VpcSecurityGroupMembership> toMemberships(final Collection<String> vpcSecurityGroupIds) {
+        return Optional.ofNullable(vpcSecurityGroupIds).orElse(Collections.emptyList()).stream()
+                .map(id -> VpcSecurityGroupMembership.builder().vpcSecurityGroupId(id).status("active").build())
+                .collect(Collectors.toList());
+    }
+
+    private static class Resource {
+        private DBCluster cluster;
+        private String status;
+        private int polls;
+
+        Resource(final DBCluster cluster) {
+            this.cluster = cluster;
+            this.status = Optional.ofNullable(cluster.status()).orElse("available");
+        }
+
+        void transition(final String status) {
+            this.status = status;
+            this.polls = 0;
+        }
+
+        DBCluster describe() {
+            return cluster.toBuilder().status(status).build();
+        }
+    }
+
+    private static class Transition {
+        private final String to;
+        private final int polls;
+
+        Transition(final String to, final int polls) {
+            this.to = to;
+            this.polls = polls;
+        }
+    }
+}
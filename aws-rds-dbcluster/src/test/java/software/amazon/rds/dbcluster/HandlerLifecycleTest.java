@@ -0,0 +1,282 @@
+package software.amazon.rds.dbcluster;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the real handler chains against {@link FakeRdsClient} instead of per-call mocks.
+ */
+public class HandlerLifecycleTest extends AbstractTestBase {
+
+    private static final int MAX_INVOCATIONS = 20;
+    private static final DBClusterRole OTHER_ROLE = DBClusterRole.builder().roleArn("otherArn").featureName(ROLE_FEATURE).build();
+    private static final Delay NO_WAIT = Constant.of().delay(Duration.ofMillis(1)).timeout(Duration.ofSeconds(10)).build();
+
+    private FakeRdsClient rds;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<RdsClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        rds = new FakeRdsClient();
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis(), (callGraph, delay) -> NO_WAIT);
+        proxyClient = MOCK_PROXY(proxy, rds);
+    }
+
+    @Test
+    public void createUpdateDelete() {
+        final ResourceModel created = drive(new CreateHandler(), request(model(1), null)).getResourceModel();
+
+        assertThat(created.getAssociatedRoles()).containsExactly(ROLE);
+        assertThat(created.getTags()).containsExactly(Tag.builder().key("env").value("test").build());
+        assertThat(rds.getStatus(DBCLUSTER_IDENTIFIER)).contains("available");
+
+        final ResourceModel desired = model(7);
+        desired.setTags(Sets.newHashSet(Tag.builder().key("env").value("prod").build()));
+        final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(), request(desired, model(1)));
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getBackupRetentionPeriod()).isEqualTo(7);
+        assertThat(updated.getResourceModel().getTags()).containsExactly(Tag.builder().key("env").value("prod").build());
+        assertThat(updated.getResourceModel().getAssociatedRoles()).containsExactly(ROLE);
+        assertThat(rds.getCallCount("modifyDBCluster")).isEqualTo(1);
+
+        // DeleteHandler expects a terminal "deleted" status rather than DBClusterNotFound
+        rds.withTransition("deleting", DBClusterStatus.Deleted.toString(), 0);
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = drive(new DeleteHandler(), request(model(7), null));
+
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rds.getCallCount("deleteDBCluster")).isEqualTo(1);
+    }
+
+    @Test
+    public void create_pollsUntilAvailable() {
+        rds.withTransition("creating", "available", 2);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = drive(new CreateHandler(), request(model(1), null));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rds.getCallCount("createDBCluster")).isEqualTo(1);
+        assertThat(rds.getCallCount("addRoleToDBCluster")).isEqualTo(1);
+        // 3 polls to leave "creating" (the second wait reuses the memoized one) and one for the role;
+        // the read is served from the role poll
+        assertThat(rds.getCallCount("describeDBClusters")).isEqualTo(4);
+    }
+
+    @Test
+    public void create_recordsStepMetrics() {
+        rds.withTransition("creating", "available", 2);
+        final CallbackContext context = new CallbackContext();
+
+        drive(new CreateHandler(), request(model(1), null), context);
+
+        final Map<String, StepMetrics> steps = context.getStepMetrics();
+        assertThat(steps).containsOnlyKeys("rds::create-dbcluster", "rds::stabilize-dbclusterCreateHandler", "rds::add-roles-to-dbcluster", "rds::describe-db-cluster");
+        assertThat(steps.get("rds::create-dbcluster").getApiCalls()).isEqualTo(1);
+        assertThat(steps.get("rds::stabilize-dbclusterCreateHandler").getApiCalls()).isEqualTo(3);
+        assertThat(steps.get("rds::stabilize-dbclusterCreateHandler").getStabilizationPolls()).isEqualTo(3);
+        // AddRoleToDBCluster plus one poll until the role is attached
+        assertThat(steps.get("rds::add-roles-to-dbcluster").getApiCalls()).isEqualTo(2);
+        assertThat(steps.get("rds::add-roles-to-dbcluster").getStabilizationPolls()).isEqualTo(1);
+        // ListTagsForResource only, DescribeDBClusters is served from the role poll
+        assertThat(steps.get("rds::describe-db-cluster").getApiCalls()).isEqualTo(1);
+        assertThat(steps.values().stream().mapToInt(StepMetrics::getApiCalls).sum()).isEqualTo(rds.getTotalCallCount());
+    }
+
+    @Test
+    public void update_servesRepeatedDescribesFromCache() {
+        drive(new CreateHandler(), request(model(1), null));
+        final int describesBeforeUpdate = rds.getCallCount("describeDBClusters");
+        final CallbackContext context = new CallbackContext();
+
+        final ResourceModel desired = model(7);
+        desired.setAssociatedRoles(Lists.newArrayList(OTHER_ROLE));
+        desired.setTags(Sets.newHashSet(Tag.builder().key("env").value("prod").build()));
+        drive(new UpdateHandler(), request(desired, model(1)), context);
+
+        // the tag step only needs the cluster ARN, which the role poll already fetched
+        assertThat(context.responseCache().getHits()).isEqualTo(1);
+        // the existing tags come from the previous state, so AddTagsToResource is the only call
+        assertThat(context.getStepMetrics().get("rds::tag-dbcluster").getApiCalls()).isEqualTo(1);
+        // a backup retention change needs no wait, so one poll covers both role changes, then the read after
+        // tagging invalidated the cache
+        assertThat(rds.getCallCount("describeDBClusters") - describesBeforeUpdate).isEqualTo(2);
+    }
+
+    @Test
+    public void update_reconcilesOnlyChangedRoles() {
+        final ResourceModel previous = model(1);
+        previous.setAssociatedRoles(roles("kept-1", "kept-2", "kept-3", "dropped-1", "dropped-2"));
+        drive(new CreateHandler(), request(previous, null));
+        assertThat(rds.getCallCount("addRoleToDBCluster")).isEqualTo(5);
+        final CallbackContext context = new CallbackContext();
+
+        final ResourceModel desired = model(1);
+        desired.setAssociatedRoles(roles("kept-1", "kept-2", "kept-3", "added-1", "added-2"));
+        final ResourceModel current = model(1);
+        current.setAssociatedRoles(roles("kept-1", "kept-2", "kept-3", "dropped-1", "dropped-2"));
+        final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(), request(desired, current), context);
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getAssociatedRoles()).containsExactlyInAnyOrderElementsOf(roles("kept-1", "kept-2", "kept-3", "added-1", "added-2"));
+        assertThat(rds.getCallCount("removeRoleFromDBCluster")).isEqualTo(2);
+        assertThat(rds.getCallCount("addRoleToDBCluster")).isEqualTo(5 + 2);
+        // all four changes are verified by a single describe
+        assertThat(context.getStepMetrics().get("rds::reconcile-roles-dbcluster").getStabilizationPolls()).isEqualTo(1);
+    }
+
+    @Test
+    public void update_skipsTaggingWhenTagsAreUnchanged() {
+        drive(new CreateHandler(), request(model(1), null));
+        final CallbackContext context = new CallbackContext();
+
+        drive(new UpdateHandler(), request(model(7), model(1)), context);
+
+        assertThat(context.getStepMetrics()).doesNotContainKey("rds::tag-dbcluster");
+        assertThat(rds.getCallCount("addTagsToResource")).isZero();
+        assertThat(rds.getCallCount("removeTagsFromResource")).isZero();
+    }
+
+    @Test
+    public void update_sendsNoModifyWithoutChanges() {
+        drive(new CreateHandler(), request(model(1), null));
+        final CallbackContext context = new CallbackContext();
+
+        final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(), request(model(1), model(1)), context);
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rds.getCallCount("modifyDBCluster")).isZero();
+        assertThat(context.getStepMetrics()).doesNotContainKeys("rds::modify-dbcluster", "rds::stabilize-dbclusterUpdateHandler");
+    }
+
+    @Test
+    public void update_instantChangeDoesNotWaitForAvailable() {
+        drive(new CreateHandler(), request(model(1), null));
+        final CallbackContext context = new CallbackContext();
+        final ResourceModel desired = model(1);
+        desired.setDeletionProtection(true);
+
+        final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(), request(desired, model(1)), context);
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rds.getCallCount("modifyDBCluster")).isEqualTo(1);
+        assertThat(context.getStepMetrics()).doesNotContainKey("rds::stabilize-dbclusterUpdateHandler");
+    }
+
+    @Test
+    public void update_passwordChangeWaitsForAvailable() {
+        drive(new CreateHandler(), request(model(1), null));
+        rds.withTransition("resetting-master-credentials", "available", 2);
+        rds.withTransition("modifying", "resetting-master-credentials", 0);
+        final CallbackContext context = new CallbackContext();
+        final ResourceModel desired = model(1);
+        desired.setMasterUserPassword("new-password");
+
+        final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(), request(desired, model(1)), context);
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rds.getCallCount("modifyDBCluster")).isEqualTo(1);
+        // one poll leaves "modifying", three more leave "resetting-master-credentials"
+        assertThat(context.getStepMetrics().get("rds::stabilize-dbclusterUpdateHandler").getStabilizationPolls()).isEqualTo(4);
+    }
+
+    @Test
+    public void update_withoutPreviousStateSendsFullModify() {
+        drive(new CreateHandler(), request(model(1), null));
+        final CallbackContext context = new CallbackContext();
+        final ResourceModel desired = model(7);
+        desired.setEnableCloudwatchLogsExports(Lists.newArrayList("audit"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(), request(desired, null), context);
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getBackupRetentionPeriod()).isEqualTo(7);
+        assertThat(updated.getResourceModel().getEnableCloudwatchLogsExports()).containsExactly("audit");
+        assertThat(rds.getCallCount("modifyDBCluster")).isEqualTo(1);
+        // nothing to compare against, so the modify is waited for
+        assertThat(context.getStepMetrics()).containsKey("rds::stabilize-dbclusterUpdateHandler");
+    }
+
+    @Test
+    public void create_appliesLatencyToEveryCall() {
+        rds.withLatency(Duration.ofMillis(5));
+
+        final long start = System.nanoTime();
+        drive(new CreateHandler(), request(model(1), null));
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(5L * rds.getTotalCallCount()));
+    }
+
+    private ResourceModel model(final int backupRetentionPeriod) {
+        return ResourceModel.builder()
+                .dBClusterIdentifier(DBCLUSTER_IDENTIFIER)
+                .engine(ENGINE)
+                .masterUsername(USER_NAME)
+                .masterUserPassword(USER_PASSWORD)
+                .backupRetentionPeriod(backupRetentionPeriod)
+                .associatedRoles(Lists.newArrayList(ROLE))
+                .tags(Sets.newHashSet(Tag.builder().key("env").value("test").build()))
+                .build();
+    }
+
+    private static List<DBClusterRole> roles(final String... names) {
+        return Arrays.stream(names)
+                .map(name -> DBClusterRole.builder().roleArn("arn:aws:iam::123456789012:role/" + name).featureName(name).build())
+                .collect(Collectors.toList());
+    }
+
+    private ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .desiredResourceTags(Collections.emptyMap())
+                .logicalResourceIdentifier("dbcluster")
+                .clientRequestToken("token")
+                .build();
+    }
+
+    // Re-invokes the handler the way CloudFormation does until it leaves IN_PROGRESS, ignoring callback delays.
+    private ProgressEvent<ResourceModel, CallbackContext> drive(final BaseHandlerStd handler,
+                                                                final ResourceHandlerRequest<ResourceModel> request) {
+        return drive(handler, request, new CallbackContext());
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> drive(final BaseHandlerStd handler,
+                                                                final ResourceHandlerRequest<ResourceModel> request,
+                                                                final CallbackContext callbackContext) {
+        CallbackContext context = callbackContext;
+        ProgressEvent<ResourceModel, CallbackContext> event = null;
+        for (int invocation = 0; invocation < MAX_INVOCATIONS; invocation++) {
+            event = handler.handleRequest(proxy, request, context, proxyClient, logger);
+            if (event.getStatus() != OperationStatus.IN_PROGRESS) {
+                break;
+            }
+            context = event.getCallbackContext();
+            if (event.getResourceModel() != null) {
+                request.setDesiredResourceState(event.getResourceModel());
+            }
+        }
+        assertThat(event.getStatus()).isNotEqualTo(OperationStatus.IN_PROGRESS);
+        return event;
+    }
+}
@@ -1,12 +1,18 @@
 package software.amazon.rds.dbcluster;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import org.junit.jupiter.api.AfterEach;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DBCluster;
 import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rds.model.RdsException;
+import software.amazon.awssdk.services.rds.model.Tag;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -21,6 +27,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -85,4 +92,82 @@ public class ListHandlerTest extends AbstractTestBase{
 
         verify(proxyRdsClient.client()).describeDBClusters(any(DescribeDbClustersRequest.class));
     }
+
+    @Test
+    public void handleRequest_FullModels() {
+        handler = new ListHandler(true);
+        final DescribeDbClustersResponse describeDbClustersResponse = DescribeDbClustersResponse.builder()
+            .dbClusters(Arrays.asList(dbCluster("cluster-1"), dbCluster("cluster-2")))
+            .marker("marker2")
+            .build();
+
+        when(proxyRdsClient.client().describeDBClusters(any(DescribeDbClustersRequest.class))).thenReturn(describeDbClustersResponse);
+        when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenAnswer(invocation -> ListTagsForResourceResponse.builder()
+            .tagList(Tag.builder().key("name").value(invocation.getArgument(0, ListTagsForResourceRequest.class).resourceName()).build())
+            .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo("marker2");
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getDBClusterIdentifier).containsExactly("cluster-1", "cluster-2");
+        assertThat(response.getResourceModels().get(1).getEngine()).isEqualTo("aurora-postgresql");
+        assertThat(response.getResourceModels().get(1).getTags()).containsExactly(
+            software.amazon.rds.dbcluster.Tag.builder().key("name").value("arn:aws:rds:us-east-1:123456789012:cluster:cluster-2").build());
+
+        verify(proxyRdsClient.client()).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(proxyRdsClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_FullModelsWithoutTagAccess() {
+        handler = new ListHandler(true);
+        final DescribeDbClustersResponse describeDbClustersResponse = DescribeDbClustersResponse.builder()
+            .dbClusters(Arrays.asList(dbCluster("cluster-1"), dbCluster("cluster-2")))
+            .build();
+
+        when(proxyRdsClient.client().describeDBClusters(any(DescribeDbClustersRequest.class))).thenReturn(describeDbClustersResponse);
+        when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenAnswer(invocation -> {
+            final String arn = invocation.getArgument(0, ListTagsForResourceRequest.class).resourceName();
+            if (arn.endsWith(":cluster-1")) throw accessDenied();
+            return ListTagsForResourceResponse.builder().tagList(Tag.builder().key("name").value(arn).build()).build();
+        });
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getDBClusterIdentifier).containsExactly("cluster-1", "cluster-2");
+        assertThat(response.getResourceModels().get(0).getTags()).isEmpty();
+        assertThat(response.getResourceModels().get(1).getTags()).containsExactly(
+            software.amazon.rds.dbcluster.Tag.builder().key("name").value("arn:aws:rds:us-east-1:123456789012:cluster:cluster-2").build());
+
+        verify(proxyRdsClient.client()).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(proxyRdsClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    private static RdsException accessDenied() {
+        return (RdsException) RdsException.builder()
+            .statusCode(403)
+            .awsErrorDetails(AwsErrorDetails.builder().errorCode("AccessDenied").errorMessage("not authorized to list tags").build())
+            .build();
+    }
+
+    private static DBCluster dbCluster(final String dbClusterIdentifier) {
+        return DBCluster.builder()
+            .dbClusterIdentifier(dbClusterIdentifier)
+            .dbClusterArn("arn:aws:rds:us-east-1:123456789012:cluster:" + dbClusterIdentifier)
+            .engine("aurora-postgresql")
+            .port(5432)
+            .build();
+    }
 }
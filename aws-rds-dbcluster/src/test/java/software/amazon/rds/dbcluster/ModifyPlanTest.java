@@ -0,0 +1,92 @@
+package software.amazon.rds.dbcluster;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.rds.model.CloudwatchLogsExportConfiguration;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ModifyPlanTest {
+
+    private static final CloudwatchLogsExportConfiguration NO_LOG_CHANGES = CloudwatchLogsExportConfiguration.builder().build();
+
+    @Test
+    public void between_isEmptyWithoutChanges() {
+        final ModifyPlan plan = ModifyPlan.between(model(), model(), NO_LOG_CHANGES);
+
+        assertThat(plan.isEmpty()).isTrue();
+        assertThat(plan.needsStabilization()).isFalse();
+    }
+
+    @Test
+    public void between_instantChangesNeedNoStabilization() {
+        final ResourceModel desired = model();
+        desired.setBackupRetentionPeriod(7);
+        desired.setDeletionProtection(true);
+
+        final ModifyPlan plan = ModifyPlan.between(model(), desired, NO_LOG_CHANGES);
+
+        assertThat(plan.isEmpty()).isFalse();
+        assertThat(plan.needsStabilization()).isFalse();
+        final ModifyDbClusterRequest request = plan.getRequest();
+        assertThat(request.dbClusterIdentifier()).isEqualTo("cluster");
+        assertThat(request.backupRetentionPeriod()).isEqualTo(7);
+        assertThat(request.deletionProtection()).isTrue();
+        // unchanged attributes are left out, the password above all
+        assertThat(request.masterUserPassword()).isNull();
+        assertThat(request.dbClusterParameterGroupName()).isNull();
+        assertThat(request.port()).isNull();
+        assertThat(request.engineVersion()).isNull();
+    }
+
+    @Test
+    public void between_portChangeNeedsStabilization() {
+        final ResourceModel desired = model();
+        desired.setPort(5432);
+
+        final ModifyPlan plan = ModifyPlan.between(model(), desired, NO_LOG_CHANGES);
+
+        assertThat(plan.needsStabilization()).isTrue();
+        assertThat(plan.getRequest().port()).isEqualTo(5432);
+        assertThat(plan.getRequest().backupRetentionPeriod()).isNull();
+    }
+
+    @Test
+    public void between_securityGroupOrderIsNoChange() {
+        final ResourceModel desired = model();
+        desired.setVpcSecurityGroupIds(Lists.newArrayList("sg-2", "sg-1"));
+
+        assertThat(ModifyPlan.between(model(), desired, NO_LOG_CHANGES).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void between_logExportChangeNeedsStabilization() {
+        final CloudwatchLogsExportConfiguration config = CloudwatchLogsExportConfiguration.builder().enableLogTypes("audit").build();
+
+        final ModifyPlan plan = ModifyPlan.between(model(), model(), config);
+
+        assertThat(plan.needsStabilization()).isTrue();
+        assertThat(plan.getRequest().cloudwatchLogsExportConfiguration()).isEqualTo(config);
+    }
+
+    @Test
+    public void between_withoutPreviousModelSendsEverything() {
+        final ModifyPlan plan = ModifyPlan.between(null, model(), NO_LOG_CHANGES);
+
+        assertThat(plan.needsStabilization()).isTrue();
+        assertThat(plan.getRequest().masterUserPassword()).isEqualTo("password");
+        assertThat(plan.getRequest().port()).isEqualTo(3306);
+    }
+
+    private static ResourceModel model() {
+        return ResourceModel.builder()
+                .dBClusterIdentifier("cluster")
+                .backupRetentionPeriod(1)
+                .dBClusterParameterGroupName("default.aurora5.6")
+                .masterUserPassword("password")
+                .port(3306)
+                .vpcSecurityGroupIds(Lists.newArrayList("sg-1", "sg-2"))
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package software.amazon.rds.dbcluster;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RateLimiterTest {
+
+    private static final AwsServiceException THROTTLING = AwsServiceException.builder()
+            .awsErrorDetails(AwsErrorDetails.builder().errorCode("Throttling").build())
+            .build();
+
+    private AtomicLong clock;
+    private RateLimiter limiter;
+
+    @BeforeEach
+    public void setup() {
+        clock = new AtomicLong();
+        limiter = new RateLimiter(0.5, 4.0, 1.0, 2.0, clock::get);
+    }
+
+    @Test
+    public void reserve_spacesCallsAtRateOnceBurstIsSpent() {
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(250));
+        assertThat(limiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(limiter.reserve()).isZero();
+    }
+
+    @Test
+    public void onThrottle_halvesRateAndDropsBurst() {
+        limiter.onThrottle();
+
+        assertThat(limiter.getRate()).isEqualTo(2.0);
+        assertThat(limiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+        limiter.onThrottle();
+        limiter.onThrottle();
+        limiter.onThrottle();
+        assertThat(limiter.getRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void onSuccess_increasesRateAdditivelyUpToMax() {
+        limiter.onThrottle();
+        limiter.onThrottle();
+
+        limiter.onSuccess();
+        assertThat(limiter.getRate()).isEqualTo(2.0);
+        limiter.onSuccess();
+        limiter.onSuccess();
+        assertThat(limiter.getRate()).isEqualTo(4.0);
+    }
+
+    @Test
+    public void interceptor_usesSeparateLimitersForReadAndMutateOperations() {
+        final RateLimiter mutateLimiter = new RateLimiter(0.5, 1.0, 0.1, 1.0, clock::get);
+        final RateLimitingInterceptor interceptor = new RateLimitingInterceptor(limiter, mutateLimiter);
+
+        assertThat(interceptor.limiterFor(attributes("DescribeDBClusters"))).isSameAs(limiter);
+        assertThat(interceptor.limiterFor(attributes("ListTagsForResource"))).isSameAs(limiter);
+        assertThat(interceptor.limiterFor(attributes("ModifyDBCluster"))).isSameAs(mutateLimiter);
+    }
+
+    @Test
+    public void interceptor_slowsDownOnEveryThrottledAttempt() {
+        final RateLimitingInterceptor interceptor = new RateLimitingInterceptor(limiter, new RateLimiter(0.5, 1.0, 0.1, 1.0, clock::get));
+        final RetryCondition retryCondition = interceptor.throttleFeedback(RetryCondition.defaultRetryCondition());
+        final ExecutionAttributes attributes = attributes("DescribeDBClusters");
+        final Context.FailedExecution failedExecution = mock(Context.FailedExecution.class);
+        when(failedExecution.exception()).thenReturn(THROTTLING);
+
+        interceptor.beforeTransmission(null, attributes);
+        assertThat(retryCondition.shouldRetry(retryContext(attributes))).isTrue();
+        assertThat(limiter.getRate()).isEqualTo(2.0);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        interceptor.beforeTransmission(null, attributes);
+        retryCondition.shouldRetry(retryContext(attributes));
+        interceptor.onExecutionFailure(failedExecution, attributes);
+        assertThat(limiter.getRate()).isEqualTo(1.0);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        interceptor.beforeTransmission(null, attributes);
+        interceptor.onExecutionFailure(failedExecution, attributes);
+        assertThat(limiter.getRate()).isEqualTo(0.5);
+    }
+
+    private static RetryPolicyContext retryContext(final ExecutionAttributes attributes) {
+        return RetryPolicyContext.builder().executionAttributes(attributes).exception(THROTTLING).build();
+    }
+
+    private static ExecutionAttributes attributes(final String operation) {
+        final ExecutionAttributes attributes = new ExecutionAttributes();
+        attributes.putAttribute(SdkExecutionAttribute.OPERATION_NAME, operation);
+        return attributes;
+    }
+}
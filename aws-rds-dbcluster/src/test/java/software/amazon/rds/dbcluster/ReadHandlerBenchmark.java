@@ -0,0 +1,80 @@
+package software.amazon.rds.dbcluster;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Measures the ReadHandler against {@link FakeRdsClient} with a fixed latency on every call.
+ *
+ * "sequential" leaves the account and region off the request, so the cluster ARN is only known once
+ * DescribeDBClusters returns and ListTagsForResource waits for it. "concurrent" carries them, so both calls overlap
+ * and a read should take about one latency instead of two.
+ * Not part of the unit test suite; run the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadHandlerBenchmark extends AbstractTestBase {
+
+    @Param({"sequential", "concurrent"})
+    private String mode;
+
+    @Param({"20"})
+    private long latencyMillis;
+
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<RdsClient> proxyClient;
+    private ResourceHandlerRequest<ResourceModel> request;
+
+    @Setup
+    public void setup() {
+        final FakeRdsClient rds = new FakeRdsClient()
+                .withCluster(DBCLUSTER_ACTIVE.toBuilder()
+                        .dbClusterIdentifier(DBCLUSTER_IDENTIFIER)
+                        .dbClusterArn("arn:aws:rds:us-east-1:123456789012:cluster:" + DBCLUSTER_IDENTIFIER)
+                        .build())
+                .withLatency(Duration.ofMillis(latencyMillis));
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = MOCK_PROXY(proxy, rds);
+        final ResourceHandlerRequest.ResourceHandlerRequestBuilder<ResourceModel> builder = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().dBClusterIdentifier(DBCLUSTER_IDENTIFIER).build());
+        if ("concurrent".equals(mode)) {
+            builder.awsPartition("aws").region("us-east-1").awsAccountId("123456789012");
+        }
+        request = builder.build();
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> read() {
+        return new ReadHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ReadHandlerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
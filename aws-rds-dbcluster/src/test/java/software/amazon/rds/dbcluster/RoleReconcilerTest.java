@@ -0,0 +1,88 @@
+package software.amazon.rds.dbcluster;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RoleReconcilerTest {
+
+    private static final Consumer<DBClusterRole> NO_CALL = role -> {
+        throw new AssertionError("unexpected call for " + role.getRoleArn());
+    };
+
+    @Test
+    public void missing_keysOnRoleArnAndFeatureName() {
+        final List<DBClusterRole> current = Lists.newArrayList(role("a", "s3Import"), role("b", null));
+        final List<DBClusterRole> desired = Lists.newArrayList(role("a", "s3Import"), role("a", "Lambda"), role("b", ""));
+
+        assertThat(RoleReconciler.missing(current, desired)).containsExactly(role("a", "Lambda"));
+        assertThat(RoleReconciler.missing(desired, current)).isEmpty();
+        assertThat(RoleReconciler.missing(null, desired)).hasSize(3);
+    }
+
+    @Test
+    public void run_removesBeforeAdding() {
+        final List<String> calls = new CopyOnWriteArrayList<>();
+
+        final List<RuntimeException> failures = new RoleReconciler(1).run(
+                Lists.newArrayList(role("a", "Lambda")), Lists.newArrayList(role("a", "s3Import")),
+                role -> calls.add("+" + role.getFeatureName()), role -> calls.add("-" + role.getFeatureName()));
+
+        assertThat(calls).containsExactly("-s3Import", "+Lambda");
+        assertThat(failures).isEmpty();
+    }
+
+    @Test
+    public void run_keepsAtMostMaxInFlight() {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxObserved = new AtomicInteger();
+        final Consumer<DBClusterRole> call = role -> {
+            maxObserved.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Uninterruptibles.sleepUninterruptibly(20, TimeUnit.MILLISECONDS);
+            inFlight.decrementAndGet();
+        };
+
+        final List<RuntimeException> failures = new RoleReconciler(2).run(roles(6), Collections.emptyList(), call, NO_CALL);
+
+        assertThat(failures).isEmpty();
+        assertThat(maxObserved.get()).isBetween(1, 2);
+    }
+
+    @Test
+    public void run_collectsFailuresWithoutStoppingOtherCalls() {
+        final List<String> added = new CopyOnWriteArrayList<>();
+
+        final List<RuntimeException> failures = new RoleReconciler(2).run(roles(4), Collections.emptyList(), role -> {
+            if (role.getRoleArn().endsWith("1")) throw new IllegalStateException("failed " + role.getRoleArn());
+            added.add(role.getRoleArn());
+        }, NO_CALL);
+
+        assertThat(added).containsExactlyInAnyOrder("role-0", "role-2", "role-3");
+        assertThat(failures).extracting(Throwable::getMessage).containsExactly("failed role-1");
+    }
+
+    @Test
+    public void constructor_rejectsZeroInFlight() {
+        assertThatThrownBy(() -> new RoleReconciler(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<DBClusterRole> roles(final int count) {
+        return IntStream.range(0, count).mapToObj(i -> role("role-" + i, null)).collect(Collectors.toList());
+    }
+
+    private static DBClusterRole role(final String roleArn, final String featureName) {
+        return DBClusterRole.builder().roleArn(roleArn).featureName(featureName).build();
+    }
+}
@@ -0,0 +1,120 @@
+package software.amazon.rds.dbcluster;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.services.rds.model.CloudwatchLogsExportConfiguration;
+import software.amazon.awssdk.services.rds.model.CreateDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterRequest;
+
+/**
+ * Measures the request and tag translations that run on every dbcluster handler invocation.
+ *
+ * A tag count of 10 is a typical stack; 50 is the RDS per-resource tag limit and the worst case.
+ * Not part of the unit test suite; run the main method from the test classpath. The GC profiler reports the
+ * allocation rate (gc.alloc.rate.norm is bytes per operation) next to the throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    @Param({"10", "50"})
+    private int tagCount;
+
+    private ResourceModel model;
+    private CloudwatchLogsExportConfiguration logsExportConfiguration;
+    private Set<software.amazon.awssdk.services.rds.model.Tag> sdkTags;
+
+    @Setup
+    public void setup() {
+        final Set<Tag> tags = IntStream.range(0, tagCount)
+                .mapToObj(i -> Tag.builder().key("tag-key-" + i).value("tag-value-" + i).build())
+                .collect(Collectors.toSet());
+        model = ResourceModel.builder()
+                .dBClusterIdentifier("benchmark-cluster")
+                .dBClusterParameterGroupName("default.aurora-postgresql10")
+                .dBSubnetGroupName("benchmark-subnet-group")
+                .availabilityZones(Arrays.asList("us-east-1a", "us-east-1b", "us-east-1c"))
+                .backupRetentionPeriod(7)
+                .backtrackWindow(3600)
+                .databaseName("benchmark")
+                .deletionProtection(true)
+                .enableCloudwatchLogsExports(Collections.singletonList("postgresql"))
+                .enableIAMDatabaseAuthentication(true)
+                .engine("aurora-postgresql")
+                .engineVersion("10.7")
+                .kmsKeyId("arn:aws:kms:us-east-1:123456789012:key/00000000-0000-0000-0000-000000000000")
+                .masterUsername("master")
+                .masterUserPassword("password")
+                .port(5432)
+                .preferredBackupWindow("03:00-04:00")
+                .preferredMaintenanceWindow("sun:05:00-sun:06:00")
+                .storageEncrypted(true)
+                .vpcSecurityGroupIds(securityGroupIds())
+                .scalingConfiguration(ScalingConfiguration.builder().autoPause(true).minCapacity(2).maxCapacity(16).secondsUntilAutoPause(300).build())
+                .tags(tags)
+                .build();
+        logsExportConfiguration = CloudwatchLogsExportConfiguration.builder()
+                .enableLogTypes("postgresql")
+                .disableLogTypes(Collections.emptyList())
+                .build();
+        sdkTags = Translator.translateTagsToSdk(tags);
+    }
+
+    @Benchmark
+    public CreateDbClusterRequest createDbClusterRequest() {
+        return Translator.createDbClusterRequest(model);
+    }
+
+    @Benchmark
+    public ModifyDbClusterRequest modifyDbClusterRequest() {
+        return Translator.modifyDbClusterRequest(model, logsExportConfiguration);
+    }
+
+    @Benchmark
+    public Set<software.amazon.awssdk.services.rds.model.Tag> translateTagsToSdk() {
+        return Translator.translateTagsToSdk(model.getTags());
+    }
+
+    @Benchmark
+    public Set<Tag> translateTagsFromSdk() {
+        return Translator.translateTagsFromSdk(sdkTags);
+    }
+
+    private static List<String> securityGroupIds() {
+        return IntStream.range(0, 5)
+                .mapToObj(i -> String.format("sg-%017d", i))
+                .collect(Collectors.toList());
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TranslatorBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
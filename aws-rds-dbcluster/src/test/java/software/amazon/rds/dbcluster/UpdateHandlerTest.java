@@ -1,5 +1,6 @@
 package software.amazon.rds.dbcluster;
 
+import com.google.common.collect.Lists;
 import org.junit.jupiter.api.AfterEach;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DbClusterRoleNotFoundException;
@@ -11,8 +12,6 @@ import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.rds.model.RemoveRoleFromDbClusterRequest;
 import software.amazon.awssdk.services.rds.model.RemoveRoleFromDBClusterResponse;
-import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
-import software.amazon.awssdk.services.rds.model.AddTagsToResourceResponse;
 import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
 import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceResponse;
 import software.amazon.awssdk.services.rds.model.ModifyDbClusterRequest;
@@ -25,11 +24,14 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
@@ -52,6 +54,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
     @Mock
     RdsClient rds;
 
+    private static final DBClusterRole PREVIOUS_ROLE = DBClusterRole.builder().roleArn("previousArn").featureName(ROLE_FEATURE).build();
+
     private UpdateHandler handler;
 
     @AfterEach
@@ -74,7 +78,18 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyRdsClient.client().modifyDBCluster(any(ModifyDbClusterRequest.class))).thenReturn(modifyDbClusterResponse);
 
         CallbackContext callbackContext = new CallbackContext();
-        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).previousResourceState(RESOURCE_MODEL).build();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .associatedRoles(RESOURCE_MODEL.getAssociatedRoles())
+                .backtrackWindow(RESOURCE_MODEL.getBacktrackWindow())
+                .dBClusterIdentifier(RESOURCE_MODEL.getDBClusterIdentifier())
+                .dBClusterParameterGroupName(RESOURCE_MODEL.getDBClusterParameterGroupName())
+                .engine(RESOURCE_MODEL.getEngine())
+                .backupRetentionPeriod(RESOURCE_MODEL.getBackupRetentionPeriod())
+                .port(RESOURCE_MODEL.getPort())
+                .masterUsername(RESOURCE_MODEL.getMasterUsername())
+                .masterUserPassword("previous-password")
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).previousResourceState(previousModel).build();
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyRdsClient, logger);
         callbackContext.setModified(true);
 
@@ -87,7 +102,13 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(proxyRdsClient.client()).modifyDBCluster(any(ModifyDbClusterRequest.class));
+        // only the password changed, and a password change has to be waited out
+        final ArgumentCaptor<ModifyDbClusterRequest> captor = ArgumentCaptor.forClass(ModifyDbClusterRequest.class);
+        verify(proxyRdsClient.client()).modifyDBCluster(captor.capture());
+        assertThat(captor.getValue().masterUserPassword()).isEqualTo(RESOURCE_MODEL.getMasterUserPassword());
+        assertThat(captor.getValue().port()).isNull();
+        assertThat(captor.getValue().dbClusterParameterGroupName()).isNull();
+        assertThat(captor.getValue().backupRetentionPeriod()).isNull();
     }
 
     @Test
@@ -96,24 +117,17 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final DescribeDbClustersResponse describeActiveDbClustersResponse = DescribeDbClustersResponse.builder().dbClusters(DBCLUSTER_ACTIVE).build();
         when(proxyRdsClient.client().removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class))).thenThrow(
             DbClusterRoleNotFoundException.class);
-        final DescribeDbClustersResponse describeDbClustersResponseWithNoRole = DescribeDbClustersResponse.builder().dbClusters(DBCLUSTER_ACTIVE_NO_ROLE).build();
-
-        final AddRoleToDBClusterResponse addRoleToDBClusterResponse = AddRoleToDBClusterResponse.builder().build();
-        when(proxyRdsClient.client().addRoleToDBCluster(any(AddRoleToDbClusterRequest.class))).thenReturn(addRoleToDBClusterResponse);
 
         when(proxyRdsClient.client().describeDBClusters(any(DescribeDbClustersRequest.class))).thenReturn(describeActiveDbClustersResponse);
 
         final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder().build();
-        final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
-        final AddTagsToResourceResponse addTagsToResourceResponse = AddTagsToResourceResponse.builder().build();
         when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
-        when(proxyRdsClient.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(removeTagsFromResourceResponse);
-        when(proxyRdsClient.client().addTagsToResource(any(AddTagsToResourceRequest.class))).thenReturn(addTagsToResourceResponse);
 
         CallbackContext callbackContext = new CallbackContext();
         callbackContext.setModified(true);
 
-        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).previousResourceState(RESOURCE_MODEL).build();
+        final ResourceModel previousModel = copyOfResourceModel(Lists.newArrayList(ROLE, PREVIOUS_ROLE), null);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).previousResourceState(previousModel).build();
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyRdsClient, logger);
 
         assertThat(response).isNotNull();
@@ -124,48 +138,40 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(proxyRdsClient.client(), times(4)).describeDBClusters(any(DescribeDbClustersRequest.class));
-        verify(proxyRdsClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
-        verify(proxyRdsClient.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
-        verify(proxyRdsClient.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
+        // only the role that left the model is removed, and the role kept is not re-added
+        verify(proxyRdsClient.client()).removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class));
+        // nothing to modify, so there is no wait for the cluster, only the role poll
+        verify(proxyRdsClient.client()).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(proxyRdsClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
     }
 
     @Test
     public void handleRequest_SimpleSuccess() {
 
-        final DescribeDbClustersResponse describeInProgressDbClustersResponse = DescribeDbClustersResponse.builder().dbClusters(DBCLUSTER_INPROGRESS).build();
         final DescribeDbClustersResponse describeActiveDbClustersResponse = DescribeDbClustersResponse.builder().dbClusters(DBCLUSTER_ACTIVE).build();
         final RemoveRoleFromDBClusterResponse removeRoleFromDBClusterResponse = RemoveRoleFromDBClusterResponse.builder().build();
         when(proxyRdsClient.client().removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class))).thenReturn(removeRoleFromDBClusterResponse);
-        final DescribeDbClustersResponse describeDbClustersResponseWithNoRole = DescribeDbClustersResponse.builder().dbClusters(DBCLUSTER_ACTIVE_NO_ROLE).build();
 
         final AddRoleToDBClusterResponse addRoleToDBClusterResponse = AddRoleToDBClusterResponse.builder().build();
         when(proxyRdsClient.client().addRoleToDBCluster(any(AddRoleToDbClusterRequest.class))).thenReturn(addRoleToDBClusterResponse);
 
-        AtomicInteger attempt = new AtomicInteger(2);
-        when(proxyRdsClient.client().describeDBClusters(any(DescribeDbClustersRequest.class))).then((m) -> {
-            switch (attempt.getAndDecrement()) {
-                case 1:
-                    return describeInProgressDbClustersResponse;
-                case 0:
-                    return describeDbClustersResponseWithNoRole;
-                default:
-                    return describeActiveDbClustersResponse;
-            }
-        });
+        when(proxyRdsClient.client().describeDBClusters(any(DescribeDbClustersRequest.class))).thenReturn(describeActiveDbClustersResponse);
 
         final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder().build();
         final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
-        final AddTagsToResourceResponse addTagsToResourceResponse = AddTagsToResourceResponse.builder().build();
         when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
         when(proxyRdsClient.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(removeTagsFromResourceResponse);
-        when(proxyRdsClient.client().addTagsToResource(any(AddTagsToResourceRequest.class))).thenReturn(addTagsToResourceResponse);
 
         CallbackContext callbackContext = new CallbackContext();
         callbackContext.setModified(true);
 
-        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).previousResourceState(RESOURCE_MODEL).build();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .associatedRoles(Lists.newArrayList(PREVIOUS_ROLE))
+                .dBClusterIdentifier(RESOURCE_MODEL.getDBClusterIdentifier())
+                .tags(Collections.singleton(Tag.builder().key("previous").value("tag").build()))
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).previousResourceState(previousModel).build();
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyRdsClient, logger);
 
         assertThat(response).isNotNull();
@@ -176,10 +182,51 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(proxyRdsClient.client(), times(6)).describeDBClusters(any(DescribeDbClustersRequest.class));
-        verify(proxyRdsClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyRdsClient.client()).removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class));
+        verify(proxyRdsClient.client()).addRoleToDBCluster(any(AddRoleToDbClusterRequest.class));
+        // the wait for the cluster, one poll for both role changes, and the read
+        verify(proxyRdsClient.client(), times(3)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        // the read lists tags; the tag step takes the existing tags from the previous state and only removes
+        verify(proxyRdsClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
         verify(proxyRdsClient.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
-        verify(proxyRdsClient.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
 
     }
+
+    @Test
+    public void handleRequest_RemovedRoleStabilizesBesideRoleWithoutFeature() {
+        // the cluster keeps previousArn without a feature name once the association under ROLE_FEATURE is gone
+        final DescribeDbClustersResponse describeDbClustersResponse = DescribeDbClustersResponse.builder().dbClusters(DBCLUSTER_ACTIVE.toBuilder()
+                .associatedRoles(
+                    software.amazon.awssdk.services.rds.model.DBClusterRole.builder().roleArn(ROLE_ARN).featureName(ROLE_FEATURE).build(),
+                    software.amazon.awssdk.services.rds.model.DBClusterRole.builder().roleArn(PREVIOUS_ROLE.getRoleArn()).featureName("").status("ACTIVE").build())
+                .build()).build();
+        when(proxyRdsClient.client().removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class))).thenReturn(RemoveRoleFromDBClusterResponse.builder().build());
+        when(proxyRdsClient.client().describeDBClusters(any(DescribeDbClustersRequest.class))).thenReturn(describeDbClustersResponse);
+        when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final ResourceModel previousModel = copyOfResourceModel(Lists.newArrayList(ROLE, PREVIOUS_ROLE), null);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).previousResourceState(previousModel).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // removed once and not sent again on the first poll
+        verify(proxyRdsClient.client()).removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class));
+        verify(proxyRdsClient.client()).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(proxyRdsClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    private static ResourceModel copyOfResourceModel(final List<DBClusterRole> associatedRoles, final Set<Tag> tags) {
+        return ResourceModel.builder()
+                .associatedRoles(associatedRoles)
+                .backtrackWindow(RESOURCE_MODEL.getBacktrackWindow())
+                .dBClusterIdentifier(RESOURCE_MODEL.getDBClusterIdentifier())
+                .dBClusterParameterGroupName(RESOURCE_MODEL.getDBClusterParameterGroupName())
+                .engine(RESOURCE_MODEL.getEngine())
+                .backupRetentionPeriod(RESOURCE_MODEL.getBackupRetentionPeriod())
+                .port(RESOURCE_MODEL.getPort())
+                .masterUsername(RESOURCE_MODEL.getMasterUsername())
+                .masterUserPassword(RESOURCE_MODEL.getMasterUserPassword())
+                .tags(tags)
+                .build();
+    }
 }
@@ -1,10 +1,15 @@
 package software.amazon.rds.dbclusterparametergroup;
 
 import com.amazonaws.util.StringUtils;
-import com.google.common.collect.Sets;
+import com.google.common.collect.Iterables;
 import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DbParameterGroupNotFoundException;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
@@ -15,6 +20,7 @@ import software.amazon.awssdk.services.rds.model.DescribeDbClusterParametersResp
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.CallChain.Completed;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -29,8 +35,12 @@ import static software.amazon.rds.dbclusterparametergroup.Translator.mapToTags;
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected static int MAX_LENGTH_GROUP_NAME = 255;
-    protected static int CALLBACK_DELAY_SECONDS = 5 * 60; // 5 min for propagation
+    protected static final String PARAMETER_SOURCE_USER = "user";
+    // Upper bound on waiting for modified parameters to propagate; checks start right away and back off from 5 seconds
+    protected static final int MAX_PROPAGATION_WAIT_SECONDS = 5 * 60;
+    protected static final Delay PROPAGATION_DELAY = ExponentialBackoff.of().initialDelay(Duration.ofSeconds(5L)).maxDelay(Duration.ofSeconds(60L)).timeout(Duration.ofSeconds(MAX_PROPAGATION_WAIT_SECONDS)).build();
     protected static int NO_CALLBACK_DELAY = 0;
+    protected static int MAX_PARAMETERS_PER_REQUEST = 20;
 
 
     @Override
@@ -47,6 +57,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                                    ProxyClient<RdsClient> client,
                                                                                    Logger logger);
 
+    // Checks the declared parameters against the bundled catalog of the family, if there is one, before the group is
+    // created or changed. Anything the catalog cannot vouch for is checked against the group itself in modifyParameters.
+    protected void validateParameters(final ResourceModel model) {
+        if (model.getParameters() == null || model.getParameters().isEmpty()) return;
+        ParameterCatalog.forFamily(model.getFamily()).ifPresent(catalog -> catalog.validate(model.getParameters()));
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> applyParameters(final AmazonWebServicesClientProxy proxy,
                                                                             final ProxyClient<RdsClient> proxyClient,
                                                                             final ResourceModel model,
@@ -54,37 +71,110 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         if (callbackContext.isParametersApplied()) return ProgressEvent.defaultInProgressHandler(callbackContext, NO_CALLBACK_DELAY, model);
 
         callbackContext.setParametersApplied(true);
-        ProgressEvent<ResourceModel, CallbackContext> progress = ProgressEvent.defaultInProgressHandler(callbackContext, CALLBACK_DELAY_SECONDS, model);
+        final ProgressEvent<ResourceModel, CallbackContext> progress = ProgressEvent.defaultInProgressHandler(callbackContext, NO_CALLBACK_DELAY, model);
 
         if (model.getParameters().isEmpty()) return progress;
 
-        // check if provided parameter is supported by rds
-        Set<String> paramNames = model.getParameters().keySet();
+        return modifyParameters(proxy, proxyClient, model, model.getParameters(), describeDbClusterParameters(proxyClient, model), callbackContext)
+                .then(p -> progress);
+    }
+
+    // Modifies the given parameters in batches of MAX_PARAMETERS_PER_REQUEST, looking their apply types up in groupParameters
+    protected ProgressEvent<ResourceModel, CallbackContext> modifyParameters(final AmazonWebServicesClientProxy proxy,
+                                                                             final ProxyClient<RdsClient> proxyClient,
+                                                                             final ResourceModel model,
+                                                                             final Map<String, Object> parameters,
+                                                                             final Map<String, Parameter> groupParameters,
+                                                                             final CallbackContext callbackContext) {
+        final Set<Parameter> params = Translator.getParametersToModify(parameters, groupParameters.values());
+
+        // if there are parameters that couldn't be found in rds api then they are invalid
+        final Set<String> paramNames = new TreeSet<>(parameters.keySet());
+        paramNames.removeAll(groupParameters.keySet());
+        if (!paramNames.isEmpty()) throw new CfnInvalidRequestException("Invalid / Unsupported DB Parameter: " + paramNames.stream().findFirst().get());
+
+        int batch = 0;
+        for (List<Parameter> paramsPartition : Iterables.partition(params, MAX_PARAMETERS_PER_REQUEST)) {
+            final ProgressEvent<ResourceModel, CallbackContext> batchProgress = proxy.initiate("rds::modify-db-cluster-parameter-group::" + batch++, proxyClient, model, callbackContext)
+                    .translateToServiceRequest((resourceModel) -> Translator.modifyDbClusterParameterGroupRequest(resourceModel, paramsPartition))
+                    .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::modifyDBClusterParameterGroup))
+                    .progress();
+            if (batchProgress.isFailed()) return batchProgress;
+        }
+        return ProgressEvent.progress(model, callbackContext);
+    }
+
+    // Resets the named parameters to their engine defaults in batches of MAX_PARAMETERS_PER_REQUEST
+    protected ProgressEvent<ResourceModel, CallbackContext> resetParameters(final AmazonWebServicesClientProxy proxy,
+                                                                            final ProxyClient<RdsClient> proxyClient,
+                                                                            final ResourceModel model,
+                                                                            final Set<String> parameterNames,
+                                                                            final Map<String, Parameter> groupParameters,
+                                                                            final CallbackContext callbackContext) {
+        final List<Parameter> params = parameterNames.stream()
+                .map(parameterName -> Translator.resetParameter(groupParameters.getOrDefault(parameterName, Parameter.builder().parameterName(parameterName).build())))
+                .collect(Collectors.toList());
+
+        int batch = 0;
+        for (List<Parameter> paramsPartition : Iterables.partition(params, MAX_PARAMETERS_PER_REQUEST)) {
+            final ProgressEvent<ResourceModel, CallbackContext> batchProgress = proxy.initiate("rds::reset-db-cluster-parameter-group::" + batch++, proxyClient, model, callbackContext)
+                    .translateToServiceRequest((resourceModel) -> Translator.resetDbClusterParameterGroupRequest(resourceModel, paramsPartition))
+                    .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::resetDBClusterParameterGroup))
+                    .progress();
+            if (batchProgress.isFailed()) return batchProgress;
+        }
+        return ProgressEvent.progress(model, callbackContext);
+    }
 
+    // Holds the handler until the group reports exactly the template's parameters as user parameters. The first look
+    // is immediate, later ones follow PROPAGATION_DELAY, and when that runs out after MAX_PROPAGATION_WAIT_SECONDS the
+    // handler goes on as if the values had propagated, which is all the old fixed delay ever did.
+    protected ProgressEvent<ResourceModel, CallbackContext> awaitParameterPropagation(final ProxyClient<RdsClient> proxyClient,
+                                                                                      final ResourceModel model,
+                                                                                      final CallbackContext callbackContext) {
+        if (callbackContext.isParametersPropagated()) return ProgressEvent.progress(model, callbackContext);
+
+        boolean propagated;
+        try {
+            propagated = ParameterDelta.between(describeUserParameters(proxyClient, model), model.getParameters()).isEmpty();
+        } catch (AwsServiceException e) {
+            propagated = false; // try again on the next check
+        }
+        final Duration delay = PROPAGATION_DELAY.nextDelay(callbackContext.getPropagationChecks());
+        if (propagated || delay.isZero()) {
+            callbackContext.setParametersPropagated(true);
+            return ProgressEvent.progress(model, callbackContext);
+        }
+        callbackContext.setPropagationChecks(callbackContext.getPropagationChecks() + 1);
+        return ProgressEvent.defaultInProgressHandler(callbackContext, (int) Math.max(delay.getSeconds(), 1L), model);
+    }
+
+    // Values of the parameters the user has set on the group, by name
+    protected Map<String, String> describeUserParameters(final ProxyClient<RdsClient> proxyClient,
+                                                         final ResourceModel model) {
+        final Map<String, String> parameters = new LinkedHashMap<>();
         String marker = null;
         do {
+            final DescribeDbClusterParametersResponse dbClusterParametersResponse = proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.describeDbClusterParametersRequest(model, PARAMETER_SOURCE_USER, marker), proxyClient.client()::describeDBClusterParameters);
+            marker = dbClusterParametersResponse.marker();
+            dbClusterParametersResponse.parameters().forEach(parameter -> parameters.put(parameter.parameterName(), parameter.parameterValue()));
+        } while (!StringUtils.isNullOrEmpty(marker));
+        return parameters;
+    }
 
+    // All parameters of the group by name, with their current value, source and apply type
+    protected Map<String, Parameter> describeDbClusterParameters(final ProxyClient<RdsClient> proxyClient,
+                                                                 final ResourceModel model) {
+        final Map<String, Parameter> parameters = new LinkedHashMap<>();
+        String marker = null;
+        do {
             final DescribeDbClusterParametersResponse dbClusterParametersResponse = proxyClient.injectCredentialsAndInvokeV2(
                     Translator.describeDbClusterParametersRequest(model, marker), proxyClient.client()::describeDBClusterParameters);
-
             marker = dbClusterParametersResponse.marker();
-            final Set<Parameter> params = Translator.getParametersToModify(model, dbClusterParametersResponse.parameters());
-
-            // if no params need to be modified then skip the api invocation
-            if (params.isEmpty()) continue;
-
-            // substract set of found and modified params
-            paramNames.removeAll(params.stream().map(Parameter::parameterName).collect(Collectors.toSet()));
-
-            progress = proxy.initiate("rds::modify-db-cluster-parameter-group::" + marker, proxyClient, model, callbackContext)
-                    .translateToServiceRequest((resourceModel) -> Translator.modifyDbClusterParameterGroupRequest(resourceModel, params))
-                    .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::modifyDBClusterParameterGroup))
-                    .progress(CALLBACK_DELAY_SECONDS);
+            dbClusterParametersResponse.parameters().forEach(parameter -> parameters.put(parameter.parameterName(), parameter));
         } while (!StringUtils.isNullOrEmpty(marker));
-        // if there are parameters left that couldn't be found in rds api then they are invalid
-        if (!paramNames.isEmpty()) throw new CfnInvalidRequestException("Invalid / Unsupported DB Parameter: " + paramNames.stream().findFirst().get());
-
-        return progress;
+        return parameters;
     }
 
     protected Completed<DescribeDbClusterParameterGroupsRequest,
@@ -107,20 +197,17 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
 
 
+    // previousTags are the tags of the previous resource state, or null when unknown, in which case the current tags are listed
     protected ProgressEvent<ResourceModel, CallbackContext> tagResource(final DescribeDbClusterParameterGroupsResponse describeDbClusterParameterGroupsResponse,
                                                                         final ProxyClient<RdsClient> proxyClient,
                                                                         final ResourceModel model,
                                                                         final CallbackContext callbackContext,
-                                                                        final Map<String, String> tags) {
+                                                                        final Map<String, String> tags,
+                                                                        final Map<String, String> previousTags) {
         final String arn = describeDbClusterParameterGroupsResponse.dbClusterParameterGroups().stream().findFirst().get().dbClusterParameterGroupArn();
 
-        final Set<Tag> currentTags = mapToTags(tags);
-        final Set<Tag> existingTags = listTags(proxyClient, arn);
-        final Set<Tag> tagsToRemove = Sets.difference(existingTags, currentTags);
-        final Set<Tag> tagsToAdd = Sets.difference(currentTags, existingTags);
-
-        proxyClient.injectCredentialsAndInvokeV2(Translator.removeTagsFromResourceRequest(arn, tagsToRemove), proxyClient.client()::removeTagsFromResource);
-        proxyClient.injectCredentialsAndInvokeV2(Translator.addTagsToResourceRequest(arn, tagsToAdd), proxyClient.client()::addTagsToResource);
+        final Set<Tag> existingTags = previousTags != null ? mapToTags(previousTags) : listTags(proxyClient, arn);
+        TagDelta.between(existingTags, mapToTags(tags)).apply(proxyClient, arn);
         return ProgressEvent.progress(model, callbackContext);
     }
 
@@ -1,5 +1,7 @@
 package software.amazon.rds.dbclusterparametergroup;
 
+import java.util.List;
+
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 
@@ -9,6 +11,10 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
     private boolean parametersApplied;
-    private String marker;
+    private List<String> dbClusterIdentifiers;
     private boolean clusterStabilized;
+    private int propagationChecks;
+    private boolean parametersPropagated;
+    private int memberPolls;
+    private boolean applyObserved;
 }
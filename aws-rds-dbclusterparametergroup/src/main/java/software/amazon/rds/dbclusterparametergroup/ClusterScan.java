@@ -0,0 +1,75 @@
+package software.amazon.rds.dbclusterparametergroup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import com.amazonaws.util.StringUtils;
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Finds the DB clusters that use a cluster parameter group and describes only those.
+ *
+ * DescribeDBClusters has no filter for the parameter group, so the account is scanned once, at the largest page size,
+ * into an index from parameter group to cluster identifiers. Later polls ask for the matching clusters by
+ * db-cluster-id filter instead, a page's worth of identifiers per call, with the calls running concurrently on a
+ * shared, bounded pool.
+ */
+public class ClusterScan {
+    static final int PAGE_SIZE = 100;
+    private static final int POOL_SIZE = 4;
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(POOL_SIZE,
+            new ThreadFactoryBuilder().setNameFormat("rds-cluster-scan-%d").setDaemon(true).build());
+
+    private ClusterScan() {
+    }
+
+    /**
+     * Identifiers of every cluster in the account and region, keyed by the cluster parameter group they use.
+     */
+    public static Map<String, List<String>> index(final ProxyClient<RdsClient> proxyClient) {
+        final Map<String, List<String>> clustersByGroup = new HashMap<>();
+        String marker = null;
+        do {
+            final DescribeDbClustersResponse describeDbClustersResponse = proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.describeDbClustersRequest(marker, PAGE_SIZE), proxyClient.client()::describeDBClusters);
+            describeDbClustersResponse.dbClusters().stream()
+                    .filter(dbCluster -> dbCluster.dbClusterParameterGroup() != null)
+                    .forEach(dbCluster -> clustersByGroup.computeIfAbsent(dbCluster.dbClusterParameterGroup(), key -> new ArrayList<>())
+                            .add(dbCluster.dbClusterIdentifier()));
+            marker = describeDbClustersResponse.marker();
+        } while (!StringUtils.isNullOrEmpty(marker));
+        return clustersByGroup;
+    }
+
+    /**
+     * Current state of the given clusters. Clusters deleted since they were indexed are left out.
+     */
+    public static List<DBCluster> describe(final ProxyClient<RdsClient> proxyClient, final Collection<String> dbClusterIdentifiers) {
+        final List<CompletableFuture<List<DBCluster>>> batches = new ArrayList<>();
+        for (final List<String> batch : Iterables.partition(dbClusterIdentifiers, PAGE_SIZE)) {
+            batches.add(CompletableFuture.supplyAsync(() -> proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.describeDbClustersRequest(batch), proxyClient.client()::describeDBClusters).dbClusters(), EXECUTOR));
+        }
+        try {
+            return batches.stream()
+                    .flatMap(batch -> batch.join().stream())
+                    .collect(Collectors.toList());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+}
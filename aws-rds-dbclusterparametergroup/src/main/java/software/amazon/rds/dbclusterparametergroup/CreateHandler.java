@@ -25,6 +25,7 @@ public class CreateHandler extends BaseHandlerStd {
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress -> {
                 final ResourceModel model = progress.getResourceModel();
+                validateParameters(model);
                 if (StringUtils.isNullOrEmpty(model.getDBClusterParameterGroupName()))
                     model.setDBClusterParameterGroupName(IdentifierUtils.generateResourceIdentifier(request.getLogicalResourceIdentifier(), request.getClientRequestToken(), MAX_LENGTH_GROUP_NAME).toLowerCase());
                 return ProgressEvent.progress(model, progress.getCallbackContext());
@@ -33,6 +34,7 @@ public class CreateHandler extends BaseHandlerStd {
                 .translateToServiceRequest((resourceModel) -> Translator.createDbClusterParameterGroupRequest(resourceModel, request.getDesiredResourceTags()))
                 .makeServiceCall((paramGroupRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(paramGroupRequest, proxyInvocation.client()::createDBClusterParameterGroup))
                 .done((paramGroupRequest, paramGroupResponse, proxyInvocation, resourceModel, context) -> applyParameters(proxy, proxyInvocation, resourceModel, context)))
+            .then(progress -> awaitParameterPropagation(proxyClient, progress.getResourceModel(), progress.getCallbackContext()))
             .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
 
     }
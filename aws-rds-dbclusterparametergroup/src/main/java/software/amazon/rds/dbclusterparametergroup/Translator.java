@@ -7,6 +7,7 @@ import software.amazon.awssdk.services.rds.model.DescribeDbClusterParameterGroup
 import software.amazon.awssdk.services.rds.model.DescribeDbClusterParametersRequest;
 import software.amazon.awssdk.services.rds.model.DeleteDbClusterParameterGroupRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
+import software.amazon.awssdk.services.rds.model.Filter;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.rds.model.ModifyDbClusterParameterGroupRequest;
 import software.amazon.awssdk.services.rds.model.ResetDbClusterParameterGroupRequest;
@@ -26,6 +27,8 @@ import java.util.stream.Collectors;
 
 public class Translator {
     private static final int MAX_RECORDS_TO_DESCRIBE = 20;
+    private static final int MIN_RECORDS_TO_DESCRIBE_CLUSTERS = 20;
+    private static final String DB_CLUSTER_ID_FILTER = "db-cluster-id";
     private static final String STATIC_TYPE = "static";
     private static final String DYNAMIC_TYPE = "dynamic";
     private static final ApplyMethod IMMEDIATE_APPLY_METHOD = ApplyMethod.IMMEDIATE;;
@@ -50,10 +53,28 @@ public class Translator {
                 .build();
     }
 
-    static DescribeDbClustersRequest describeDbClustersRequest(final String nextToken) {
+    static DescribeDbClusterParametersRequest describeDbClusterParametersRequest(final ResourceModel model,
+                                                                                 final String source,
+                                                                                 final String nextToken) {
+        return DescribeDbClusterParametersRequest.builder()
+                .dbClusterParameterGroupName(model.getDBClusterParameterGroupName())
+                .source(source)
+                .marker(nextToken)
+                .maxRecords(MAX_RECORDS_TO_DESCRIBE)
+                .build();
+    }
+
+    static DescribeDbClustersRequest describeDbClustersRequest(final String nextToken, final int maxRecords) {
         return DescribeDbClustersRequest.builder()
             .marker(nextToken)
-            .maxRecords(20)
+            .maxRecords(maxRecords)
+            .build();
+    }
+
+    static DescribeDbClustersRequest describeDbClustersRequest(final Collection<String> dbClusterIdentifiers) {
+        return DescribeDbClustersRequest.builder()
+            .filters(Filter.builder().name(DB_CLUSTER_ID_FILTER).values(dbClusterIdentifiers).build())
+            .maxRecords(Math.max(MIN_RECORDS_TO_DESCRIBE_CLUSTERS, dbClusterIdentifiers.size()))
             .build();
     }
 
@@ -78,7 +99,7 @@ public class Translator {
     }
 
     static ModifyDbClusterParameterGroupRequest modifyDbClusterParameterGroupRequest(final ResourceModel model,
-                                                                                     final Set<Parameter> parameters) {
+                                                                                     final Collection<Parameter> parameters) {
         return ModifyDbClusterParameterGroupRequest.builder()
                 .dbClusterParameterGroupName(model.getDBClusterParameterGroupName())
                 .parameters(parameters)
@@ -92,6 +113,15 @@ public class Translator {
                 .build();
     }
 
+    static ResetDbClusterParameterGroupRequest resetDbClusterParameterGroupRequest(final ResourceModel model,
+                                                                                   final Collection<Parameter> parameters) {
+        return ResetDbClusterParameterGroupRequest.builder()
+                .dbClusterParameterGroupName(model.getDBClusterParameterGroupName())
+                .resetAllParameters(false)
+                .parameters(parameters)
+                .build();
+    }
+
     static ListTagsForResourceRequest listTagsForResourceRequest(final String dbClusterParameterGroupArn) {
         return ListTagsForResourceRequest.builder()
                 .resourceName(dbClusterParameterGroupArn)
@@ -120,12 +150,29 @@ public class Translator {
 
     protected static Set<Parameter> getParametersToModify(final ResourceModel model,
                                                           final List<Parameter> parameters) {
+        return getParametersToModify(model.getParameters(), parameters);
+    }
+
+    protected static Set<Parameter> getParametersToModify(final Map<String, Object> modelParameters,
+                                                          final Collection<Parameter> parameters) {
         return parameters.stream()
-                .filter(parameter -> model.getParameters().containsKey(parameter.parameterName()))
-                .map(parameter -> modifyParameter(model.getParameters(), parameter))
+                .filter(parameter -> modelParameters.containsKey(parameter.parameterName()))
+                .map(parameter -> modifyParameter(modelParameters, parameter))
                 .collect(Collectors.toSet());
     }
 
+    // A reset takes effect the way a modify of the same parameter would: right away when dynamic, on reboot otherwise
+    static Parameter resetParameter(final Parameter parameter) {
+        return Parameter.builder()
+                .parameterName(parameter.parameterName())
+                .applyMethod(isDynamic(parameter) ? IMMEDIATE_APPLY_METHOD : PENDING_REBOOT_APPLY_METHOD)
+                .build();
+    }
+
+    static boolean isDynamic(final Parameter parameter) {
+        return parameter != null && DYNAMIC_TYPE.equalsIgnoreCase(parameter.applyType());
+    }
+
     private static Parameter modifyParameter(final Map<String, Object> parameters,
                                                final Parameter parameter) {
         if (!parameter.isModifiable()) throw new CfnInvalidRequestException("Unmodifiable DB Parameter: " + parameter.parameterName());
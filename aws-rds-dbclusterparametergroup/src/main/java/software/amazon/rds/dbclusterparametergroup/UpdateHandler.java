@@ -1,10 +1,17 @@
 package software.amazon.rds.dbclusterparametergroup;
 
 import com.amazonaws.AmazonServiceException;
-import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DBClusterMember;
 import software.amazon.awssdk.services.rds.model.RdsException;
-import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
+import software.amazon.awssdk.services.rds.model.Parameter;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.TerminalException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -12,11 +19,71 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.delay.Constant;
+
+import static software.amazon.rds.dbclusterparametergroup.Translator.mapToTags;
 
 public class UpdateHandler extends BaseHandlerStd {
     private static final String AVAILABLE = "available";
-    protected static final Constant BACKOFF_STRATEGY = Constant.of().timeout(Duration.ofMinutes(120L)).delay(Duration.ofSeconds(30L)).build();
+    private static final String IN_SYNC = "in-sync";
+    private static final String PENDING_REBOOT = "pending-reboot";
+    // Members only leave "in-sync" some time after the modify, so an "in-sync" member is not taken at its word until
+    // one has been seen applying, or until this many polls, 30 seconds apart, have found them all still in sync
+    protected static final int APPLY_GRACE_POLLS = 3;
+
+    // Resets the parameters that are no longer set and modifies the changed ones, leaving everything else untouched.
+    // Dynamic parameters take effect on the clusters right away, so when nothing else changed there is no cluster scan.
+    private ProgressEvent<ResourceModel, CallbackContext> updateParameters(final AmazonWebServicesClientProxy proxy,
+                                                                           final ProxyClient<RdsClient> proxyClient,
+                                                                           final ResourceModel model,
+                                                                           final CallbackContext callbackContext) {
+        validateParameters(model);
+        final Map<String, Parameter> groupParameters = describeDbClusterParameters(proxyClient, model);
+        final ParameterDelta parameterDelta = ParameterDelta.between(userParameters(groupParameters), model.getParameters());
+        final boolean dynamicOnly = Stream.concat(parameterDelta.getParametersToModify().keySet().stream(), parameterDelta.getParametersToReset().stream())
+            .allMatch(parameterName -> Translator.isDynamic(groupParameters.get(parameterName)));
+
+        callbackContext.setParametersApplied(true);
+        callbackContext.setClusterStabilized(dynamicOnly);
+        return resetParameters(proxy, proxyClient, model, parameterDelta.getParametersToReset(), groupParameters, callbackContext)
+            .then(progress -> modifyParameters(proxy, proxyClient, model, parameterDelta.getParametersToModify(), groupParameters, callbackContext))
+            .then(progress -> ProgressEvent.progress(model, callbackContext));
+    }
+
+    private static Map<String, String> userParameters(final Map<String, Parameter> groupParameters) {
+        // a user-set parameter may come back without a value, which Collectors.toMap does not accept
+        final Map<String, String> parameters = new LinkedHashMap<>();
+        groupParameters.values().stream()
+            .filter(parameter -> PARAMETER_SOURCE_USER.equals(parameter.source()))
+            .forEach(parameter -> parameters.put(parameter.parameterName(), parameter.parameterValue()));
+        return parameters;
+    }
+
+    // A cluster is done with the group once every member has applied it, or only waits for a reboot to do so; the cluster
+    // may be busy with something else meanwhile. Clusters without members report no apply status, so for those the
+    // cluster status is all there is to go on.
+    private static boolean isParameterGroupApplied(final DBCluster dbCluster) {
+        if (dbCluster.dbClusterMembers().isEmpty()) return AVAILABLE.equals(dbCluster.status());
+        return dbCluster.dbClusterMembers().stream()
+            .map(DBClusterMember::dbClusterParameterGroupStatus)
+            .allMatch(status -> IN_SYNC.equals(status) || PENDING_REBOOT.equals(status));
+    }
+
+    private static boolean hasStartedApplying(final DBCluster dbCluster) {
+        return dbCluster.dbClusterMembers().stream()
+            .anyMatch(member -> !IN_SYNC.equals(member.dbClusterParameterGroupStatus()));
+    }
+
+    // Clusters without members go by their cluster status, which needs no grace
+    private static boolean isApplyConfirmed(final List<DBCluster> dbClusters, final CallbackContext callbackContext) {
+        return callbackContext.isApplyObserved()
+            || callbackContext.getMemberPolls() > APPLY_GRACE_POLLS
+            || dbClusters.stream().allMatch(dbCluster -> dbCluster.dbClusterMembers().isEmpty());
+    }
+
+    private static boolean isPendingReboot(final DBCluster dbCluster) {
+        return dbCluster.dbClusterMembers().stream()
+            .anyMatch(member -> PENDING_REBOOT.equals(member.dbClusterParameterGroupStatus()));
+    }
 
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
@@ -26,44 +93,53 @@ public class UpdateHandler extends BaseHandlerStd {
                                                                           final Logger logger) {
         final ResourceModel model = request.getDesiredResourceState();
         final boolean parametersUpdated = !model.getParameters().equals(request.getPreviousResourceState().getParameters());
+        final boolean tagsUpdated = request.getPreviousResourceTags() == null
+            || !TagDelta.between(mapToTags(request.getPreviousResourceTags()), mapToTags(request.getDesiredResourceTags())).isEmpty();
         return ProgressEvent.progress(model, callbackContext)
             .then(progress -> {
-                if (!parametersUpdated) return progress; // if same params then skip update
-                return proxy.initiate("rds::update-db-cluster-parameter-group", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest(Translator::resetDbClusterParameterGroupRequest)
-                    .backoffDelay(BACKOFF_STRATEGY)
-                    .makeServiceCall((resetGroupRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(resetGroupRequest, proxyInvocation.client()::resetDBClusterParameterGroup))
-                    .done((resetGroupRequest, resetGroupResponse, proxyInvocation, resourceModel, context) -> applyParameters(proxy, proxyInvocation, resourceModel, context));
+                if (!parametersUpdated || progress.getCallbackContext().isParametersApplied()) return progress; // if same params then skip update
+                return updateParameters(proxy, proxyClient, progress.getResourceModel(), progress.getCallbackContext());
+            })
+            .then(progress -> {
+                if (!parametersUpdated) return progress; // if same params then nothing to propagate
+                return awaitParameterPropagation(proxyClient, progress.getResourceModel(), progress.getCallbackContext());
             })
             .then(progress -> {
                 if (!parametersUpdated) return progress; // if same params then skip stabilization
                 final ResourceModel resourceModel = progress.getResourceModel();
                 final CallbackContext cxt = progress.getCallbackContext();
 
-                if (!cxt.isClusterStabilized()) { // if not stabilized then we keep describing clusters and memoizing into the set
-
-                    final DescribeDbClustersResponse describeDbClustersResponse = proxyClient.injectCredentialsAndInvokeV2(Translator.describeDbClustersRequest(cxt.getMarker()), proxyClient.client()::describeDBClusters);
-
-                    if(describeDbClustersResponse.dbClusters().stream()
-                        .filter(dbCluster -> dbCluster.dbClusterParameterGroup().equals(resourceModel.getDBClusterParameterGroupName())) // all db clusters that use param group
-                        .allMatch(dbCluster -> dbCluster.status().equals(AVAILABLE))) { // if all stabilized then move to the next page
+                if (!cxt.isClusterStabilized()) { // if not stabilized then we keep describing the clusters that use the group
+                    if (cxt.getDbClusterIdentifiers() == null) { // the account is scanned once, later polls only ask for the matching clusters
+                        cxt.setDbClusterIdentifiers(ClusterScan.index(proxyClient)
+                            .getOrDefault(resourceModel.getDBClusterParameterGroupName(), Collections.emptyList()));
+                    }
 
-                        if (describeDbClustersResponse.marker() != null) { // more pages left
-                            cxt.setMarker(describeDbClustersResponse.marker());
-                            progress.setCallbackDelaySeconds(30); // if there are more to describe
-                        } else { // nothing left to stabilized
-                            cxt.setClusterStabilized(true);
+                    final List<DBCluster> dbClusters = ClusterScan.describe(proxyClient, cxt.getDbClusterIdentifiers());
+                    cxt.setMemberPolls(cxt.getMemberPolls() + 1);
+                    if (dbClusters.stream().anyMatch(UpdateHandler::hasStartedApplying)) cxt.setApplyObserved(true);
+                    if (dbClusters.stream().allMatch(UpdateHandler::isParameterGroupApplied)
+                        && isApplyConfirmed(dbClusters, cxt)) { // nothing left to stabilize
+                        cxt.setClusterStabilized(true);
+                        final List<String> pendingReboot = dbClusters.stream()
+                            .filter(UpdateHandler::isPendingReboot)
+                            .map(DBCluster::dbClusterIdentifier)
+                            .collect(Collectors.toList());
+                        if (!pendingReboot.isEmpty()) {
+                            logger.log(String.format("DB clusters %s need a reboot to apply the parameters of %s", pendingReboot, resourceModel.getDBClusterParameterGroupName()));
                         }
                     } else {
-                        progress.setCallbackDelaySeconds(30); // if some still in transition status need some delay to describe
+                        progress.setCallbackDelaySeconds(30); // if some members are still applying need some delay to describe
                     }
                 }
                 progress.setCallbackContext(cxt);
                 return progress;
             })
-            .then(progress ->
-                describeDbClusterParameterGroup(proxy, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .done((paramGroupRequest, paramGroupResponse, rdsProxyClient, resourceModel, cxt) -> tagResource(paramGroupResponse, proxyClient, resourceModel, cxt, request.getDesiredResourceTags())))
+            .then(progress -> {
+                if (!tagsUpdated) return progress; // if same tags then skip tagging
+                return describeDbClusterParameterGroup(proxy, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                    .done((paramGroupRequest, paramGroupResponse, rdsProxyClient, resourceModel, cxt) -> tagResource(paramGroupResponse, proxyClient, resourceModel, cxt, request.getDesiredResourceTags(), request.getPreviousResourceTags()));
+            })
             .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 }
@@ -0,0 +1,74 @@
+package software.amazon.rds.dbclusterparametergroup;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClusterScanTest extends AbstractTestBase {
+
+    private FakeRdsClient rds;
+    private ProxyClient<RdsClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        rds = new FakeRdsClient();
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = MOCK_PROXY(proxy, rds);
+    }
+
+    @Test
+    public void index_groupsClustersByParameterGroup() {
+        IntStream.range(0, 250).forEach(i -> rds.withCluster(cluster("cluster" + i, i % 5 == 0 ? "group-a" : "group-b")));
+        rds.withCluster(DBCluster.builder().dbClusterIdentifier("nogroup").status("available").build());
+
+        final Map<String, List<String>> index = ClusterScan.index(proxyClient);
+
+        assertThat(index.keySet()).containsExactlyInAnyOrder("group-a", "group-b");
+        assertThat(index.get("group-a")).hasSize(50).contains("cluster0", "cluster245");
+        assertThat(index.get("group-b")).hasSize(200);
+        // 251 clusters at 100 per page
+        assertThat(rds.getCallCount("describeDBClusters")).isEqualTo(3);
+    }
+
+    @Test
+    public void describe_fetchesOnlyTheGivenClusters() {
+        IntStream.range(0, 250).forEach(i -> rds.withCluster(cluster("cluster" + i, "group-a")));
+        final List<String> dbClusterIdentifiers = IntStream.range(0, 150)
+                .mapToObj(i -> "cluster" + (i + 100))
+                .collect(Collectors.toList());
+        dbClusterIdentifiers.add("deletedcluster");
+
+        final List<DBCluster> dbClusters = ClusterScan.describe(proxyClient, dbClusterIdentifiers);
+
+        assertThat(dbClusters).extracting(DBCluster::dbClusterIdentifier)
+                .containsExactlyInAnyOrderElementsOf(dbClusterIdentifiers.subList(0, 150));
+        // 151 identifiers in batches of 100
+        assertThat(rds.getCallCount("describeDBClusters")).isEqualTo(2);
+    }
+
+    @Test
+    public void describe_isEmptyWithoutIdentifiers() {
+        assertThat(ClusterScan.describe(proxyClient, Collections.emptyList())).isEmpty();
+        assertThat(rds.getCallCount("describeDBClusters")).isZero();
+    }
+
+    private static DBCluster cluster(final String dbClusterIdentifier, final String dbClusterParameterGroup) {
+        return DBCluster.builder()
+                .dbClusterIdentifier(dbClusterIdentifier)
+                .dbClusterParameterGroup(dbClusterParameterGroup)
+                .status("available")
+                .build();
+    }
+}
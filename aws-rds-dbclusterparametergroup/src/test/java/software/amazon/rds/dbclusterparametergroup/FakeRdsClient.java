@@ -0,0 +1,436 @@
+package software.amazon.rds.dbclusterparametergroup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceResponse;
+import software.amazon.awssdk.services.rds.model.CreateDbClusterParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbClusterParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DBClusterMember;
+import software.amazon.awssdk.services.rds.model.DBClusterParameterGroup;
+import software.amazon.awssdk.services.rds.model.DbParameterGroupAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbParameterGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.DeleteDBClusterParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.DeleteDbClusterParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClusterParameterGroupsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClusterParameterGroupsResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbClusterParametersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClusterParametersResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.awssdk.services.rds.model.RdsException;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceResponse;
+import software.amazon.awssdk.services.rds.model.ResetDbClusterParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.ResetDbClusterParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.Tag;
+
+/**
+ * Stateful in-memory stand-in for RdsClient that models DB cluster parameter groups, their parameters and tags,
+ * along with the DB clusters that use them.
+ *
+ * Every group starts from the engine defaults registered for its family with {@link #withEngineDefaults}.
+ * Modified parameters are reported with source "user" and reset ones fall back to the engine default.
+ * Clusters are seeded with {@link #withCluster}; a cluster in a status registered with {@link #withTransition}
+ * moves on to the target status once it has been returned by the configured number of describe calls; so does the
+ * parameter group status shared by its members.
+ * With {@link #withPropagationLag}, modified and reset parameters only show up after a number of describe calls.
+ * Each call can be delayed by a fixed latency and is counted per operation.
+ */
+public class FakeRdsClient implements RdsClient {
+
+    static final String SOURCE_ENGINE_DEFAULT = "engine-default";
+    static final String SOURCE_USER = "user";
+
+    private static final String ARN_PREFIX = "arn:aws:rds:us-east-1:123456789012:cluster-pg:";
+    private static final int DEFAULT_MAX_RECORDS = 100;
+    private static final int MAX_PARAMETERS_PER_MODIFY = 20;
+
+    private final Map<String, List<Parameter>> engineDefaults = new HashMap<>();
+    private final Map<String, DBClusterParameterGroup> groups = new LinkedHashMap<>();
+    private final Map<String, Map<String, Parameter>> userParameters = new HashMap<>();
+    private final Map<String, Resource> clusters = new LinkedHashMap<>();
+    private final Map<String, Transition> transitions = new HashMap<>();
+    private final Map<String, Map<String, String>> tags = new HashMap<>();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private volatile Duration latency = Duration.ZERO;
+    private final Map<String, Map<String, Parameter>> propagatedParameters = new HashMap<>();
+    private final Map<String, Integer> describesUntilPropagated = new HashMap<>();
+    private int propagationLag;
+
+    /**
+     * A cluster in status {@code from} is reported as such by the next {@code polls} describe calls
+     * and as {@code to} afterwards.
+     */
+    public synchronized FakeRdsClient withTransition(final String from, final String to, final int polls) {
+        transitions.put(from, new Transition(to, polls));
+        return this;
+    }
+
+    public FakeRdsClient withLatency(final Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    public synchronized FakeRdsClient withEngineDefaults(final String family, final Collection<Parameter> parameters) {
+        engineDefaults.put(family, parameters.stream()
+                .map(parameter -> parameter.toBuilder().source(SOURCE_ENGINE_DEFAULT).build())
+                .collect(Collectors.toList()));
+        return this;
+    }
+
+    public synchronized FakeRdsClient withCluster(final DBCluster cluster) {
+        clusters.put(cluster.dbClusterIdentifier(), new Resource(cluster));
+        return this;
+    }
+
+    /**
+     * Makes DescribeDBClusterParameters report the parameters from before a modify or reset for the given number of calls.
+     */
+    public synchronized FakeRdsClient withPropagationLag(final int describeCalls) {
+        this.propagationLag = describeCalls;
+        return this;
+    }
+
+    /**
+     * Reports an engine default parameter of an existing group as set by the user but without a value.
+     */
+    public synchronized FakeRdsClient withUserParameterWithoutValue(final String dbClusterParameterGroupName, final String parameterName) {
+        final DBClusterParameterGroup group = getGroup(dbClusterParameterGroupName);
+        getEngineDefaults(group.dbParameterGroupFamily()).stream()
+                .filter(parameter -> parameter.parameterName().equals(parameterName))
+                .findFirst()
+                .ifPresent(parameter -> userParameters.get(dbClusterParameterGroupName)
+                        .put(parameterName, parameter.toBuilder().parameterValue(null).source(SOURCE_USER).build()));
+        return this;
+    }
+
+    public int getCallCount(final String operation) {
+        return Optional.ofNullable(calls.get(operation)).map(AtomicInteger::get).orElse(0);
+    }
+
+    public int getTotalCallCount() {
+        return calls.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    public synchronized boolean exists(final String dbClusterParameterGroupName) {
+        return groups.containsKey(dbClusterParameterGroupName);
+    }
+
+    /**
+     * Parameters that currently differ from the engine defaults, keyed by name.
+     */
+    public synchronized Map<String, String> getUserParameters(final String dbClusterParameterGroupName) {
+        return userParameters.getOrDefault(dbClusterParameterGroupName, Collections.emptyMap()).values().stream()
+                .collect(Collectors.toMap(Parameter::parameterName, Parameter::parameterValue, (a, b) -> b, LinkedHashMap::new));
+    }
+
+    public synchronized Optional<String> getClusterStatus(final String dbClusterIdentifier) {
+        return Optional.ofNullable(clusters.get(dbClusterIdentifier)).map(resource -> resource.status);
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public CreateDbClusterParameterGroupResponse createDBClusterParameterGroup(final CreateDbClusterParameterGroupRequest request) {
+        return call("createDBClusterParameterGroup", () -> {
+            if (groups.containsKey(request.dbClusterParameterGroupName())) {
+                throw DbParameterGroupAlreadyExistsException.builder().message("DBClusterParameterGroup " + request.dbClusterParameterGroupName() + " already exists").build();
+            }
+            final DBClusterParameterGroup group = DBClusterParameterGroup.builder()
+                    .dbClusterParameterGroupName(request.dbClusterParameterGroupName())
+                    .dbClusterParameterGroupArn(ARN_PREFIX + request.dbClusterParameterGroupName())
+                    .dbParameterGroupFamily(request.dbParameterGroupFamily())
+                    .description(request.description())
+                    .build();
+            groups.put(group.dbClusterParameterGroupName(), group);
+            userParameters.put(group.dbClusterParameterGroupName(), new LinkedHashMap<>());
+            putTags(group.dbClusterParameterGroupArn(), request.tags());
+            return CreateDbClusterParameterGroupResponse.builder().dbClusterParameterGroup(group).build();
+        });
+    }
+
+    @Override
+    public DescribeDbClusterParameterGroupsResponse describeDBClusterParameterGroups(final DescribeDbClusterParameterGroupsRequest request) {
+        return call("describeDBClusterParameterGroups", () -> {
+            if (request.dbClusterParameterGroupName() != null) {
+                return DescribeDbClusterParameterGroupsResponse.builder().dbClusterParameterGroups(getGroup(request.dbClusterParameterGroupName())).build();
+            }
+            final List<DBClusterParameterGroup> all = new ArrayList<>(groups.values());
+            final int from = request.marker() == null ? 0 : Integer.parseInt(request.marker());
+            final int to = Math.min(all.size(), from + Optional.ofNullable(request.maxRecords()).orElse(DEFAULT_MAX_RECORDS));
+            return DescribeDbClusterParameterGroupsResponse.builder()
+                    .dbClusterParameterGroups(all.subList(from, to))
+                    .marker(to < all.size() ? String.valueOf(to) : null)
+                    .build();
+        });
+    }
+
+    @Override
+    public DescribeDbClusterParametersResponse describeDBClusterParameters(final DescribeDbClusterParametersRequest request) {
+        return call("describeDBClusterParameters", () -> {
+            final DBClusterParameterGroup group = getGroup(request.dbClusterParameterGroupName());
+            final Map<String, Parameter> overrides = propagatedParameters(group.dbClusterParameterGroupName());
+            final List<Parameter> parameters = getEngineDefaults(group.dbParameterGroupFamily()).stream()
+                    .map(parameter -> overrides.getOrDefault(parameter.parameterName(), parameter))
+                    .filter(parameter -> request.source() == null || request.source().equals(parameter.source()))
+                    .collect(Collectors.toList());
+            final int from = request.marker() == null ? 0 : Integer.parseInt(request.marker());
+            final int to = Math.min(parameters.size(), from + Optional.ofNullable(request.maxRecords()).orElse(DEFAULT_MAX_RECORDS));
+            return DescribeDbClusterParametersResponse.builder()
+                    .parameters(parameters.subList(from, to))
+                    .marker(to < parameters.size() ? String.valueOf(to) : null)
+                    .build();
+        });
+    }
+
+    @Override
+    public ModifyDbClusterParameterGroupResponse modifyDBClusterParameterGroup(final ModifyDbClusterParameterGroupRequest request) {
+        return call("modifyDBClusterParameterGroup", () -> {
+            final DBClusterParameterGroup group = getGroup(request.dbClusterParameterGroupName());
+            if (request.parameters().size() > MAX_PARAMETERS_PER_MODIFY) {
+                throw invalidParameterValue("At most " + MAX_PARAMETERS_PER_MODIFY + " parameters can be modified at once");
+            }
+            final Map<String, Parameter> defaults = getEngineDefaults(group.dbParameterGroupFamily()).stream()
+                    .collect(Collectors.toMap(Parameter::parameterName, parameter -> parameter));
+            final Map<String, Parameter> overrides = userParameters.get(group.dbClusterParameterGroupName());
+            startPropagation(group.dbClusterParameterGroupName());
+            for (final Parameter parameter : request.parameters()) {
+                final Parameter engineDefault = defaults.get(parameter.parameterName());
+                if (engineDefault == null || !Boolean.TRUE.equals(engineDefault.isModifiable())) {
+                    throw invalidParameterValue("Parameter " + parameter.parameterName() + " cannot be modified");
+                }
+                overrides.put(parameter.parameterName(), engineDefault.toBuilder()
+                        .parameterValue(parameter.parameterValue())
+                        .applyMethod(parameter.applyMethod())
+                        .source(SOURCE_USER)
+                        .build());
+            }
+            return ModifyDbClusterParameterGroupResponse.builder().dbClusterParameterGroupName(group.dbClusterParameterGroupName()).build();
+        });
+    }
+
+    @Override
+    public ResetDbClusterParameterGroupResponse resetDBClusterParameterGroup(final ResetDbClusterParameterGroupRequest request) {
+        return call("resetDBClusterParameterGroup", () -> {
+            final DBClusterParameterGroup group = getGroup(request.dbClusterParameterGroupName());
+            final Map<String, Parameter> overrides = userParameters.get(group.dbClusterParameterGroupName());
+            startPropagation(group.dbClusterParameterGroupName());
+            if (Boolean.TRUE.equals(request.resetAllParameters())) {
+                overrides.clear();
+            } else {
+                Optional.ofNullable(request.parameters()).orElse(Collections.emptyList())
+                        .forEach(parameter -> overrides.remove(parameter.parameterName()));
+            }
+            return ResetDbClusterParameterGroupResponse.builder().dbClusterParameterGroupName(group.dbClusterParameterGroupName()).build();
+        });
+    }
+
+    @Override
+    public DeleteDBClusterParameterGroupResponse deleteDBClusterParameterGroup(final DeleteDbClusterParameterGroupRequest request) {
+        return call("deleteDBClusterParameterGroup", () -> {
+            final DBClusterParameterGroup group = getGroup(request.dbClusterParameterGroupName());
+            groups.remove(group.dbClusterParameterGroupName());
+            userParameters.remove(group.dbClusterParameterGroupName());
+            tags.remove(group.dbClusterParameterGroupArn());
+            return DeleteDBClusterParameterGroupResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DescribeDbClustersResponse describeDBClusters(final DescribeDbClustersRequest request) {
+        return call("describeDBClusters", () -> {
+            final List<Resource> all = request.filters().stream()
+                    .filter(filter -> "db-cluster-id".equals(filter.name()))
+                    .findFirst()
+                    .map(filter -> filter.values().stream()
+                            .map(clusters::get)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toList()))
+                    .orElseGet(() -> new ArrayList<>(clusters.values()));
+            final int from = request.marker() == null ? 0 : Integer.parseInt(request.marker());
+            final int to = Math.min(all.size(), from + Optional.ofNullable(request.maxRecords()).orElse(DEFAULT_MAX_RECORDS));
+            return DescribeDbClustersResponse.builder()
+                    .dbClusters(all.subList(from, to).stream().map(this::poll).collect(Collectors.toList()))
+                    .marker(to < all.size() ? String.valueOf(to) : null)
+                    .build();
+        });
+    }
+
+    @Override
+    public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        return call("listTagsForResource", () -> ListTagsForResourceResponse.builder()
+                .tagList(tags.getOrDefault(request.resourceName(), Collections.emptyMap()).entrySet().stream()
+                        .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    @Override
+    public AddTagsToResourceResponse addTagsToResource(final AddTagsToResourceRequest request) {
+        return call("addTagsToResource", () -> {
+            putTags(request.resourceName(), request.tags());
+            return AddTagsToResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public RemoveTagsFromResourceResponse removeTagsFromResource(final RemoveTagsFromResourceRequest request) {
+        return call("removeTagsFromResource", () -> {
+            tags.getOrDefault(request.resourceName(), new HashMap<>()).keySet().removeAll(request.tagKeys());
+            return RemoveTagsFromResourceResponse.builder().build();
+        });
+    }
+
+    private <T> T call(final String operation, final Supplier<T> body) {
+        calls.computeIfAbsent(operation, key -> new AtomicInteger()).incrementAndGet();
+        final Duration delay = latency;
+        if (!delay.isZero()) {
+            Uninterruptibles.sleepUninterruptibly(delay.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        synchronized (this) {
+            return body.get();
+        }
+    }
+
+    // Snapshot of what describe reports until the lag is used up; a change made meanwhile restarts the lag
+    private void startPropagation(final String dbClusterParameterGroupName) {
+        if (propagationLag == 0) return;
+        propagatedParameters.putIfAbsent(dbClusterParameterGroupName, new HashMap<>(userParameters.get(dbClusterParameterGroupName)));
+        describesUntilPropagated.put(dbClusterParameterGroupName, propagationLag);
+    }
+
+    private Map<String, Parameter> propagatedParameters(final String dbClusterParameterGroupName) {
+        final int remaining = describesUntilPropagated.getOrDefault(dbClusterParameterGroupName, 0);
+        if (remaining == 0) {
+            propagatedParameters.remove(dbClusterParameterGroupName);
+            return userParameters.get(dbClusterParameterGroupName);
+        }
+        describesUntilPropagated.put(dbClusterParameterGroupName, remaining - 1);
+        return propagatedParameters.get(dbClusterParameterGroupName);
+    }
+
+    private DBClusterParameterGroup getGroup(final String dbClusterParameterGroupName) {
+        final DBClusterParameterGroup group = groups.get(dbClusterParameterGroupName);
+        if (group == null) {
+            throw DbParameterGroupNotFoundException.builder().message("DBClusterParameterGroup " + dbClusterParameterGroupName + " not found").build();
+        }
+        return group;
+    }
+
+    // RDS reports InvalidParameterValue as a plain service error without a dedicated exception type
+    private static RdsException invalidParameterValue(final String message) {
+        return (RdsException) RdsException.builder()
+                .message(message)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("InvalidParameterValue").errorMessage(message).build())
+                .build();
+    }
+
+    private List<Parameter> getEngineDefaults(final String family) {
+        return engineDefaults.getOrDefault(family, Collections.emptyList());
+    }
+
+    private void putTags(final String arn, final Collection<Tag> newTags) {
+        final Map<String, String> resourceTags = tags.computeIfAbsent(arn, key -> new LinkedHashMap<>());
+        Optional.ofNullable(newTags).orElse(Collections.emptyList())
+                .forEach(tag -> resourceTags.put(tag.key(), tag.value()));
+    }
+
+    // Counts one describe of the cluster and applies its status transition once enough polls have been observed.
+    // The parameter group status of the members moves on the same way, independently of the cluster status.
+    private DBCluster poll(final Resource resource) {
+        final Transition transition = transitions.get(resource.status);
+        if (transition != null) {
+            if (resource.polls < transition.polls) {
+                resource.polls++;
+            } else {
+                resource.transition(transition.to);
+            }
+        }
+        final Transition memberTransition = transitions.get(resource.memberStatus);
+        if (memberTransition != null) {
+            if (resource.memberPolls < memberTransition.polls) {
+                resource.memberPolls++;
+            } else {
+                resource.memberTransition(memberTransition.to);
+            }
+        }
+        return resource.describe();
+    }
+
+    private static class Resource {
+        private final DBCluster cluster;
+        private String status;
+        private int polls;
+        private String memberStatus;
+        private int memberPolls;
+
+        Resource(final DBCluster cluster) {
+            this.cluster = cluster;
+            this.status = Optional.ofNullable(cluster.status()).orElse("available");
+            this.memberStatus = cluster.dbClusterMembers().stream()
+                    .map(DBClusterMember::dbClusterParameterGroupStatus)
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        void transition(final String status) {
+            this.status = status;
+            this.polls = 0;
+        }
+
+        void memberTransition(final String memberStatus) {
+            this.memberStatus = memberStatus;
+            this.memberPolls = 0;
+        }
+
+        DBCluster describe() {
+            return cluster.toBuilder()
+                    .status(status)
+                    .dbClusterMembers(cluster.dbClusterMembers().stream()
+                            .map(member -> member.toBuilder().dbClusterParameterGroupStatus(memberStatus).build())
+                            .collect(Collectors.toList()))
+                    .build();
+        }
+    }
+
+    private static class Transition {
+        private final String to;
+        private final int polls;
+
+        Transition(final String to, final int polls) {
+            this.to = to;
+            this.polls = polls;
+        }
+    }
+}
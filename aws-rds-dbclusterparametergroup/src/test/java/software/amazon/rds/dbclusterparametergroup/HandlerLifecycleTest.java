@@ -0,0 +1,296 @@
+package software.amazon.rds.dbclusterparametergroup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DBClusterMember;
+import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Drives the real handler chains against {@link FakeRdsClient} instead of per-call mocks.
+ */
+public class HandlerLifecycleTest extends AbstractTestBase {
+
+    private static final int MAX_INVOCATIONS = 20;
+    private static final int ENGINE_DEFAULT_COUNT = 60;
+    private static final int OTHER_CLUSTER_COUNT = 24;
+    private static final String GROUP_NAME = "testdbclusterparametergroup";
+    private static final String CLUSTER_IDENTIFIER = "testdbcluster";
+
+    private FakeRdsClient rds;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<RdsClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        rds = new FakeRdsClient().withEngineDefaults(FAMILY, engineDefaults());
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = MOCK_PROXY(proxy, rds);
+    }
+
+    @Test
+    public void createUpdateDelete() {
+        final Map<String, Object> initial = ImmutableMap.of("param-001", "1", "param-002", "2", "param-050", "50");
+        final ProgressEvent<ResourceModel, CallbackContext> created = drive(new CreateHandler(), request(model(initial), null, ImmutableMap.of("env", "test")));
+
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(created.getResourceModel().getParameters()).isEqualTo(initial);
+        assertThat(created.getResourceModel().getTags()).containsExactly(Tag.builder().key("env").value("test").build());
+        assertThat(rds.getUserParameters(GROUP_NAME)).isEqualTo(initial);
+        // the whole engine default catalog is scanned at 20 records per page, then one page of user parameters shows the
+        // values are already there
+        assertThat(rds.getCallCount("describeDBClusterParameters")).isEqualTo(3 + 1);
+        assertThat(rds.getCallCount("describeDBClusters")).isZero();
+
+        final Map<String, Object> desired = ImmutableMap.of("param-002", "20", "param-003", "3");
+        final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(), request(model(desired), model(initial), ImmutableMap.of("env", "prod")));
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getTags()).containsExactly(Tag.builder().key("env").value("prod").build());
+        assertThat(rds.getUserParameters(GROUP_NAME)).isEqualTo(desired);
+        // param-001 and param-050 are reset by name in one call; param-002 and param-003 are modified in another
+        assertThat(rds.getCallCount("resetDBClusterParameterGroup")).isEqualTo(1);
+        assertThat(rds.getCallCount("modifyDBClusterParameterGroup")).isEqualTo(2);
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = drive(new DeleteHandler(), request(model(desired), null, ImmutableMap.of()));
+
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rds.exists(GROUP_NAME)).isFalse();
+
+        final ProgressEvent<ResourceModel, CallbackContext> read = drive(new ReadHandler(), request(model(desired), null, ImmutableMap.of()));
+
+        assertThat(read.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(read.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void update_waitsForClustersUsingGroup() {
+        rds.withCluster(cluster(CLUSTER_IDENTIFIER, GROUP_NAME, "modifying"))
+                .withTransition("modifying", "available", 2);
+        // clusters attached to other groups are ignored whatever their status
+        IntStream.range(0, OTHER_CLUSTER_COUNT)
+                .forEach(i -> rds.withCluster(cluster("othercluster" + i, "default.aurora5.6", "backing-up")));
+
+        final Map<String, Object> initial = ImmutableMap.of("param-001", "1");
+        drive(new CreateHandler(), request(model(initial), null, ImmutableMap.of()));
+
+        final Map<String, Object> desired = ImmutableMap.of("param-001", "10");
+        final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(), request(model(desired), model(initial), ImmutableMap.of()));
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rds.getClusterStatus(CLUSTER_IDENTIFIER)).contains("available");
+        // one scan of the account at 100 per page, then 2 polls of the matching cluster by id to leave "modifying"
+        assertThat(rds.getCallCount("describeDBClusters")).isEqualTo(3);
+    }
+
+    @Test
+    public void update_waitsForMembersToApplyGroup() {
+        // a cluster busy for an unrelated reason does not hold the update back once its members are in sync
+        rds.withCluster(cluster(CLUSTER_IDENTIFIER, GROUP_NAME, "backing-up").toBuilder()
+                        .dbClusterMembers(member("instance-1", "applying"), member("instance-2", "applying"))
+                        .build())
+                .withCluster(cluster("rebootcluster", GROUP_NAME, "available").toBuilder()
+                        .dbClusterMembers(member("instance-3", "pending-reboot"))
+                        .build())
+                .withTransition("applying", "in-sync", 2);
+
+        final Map<String, Object> initial = ImmutableMap.of("param-001", "1");
+        drive(new CreateHandler(), request(model(initial), null, ImmutableMap.of()));
+
+        final Map<String, Object> desired = ImmutableMap.of("param-001", "10");
+        final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(), request(model(desired), model(initial), ImmutableMap.of()));
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rds.getClusterStatus(CLUSTER_IDENTIFIER)).contains("backing-up");
+        // one scan of the account, then 2 polls of the matching clusters by id for the members to leave "applying"
+        assertThat(rds.getCallCount("describeDBClusters")).isEqualTo(3);
+    }
+
+    @Test
+    public void update_waitsForMembersToStartApplying() {
+        // the members still report the old "in-sync" right after the modify, and only then go through "applying"
+        rds.withCluster(cluster(CLUSTER_IDENTIFIER, GROUP_NAME, "available").toBuilder()
+                        .dbClusterMembers(member("instance-1", "in-sync"))
+                        .build())
+                .withTransition("in-sync", "applying", 2)
+                .withTransition("applying", "in-sync", 1);
+
+        final Map<String, Object> initial = ImmutableMap.of("param-001", "1");
+        drive(new CreateHandler(), request(model(initial), null, ImmutableMap.of()));
+
+        final Map<String, Object> desired = ImmutableMap.of("param-001", "10");
+        final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(), request(model(desired), model(initial), ImmutableMap.of()));
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // the scan, a poll still "in-sync", one that sees "applying", one still "applying" and the last back "in-sync"
+        assertThat(rds.getCallCount("describeDBClusters")).isEqualTo(5);
+    }
+
+    @Test
+    public void update_acceptsInSyncMembersAfterGracePolls() {
+        rds.withCluster(cluster(CLUSTER_IDENTIFIER, GROUP_NAME, "available").toBuilder()
+                .dbClusterMembers(member("instance-1", "in-sync"))
+                .build());
+
+        final Map<String, Object> initial = ImmutableMap.of("param-001", "1");
+        drive(new CreateHandler(), request(model(initial), null, ImmutableMap.of()));
+
+        final Map<String, Object> desired = ImmutableMap.of("param-001", "10");
+        final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(), request(model(desired), model(initial), ImmutableMap.of()));
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // the scan, then polls until the grace runs out without the members ever leaving "in-sync"
+        assertThat(rds.getCallCount("describeDBClusters")).isEqualTo(1 + UpdateHandler.APPLY_GRACE_POLLS + 1);
+    }
+
+    @Test
+    public void update_dynamicOnly_skipsClusterScan() {
+        rds.withCluster(cluster(CLUSTER_IDENTIFIER, GROUP_NAME, "backing-up"));
+
+        final Map<String, Object> initial = ImmutableMap.of("param-001", "1", "param-002", "2", "param-004", "4");
+        drive(new CreateHandler(), request(model(initial), null, ImmutableMap.of()));
+
+        // param-002 changes and param-004 goes away; both are dynamic, param-001 (static) stays as it is
+        final Map<String, Object> desired = ImmutableMap.of("param-001", "1", "param-002", "20");
+        final ProgressEvent<ResourceModel, CallbackContext> updated = new UpdateHandler()
+                .handleRequest(proxy, request(model(desired), model(initial), ImmutableMap.of()), new CallbackContext(), proxyClient, logger);
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rds.getUserParameters(GROUP_NAME)).isEqualTo(desired);
+        assertThat(rds.getCallCount("describeDBClusters")).isZero();
+    }
+
+    @Test
+    public void update_resetsUserParameterWithoutValue() {
+        final Map<String, Object> initial = ImmutableMap.of("param-001", "1");
+        drive(new CreateHandler(), request(model(initial), null, ImmutableMap.of()));
+        rds.withUserParameterWithoutValue(GROUP_NAME, "param-003");
+
+        final Map<String, Object> desired = ImmutableMap.of("param-001", "10");
+        final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(), request(model(desired), model(initial), ImmutableMap.of()));
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // param-003 is not declared, so it is reset like any other user parameter
+        assertThat(rds.getUserParameters(GROUP_NAME)).isEqualTo(desired);
+        assertThat(rds.getCallCount("resetDBClusterParameterGroup")).isEqualTo(1);
+    }
+
+    @Test
+    public void create_checksForPropagatedParametersWithGrowingDelay() {
+        rds.withPropagationLag(3);
+        final ResourceHandlerRequest<ResourceModel> request = request(model(ImmutableMap.of("param-001", "1")), null, ImmutableMap.of());
+
+        CallbackContext context = new CallbackContext();
+        final List<Integer> delays = new ArrayList<>();
+        ProgressEvent<ResourceModel, CallbackContext> event;
+        while ((event = new CreateHandler().handleRequest(proxy, request, context, proxyClient, logger)).getStatus() == OperationStatus.IN_PROGRESS) {
+            delays.add(event.getCallbackDelaySeconds());
+            context = event.getCallbackContext();
+        }
+
+        assertThat(event.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // 3 pages of parameters to apply, then 3 stale looks at the user parameters before the fourth sees them
+        assertThat(rds.getCallCount("describeDBClusterParameters")).isEqualTo(3 + 4);
+        assertThat(delays).hasSize(3);
+        assertThat(delays.get(0)).isEqualTo(5);
+        assertThat(delays).isSorted();
+    }
+
+    @Test
+    public void create_rejectsValueOutsideCatalogBeforeAnyCall() {
+        final ResourceModel model = model(ImmutableMap.of("binlog_format", "NONE"));
+        model.setFamily("catalog-test1.0"); // bundled with the test resources
+
+        assertThatThrownBy(() -> new CreateHandler().handleRequest(proxy, request(model, null, ImmutableMap.of()), new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("binlog_format");
+        assertThat(rds.getTotalCallCount()).isZero();
+    }
+
+    private static List<Parameter> engineDefaults() {
+        return IntStream.range(0, ENGINE_DEFAULT_COUNT)
+                .mapToObj(i -> Parameter.builder()
+                        .parameterName(String.format("param-%03d", i))
+                        .parameterValue("0")
+                        .applyType(i % 2 == 0 ? "dynamic" : "static")
+                        .dataType("integer")
+                        .isModifiable(true)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static DBCluster cluster(final String dbClusterIdentifier, final String dbClusterParameterGroup, final String status) {
+        return DBCluster.builder()
+                .dbClusterIdentifier(dbClusterIdentifier)
+                .dbClusterParameterGroup(dbClusterParameterGroup)
+                .status(status)
+                .build();
+    }
+
+    private static DBClusterMember member(final String dbInstanceIdentifier, final String dbClusterParameterGroupStatus) {
+        return DBClusterMember.builder()
+                .dbInstanceIdentifier(dbInstanceIdentifier)
+                .dbClusterParameterGroupStatus(dbClusterParameterGroupStatus)
+                .build();
+    }
+
+    private ResourceModel model(final Map<String, Object> parameters) {
+        return ResourceModel.builder()
+                .dBClusterParameterGroupName(GROUP_NAME)
+                .description(DESCRIPTION)
+                .family(FAMILY)
+                .parameters(new HashMap<>(parameters))
+                .build();
+    }
+
+    private ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired,
+                                                          final ResourceModel previous,
+                                                          final Map<String, String> tags) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .desiredResourceTags(tags)
+                .logicalResourceIdentifier("dbclusterparametergroup")
+                .clientRequestToken("token")
+                .build();
+    }
+
+    // Re-invokes the handler the way CloudFormation does until it leaves IN_PROGRESS, ignoring callback delays.
+    private ProgressEvent<ResourceModel, CallbackContext> drive(final BaseHandlerStd handler,
+                                                                final ResourceHandlerRequest<ResourceModel> request) {
+        CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> event = null;
+        for (int invocation = 0; invocation < MAX_INVOCATIONS; invocation++) {
+            event = handler.handleRequest(proxy, request, context, proxyClient, logger);
+            if (event.getStatus() != OperationStatus.IN_PROGRESS) {
+                break;
+            }
+            context = event.getCallbackContext();
+            if (event.getResourceModel() != null) {
+                request.setDesiredResourceState(event.getResourceModel());
+            }
+        }
+        assertThat(event.getStatus()).isNotEqualTo(OperationStatus.IN_PROGRESS);
+        return event;
+    }
+}
@@ -0,0 +1,83 @@
+package software.amazon.rds.dbclusterparametergroup;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import com.amazonaws.util.StringUtils;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DescribeEngineDefaultClusterParametersRequest;
+import software.amazon.awssdk.services.rds.model.EngineDefaults;
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+/**
+ * Generates the {@link ParameterCatalog} files of the DB cluster parameter group families given on the command line
+ * from DescribeEngineDefaultClusterParameters, with the credentials and region of the environment.
+ *
+ * Usage: ParameterCatalogGenerator &lt;output directory&gt; &lt;family&gt;... , e.g. src/main/resources/parameter-catalog
+ * aurora-mysql5.7 aurora-postgresql13. Not part of the unit test suite; the opt-in
+ * parameter-catalog Maven profile runs it for the common families.
+ */
+public class ParameterCatalogGenerator {
+
+    private static final int RECORDS_PER_PAGE = 100;
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: ParameterCatalogGenerator <output directory> <family>...");
+        }
+        final Path directory = Files.createDirectories(Paths.get(args[0]));
+        try (RdsClient rds = RdsClient.create()) {
+            for (int i = 1; i < args.length; i++) {
+                final String family = args[i].toLowerCase();
+                final Path file = directory.resolve(family + ".tsv.gz");
+                write(family, describeEngineDefaultClusterParameters(rds, family), file);
+                System.out.println("Wrote " + file);
+            }
+        }
+    }
+
+    private static List<Parameter> describeEngineDefaultClusterParameters(final RdsClient rds, final String family) {
+        final List<Parameter> parameters = new ArrayList<>();
+        String marker = null;
+        do {
+            final EngineDefaults engineDefaults = rds.describeEngineDefaultClusterParameters(DescribeEngineDefaultClusterParametersRequest.builder()
+                    .dbParameterGroupFamily(family)
+                    .marker(marker)
+                    .maxRecords(RECORDS_PER_PAGE)
+                    .build()).engineDefaults();
+            parameters.addAll(engineDefaults.parameters());
+            marker = engineDefaults.marker();
+        } while (!StringUtils.isNullOrEmpty(marker));
+        parameters.sort(Comparator.comparing(Parameter::parameterName));
+        return parameters;
+    }
+
+    private static void write(final String family, final List<Parameter> parameters, final Path file) throws IOException {
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8)) {
+            writer.write(ParameterCatalog.HEADER_PREFIX + ParameterCatalog.FORMAT_VERSION + "\t" + family + "\n");
+            for (final Parameter parameter : parameters) {
+                writer.write(String.join("\t",
+                        parameter.parameterName(),
+                        field(parameter.dataType()),
+                        field(parameter.applyType()),
+                        String.valueOf(Boolean.TRUE.equals(parameter.isModifiable())),
+                        field(parameter.allowedValues())) + "\n");
+            }
+        }
+    }
+
+    // a field must stay on its own line and in its own column
+    private static String field(final String value) {
+        return Optional.ofNullable(value).orElse("").replaceAll("[\\t\\r\\n]", " ");
+    }
+}
@@ -0,0 +1,84 @@
+package software.amazon.rds.dbclusterparametergroup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ParameterCatalogTest {
+
+    // src/test/resources/parameter-catalog/catalog-test1.0.tsv.gz
+    private static final String CATALOG_FAMILY = "catalog-test1.0";
+    private static final String FAMILY_WITHOUT_CATALOG = "default.aurora.5";
+
+    @Test
+    public void forFamily_loadsBundledCatalogOnce() {
+        final ParameterCatalog catalog = ParameterCatalog.forFamily(CATALOG_FAMILY).get();
+
+        final ParameterCatalog.Entry entry = catalog.get("binlog_format").get();
+        assertThat(entry.getApplyType()).isEqualTo("static");
+        assertThat(entry.getAllowedValues()).isEqualTo("ROW,STATEMENT,MIXED,OFF");
+        assertThat(catalog.get("server_id").get().isModifiable()).isFalse();
+        assertThat(ParameterCatalog.forFamily(CATALOG_FAMILY)).containsSame(catalog);
+    }
+
+    @Test
+    public void forFamily_isEmptyForFamilyWithoutCatalog() {
+        assertThat(ParameterCatalog.forFamily(FAMILY_WITHOUT_CATALOG)).isEmpty();
+        assertThat(ParameterCatalog.forFamily("")).isEmpty();
+    }
+
+    @Test
+    public void forFamily_isEmptyForUnreadableCatalog() {
+        // not gzipped, and a line cut short, both bundled with the test resources
+        assertThat(ParameterCatalog.forFamily("catalog-corrupt1.0")).isEmpty();
+        assertThat(ParameterCatalog.forFamily("catalog-short1.0")).isEmpty();
+    }
+
+    @Test
+    public void parse_isEmptyForTruncatedLine() throws IOException {
+        assertThat(ParameterCatalog.parse(reader("#parameter-catalog v1\tfamily\nserver_id\tinteger\n"))).isEmpty();
+    }
+
+    @Test
+    public void parse_requiresKnownFormatVersion() throws IOException {
+        assertThat(ParameterCatalog.parse(reader("#parameter-catalog v0\tfamily\nserver_id\tinteger\tstatic\tfalse\t\n"))).isEmpty();
+        assertThat(ParameterCatalog.parse(reader("server_id\tinteger\tstatic\tfalse\t\n"))).isEmpty();
+        assertThat(ParameterCatalog.parse(reader("#parameter-catalog v1\tfamily\n\nserver_id\tinteger\tstatic\tfalse\t\n")).get()
+                .get("server_id")).isPresent();
+    }
+
+    @Test
+    public void validate_rejectsUnmodifiableParameter() {
+        assertThatThrownBy(() -> ParameterCatalog.forFamily(CATALOG_FAMILY).get().validate(ImmutableMap.of("server_id", "7")))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("Unmodifiable DB Parameter: server_id");
+    }
+
+    @Test
+    public void validate_rejectsValueNotAllowed() {
+        assertThatThrownBy(() -> ParameterCatalog.forFamily(CATALOG_FAMILY).get().validate(ImmutableMap.of("binlog_format", "NONE")))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("binlog_format");
+    }
+
+    @Test
+    public void validate_acceptsAllowedAndUnknownParameters() {
+        assertThatCode(() -> ParameterCatalog.forFamily(CATALOG_FAMILY).get().validate(ImmutableMap.of(
+                "binlog_format", "row",
+                "server_audit_logging", 1,
+                "aurora_load_from_s3_role", "arn:aws:iam::123456789012:role/s3",
+                "not_in_catalog", "anything"))).doesNotThrowAnyException();
+    }
+
+    private static BufferedReader reader(final String content) {
+        return new BufferedReader(new StringReader(content));
+    }
+}
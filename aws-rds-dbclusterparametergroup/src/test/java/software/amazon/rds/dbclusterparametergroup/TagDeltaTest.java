@@ -0,0 +1,35 @@
+package software.amazon.rds.dbclusterparametergroup;
+
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TagDeltaTest {
+
+    private static final Tag ENV_TEST = Tag.builder().key("env").value("test").build();
+    private static final Tag ENV_PROD = Tag.builder().key("env").value("prod").build();
+    private static final Tag OWNER = Tag.builder().key("owner").value("team").build();
+
+    @Test
+    public void between_isEmptyForEqualTags() {
+        assertThat(TagDelta.between(Sets.newHashSet(ENV_TEST, OWNER), Sets.newHashSet(OWNER, ENV_TEST)).isEmpty()).isTrue();
+        assertThat(TagDelta.between(null, Sets.newHashSet()).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void between_changedValueIsOnlyAdded() {
+        final TagDelta delta = TagDelta.between(Sets.newHashSet(ENV_TEST, OWNER), Sets.newHashSet(ENV_PROD, OWNER));
+
+        assertThat(delta.getTagsToAdd()).containsExactly(ENV_PROD);
+        assertThat(delta.getTagsToRemove()).isEmpty();
+    }
+
+    @Test
+    public void between_removesMissingKeys() {
+        final TagDelta delta = TagDelta.between(Sets.newHashSet(ENV_TEST, OWNER), null);
+
+        assertThat(delta.getTagsToAdd()).isEmpty();
+        assertThat(delta.getTagsToRemove()).containsExactlyInAnyOrder(ENV_TEST, OWNER);
+    }
+}
@@ -1,14 +1,25 @@
 package software.amazon.rds.dbparametergroup;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.amazonaws.util.StringUtils;
 import com.google.common.collect.Iterables;
+import com.google.common.hash.Hashing;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.exception.RetryableException;
 import software.amazon.awssdk.services.rds.RdsClient;
@@ -16,28 +27,46 @@ import software.amazon.awssdk.services.rds.model.DbParameterGroupAlreadyExistsEx
 import software.amazon.awssdk.services.rds.model.DbParameterGroupNotFoundException;
 import software.amazon.awssdk.services.rds.model.DbParameterGroupQuotaExceededException;
 import software.amazon.awssdk.services.rds.model.DescribeDbParametersResponse;
+import software.amazon.awssdk.services.rds.model.EngineDefaults;
 import software.amazon.awssdk.services.rds.model.InvalidDbParameterGroupStateException;
 import software.amazon.awssdk.services.rds.model.Parameter;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+    private static final String DEFAULT_PARTITION = "aws";
     protected static int MAX_LENGTH_GROUP_NAME = 255;
     protected static int NO_CALLBACK_DELAY = 0;
-    protected static int CALLBACK_DELAY_SECONDS = 5 * 60;
     protected static int MAX_DEPTH = 70; //max depth to avoid infinite loop. Maximum parameters in engine ≈ 700 with factor 10
     protected static int RECORDS_PER_PAGE = 100;
     protected static int MAX_PARAMETERS_PER_REQUEST = 20;
-    protected static final Constant CONSTANT = Constant.of().timeout(Duration.ofMinutes(120L))
-            .delay(Duration.ofSeconds(30L)).build();
+    protected static int MAX_MODIFY_BATCHES_IN_FLIGHT = 4;
+    protected static int RETRY_CALLBACK_DELAY_SECONDS = 30;
+    protected static final String PARAMETER_SOURCE_USER = "user";
+    // Engine default catalogs are shared by all warm invocations in the container; see EngineDefaultsCache
+    protected static final int ENGINE_DEFAULTS_MAX_FAMILIES = 32;
+    protected static final long ENGINE_DEFAULTS_TTL_SECONDS = 6 * 60 * 60;
+    static final EngineDefaultsCache ENGINE_DEFAULTS = new EngineDefaultsCache(ENGINE_DEFAULTS_MAX_FAMILIES, ENGINE_DEFAULTS_TTL_SECONDS);
+    static final ParameterApplyPipeline APPLY_PIPELINE = new ParameterApplyPipeline(MAX_MODIFY_BATCHES_IN_FLIGHT);
+    protected static final Delay BACKOFF_STRATEGY = ExponentialBackoff.of().initialDelay(Duration.ofSeconds(2L))
+            .maxDelay(Duration.ofSeconds(30L)).timeout(Duration.ofMinutes(120L)).build();
+    // Applied values are looked for right away, then after 5, 10, 20 ... seconds, until MAX_PROPAGATION_WAIT_SECONDS have passed
+    protected static final int MAX_PROPAGATION_WAIT_SECONDS = 5 * 60;
+    protected static final Delay PROPAGATION_DELAY = ExponentialBackoff.of().initialDelay(Duration.ofSeconds(5L))
+            .maxDelay(Duration.ofSeconds(60L)).timeout(Duration.ofSeconds(MAX_PROPAGATION_WAIT_SECONDS)).build();
 
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -65,6 +94,16 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         }
     }
 
+    // The proxy's call chain reports AccessDenied as CfnAccessDeniedException; a direct injectCredentialsAndInvokeV2
+    // call lets the service's 403 through as it is
+    protected static boolean isAccessDenied(final Exception e) {
+        if (e instanceof CfnAccessDeniedException) return true;
+        if (!(e instanceof AwsServiceException)) return false;
+        final AwsServiceException serviceException = (AwsServiceException) e;
+        return serviceException.statusCode() == 403
+                || (serviceException.awsErrorDetails() != null && "AccessDenied".equals(serviceException.awsErrorDetails().errorCode()));
+    }
+
     public ProgressEvent<ResourceModel, CallbackContext> handleException(final Exception e) {
         if (
                 e instanceof DbParameterGroupAlreadyExistsException
@@ -83,67 +122,256 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         ) {
             throw RetryableException.builder().cause(e).build(); // current behaviour is retry on InvalidDbParameterGroupState exception
         } else if (
-                e.getMessage().equals("Rate exceeded")
+                "Rate exceeded".equals(e.getMessage())
         ) {
             return ProgressEvent.defaultFailureHandler(e, HandlerErrorCode.Throttling); //Request throttled from rds service
         }
         throw new CfnGeneralServiceException(e);
     }
 
+    // Error code of a failure reported in an event rather than thrown, matching the one handleException would use
+    protected HandlerErrorCode errorCode(final Exception e) {
+        if (e instanceof DbParameterGroupAlreadyExistsException) return HandlerErrorCode.AlreadyExists;
+        if (e instanceof DbParameterGroupQuotaExceededException) return HandlerErrorCode.ServiceLimitExceeded;
+        if (e instanceof DbParameterGroupNotFoundException) return HandlerErrorCode.NotFound;
+        if (e instanceof InvalidDbParameterGroupStateException) return HandlerErrorCode.ResourceConflict;
+        if (isThrottling(e) || "Rate exceeded".equals(e.getMessage())) return HandlerErrorCode.Throttling;
+        return HandlerErrorCode.GeneralServiceException;
+    }
+
+    // Fails fast on parameters the bundled catalog of the family rejects, before any call touches the group. Families
+    // without a catalog, and names the catalog does not know, are checked against RDS while applying.
+    protected void validateParameters(final ResourceModel model, final Map<String, Object> parameters) {
+        if (parameters == null || parameters.isEmpty()) return;
+        ParameterCatalog.forFamily(model.getFamily()).ifPresent(catalog -> catalog.validate(parameters));
+    }
+
+    // Exception carrying the error code of the failure, for the places that can only throw
+    protected RuntimeException toCfnException(final Exception e) {
+        switch (errorCode(e)) {
+            case AlreadyExists:
+                return new CfnAlreadyExistsException(e);
+            case ServiceLimitExceeded:
+                return new CfnServiceLimitExceededException(e);
+            case NotFound:
+                return new CfnNotFoundException(e);
+            case ResourceConflict:
+                return new CfnResourceConflictException(e);
+            case Throttling:
+                return new CfnThrottlingException(e);
+            default:
+                return new CfnGeneralServiceException(e);
+        }
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> applyParameters(final AmazonWebServicesClientProxy proxy,
                                                                             final ProxyClient<RdsClient> proxyClient,
                                                                             final ResourceModel model,
                                                                             final CallbackContext callbackContext) {
+        return applyParameters(proxy, proxyClient, model, model.getParameters(), callbackContext);
+    }
+
+    protected ProgressEvent<ResourceModel, CallbackContext> applyParameters(final AmazonWebServicesClientProxy proxy,
+                                                                            final ProxyClient<RdsClient> proxyClient,
+                                                                            final ResourceModel model,
+                                                                            final Map<String, Object> parameters,
+                                                                            final CallbackContext callbackContext) {
         //isParametersApplied flag for unit testing
         if (callbackContext.isParametersApplied())
             return ProgressEvent.defaultInProgressHandler(callbackContext, NO_CALLBACK_DELAY, model);
 
-        callbackContext.setParametersApplied(true);
-        ProgressEvent<ResourceModel, CallbackContext> progress = ProgressEvent.defaultInProgressHandler(callbackContext, CALLBACK_DELAY_SECONDS, model);
+        final ProgressEvent<ResourceModel, CallbackContext> progress = ProgressEvent.defaultInProgressHandler(callbackContext, NO_CALLBACK_DELAY, model);
 
-        if (model.getParameters().isEmpty()) return progress; //no parameters to be modified
+        if (parameters.isEmpty()) { //no parameters to be modified
+            callbackContext.setParametersApplied(true);
+            return progress;
+        }
 
         // check if provided parameter is supported by rds default engine parameters
-        Set<String> paramNames = new HashSet<>(model.getParameters().keySet());
-        final Set<Parameter> params = getTargetDefaultParameters(proxyClient, model);
+        Set<String> paramNames = new HashSet<>(parameters.keySet());
+        final Set<Parameter> params = getTargetDefaultParameters(proxyClient, model, parameters);
 
         // subtract set of found and modified params
         paramNames.removeAll(params.stream().map(Parameter::parameterName).collect(Collectors.toSet()));
         if (!paramNames.isEmpty())
             throw new CfnInvalidRequestException("Invalid / Unsupported DB Parameter: " + paramNames.stream().findFirst().get());
 
-        for (List<Parameter> paramsPartition : Iterables.partition(params, MAX_PARAMETERS_PER_REQUEST)) {  //modify api call is limited to 20 parameter per request
-            progress = proxy.initiate("rds::modify-db-parameter-group", proxyClient, model, callbackContext)
-                    .translateToServiceRequest((resourceModel) -> Translator.modifyDbParameterGroupRequest(resourceModel, paramsPartition))
-                    .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::modifyDBParameterGroup))
-                    .handleError((describeDbParameterGroupsRequest, exception, client, resourceModel, ctx) -> handleException(exception))
-                    .progress(CALLBACK_DELAY_SECONDS);
+        final Map<String, List<Parameter>> batches = new LinkedHashMap<>();
+        for (List<Parameter> paramsPartition : Iterables.partition(sortByName(params), MAX_PARAMETERS_PER_REQUEST)) {  //modify api call is limited to 20 parameter per request
+            final String callGraph = batchCallGraph("rds::modify-db-parameter-group", paramsPartition);
+            if (!callbackContext.getCommittedParameterBatches().contains(callGraph)) batches.put(callGraph, paramsPartition); //skip the ones committed by an earlier invocation
+        }
+        final ParameterApplyPipeline.Result result = APPLY_PIPELINE.run(batches, paramsPartition -> proxyClient.injectCredentialsAndInvokeV2(
+                Translator.modifyDbParameterGroupRequest(model, paramsPartition), proxyClient.client()::modifyDBParameterGroup));
+        callbackContext.getCommittedParameterBatches().addAll(result.getCommitted());
+        if (!result.getFailures().isEmpty()) return mergeBatchFailures(model, callbackContext, result.getFailures().values());
+
+        callbackContext.setParametersApplied(true);
+        return progress;
+    }
+
+    // Waits until the group reports the parameters of the template as its user parameters, and the ones no longer in
+    // the template as defaults again. The first check is made right away; each later one backs off, and once
+    // MAX_PROPAGATION_WAIT_SECONDS worth of delays have been spent the handler carries on regardless, as it did after
+    // the fixed delay this replaces. A group that cannot be described counts as not there yet.
+    protected ProgressEvent<ResourceModel, CallbackContext> awaitParameterPropagation(final ProxyClient<RdsClient> proxyClient,
+                                                                                      final ResourceModel model,
+                                                                                      final CallbackContext callbackContext) {
+        if (callbackContext.isParametersPropagated()) return ProgressEvent.progress(model, callbackContext);
+
+        final int checks = callbackContext.getPropagationChecks();
+        final Duration delay = PROPAGATION_DELAY.nextDelay(checks);
+        if (delay.isZero() || isParameterPropagated(proxyClient, model)) { // visible, or waited long enough
+            callbackContext.setParametersPropagated(true);
+            return ProgressEvent.progress(model, callbackContext);
+        }
+        callbackContext.setPropagationChecks(checks + 1);
+        return ProgressEvent.defaultInProgressHandler(callbackContext, (int) Math.max(delay.getSeconds(), 1L), model);
+    }
+
+    private boolean isParameterPropagated(final ProxyClient<RdsClient> proxyClient, final ResourceModel model) {
+        try {
+            return ParameterDelta.between(describeUserParameters(proxyClient, model), model.getParameters()).isEmpty();
+        } catch (AwsServiceException e) {
+            return false;
+        }
+    }
+
+    // One event for all the batches that failed. If every failure is worth retrying (throttling, or the group being busy)
+    // the remaining batches are handed to a later invocation, which picks up from the journal; otherwise the apply fails
+    // with the error code of the first failure and the message of each, and the context keeps the committed batches.
+    private ProgressEvent<ResourceModel, CallbackContext> mergeBatchFailures(final ResourceModel model,
+                                                                             final CallbackContext callbackContext,
+                                                                             final Collection<Exception> failures) {
+        final List<Exception> fatal = failures.stream()
+                .filter(e -> !isThrottling(e) && !(e instanceof InvalidDbParameterGroupStateException))
+                .collect(Collectors.toList());
+        if (fatal.isEmpty()) return ProgressEvent.defaultInProgressHandler(callbackContext, RETRY_CALLBACK_DELAY_SECONDS, model);
+
+        final String message = fatal.stream().map(e -> String.valueOf(e.getMessage())).distinct().collect(Collectors.joining("; "));
+        return ProgressEvent.failed(model, callbackContext, errorCode(fatal.get(0)), message);
+    }
+
+    protected ProgressEvent<ResourceModel, CallbackContext> resetParameters(final AmazonWebServicesClientProxy proxy,
+                                                                            final ProxyClient<RdsClient> proxyClient,
+                                                                            final ResourceModel model,
+                                                                            final Set<String> parameterNames,
+                                                                            final CallbackContext callbackContext) {
+        if (parameterNames.isEmpty()) return ProgressEvent.progress(model, callbackContext);
+
+        final Map<String, Parameter> engineDefaults = getEngineDefaultParameters(proxyClient, model.getFamily());
+        final List<Parameter> params = parameterNames.stream()
+                .map(parameterName -> Translator.resetParameter(parameterName, engineDefaults.get(parameterName)))
+                .collect(Collectors.toList());
+
+        for (List<Parameter> paramsPartition : Iterables.partition(sortByName(params), MAX_PARAMETERS_PER_REQUEST)) {  //reset api call is limited to 20 parameter per request
+            final String callGraph = batchCallGraph("rds::reset-db-parameter-group", paramsPartition);
+            if (callbackContext.getCommittedParameterBatches().contains(callGraph)) continue; //committed by an earlier invocation
+            final ProgressEvent<ResourceModel, CallbackContext> batchProgress = proxy.initiate(callGraph, proxyClient, model, callbackContext)
+                    .translateToServiceRequest((resourceModel) -> Translator.resetDbParameterGroupRequest(resourceModel, paramsPartition))
+                    .backoffDelay(BACKOFF_STRATEGY)
+                    .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::resetDBParameterGroup))
+                    .handleError((resetDbParameterGroupRequest, exception, client, resourceModel, ctx) -> handleBatchException(exception))
+                    .progress();
+
+            if (!batchProgress.canContinueProgress()) return batchProgress;
+            callbackContext.getCommittedParameterBatches().add(callGraph);
+        }
+
+        return ProgressEvent.progress(model, callbackContext);
+    }
+
+    // A throttled batch is retried with the chain's backoff, or handed back to a later invocation once the backoff no
+    // longer fits in this one, instead of failing the whole apply
+    protected ProgressEvent<ResourceModel, CallbackContext> handleBatchException(final Exception e) {
+        if (isThrottling(e)) throw RetryableException.builder().cause(e).build();
+        return handleException(e);
+    }
+
+    private static boolean isThrottling(final Exception e) {
+        return e instanceof AwsServiceException && ((AwsServiceException) e).isThrottlingException();
+    }
+
+    // Batches are cut from parameters in name order so that an invocation resuming the apply cuts the same ones
+    private static List<Parameter> sortByName(final Collection<Parameter> params) {
+        return params.stream()
+                .sorted(Comparator.comparing(Parameter::parameterName))
+                .collect(Collectors.toList());
+    }
+
+    // Each batch needs its own call graph: a repeated one replays the memoized response of another batch instead of
+    // calling. Naming it by its content rather than its position keeps the name, and the journal entry, tied to the
+    // same parameters when a resumed update cuts its batches from a smaller delta. The names are digested with SHA-256,
+    // since two batches sharing a key would have the second one skipped as already committed.
+    private static String batchCallGraph(final String operation, final List<Parameter> batch) {
+        final String names = batch.stream().map(Parameter::parameterName).collect(Collectors.joining(","));
+        return String.format("%s::%s", operation, Hashing.sha256().hashString(names, StandardCharsets.UTF_8));
+    }
 
-            if (!progress.isSuccess()) return progress;
+    // Parameters the user has set on the group, by name, paging through DescribeDBParameters with the "user" source filter
+    protected Map<String, String> describeUserParameters(final ProxyClient<RdsClient> proxyClient, final ResourceModel model) {
+        String marker = null;
+        int depth = 0;
+        final Map<String, String> params = new HashMap<>();
+        do {
+            final DescribeDbParametersResponse dbParametersResponse = proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.describeDbParametersRequest(model, PARAMETER_SOURCE_USER, marker, RECORDS_PER_PAGE), proxyClient.client()::describeDBParameters);
+            marker = dbParametersResponse.marker();
+            dbParametersResponse.parameters().forEach(parameter -> params.put(parameter.parameterName(), parameter.parameterValue()));
+        } while (!StringUtils.isNullOrEmpty(marker) && ++depth <= MAX_DEPTH);
+        return params;
+    }
+
+    private Set<Parameter> getTargetDefaultParameters(final ProxyClient<RdsClient> proxyClient, final ResourceModel model, final Map<String, Object> parameters) {
+        final Map<String, Parameter> engineDefaults = getEngineDefaultParameters(proxyClient, model.getFamily());
+        if (engineDefaults.keySet().containsAll(parameters.keySet())) {
+            return Translator.getParametersToModify(parameters, parameters.keySet().stream()
+                    .map(engineDefaults::get)
+                    .collect(Collectors.toList()));
         }
+        // a parameter the cached catalog does not know about may be newer than the cache entry, so the group itself decides
+        return describeDbParameters(proxyClient, model, parameters);
+    }
 
-        return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
+    private Map<String, Parameter> getEngineDefaultParameters(final ProxyClient<RdsClient> proxyClient, final String family) {
+        if (StringUtils.isNullOrEmpty(family)) return Collections.emptyMap();
+        try {
+            return ENGINE_DEFAULTS.get(family, key -> describeEngineDefaultParameters(proxyClient, key));
+        } catch (AwsServiceException e) {
+            return Collections.emptyMap(); // e.g. no permission to describe engine defaults: scan the group instead
+        }
     }
 
-    private Set<Parameter> getTargetDefaultParameters(final ProxyClient<RdsClient> proxyClient, final ResourceModel model) {
+    private List<Parameter> describeEngineDefaultParameters(final ProxyClient<RdsClient> proxyClient, final String family) {
         String marker = null;
         int depth = 0;
-        final Set<Parameter> params = new HashSet<>();
-        //iterating on all default parameters to choose the one will be modified
+        final List<Parameter> params = new ArrayList<>();
         do {
-            try {
-                final DescribeDbParametersResponse dbParametersResponse = proxyClient.injectCredentialsAndInvokeV2(
-                        Translator.describeDbParameterGroupsRequest(model, marker, RECORDS_PER_PAGE), proxyClient.client()::describeDBParameters);
-                marker = dbParametersResponse.marker();
-                params.addAll(Translator.getParametersToModify(model, dbParametersResponse.parameters())); //Translate and checking if it is modifiable
-            } catch (AwsServiceException e) {
-                handleException(e);
-            }
-
-        } while (!StringUtils.isNullOrEmpty(marker) && depth <= MAX_DEPTH);
+            final EngineDefaults engineDefaults = proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.describeEngineDefaultParametersRequest(family, marker, RECORDS_PER_PAGE), proxyClient.client()::describeEngineDefaultParameters).engineDefaults();
+            marker = engineDefaults.marker();
+            params.addAll(engineDefaults.parameters());
+        } while (!StringUtils.isNullOrEmpty(marker) && ++depth <= MAX_DEPTH);
         return params;
     }
 
+    // Only reads as many pages as it takes to find every declared parameter, at most MAX_DEPTH of them
+    private Set<Parameter> describeDbParameters(final ProxyClient<RdsClient> proxyClient, final ResourceModel model, final Map<String, Object> parameters) {
+        final Map<String, Parameter> found = new HashMap<>();
+        try {
+            found.putAll(new ParameterPager(proxyClient, RECORDS_PER_PAGE, MAX_DEPTH).find(model, parameters.keySet(), parameterSources()));
+        } catch (AwsServiceException e) {
+            throw toCfnException(e); // an incomplete scan would report the declared parameters as unsupported
+        }
+        return Translator.getParametersToModify(parameters, new ArrayList<>(found.values())); //Translate and checking if it is modifiable
+    }
+
+    // Sources to look for declared parameters in, narrowest first; null stands for every parameter of the group. Create
+    // keeps this: it scans a group it has just created, whose parameters are all still engine defaults, so a "user"
+    // page would be an extra call that finds nothing, and the batches a retried create did commit are skipped anyway
+    protected List<String> parameterSources() {
+        return Collections.singletonList(null);
+    }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -151,4 +379,14 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final ProxyClient<RdsClient> proxyClient,
             final Logger logger);
+
+    // ARN the resource will have in the request's partition, account and region, or null when the request does not
+    // carry them. Parameter group names are stored in lower case.
+    protected static String resourceArn(final ResourceHandlerRequest<ResourceModel> request, final String resourceType, final String resourceName) {
+        if (StringUtils.isNullOrEmpty(request.getAwsAccountId()) || StringUtils.isNullOrEmpty(request.getRegion()) || StringUtils.isNullOrEmpty(resourceName)) {
+            return null;
+        }
+        final String partition = Optional.ofNullable(request.getAwsPartition()).orElse(DEFAULT_PARTITION);
+        return String.format("arn:%s:rds:%s:%s:%s:%s", partition, request.getRegion(), request.getAwsAccountId(), resourceType, resourceName.toLowerCase(Locale.ROOT));
+    }
 }
@@ -1,5 +1,8 @@
 package software.amazon.rds.dbparametergroup;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 @lombok.Getter
@@ -8,5 +11,10 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
     private boolean parametersApplied;
+    // Call graphs of the modify and reset batches that have committed, so a re-invocation only sends the rest
+    private Set<String> committedParameterBatches = new HashSet<>();
     private String dbParameterGroupArn;
+    // Checks made so far for the applied parameters to show up on the group, and whether that wait is over
+    private int propagationChecks;
+    private boolean parametersPropagated;
 }
@@ -1,12 +1,103 @@
 package software.amazon.rds.dbparametergroup;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.RdsClientBuilder;
 import software.amazon.cloudformation.LambdaWrapper;
 
+/**
+ * Container-scoped registry of RdsClient instances.
+ *
+ * A client is built once per region and reused by every warm invocation served by the same container.
+ * Clients hold no credentials: the handler proxy injects the caller credentials into each request.
+ * Each client paces its own calls through a RateLimitingInterceptor, so the limits apply to the whole container.
+ */
 public class ClientBuilder {
+    static final String DEFAULT_REGION = "default";
+
+    // Container-wide request rates per region, in calls per second, for Describe/List calls and for all other calls.
+    // Throttling halves the rate of the affected class down to MIN_RATE; each success adds RATE_INCREMENT back.
+    // Each value can be set through the environment variable of the same name prefixed with RDS_, e.g. RDS_MUTATE_RATE.
+    static final double MIN_RATE = setting("RDS_MIN_RATE", 0.5);
+    static final double RATE_INCREMENT = setting("RDS_RATE_INCREMENT", 0.1);
+    static final double DESCRIBE_RATE = Math.max(MIN_RATE, setting("RDS_DESCRIBE_RATE", 10.0));
+    static final double DESCRIBE_BURST = Math.max(1.0, setting("RDS_DESCRIBE_BURST", 20.0));
+    static final double MUTATE_RATE = Math.max(MIN_RATE, setting("RDS_MUTATE_RATE", 5.0));
+    static final double MUTATE_BURST = Math.max(1.0, setting("RDS_MUTATE_BURST", 10.0));
+
+    private static final ConcurrentMap<String, RdsClient> CLIENTS = new ConcurrentHashMap<>();
+    private static final AtomicLong LOOKUPS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
     public static RdsClient getClient() {
-        return RdsClient.builder()
+        return getClient(SdkSystemSetting.AWS_REGION.getStringValue().orElse(DEFAULT_REGION));
+    }
+
+    static RdsClient getClient(final String region) {
+        LOOKUPS.incrementAndGet();
+        return CLIENTS.computeIfAbsent(region, key -> {
+            MISSES.incrementAndGet();
+            return buildClient(key);
+        });
+    }
+
+    public static long getHitCount() {
+        return LOOKUPS.get() - MISSES.get();
+    }
+
+    public static long getMissCount() {
+        return MISSES.get();
+    }
+
+    // Drops the cached clients so a test starts from an empty registry; the counters keep running.
+    static void clearClients() {
+        CLIENTS.clear();
+    }
+
+    static RdsClient buildClient(final String region) {
+        final RateLimitingInterceptor rateLimitingInterceptor = rateLimitingInterceptor();
+        final RdsClientBuilder builder = RdsClient.builder()
                 .httpClient(LambdaWrapper.HTTP_CLIENT)
-                .build();
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .retryPolicy(RetryPolicy.defaultRetryPolicy().toBuilder()
+                                .retryCondition(rateLimitingInterceptor.throttleFeedback(RetryCondition.defaultRetryCondition()))
+                                .build())
+                        .addExecutionInterceptor(rateLimitingInterceptor)
+                        .build());
+        if (!DEFAULT_REGION.equals(region)) {
+            builder.region(Region.of(region));
+        }
+        return builder.build();
+    }
+
+    static double setting(final String name, final double defaultValue) {
+        return setting(System::getenv, name, defaultValue);
+    }
+
+    // Positive number from the named variable, or defaultValue when the variable is unset or not a positive number
+    static double setting(final Function<String, String> environment, final String name, final double defaultValue) {
+        final String value = environment.apply(name);
+        if (value == null || value.trim().isEmpty()) return defaultValue;
+        try {
+            final double parsed = Double.parseDouble(value.trim());
+            return parsed > 0 && !Double.isInfinite(parsed) ? parsed : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static RateLimitingInterceptor rateLimitingInterceptor() {
+        return new RateLimitingInterceptor(
+                new RateLimiter(MIN_RATE, DESCRIBE_RATE, RATE_INCREMENT, DESCRIBE_BURST),
+                new RateLimiter(MIN_RATE, MUTATE_RATE, RATE_INCREMENT, MUTATE_BURST));
     }
 }
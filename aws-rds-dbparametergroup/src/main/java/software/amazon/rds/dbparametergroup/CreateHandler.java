@@ -24,6 +24,7 @@ public class CreateHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress -> {
+                    validateParameters(model, model.getParameters());
                     if (StringUtils.isNullOrEmpty(model.getDBParameterGroupName()))
                         model.setDBParameterGroupName(IdentifierUtils.generateResourceIdentifier(
                                 request.getStackId(),
@@ -35,11 +36,12 @@ public class CreateHandler extends BaseHandlerStd {
                 })
                 .then(progress -> proxy.initiate("rds::create-db-parameter-group", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(resourceModel -> Translator.createDbParameterGroupRequest(resourceModel, request.getDesiredResourceTags()))
-                        .backoffDelay(CONSTANT)
+                        .backoffDelay(BACKOFF_STRATEGY)
                         .makeServiceCall((createDBParameterGroupRequest, proxyInvocation) ->
                                 proxyInvocation.injectCredentialsAndInvokeV2(createDBParameterGroupRequest, proxyInvocation.client()::createDBParameterGroup))
                         .handleError((createDBParameterGroupRequest, exception, client, resourceModel, ctx) -> handleException(exception))
                         .done((paramGroupRequest, paramGroupResponse, proxyInvocation, resourceModel, context) -> applyParameters(proxy, proxyInvocation, resourceModel, context)))
+                .then(progress -> awaitParameterPropagation(proxyClient, progress.getResourceModel(), progress.getCallbackContext()))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 }
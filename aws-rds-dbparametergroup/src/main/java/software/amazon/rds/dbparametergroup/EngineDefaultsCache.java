@@ -0,0 +1,71 @@
+package software.amazon.rds.dbparametergroup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+/**
+ * Container-scoped cache of engine default parameters, keyed by parameter group family.
+ *
+ * Parameter names, modifiability and apply types only change with the engine catalog, so one
+ * DescribeEngineDefaultParameters scan per family serves every warm invocation until the entry expires.
+ * The least recently used family is evicted once maxFamilies are cached. Concurrent misses on the same family
+ * share a single load, and a failed load is not cached.
+ */
+public class EngineDefaultsCache {
+    private final Cache<String, Map<String, Parameter>> parameters;
+
+    public EngineDefaultsCache(final long maxFamilies, final long ttlSeconds) {
+        this(maxFamilies, ttlSeconds, Ticker.systemTicker());
+    }
+
+    EngineDefaultsCache(final long maxFamilies, final long ttlSeconds, final Ticker ticker) {
+        this.parameters = CacheBuilder.newBuilder()
+                .maximumSize(maxFamilies)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Engine default parameters of the family by name, loading them with the given scan on a miss.
+     */
+    public Map<String, Parameter> get(final String family, final Function<String, Iterable<Parameter>> scan) {
+        try {
+            return parameters.get(family, () -> {
+                final Map<String, Parameter> byName = new LinkedHashMap<>();
+                scan.apply(family).forEach(parameter -> byName.put(parameter.parameterName(), parameter));
+                return byName;
+            });
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public void invalidate(final String family) {
+        parameters.invalidate(family);
+    }
+
+    public void invalidateAll() {
+        parameters.invalidateAll();
+    }
+
+    public CacheStats getStats() {
+        return parameters.stats();
+    }
+
+    public long size() {
+        return parameters.size();
+    }
+}
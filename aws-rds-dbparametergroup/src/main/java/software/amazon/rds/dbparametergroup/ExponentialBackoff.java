@@ -0,0 +1,112 @@
+package software.amazon.rds.dbparametergroup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+import com.google.common.base.Preconditions;
+import software.amazon.cloudformation.proxy.Delay;
+
+/**
+ * Stabilization delay that polls soon after a mutation and backs off exponentially with jitter.
+ *
+ * Attempt n waits initialDelay * multiplier^n, capped at maxDelay, less a random share of up to jitter of that
+ * delay so that resources updated together drift apart; the delay never drops below initialDelay. The timeout is
+ * checked against the sum of the shortest delays the earlier attempts could have returned rather than the wall clock,
+ * so the schedule resumes where it left off when the handler is re-invoked with the attempt count from the callback
+ * context, and whatever the jitter it never gives up before the full timeout has been waited.
+ */
+public final class ExponentialBackoff implements Delay {
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+    private final double multiplier;
+    private final double jitter;
+    private final Duration timeout;
+    private final DoubleSupplier random;
+
+    private ExponentialBackoff(final Builder builder) {
+        Preconditions.checkArgument(builder.initialDelay != null && !builder.initialDelay.isNegative() && !builder.initialDelay.isZero(), "initialDelay must be > 0");
+        Preconditions.checkArgument(builder.maxDelay != null && builder.maxDelay.compareTo(builder.initialDelay) >= 0, "maxDelay must be >= initialDelay");
+        Preconditions.checkArgument(builder.multiplier >= 1.0, "multiplier must be >= 1");
+        Preconditions.checkArgument(builder.jitter >= 0.0 && builder.jitter < 1.0, "jitter must be in [0, 1)");
+        Preconditions.checkArgument(builder.timeout != null && builder.timeout.compareTo(builder.initialDelay) >= 0, "timeout must be >= initialDelay");
+        this.initialDelay = builder.initialDelay;
+        this.maxDelay = builder.maxDelay;
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+        this.timeout = builder.timeout;
+        this.random = builder.random;
+    }
+
+    public static Builder of() {
+        return new Builder();
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        final int step = Math.max(attempt, 0);
+        long waitedMillis = 0L;
+        for (int i = 0; i < step; i++) {
+            waitedMillis += jitteredMillis(i, 1.0);
+            if (waitedMillis >= timeout.toMillis()) return Duration.ZERO;
+        }
+        return Duration.ofMillis(jitteredMillis(step, random.getAsDouble()));
+    }
+
+    private long jitteredMillis(final int step, final double share) {
+        final long scheduled = scheduledMillis(step);
+        final long jittered = scheduled - (long) (scheduled * jitter * share);
+        return Math.max(jittered, initialDelay.toMillis());
+    }
+
+    private long scheduledMillis(final int step) {
+        final double millis = initialDelay.toMillis() * Math.pow(multiplier, step);
+        return (long) Math.min(millis, maxDelay.toMillis());
+    }
+
+    public static final class Builder {
+        private Duration initialDelay;
+        private Duration maxDelay;
+        private double multiplier = 2.0;
+        private double jitter = 0.25;
+        private Duration timeout;
+        private DoubleSupplier random = () -> ThreadLocalRandom.current().nextDouble();
+
+        private Builder() {
+        }
+
+        public Builder initialDelay(final Duration initialDelay) {
+            this.initialDelay = initialDelay;
+            return this;
+        }
+
+        public Builder maxDelay(final Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        public Builder multiplier(final double multiplier) {
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        public Builder jitter(final double jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        public Builder timeout(final Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        Builder random(final DoubleSupplier random) {
+            this.random = random;
+            return this;
+        }
+
+        public ExponentialBackoff build() {
+            return new ExponentialBackoff(this);
+        }
+    }
+}
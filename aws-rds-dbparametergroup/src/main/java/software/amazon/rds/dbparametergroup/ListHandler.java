@@ -1,8 +1,10 @@
 package software.amazon.rds.dbparametergroup;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBParameterGroup;
 import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -12,6 +14,20 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ListHandler extends BaseHandlerStd {
+    // With RDS_LIST_FULL_MODELS=true in the function's environment every listed group comes back as Read returns it,
+    // tags included, with up to MAX_TAG_LISTS_IN_FLIGHT tag lists of a page in flight
+    static final String FULL_MODELS_VARIABLE = "RDS_LIST_FULL_MODELS";
+    static final int MAX_TAG_LISTS_IN_FLIGHT = 4;
+
+    private final boolean fullModels;
+
+    public ListHandler() {
+        this(Boolean.parseBoolean(System.getenv(FULL_MODELS_VARIABLE)));
+    }
+
+    ListHandler(final boolean fullModels) {
+        this.fullModels = fullModels;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -21,25 +37,40 @@ public class ListHandler extends BaseHandlerStd {
             final ProxyClient<RdsClient> proxyClient,
             final Logger logger) {
 
-        DescribeDbParameterGroupsResponse describeDBParameterGroupsResponse = null;
+        final DescribeDbParameterGroupsResponse describeDBParameterGroupsResponse;
+        final List<ResourceModel> models;
         try {
             describeDBParameterGroupsResponse = proxy.injectCredentialsAndInvokeV2(Translator.describeDbParameterGroupsRequest(request.getNextToken()),
                     proxyClient.client()::describeDBParameterGroups);
+            models = fullModels
+                    ? new ListEnricher(MAX_TAG_LISTS_IN_FLIGHT).map(describeDBParameterGroupsResponse.dbParameterGroups(), dBParameterGroup -> fullModel(proxyClient, dBParameterGroup))
+                    : describeDBParameterGroupsResponse.dbParameterGroups()
+                            .stream()
+                            .map(dBParameterGroup -> ResourceModel.builder()
+                                    .dBParameterGroupName(dBParameterGroup.dbParameterGroupName())
+                                    .build()
+                            ).collect(Collectors.toList());
         } catch (Exception e) {
-            handleException(e);
+            return handleException(e);
         }
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModels(
-                        describeDBParameterGroupsResponse.dbParameterGroups()
-                                .stream()
-                                .map(dBParameterGroup -> ResourceModel.builder()
-                                        .dBParameterGroupName(dBParameterGroup.dbParameterGroupName())
-                                        .build()
-                                ).collect(Collectors.toList())
-                ).nextToken(describeDBParameterGroupsResponse.marker())
+                .resourceModels(models)
+                .nextToken(describeDBParameterGroupsResponse.marker())
                 .status(OperationStatus.SUCCESS)
                 .build();
     }
 
+    private ResourceModel fullModel(final ProxyClient<RdsClient> proxyClient, final DBParameterGroup dBParameterGroup) {
+        final ResourceModel model = Translator.translateFromDBParameterGroup(dBParameterGroup);
+        try {
+            model.setTags(Translator.translateTagsFromSdk(proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.listTagsForResourceRequest(dBParameterGroup.dbParameterGroupArn()),
+                    proxyClient.client()::listTagsForResource).tagList()));
+        } catch (RuntimeException e) {
+            // as in Read, a group whose tags the caller may not list comes back without them
+            if (!isAccessDenied(e)) throw e;
+        }
+        return model;
+    }
 }
@@ -0,0 +1,99 @@
+package software.amazon.rds.dbparametergroup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+/**
+ * Sends parameter batches with a bounded number of them in flight, on a shared pool.
+ *
+ * Batches are started in the order given and their outcomes are read back in that order, so the committed keys and
+ * the failures come out the same however the calls interleave. A failed batch does not stop the others. Every call
+ * goes through the handler's RdsClient, whose RateLimitingInterceptor spaces out mutating calls and slows all of
+ * them down on throttling; the in-flight bound only caps how many wait on it at once.
+ */
+public class ParameterApplyPipeline {
+    private static final int POOL_SIZE = 8;
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(POOL_SIZE,
+            new ThreadFactoryBuilder().setNameFormat("rds-parameter-apply-%d").setDaemon(true).build());
+
+    private final int maxInFlight;
+
+    public ParameterApplyPipeline(final int maxInFlight) {
+        Preconditions.checkArgument(maxInFlight >= 1, "maxInFlight must be >= 1");
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Sends every batch, keyed by its journal key, and waits for all of them.
+     */
+    public Result run(final Map<String, List<Parameter>> batches, final Consumer<List<Parameter>> send) {
+        final Semaphore inFlight = new Semaphore(maxInFlight);
+        final Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        batches.forEach((key, batch) -> {
+            inFlight.acquireUninterruptibly();
+            futures.put(key, CompletableFuture.runAsync(() -> {
+                try {
+                    send.accept(batch);
+                } finally {
+                    inFlight.release();
+                }
+            }, EXECUTOR));
+        });
+
+        final List<String> committed = new ArrayList<>();
+        final Map<String, Exception> failures = new LinkedHashMap<>();
+        futures.forEach((key, future) -> {
+            try {
+                Uninterruptibles.getUninterruptibly(future);
+                committed.add(key);
+            } catch (ExecutionException e) {
+                failures.put(key, unwrap(e.getCause()));
+            }
+        });
+        return new Result(committed, failures);
+    }
+
+    private static Exception unwrap(final Throwable cause) {
+        final Throwable unwrapped = cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause;
+        if (unwrapped instanceof Exception) return (Exception) unwrapped;
+        throw (Error) unwrapped;
+    }
+
+    public static class Result {
+        private final List<String> committed;
+        private final Map<String, Exception> failures;
+
+        Result(final List<String> committed, final Map<String, Exception> failures) {
+            this.committed = committed;
+            this.failures = failures;
+        }
+
+        /**
+         * Keys of the batches that went through, in batch order.
+         */
+        public List<String> getCommitted() {
+            return committed;
+        }
+
+        /**
+         * Failure of each batch that did not go through, in batch order.
+         */
+        public Map<String, Exception> getFailures() {
+            return failures;
+        }
+    }
+}
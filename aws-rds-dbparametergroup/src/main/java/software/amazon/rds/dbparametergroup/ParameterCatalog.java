@@ -0,0 +1,154 @@
+package software.amazon.rds.dbparametergroup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+import com.amazonaws.util.StringUtils;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+/**
+ * Parameter catalog of a DB parameter group family, bundled with the handler so that declared parameters can be
+ * checked before any RDS call.
+ *
+ * Catalogs live under parameter-catalog/ on the classpath, one gzipped, tab-separated file per family, written from
+ * DescribeEngineDefaultParameters by ParameterCatalogGenerator. The first line names the format version and a file
+ * in another version is ignored, as is one that cannot be read or holds a truncated line. A family is loaded the
+ * first time it is asked for and kept for the life of the container. Families without a catalog are only checked
+ * live, as before.
+ */
+public class ParameterCatalog {
+    static final String FORMAT_VERSION = "1";
+    static final String HEADER_PREFIX = "#parameter-catalog v";
+    private static final String RESOURCE_PATH = "parameter-catalog/%s.tsv.gz";
+    private static final Pattern RANGE = Pattern.compile("^(-?\\d+)-(-?\\d+)$");
+    private static final Pattern INTEGER = Pattern.compile("^-?\\d+$");
+    private static final Map<String, Optional<ParameterCatalog>> CATALOGS = new ConcurrentHashMap<>();
+
+    private final Map<String, Entry> entries;
+
+    ParameterCatalog(final Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    public static Optional<ParameterCatalog> forFamily(final String family) {
+        if (StringUtils.isNullOrEmpty(family)) return Optional.empty();
+        return CATALOGS.computeIfAbsent(family.toLowerCase(Locale.ROOT), ParameterCatalog::load);
+    }
+
+    private static Optional<ParameterCatalog> load(final String family) {
+        final InputStream resource = ParameterCatalog.class.getClassLoader().getResourceAsStream(String.format(RESOURCE_PATH, family));
+        if (resource == null) return Optional.empty();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(resource), StandardCharsets.UTF_8))) {
+            return parse(reader);
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty(); // an unreadable catalog is as good as none; the live lookup still applies
+        }
+    }
+
+    // A header line naming the format version and the family, then name, data type, apply type, modifiable (true/false)
+    // and allowed values of one parameter per line, tab-separated
+    static Optional<ParameterCatalog> parse(final BufferedReader reader) throws IOException {
+        final String header = reader.readLine();
+        if (header == null || !header.split("\t")[0].equals(HEADER_PREFIX + FORMAT_VERSION)) return Optional.empty();
+        final Map<String, Entry> entries = new HashMap<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            final String[] fields = line.split("\t", -1);
+            if (fields.length < 5) return Optional.empty();
+            entries.put(fields[0], new Entry(fields[0], fields[1], fields[2], Boolean.parseBoolean(fields[3]), fields[4]));
+        }
+        return Optional.of(new ParameterCatalog(Collections.unmodifiableMap(entries)));
+    }
+
+    public Optional<Entry> get(final String parameterName) {
+        return Optional.ofNullable(entries.get(parameterName));
+    }
+
+    /**
+     * Rejects declared parameters the catalog knows to be unmodifiable or outside their allowed values. Names it does not
+     * know may be newer than the catalog, so they are left to the live lookup made while applying.
+     */
+    public void validate(final Map<String, Object> parameters) {
+        new TreeSet<>(parameters.keySet()).forEach(parameterName -> {
+            final Entry entry = entries.get(parameterName);
+            if (entry == null) return;
+            if (!entry.isModifiable())
+                throw new CfnInvalidRequestException("Unmodifiable DB Parameter: " + parameterName);
+            if (!entry.allows(String.valueOf(parameters.get(parameterName))))
+                throw new CfnInvalidRequestException(String.format("Invalid value for DB Parameter %s, allowed values are %s", parameterName, entry.getAllowedValues()));
+        });
+    }
+
+    public static class Entry {
+        private final String parameterName;
+        private final String dataType;
+        private final String applyType;
+        private final boolean modifiable;
+        private final String allowedValues;
+
+        Entry(final String parameterName, final String dataType, final String applyType, final boolean modifiable, final String allowedValues) {
+            this.parameterName = parameterName;
+            this.dataType = dataType;
+            this.applyType = applyType;
+            this.modifiable = modifiable;
+            this.allowedValues = allowedValues;
+        }
+
+        // Allowed values are a comma-separated list of literals and integer ranges. Lists holding something else, such
+        // as a formula RDS evaluates, are left to RDS, and so are values that are themselves formulas.
+        boolean allows(final String value) {
+            if (StringUtils.isNullOrEmpty(allowedValues) || value.trim().startsWith("{")) return true;
+            final String[] items = allowedValues.split(",");
+            for (final String item : items) {
+                final Matcher range = RANGE.matcher(item.trim());
+                if (range.matches() ? inRange(value.trim(), range) : item.trim().equalsIgnoreCase(value.trim())) return true;
+            }
+            return Arrays.stream(items).anyMatch(item -> item.contains("{") || item.contains("*"));
+        }
+
+        private static boolean inRange(final String value, final Matcher range) {
+            if (!INTEGER.matcher(value).matches()) return false;
+            try {
+                final long number = Long.parseLong(value);
+                return number >= Long.parseLong(range.group(1)) && number <= Long.parseLong(range.group(2));
+            } catch (NumberFormatException e) {
+                return true; // beyond a long, e.g. an unsigned 64-bit maximum; RDS knows better
+            }
+        }
+
+        public String getParameterName() {
+            return parameterName;
+        }
+
+        public String getDataType() {
+            return dataType;
+        }
+
+        public String getApplyType() {
+            return applyType;
+        }
+
+        public boolean isModifiable() {
+            return modifiable;
+        }
+
+        public String getAllowedValues() {
+            return allowedValues;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package software.amazon.rds.dbparametergroup;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Minimal set of parameter changes that turns the user-set values of a group into the desired ones.
+ *
+ * Values are compared as strings, the way RDS reports them. Keys that are no longer desired are reset to the engine
+ * default; keys whose value is new or different are modified. Everything else is left alone, so unchanged parameters
+ * are never reset on running instances.
+ */
+public class ParameterDelta {
+    private final Map<String, Object> parametersToModify;
+    private final Set<String> parametersToReset;
+
+    private ParameterDelta(final Map<String, Object> parametersToModify, final Set<String> parametersToReset) {
+        this.parametersToModify = parametersToModify;
+        this.parametersToReset = parametersToReset;
+    }
+
+    public static ParameterDelta between(final Map<String, ?> existing, final Map<String, Object> desired) {
+        final Map<String, ?> existingValues = Optional.ofNullable(existing).orElse(Collections.emptyMap());
+        final Map<String, Object> desiredValues = Optional.ofNullable(desired).orElse(Collections.emptyMap());
+        final Map<String, Object> parametersToModify = new LinkedHashMap<>();
+        desiredValues.forEach((name, value) -> {
+            if (!existingValues.containsKey(name) || !Objects.equals(String.valueOf(existingValues.get(name)), String.valueOf(value))) {
+                parametersToModify.put(name, value);
+            }
+        });
+        final Set<String> parametersToReset = new TreeSet<>(existingValues.keySet());
+        parametersToReset.removeAll(desiredValues.keySet());
+        return new ParameterDelta(parametersToModify, parametersToReset);
+    }
+
+    public boolean isEmpty() {
+        return parametersToModify.isEmpty() && parametersToReset.isEmpty();
+    }
+
+    public Map<String, Object> getParametersToModify() {
+        return parametersToModify;
+    }
+
+    public Set<String> getParametersToReset() {
+        return parametersToReset;
+    }
+}
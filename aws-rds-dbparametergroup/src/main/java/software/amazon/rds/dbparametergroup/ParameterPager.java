@@ -0,0 +1,60 @@
+package software.amazon.rds.dbparametergroup;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.amazonaws.util.StringUtils;
+import com.google.common.base.Preconditions;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DescribeDbParametersResponse;
+import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Pages through the parameters of a DB parameter group looking for a set of names, and stops as soon as every one of
+ * them has been seen.
+ *
+ * Sources are paged in the order given, narrowest first, and a source is skipped once nothing is left to look for;
+ * a null source stands for every parameter of the group. The page budget caps the pages read across all sources, so a
+ * marker that never runs out cannot keep the handler paging. Names that are still missing then are simply not in the
+ * result.
+ */
+public class ParameterPager {
+    private final ProxyClient<RdsClient> proxyClient;
+    private final int recordsPerPage;
+    private final int pageBudget;
+
+    public ParameterPager(final ProxyClient<RdsClient> proxyClient, final int recordsPerPage, final int pageBudget) {
+        Preconditions.checkArgument(pageBudget >= 1, "pageBudget must be >= 1");
+        this.proxyClient = proxyClient;
+        this.recordsPerPage = recordsPerPage;
+        this.pageBudget = pageBudget;
+    }
+
+    /**
+     * Parameters of the group with the given names, by name.
+     */
+    public Map<String, Parameter> find(final ResourceModel model, final Collection<String> names, final List<String> sources) {
+        final Set<String> missing = new HashSet<>(names);
+        final Map<String, Parameter> found = new LinkedHashMap<>();
+        int pages = 0;
+        for (final String source : sources) {
+            String marker = null;
+            while (!missing.isEmpty() && pages < pageBudget) {
+                final DescribeDbParametersResponse page = proxyClient.injectCredentialsAndInvokeV2(
+                        Translator.describeDbParametersRequest(model, source, marker, recordsPerPage), proxyClient.client()::describeDBParameters);
+                pages++;
+                page.parameters().stream()
+                        .filter(parameter -> missing.remove(parameter.parameterName()))
+                        .forEach(parameter -> found.put(parameter.parameterName(), parameter));
+                marker = page.marker();
+                if (StringUtils.isNullOrEmpty(marker)) break;
+            }
+        }
+        return found;
+    }
+}
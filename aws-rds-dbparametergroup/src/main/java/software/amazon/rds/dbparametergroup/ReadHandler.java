@@ -1,7 +1,10 @@
 package software.amazon.rds.dbparametergroup;
 
+import java.util.Optional;
+
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DBParameterGroup;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -19,10 +22,22 @@ public class ReadHandler extends BaseHandlerStd {
             final Logger logger) {
 
         this.logger = logger;
+        // tags are listed while the parameter group is described whenever its ARN is already known or can be derived
+        final String expectedArn = Optional.ofNullable(callbackContext.getDbParameterGroupArn())
+                .orElseGet(() -> resourceArn(request, "pg", request.getDesiredResourceState().getDBParameterGroupName()));
+        final ReadAhead<ListTagsForResourceResponse> listTags = new ReadAhead<>(expectedArn);
         return proxy.initiate("rds::read-db-parameter-group", proxyClient, request.getDesiredResourceState(), callbackContext)
                 .translateToServiceRequest(Translator::describeDbParameterGroupsRequest)
-                .backoffDelay(CONSTANT)
-                .makeServiceCall((describeDbParameterGroupsRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(describeDbParameterGroupsRequest, proxyInvocation.client()::describeDBParameterGroups))
+                .backoffDelay(BACKOFF_STRATEGY)
+                .makeServiceCall((describeDbParameterGroupsRequest, proxyInvocation) -> {
+                    listTags.start(arn -> proxyInvocation.injectCredentialsAndInvokeV2(Translator.listTagsForResourceRequest(arn), proxyInvocation.client()::listTagsForResource));
+                    try {
+                        return proxyInvocation.injectCredentialsAndInvokeV2(describeDbParameterGroupsRequest, proxyInvocation.client()::describeDBParameterGroups);
+                    } catch (RuntimeException e) {
+                        listTags.cancel();
+                        throw e;
+                    }
+                })
                 .handleError((describeDbParameterGroupsRequest, exception, client, resourceModel, ctx) -> handleException(exception))
                 .done((describeDbParameterGroupsRequest, describeDbParameterGroupsResponse, proxyInvocation, model, context) -> {
                     final DBParameterGroup dBParameterGroup = describeDbParameterGroupsResponse.dbParameterGroups().stream().findFirst().get();
@@ -32,8 +47,7 @@ public class ReadHandler extends BaseHandlerStd {
                 .then(progress -> softFailAccessDenied(() ->
                                 proxy.initiate("rds::read-db-parameter-group-tags", proxyClient, request.getDesiredResourceState(), callbackContext)
                                         .translateToServiceRequest(resourceModel -> Translator.listTagsForResourceRequest(callbackContext.getDbParameterGroupArn()))
-                                        .makeServiceCall((listTagsForResourceRequest, proxyInvocation) ->
-                                                proxyInvocation.injectCredentialsAndInvokeV2(listTagsForResourceRequest, proxyInvocation.client()::listTagsForResource))
+                                        .makeServiceCall((listTagsForResourceRequest, proxyInvocation) -> listTags.get(listTagsForResourceRequest.resourceName()))
                                         .done((listTagsForResourceRequest, listTagsForResourceResponse, proxyInvocation, model, context) -> {
                                             progress.getResourceModel().setTags(Translator.translateTagsFromSdk(listTagsForResourceResponse.tagList()));
                                             return ProgressEvent.progress(progress.getResourceModel(), callbackContext);
@@ -16,6 +16,7 @@ import software.amazon.awssdk.services.rds.model.DBParameterGroup;
 import software.amazon.awssdk.services.rds.model.DeleteDbParameterGroupRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbParametersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeEngineDefaultParametersRequest;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupRequest;
 import software.amazon.awssdk.services.rds.model.Parameter;
@@ -46,9 +47,18 @@ public class Translator {
                 .build();
     }
 
-    static DescribeDbParametersRequest describeDbParameterGroupsRequest(final ResourceModel model, final String nextToken, int recordsPerPage) {
+    static DescribeDbParametersRequest describeDbParametersRequest(final ResourceModel model, final String source, final String nextToken, int recordsPerPage) {
         return DescribeDbParametersRequest.builder()
                 .dbParameterGroupName(model.getDBParameterGroupName())
+                .source(source)
+                .marker(nextToken)
+                .maxRecords(recordsPerPage)
+                .build();
+    }
+
+    static DescribeEngineDefaultParametersRequest describeEngineDefaultParametersRequest(final String family, final String nextToken, int recordsPerPage) {
+        return DescribeEngineDefaultParametersRequest.builder()
+                .dbParameterGroupFamily(family)
                 .marker(nextToken)
                 .maxRecords(recordsPerPage)
                 .build();
@@ -74,6 +84,14 @@ public class Translator {
                 .build();
     }
 
+    static ResetDbParameterGroupRequest resetDbParameterGroupRequest(final ResourceModel model, final Collection<Parameter> parameters) {
+        return ResetDbParameterGroupRequest.builder()
+                .dbParameterGroupName(model.getDBParameterGroupName())
+                .resetAllParameters(false)
+                .parameters(parameters)
+                .build();
+    }
+
     static List<Tag> translateTagsFromSdk(final Collection<software.amazon.awssdk.services.rds.model.Tag> tags) {
         return Optional.ofNullable(tags).orElse(Collections.emptySet())
                 .stream()
@@ -88,12 +106,26 @@ public class Translator {
 
     protected static Set<Parameter> getParametersToModify(final ResourceModel model,
                                                           final List<Parameter> parameters) {
+        return getParametersToModify(model.getParameters(), parameters);
+    }
+
+    protected static Set<Parameter> getParametersToModify(final Map<String, Object> modelParameters,
+                                                          final List<Parameter> parameters) {
         return parameters.stream()
-                .filter(parameter -> model.getParameters().containsKey(parameter.parameterName()))
-                .map(parameter -> modifyParameter(model.getParameters(), parameter))
+                .filter(parameter -> modelParameters.containsKey(parameter.parameterName()))
+                .map(parameter -> modifyParameter(modelParameters, parameter))
                 .collect(Collectors.toSet());
     }
 
+    // Dynamic parameters go back to the engine default right away; static ones, and ones the catalog does not know, on reboot
+    static Parameter resetParameter(final String parameterName, final Parameter engineDefault) {
+        final boolean dynamic = engineDefault != null && ParameterType.Dynamic.toString().equalsIgnoreCase(engineDefault.applyType());
+        return Parameter.builder()
+                .parameterName(parameterName)
+                .applyMethod(dynamic ? ApplyMethod.IMMEDIATE : ApplyMethod.PENDING_REBOOT)
+                .build();
+    }
+
     private static Parameter modifyParameter(final Map<String, Object> parameters,
                                              final Parameter parameter) {
         if (!parameter.isModifiable())
@@ -1,8 +1,11 @@
 package software.amazon.rds.dbparametergroup;
 
-import java.util.Set;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
-import com.google.common.collect.Sets;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -19,6 +22,12 @@ public class UpdateHandler extends BaseHandlerStd {
             final ProgressEvent<ResourceModel, CallbackContext> progress,
             final ResourceModel model,
             final CallbackContext callbackContext) {
+        final TagDelta tagDelta = TagDelta.between(
+                Translator.translateTagsToModelResource(request.getPreviousResourceTags()),
+                Translator.translateTagsToModelResource(request.getDesiredResourceTags())
+        );
+        //Tags are the same. No need to describe the group for its ARN
+        if (tagDelta.isEmpty()) return progress;
         return softFailAccessDenied(
                 () -> proxy.initiate("rds::tag-db-parameter-group", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(Translator::describeDbParameterGroupsRequest)
@@ -26,22 +35,29 @@ public class UpdateHandler extends BaseHandlerStd {
                                 proxyInvocation.injectCredentialsAndInvokeV2(describeDbGroupsRequest, proxyInvocation.client()::describeDBParameterGroups)))
                         .done((describeDbParameterGroupsRequest, describeDbParameterGroupsResponse, invocation, resourceModel, context) -> {
                             final String arn = describeDbParameterGroupsResponse.dbParameterGroups().stream().findFirst().get().dbParameterGroupArn();
-                            final Set<Tag> currentTags = Sets.newHashSet(Translator.translateTagsToModelResource(request.getDesiredResourceTags()));
-                            final Set<Tag> existingTags = Sets.newHashSet(Translator.translateTagsToModelResource(request.getPreviousResourceTags()));
-                            final Set<Tag> tagsToRemove = Sets.difference(existingTags, currentTags);
-                            final Set<Tag> tagsToAdd = Sets.difference(currentTags, existingTags);
-                            invocation.injectCredentialsAndInvokeV2(
-                                    Translator.removeTagsFromResourceRequest(arn, tagsToRemove),
-                                    invocation.client()::removeTagsFromResource
-                            );
-                            invocation.injectCredentialsAndInvokeV2(
-                                    Translator.addTagsToResourceRequest(arn, tagsToAdd),
-                                    invocation.client()::addTagsToResource
-                            );
+                            tagDelta.apply(invocation, arn);
                             return ProgressEvent.progress(resourceModel, context);
                         }), model, callbackContext);
     }
 
+    // Values the user has actually set on the group, so out-of-band changes are reverted as well. Falls back to the
+    // previous template values when the group's parameters cannot be described.
+    private Map<String, ?> existingParameters(final ProxyClient<RdsClient> proxyClient,
+                                              final ResourceModel model,
+                                              final ResourceModel previousModel) {
+        try {
+            return describeUserParameters(proxyClient, model);
+        } catch (AwsServiceException e) {
+            return previousModel.getParameters();
+        }
+    }
+
+    // Parameters the update changes are mostly ones the user has set already, and those take a page or two to find
+    @Override
+    protected List<String> parameterSources() {
+        return Arrays.asList(PARAMETER_SOURCE_USER, null);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -51,18 +67,19 @@ public class UpdateHandler extends BaseHandlerStd {
 
         final ResourceModel model = request.getDesiredResourceState();
         //Parameters are the same. No need to make reset and modify parameter requests. We need only to update tags
-        final boolean skipUpdatingParameters = model.getParameters().equals(request.getPreviousResourceState().getParameters());
+        final boolean skipUpdatingParameters = Objects.equals(model.getParameters(), request.getPreviousResourceState().getParameters());
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress -> {
-                    if (skipUpdatingParameters) return progress;
-                    return proxy.initiate("rds::update-db-parameter-group", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                            .translateToServiceRequest(Translator::resetDbParameterGroupRequest)
-                            .backoffDelay(CONSTANT)
-                            .makeServiceCall((resetGroupRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(resetGroupRequest, proxyInvocation.client()::resetDBParameterGroup))
-                            .handleError((awsRequest, exception, client, resourceModel, context) -> handleException(exception))
-                            .done((resetGroupRequest, resetGroupResponse, proxyInvocation, resourceModel, context) -> ProgressEvent.progress(resourceModel, context))
-                            .then(p -> applyParameters(proxy, proxyClient, p.getResourceModel(), p.getCallbackContext()));
+                    if (skipUpdatingParameters || callbackContext.isParametersApplied()) return progress;
+                    validateParameters(model, model.getParameters());
+                    final ParameterDelta parameterDelta = ParameterDelta.between(
+                            existingParameters(proxyClient, model, request.getPreviousResourceState()), model.getParameters());
+                    //The group already has the desired values. Nothing to reset, modify or wait for
+                    if (parameterDelta.isEmpty()) return progress;
+                    return resetParameters(proxy, proxyClient, progress.getResourceModel(), parameterDelta.getParametersToReset(), progress.getCallbackContext())
+                            .then(p -> applyParameters(proxy, proxyClient, p.getResourceModel(), parameterDelta.getParametersToModify(), p.getCallbackContext()));
                 })
+                .then(progress -> skipUpdatingParameters ? progress : awaitParameterPropagation(proxyClient, progress.getResourceModel(), progress.getCallbackContext()))
                 .then(progress -> tagResource(request, proxy, proxyClient, progress, model, callbackContext))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
@@ -0,0 +1,95 @@
+package software.amazon.rds.dbparametergroup;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.Iterables;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.services.rds.model.CreateDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+/**
+ * Measures sending the ModifyDBParameterGroup batches of a large group against {@link FakeRdsClient} with a fixed
+ * latency on every call.
+ *
+ * 200 parameters make 10 batches of MAX_PARAMETERS_PER_REQUEST. With one batch in flight the apply takes ten
+ * latencies, as the sequential loop did; with four it should take about three.
+ * Not part of the unit test suite; run the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApplyParametersBenchmark {
+
+    private static final String GROUP_NAME = "benchmark-parameter-group";
+    private static final int PARAMETER_COUNT = 200;
+
+    @Param({"1", "4"})
+    private int maxInFlight;
+
+    @Param({"20"})
+    private long latencyMillis;
+
+    private FakeRdsClient rds;
+    private ParameterApplyPipeline pipeline;
+    private ResourceModel model;
+    private Map<String, List<Parameter>> batches;
+
+    @Setup
+    public void setup() {
+        final List<Parameter> parameters = IntStream.range(0, PARAMETER_COUNT)
+                .mapToObj(i -> Parameter.builder()
+                        .parameterName(String.format("param-%03d", i))
+                        .parameterValue(String.valueOf(i))
+                        .applyMethod("immediate")
+                        .isModifiable(true)
+                        .build())
+                .collect(Collectors.toList());
+        rds = new FakeRdsClient().withEngineDefaults("mysql5.7", parameters);
+        rds.createDBParameterGroup(CreateDbParameterGroupRequest.builder()
+                .dbParameterGroupName(GROUP_NAME)
+                .dbParameterGroupFamily("mysql5.7")
+                .description("benchmark")
+                .build());
+        rds.withLatency(Duration.ofMillis(latencyMillis));
+        pipeline = new ParameterApplyPipeline(maxInFlight);
+        model = ResourceModel.builder().dBParameterGroupName(GROUP_NAME).family("mysql5.7").build();
+        batches = IntStream.range(0, PARAMETER_COUNT / BaseHandlerStd.MAX_PARAMETERS_PER_REQUEST)
+                .boxed()
+                .collect(Collectors.toMap(i -> "batch-" + i,
+                        i -> Iterables.get(Iterables.partition(parameters, BaseHandlerStd.MAX_PARAMETERS_PER_REQUEST), i),
+                        (a, b) -> a, LinkedHashMap::new));
+    }
+
+    @Benchmark
+    public ParameterApplyPipeline.Result apply() {
+        return pipeline.run(batches, batch -> rds.modifyDBParameterGroup(Translator.modifyDbParameterGroupRequest(model, batch)));
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ApplyParametersBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
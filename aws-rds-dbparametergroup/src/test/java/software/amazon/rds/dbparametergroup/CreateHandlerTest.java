@@ -4,12 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.security.InvalidParameterException;
 import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +30,9 @@ import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsReques
 import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsResponse;
 import software.amazon.awssdk.services.rds.model.DescribeDbParametersRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbParametersResponse;
+import software.amazon.awssdk.services.rds.model.DescribeEngineDefaultParametersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeEngineDefaultParametersResponse;
+import software.amazon.awssdk.services.rds.model.EngineDefaults;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupRequest;
@@ -59,6 +66,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         rdsClient = mock(RdsClient.class);
         proxyClient = MOCK_PROXY(proxy, rdsClient);
+        BaseHandlerStd.ENGINE_DEFAULTS.invalidateAll();
     }
 
     @AfterEach
@@ -80,6 +88,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         CallbackContext callbackContext = new CallbackContext();
         callbackContext.setParametersApplied(true);
+        mockDescribeUserParameters("value", "value");
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .logicalResourceIdentifier(LOGICAL_RESOURCE_IDENTIFIER)
@@ -98,6 +107,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client()).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
+        verify(proxyClient.client()).describeDBParameters(any(DescribeDbParametersRequest.class));
         verify(proxyClient.client()).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
         verify(proxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
@@ -109,10 +119,11 @@ public class CreateHandlerTest extends AbstractTestBase {
         final CreateDbParameterGroupResponse createDbParameterGroupResponse = CreateDbParameterGroupResponse.builder().build();
         when(rdsClient.createDBParameterGroup(any(CreateDbParameterGroupRequest.class))).thenReturn(createDbParameterGroupResponse);
 
-        mockDescribeDbParametersResponse("new", "new");
+        mockDescribeEngineDefaultParametersResponse("new", "new");
 
         final ModifyDbParameterGroupResponse modifyDbParameterGroupResponse = ModifyDbParameterGroupResponse.builder().build();
         when(rdsClient.modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class))).thenReturn(modifyDbParameterGroupResponse);
+        mockDescribeUserParameters(); // not visible yet
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .clientRequestToken(getClientRequestToken())
@@ -124,12 +135,13 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackContext()).isNotNull();
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(300);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(5);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
         verify(rdsClient).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
+        verify(rdsClient).describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class));
         verify(rdsClient).describeDBParameters(any(DescribeDbParametersRequest.class));
     }
 
@@ -139,10 +151,11 @@ public class CreateHandlerTest extends AbstractTestBase {
         final CreateDbParameterGroupResponse createDbParameterGroupResponse = CreateDbParameterGroupResponse.builder().build();
         when(proxyClient.client().createDBParameterGroup(any(CreateDbParameterGroupRequest.class))).thenReturn(createDbParameterGroupResponse);
 
-        mockDescribeDbParametersResponse("static", "dynamic");
+        mockDescribeEngineDefaultParametersResponse("static", "dynamic");
 
         final ModifyDbParameterGroupResponse modifyDbParameterGroupResponse = ModifyDbParameterGroupResponse.builder().build();
         when(proxyClient.client().modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class))).thenReturn(modifyDbParameterGroupResponse);
+        mockDescribeUserParameters(); // not visible yet
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .clientRequestToken(getClientRequestToken())
@@ -154,14 +167,40 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackContext()).isNotNull();
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(300);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(5);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client()).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
-        verify(proxyClient.client()).describeDBParameters(any(DescribeDbParametersRequest.class));
+        verify(proxyClient.client()).describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class));
         verify(proxyClient.client()).modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class));
+        verify(proxyClient.client()).describeDBParameters(any(DescribeDbParametersRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ReusesCachedEngineDefaults() {
+        when(proxyClient.client().createDBParameterGroup(any(CreateDbParameterGroupRequest.class))).thenReturn(CreateDbParameterGroupResponse.builder().build());
+        mockDescribeEngineDefaultParametersResponse("static", "dynamic");
+        when(proxyClient.client().modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class))).thenReturn(ModifyDbParameterGroupResponse.builder().build());
+        mockDescribeUserParameters(); // not visible yet
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(getClientRequestToken())
+                .desiredResourceState(RESOURCE_MODEL)
+                .desiredResourceTags(translateTagsToMap(TAG_SET))
+                .logicalResourceIdentifier(LOGICAL_RESOURCE_IDENTIFIER).build();
+        final long hits = BaseHandlerStd.ENGINE_DEFAULTS.getStats().hitCount();
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(BaseHandlerStd.ENGINE_DEFAULTS.getStats().hitCount()).isEqualTo(hits + 1);
+
+        verify(proxyClient.client(), times(2)).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
+        verify(proxyClient.client()).describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class));
+        verify(proxyClient.client(), times(2)).modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class));
+        verify(proxyClient.client(), times(2)).describeDBParameters(any(DescribeDbParametersRequest.class));
     }
 
     @Test
@@ -171,6 +210,10 @@ public class CreateHandlerTest extends AbstractTestBase {
         final CreateDbParameterGroupResponse createDbParameterGroupResponse = CreateDbParameterGroupResponse.builder().build();
         when(rdsClient.createDBParameterGroup(any(CreateDbParameterGroupRequest.class))).thenReturn(createDbParameterGroupResponse);
 
+        final DescribeEngineDefaultParametersResponse describeEngineDefaultParametersResponse = DescribeEngineDefaultParametersResponse.builder()
+                .engineDefaults(EngineDefaults.builder().marker(null).build()).build();
+        when(rdsClient.describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class))).thenReturn(describeEngineDefaultParametersResponse);
+
         final DescribeDbParametersResponse describeDbParametersResponse = DescribeDbParametersResponse.builder()
                 .marker(null).build();
         when(rdsClient.describeDBParameters(any(DescribeDbParametersRequest.class))).thenReturn(describeDbParametersResponse);
@@ -187,6 +230,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         }
 
         verify(proxyClient.client()).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
+        verify(proxyClient.client()).describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class));
         verify(proxyClient.client()).describeDBParameters(any(DescribeDbParametersRequest.class));
     }
 
@@ -237,8 +281,8 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client()).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
     }
 
-    private void mockDescribeDbParametersResponse(String firstParamApplyType, String secondParamApplyType) {
-        final DescribeDbParametersResponse describeDbParametersResponse = DescribeDbParametersResponse.builder().marker(null)
+    private void mockDescribeEngineDefaultParametersResponse(String firstParamApplyType, String secondParamApplyType) {
+        final EngineDefaults engineDefaults = EngineDefaults.builder().marker(null)
                 .parameters(Parameter.builder()
                                 .parameterName("param1")
                                 .parameterValue("system_value")
@@ -251,6 +295,16 @@ public class CreateHandlerTest extends AbstractTestBase {
                                 .isModifiable(true)
                                 .applyType(secondParamApplyType)
                                 .build()).build();
-        when(proxyClient.client().describeDBParameters(any(DescribeDbParametersRequest.class))).thenReturn(describeDbParametersResponse);
+        when(proxyClient.client().describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class)))
+                .thenReturn(DescribeEngineDefaultParametersResponse.builder().engineDefaults(engineDefaults).build());
+    }
+
+    // The group's user parameters as DescribeDBParameters reports them: param1 and param2 with the given values
+    private void mockDescribeUserParameters(final String... values) {
+        final List<Parameter> parameters = IntStream.range(0, values.length)
+                .mapToObj(i -> Parameter.builder().parameterName("param" + (i + 1)).parameterValue(values[i]).source("user").build())
+                .collect(Collectors.toList());
+        when(proxyClient.client().describeDBParameters(any(DescribeDbParametersRequest.class)))
+                .thenReturn(DescribeDbParametersResponse.builder().parameters(parameters).marker(null).build());
     }
 }
@@ -0,0 +1,81 @@
+package software.amazon.rds.dbparametergroup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.base.Ticker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EngineDefaultsCacheTest {
+
+    private static final List<Parameter> PARAMETERS = Collections.singletonList(
+            Parameter.builder().parameterName("max_connections").applyType("dynamic").isModifiable(true).build());
+
+    private AtomicLong nanos;
+    private AtomicInteger scans;
+    private EngineDefaultsCache cache;
+
+    @BeforeEach
+    public void setup() {
+        nanos = new AtomicLong();
+        scans = new AtomicInteger();
+        cache = new EngineDefaultsCache(2, 60, new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        });
+    }
+
+    @Test
+    public void get_scansFamilyOnceUntilExpired() {
+        final Map<String, Parameter> parameters = cache.get("mysql5.7", this::scan);
+        cache.get("mysql5.7", this::scan);
+
+        assertThat(parameters).containsOnlyKeys("max_connections");
+        assertThat(scans.get()).isEqualTo(1);
+        assertThat(cache.getStats().hitCount()).isEqualTo(1);
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        cache.get("mysql5.7", this::scan);
+        assertThat(scans.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_evictsLeastRecentlyUsedFamily() {
+        cache.get("mysql5.7", this::scan);
+        cache.get("postgres12", this::scan);
+        cache.get("mysql5.7", this::scan);
+        cache.get("mariadb10.4", this::scan);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getStats().evictionCount()).isEqualTo(1);
+
+        cache.get("mysql5.7", this::scan);
+        assertThat(scans.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void get_doesNotCacheFailedScan() {
+        assertThatThrownBy(() -> cache.get("mysql5.7", family -> {
+            throw new IllegalStateException("throttled");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("throttled");
+
+        cache.get("mysql5.7", this::scan);
+        assertThat(scans.get()).isEqualTo(1);
+    }
+
+    private List<Parameter> scan(final String family) {
+        scans.incrementAndGet();
+        return PARAMETERS;
+    }
+}
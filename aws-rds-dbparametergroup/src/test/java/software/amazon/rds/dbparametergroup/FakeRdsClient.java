@@ -0,0 +1,358 @@
+package software.amazon.rds.dbparametergroup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceResponse;
+import software.amazon.awssdk.services.rds.model.CreateDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.DBParameterGroup;
+import software.amazon.awssdk.services.rds.model.DbParameterGroupAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbParameterGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.DeleteDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbParametersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbParametersResponse;
+import software.amazon.awssdk.services.rds.model.DescribeEngineDefaultParametersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeEngineDefaultParametersResponse;
+import software.amazon.awssdk.services.rds.model.EngineDefaults;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.awssdk.services.rds.model.RdsException;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceResponse;
+import software.amazon.awssdk.services.rds.model.ResetDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.ResetDbParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.Tag;
+
+/**
+ * Stateful in-memory stand-in for RdsClient that models DB parameter groups, their parameters and tags.
+ *
+ * Every group starts from the engine defaults registered for its family with {@link #withEngineDefaults}.
+ * Modified parameters are reported with source "user" and reset ones fall back to the engine default.
+ * DescribeDBParameters and DescribeEngineDefaultParameters page through the parameters with MaxRecords.
+ * Changes can be made to show up in DescribeDBParameters only after a number of calls, as if still propagating.
+ * Each call can be delayed by a fixed latency, throttled or rejected, and is counted per operation.
+ */
+public class FakeRdsClient implements RdsClient {
+
+    static final String SOURCE_ENGINE_DEFAULT = "engine-default";
+    static final String SOURCE_USER = "user";
+
+    private static final String ARN_PREFIX = "arn:aws:rds:us-east-1:123456789012:pg:";
+    private static final int DEFAULT_MAX_RECORDS = 100;
+    private static final int MAX_PARAMETERS_PER_MODIFY = 20;
+
+    private final Map<String, List<Parameter>> engineDefaults = new HashMap<>();
+    private final Map<String, DBParameterGroup> groups = new LinkedHashMap<>();
+    private final Map<String, Map<String, Parameter>> userParameters = new HashMap<>();
+    private final Map<String, Map<String, String>> tags = new HashMap<>();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final Map<String, Set<Integer>> throttledCalls = new ConcurrentHashMap<>();
+    private final Map<String, Set<Integer>> invalidCalls = new ConcurrentHashMap<>();
+    private volatile Duration latency = Duration.ZERO;
+    private final Map<String, Map<String, Parameter>> propagatedParameters = new HashMap<>();
+    private final Map<String, Integer> describesUntilPropagated = new HashMap<>();
+    private int propagationLag;
+
+    public FakeRdsClient withLatency(final Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    public synchronized FakeRdsClient withEngineDefaults(final String family, final Collection<Parameter> parameters) {
+        engineDefaults.put(family, parameters.stream()
+                .map(parameter -> parameter.toBuilder().source(SOURCE_ENGINE_DEFAULT).build())
+                .collect(Collectors.toList()));
+        return this;
+    }
+
+    /**
+     * Fails the given calls of the operation, counted from 1, with a throttling error.
+     */
+    public FakeRdsClient withThrottledCalls(final String operation, final Integer... callNumbers) {
+        throttledCalls.put(operation, new HashSet<>(Arrays.asList(callNumbers)));
+        return this;
+    }
+
+    /**
+     * Fails the given calls of the operation, counted from 1, with an InvalidParameterValue error naming the call.
+     */
+    public FakeRdsClient withInvalidCalls(final String operation, final Integer... callNumbers) {
+        invalidCalls.put(operation, new HashSet<>(Arrays.asList(callNumbers)));
+        return this;
+    }
+
+    /**
+     * Keeps reporting the user parameters a group had before a modify or reset for the given number of
+     * DescribeDBParameters calls.
+     */
+    public synchronized FakeRdsClient withPropagationLag(final int describeCalls) {
+        this.propagationLag = describeCalls;
+        return this;
+    }
+
+    public int getCallCount(final String operation) {
+        return Optional.ofNullable(calls.get(operation)).map(AtomicInteger::get).orElse(0);
+    }
+
+    public int getTotalCallCount() {
+        return calls.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    public synchronized boolean exists(final String dbParameterGroupName) {
+        return groups.containsKey(dbParameterGroupName);
+    }
+
+    /**
+     * Parameters that currently differ from the engine defaults, keyed by name.
+     */
+    public synchronized Map<String, String> getUserParameters(final String dbParameterGroupName) {
+        return userParameters.getOrDefault(dbParameterGroupName, Collections.emptyMap()).values().stream()
+                .collect(Collectors.toMap(Parameter::parameterName, Parameter::parameterValue, (a, b) -> b, LinkedHashMap::new));
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public CreateDbParameterGroupResponse createDBParameterGroup(final CreateDbParameterGroupRequest request) {
+        return call("createDBParameterGroup", () -> {
+            if (groups.containsKey(request.dbParameterGroupName())) {
+                throw DbParameterGroupAlreadyExistsException.builder().message("DBParameterGroup " + request.dbParameterGroupName() + " already exists").build();
+            }
+            final DBParameterGroup group = DBParameterGroup.builder()
+                    .dbParameterGroupName(request.dbParameterGroupName())
+                    .dbParameterGroupArn(ARN_PREFIX + request.dbParameterGroupName())
+                    .dbParameterGroupFamily(request.dbParameterGroupFamily())
+                    .description(request.description())
+                    .build();
+            groups.put(group.dbParameterGroupName(), group);
+            userParameters.put(group.dbParameterGroupName(), new LinkedHashMap<>());
+            putTags(group.dbParameterGroupArn(), request.tags());
+            return CreateDbParameterGroupResponse.builder().dbParameterGroup(group).build();
+        });
+    }
+
+    @Override
+    public DescribeDbParameterGroupsResponse describeDBParameterGroups(final DescribeDbParameterGroupsRequest request) {
+        return call("describeDBParameterGroups", () -> {
+            if (request.dbParameterGroupName() != null) {
+                return DescribeDbParameterGroupsResponse.builder().dbParameterGroups(getGroup(request.dbParameterGroupName())).build();
+            }
+            final List<DBParameterGroup> all = new ArrayList<>(groups.values());
+            final int from = request.marker() == null ? 0 : Integer.parseInt(request.marker());
+            final int to = Math.min(all.size(), from + Optional.ofNullable(request.maxRecords()).orElse(DEFAULT_MAX_RECORDS));
+            return DescribeDbParameterGroupsResponse.builder()
+                    .dbParameterGroups(all.subList(from, to))
+                    .marker(to < all.size() ? String.valueOf(to) : null)
+                    .build();
+        });
+    }
+
+    @Override
+    public DescribeDbParametersResponse describeDBParameters(final DescribeDbParametersRequest request) {
+        return call("describeDBParameters", () -> {
+            final DBParameterGroup group = getGroup(request.dbParameterGroupName());
+            final Map<String, Parameter> overrides = propagatedParameters(group.dbParameterGroupName());
+            final List<Parameter> parameters = getEngineDefaults(group.dbParameterGroupFamily()).stream()
+                    .map(parameter -> overrides.getOrDefault(parameter.parameterName(), parameter))
+                    .filter(parameter -> request.source() == null || request.source().equals(parameter.source()))
+                    .collect(Collectors.toList());
+            final int from = request.marker() == null ? 0 : Integer.parseInt(request.marker());
+            final int to = Math.min(parameters.size(), from + Optional.ofNullable(request.maxRecords()).orElse(DEFAULT_MAX_RECORDS));
+            return DescribeDbParametersResponse.builder()
+                    .parameters(parameters.subList(from, to))
+                    .marker(to < parameters.size() ? String.valueOf(to) : null)
+                    .build();
+        });
+    }
+
+    @Override
+    public DescribeEngineDefaultParametersResponse describeEngineDefaultParameters(final DescribeEngineDefaultParametersRequest request) {
+        return call("describeEngineDefaultParameters", () -> {
+            final List<Parameter> parameters = getEngineDefaults(request.dbParameterGroupFamily());
+            final int from = request.marker() == null ? 0 : Integer.parseInt(request.marker());
+            final int to = Math.min(parameters.size(), from + Optional.ofNullable(request.maxRecords()).orElse(DEFAULT_MAX_RECORDS));
+            return DescribeEngineDefaultParametersResponse.builder()
+                    .engineDefaults(EngineDefaults.builder()
+                            .dbParameterGroupFamily(request.dbParameterGroupFamily())
+                            .parameters(parameters.subList(from, to))
+                            .marker(to < parameters.size() ? String.valueOf(to) : null)
+                            .build())
+                    .build();
+        });
+    }
+
+    @Override
+    public ModifyDbParameterGroupResponse modifyDBParameterGroup(final ModifyDbParameterGroupRequest request) {
+        return call("modifyDBParameterGroup", () -> {
+            final DBParameterGroup group = getGroup(request.dbParameterGroupName());
+            if (request.parameters().size() > MAX_PARAMETERS_PER_MODIFY) {
+                throw invalidParameterValue("At most " + MAX_PARAMETERS_PER_MODIFY + " parameters can be modified at once");
+            }
+            final Map<String, Parameter> defaults = getEngineDefaults(group.dbParameterGroupFamily()).stream()
+                    .collect(Collectors.toMap(Parameter::parameterName, parameter -> parameter));
+            final Map<String, Parameter> overrides = userParameters.get(group.dbParameterGroupName());
+            startPropagation(group.dbParameterGroupName());
+            for (final Parameter parameter : request.parameters()) {
+                final Parameter engineDefault = defaults.get(parameter.parameterName());
+                if (engineDefault == null || !Boolean.TRUE.equals(engineDefault.isModifiable())) {
+                    throw invalidParameterValue("Parameter " + parameter.parameterName() + " cannot be modified");
+                }
+                overrides.put(parameter.parameterName(), engineDefault.toBuilder()
+                        .parameterValue(parameter.parameterValue())
+                        .applyMethod(parameter.applyMethod())
+                        .source(SOURCE_USER)
+                        .build());
+            }
+            return ModifyDbParameterGroupResponse.builder().dbParameterGroupName(group.dbParameterGroupName()).build();
+        });
+    }
+
+    @Override
+    public ResetDbParameterGroupResponse resetDBParameterGroup(final ResetDbParameterGroupRequest request) {
+        return call("resetDBParameterGroup", () -> {
+            final DBParameterGroup group = getGroup(request.dbParameterGroupName());
+            final Map<String, Parameter> overrides = userParameters.get(group.dbParameterGroupName());
+            startPropagation(group.dbParameterGroupName());
+            if (Boolean.TRUE.equals(request.resetAllParameters())) {
+                overrides.clear();
+            } else {
+                Optional.ofNullable(request.parameters()).orElse(Collections.emptyList())
+                        .forEach(parameter -> overrides.remove(parameter.parameterName()));
+            }
+            return ResetDbParameterGroupResponse.builder().dbParameterGroupName(group.dbParameterGroupName()).build();
+        });
+    }
+
+    @Override
+    public DeleteDbParameterGroupResponse deleteDBParameterGroup(final DeleteDbParameterGroupRequest request) {
+        return call("deleteDBParameterGroup", () -> {
+            final DBParameterGroup group = getGroup(request.dbParameterGroupName());
+            groups.remove(group.dbParameterGroupName());
+            userParameters.remove(group.dbParameterGroupName());
+            tags.remove(group.dbParameterGroupArn());
+            return DeleteDbParameterGroupResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        return call("listTagsForResource", () -> ListTagsForResourceResponse.builder()
+                .tagList(tags.getOrDefault(request.resourceName(), Collections.emptyMap()).entrySet().stream()
+                        .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    @Override
+    public AddTagsToResourceResponse addTagsToResource(final AddTagsToResourceRequest request) {
+        return call("addTagsToResource", () -> {
+            putTags(request.resourceName(), request.tags());
+            return AddTagsToResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public RemoveTagsFromResourceResponse removeTagsFromResource(final RemoveTagsFromResourceRequest request) {
+        return call("removeTagsFromResource", () -> {
+            tags.getOrDefault(request.resourceName(), new HashMap<>()).keySet().removeAll(request.tagKeys());
+            return RemoveTagsFromResourceResponse.builder().build();
+        });
+    }
+
+    private <T> T call(final String operation, final Supplier<T> body) {
+        final int callNumber = calls.computeIfAbsent(operation, key -> new AtomicInteger()).incrementAndGet();
+        final Duration delay = latency;
+        if (!delay.isZero()) {
+            Uninterruptibles.sleepUninterruptibly(delay.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        if (throttledCalls.getOrDefault(operation, Collections.emptySet()).contains(callNumber)) {
+            throw RdsException.builder()
+                    .message("Rate exceeded")
+                    .statusCode(400)
+                    .awsErrorDetails(AwsErrorDetails.builder().errorCode("Throttling").errorMessage("Rate exceeded").build())
+                    .build();
+        }
+        if (invalidCalls.getOrDefault(operation, Collections.emptySet()).contains(callNumber)) {
+            throw invalidParameterValue(operation + " call " + callNumber + " is invalid");
+        }
+        synchronized (this) {
+            return body.get();
+        }
+    }
+
+    // The last propagated parameters stay visible until the lag runs out, however many changes pile up meanwhile
+    private void startPropagation(final String dbParameterGroupName) {
+        if (propagationLag == 0) return;
+        propagatedParameters.putIfAbsent(dbParameterGroupName, new HashMap<>(userParameters.get(dbParameterGroupName)));
+        describesUntilPropagated.put(dbParameterGroupName, propagationLag);
+    }
+
+    private Map<String, Parameter> propagatedParameters(final String dbParameterGroupName) {
+        final int remaining = describesUntilPropagated.getOrDefault(dbParameterGroupName, 0);
+        if (remaining == 0) {
+            propagatedParameters.remove(dbParameterGroupName);
+            return userParameters.get(dbParameterGroupName);
+        }
+        describesUntilPropagated.put(dbParameterGroupName, remaining - 1);
+        return propagatedParameters.get(dbParameterGroupName);
+    }
+
+    private DBParameterGroup getGroup(final String dbParameterGroupName) {
+        final DBParameterGroup group = groups.get(dbParameterGroupName);
+        if (group == null) {
+            throw DbParameterGroupNotFoundException.builder().message("DBParameterGroup " + dbParameterGroupName + " not found").build();
+        }
+        return group;
+    }
+
+    // RDS reports InvalidParameterValue as a plain service error without a dedicated exception type
+    private static RdsException invalidParameterValue(final String message) {
+        return (RdsException) RdsException.builder()
+                .message(message)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("InvalidParameterValue").errorMessage(message).build())
+                .build();
+    }
+
+    private List<Parameter> getEngineDefaults(final String family) {
+        return engineDefaults.getOrDefault(family, Collections.emptyList());
+    }
+
+    private void putTags(final String arn, final Collection<Tag> newTags) {
+        final Map<String, String> resourceTags = tags.computeIfAbsent(arn, key -> new LinkedHashMap<>());
+        Optional.ofNullable(newTags).orElse(Collections.emptyList())
+                .forEach(tag -> resourceTags.put(tag.key(), tag.value()));
+    }
+}
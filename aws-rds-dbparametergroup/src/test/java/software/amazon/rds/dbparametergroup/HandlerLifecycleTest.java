@@ -0,0 +1,328 @@
+package software.amazon.rds.dbparametergroup;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Drives the real handler chains against {@link FakeRdsClient} instead of per-call mocks.
+ */
+public class HandlerLifecycleTest extends AbstractTestBase {
+
+    private static final int MAX_INVOCATIONS = 20;
+    private static final int ENGINE_DEFAULT_COUNT = 250;
+    private static final String FAMILY = "mysql5.7";
+    private static final String GROUP_NAME = "testdbparametergroup";
+
+    private FakeRdsClient rds;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<RdsClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        rds = new FakeRdsClient().withEngineDefaults(FAMILY, engineDefaults());
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = MOCK_PROXY(proxy, rds);
+        BaseHandlerStd.ENGINE_DEFAULTS.invalidateAll();
+    }
+
+    @Test
+    public void createUpdateDelete() {
+        final Map<String, Object> initial = ImmutableMap.of("param-001", "1", "param-002", "2", "param-150", "150");
+        final ProgressEvent<ResourceModel, CallbackContext> created = drive(new CreateHandler(), request(model(initial), null, ImmutableMap.of("env", "test"), null));
+
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(created.getResourceModel().getTags()).containsExactly(Tag.builder().key("env").value("test").build());
+        assertThat(rds.getUserParameters(GROUP_NAME)).isEqualTo(initial);
+        // the engine default catalog is scanned once at 100 records per page and cached for the family; one page of user
+        // parameters shows the values have propagated, so there is no wait
+        assertThat(rds.getCallCount("describeEngineDefaultParameters")).isEqualTo(3);
+        assertThat(rds.getCallCount("describeDBParameters")).isEqualTo(1);
+
+        final Map<String, Object> desired = ImmutableMap.of("param-002", "20", "param-003", "3");
+        final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(),
+                request(model(desired), model(initial), ImmutableMap.of("env", "prod"), ImmutableMap.of("env", "test")));
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getTags()).containsExactly(Tag.builder().key("env").value("prod").build());
+        assertThat(rds.getUserParameters(GROUP_NAME)).isEqualTo(desired);
+        // param-001 and param-150 are reset by name in one call; param-002 and param-003 are modified in another
+        assertThat(rds.getCallCount("resetDBParameterGroup")).isEqualTo(1);
+        assertThat(rds.getCallCount("modifyDBParameterGroup")).isEqualTo(2);
+        assertThat(rds.getCallCount("describeEngineDefaultParameters")).isEqualTo(3);
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = drive(new DeleteHandler(), request(model(desired), null, ImmutableMap.of(), null));
+
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rds.exists(GROUP_NAME)).isFalse();
+
+        final ProgressEvent<ResourceModel, CallbackContext> read = drive(new ReadHandler(), request(model(desired), null, ImmutableMap.of(), null));
+
+        assertThat(read.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(read.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void update_tagsOnly_skipsParameters() {
+        final Map<String, Object> parameters = ImmutableMap.of("param-001", "1");
+        drive(new CreateHandler(), request(model(parameters), null, ImmutableMap.of(), null));
+
+        final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(),
+                request(model(parameters), model(parameters), ImmutableMap.of("env", "prod"), ImmutableMap.of()));
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rds.getCallCount("resetDBParameterGroup")).isZero();
+        assertThat(rds.getCallCount("modifyDBParameterGroup")).isEqualTo(1);
+    }
+
+    @Test
+    public void create_appliesEveryBatch() {
+        final Map<String, Object> parameters = parameters(0, 45, "1");
+        final ProgressEvent<ResourceModel, CallbackContext> created = drive(new CreateHandler(), request(model(parameters), null, ImmutableMap.of(), null));
+
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rds.getUserParameters(GROUP_NAME)).isEqualTo(parameters);
+        assertThat(rds.getCallCount("modifyDBParameterGroup")).isEqualTo(3);
+    }
+
+    @Test
+    public void create_resumesFromFirstUncommittedBatch() {
+        // the throttled batch is handed back to the next invocation, the others in flight still commit
+        rds.withThrottledCalls("modifyDBParameterGroup", 3);
+        final Map<String, Object> parameters = parameters(0, 100, "1");
+        final ResourceHandlerRequest<ResourceModel> request = request(model(parameters), null, ImmutableMap.of(), null);
+        final ProgressEvent<ResourceModel, CallbackContext> throttled = new CreateHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(throttled.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(throttled.getCallbackDelaySeconds()).isPositive();
+        assertThat(throttled.getCallbackContext().getCommittedParameterBatches()).hasSize(4);
+        assertThat(throttled.getCallbackContext().isParametersApplied()).isFalse();
+
+        final ProgressEvent<ResourceModel, CallbackContext> created = drive(new CreateHandler(), request, throttled.getCallbackContext());
+
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rds.getUserParameters(GROUP_NAME)).isEqualTo(parameters);
+        // 5 batches plus the throttled attempt; the 4 committed ones are not sent again
+        assertThat(rds.getCallCount("modifyDBParameterGroup")).isEqualTo(5 + 1);
+        assertThat(rds.getCallCount("createDBParameterGroup")).isEqualTo(1);
+    }
+
+    @Test
+    public void create_appliesBatchesWithCollidingNameHashes() {
+        // "Aa" and "BB" have the same String.hashCode, so both batches of 20 names hash alike as lists
+        final Map<String, Object> parameters = new LinkedHashMap<>();
+        IntStream.range(0, 20).forEach(i -> {
+            parameters.put(String.format("pAa%02d", i), "1");
+            parameters.put(String.format("pBB%02d", i), "1");
+        });
+        rds.withEngineDefaults("colliding1.0", parameters.keySet().stream()
+                .map(name -> Parameter.builder().parameterName(name).parameterValue("0").applyType("dynamic").isModifiable(true).build())
+                .collect(Collectors.toList()));
+        final ResourceModel model = model(parameters);
+        model.setFamily("colliding1.0");
+
+        final ProgressEvent<ResourceModel, CallbackContext> created = drive(new CreateHandler(), request(model, null, ImmutableMap.of(), null));
+
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rds.getUserParameters(GROUP_NAME)).isEqualTo(parameters);
+        assertThat(rds.getCallCount("modifyDBParameterGroup")).isEqualTo(2);
+    }
+
+    @Test
+    public void create_failsWithTheMessageOfEveryRejectedBatch() {
+        rds.withInvalidCalls("modifyDBParameterGroup", 2, 4);
+        final Map<String, Object> parameters = parameters(0, 100, "1");
+        final ProgressEvent<ResourceModel, CallbackContext> failed = new CreateHandler()
+                .handleRequest(proxy, request(model(parameters), null, ImmutableMap.of(), null), new CallbackContext(), proxyClient, logger);
+
+        assertThat(failed.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(failed.getErrorCode()).isEqualTo(HandlerErrorCode.GeneralServiceException);
+        assertThat(failed.getMessage()).contains("modifyDBParameterGroup call 2 is invalid", "modifyDBParameterGroup call 4 is invalid");
+        // the batches that went through stay journaled for a retry of the operation
+        assertThat(failed.getCallbackContext().getCommittedParameterBatches()).hasSize(3);
+    }
+
+    @Test
+    public void create_surfacesFailedParameterScan() {
+        // param-999 is not an engine default, so the group's own parameters are scanned for it
+        rds.withThrottledCalls("describeDBParameters", 1);
+        final ResourceHandlerRequest<ResourceModel> request = request(model(ImmutableMap.of("param-999", "1")), null, ImmutableMap.of(), null);
+
+        assertThatThrownBy(() -> new CreateHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnThrottlingException.class);
+    }
+
+    @Test
+    public void create_waitsUntilParametersPropagate() {
+        rds.withPropagationLag(2);
+        final Map<String, Object> parameters = ImmutableMap.of("param-001", "1", "param-002", "2");
+        final ResourceHandlerRequest<ResourceModel> request = request(model(parameters), null, ImmutableMap.of(), null);
+
+        final ProgressEvent<ResourceModel, CallbackContext> applied = new CreateHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(applied.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(applied.getCallbackDelaySeconds()).isEqualTo(5);
+
+        final ProgressEvent<ResourceModel, CallbackContext> waiting = new CreateHandler().handleRequest(proxy, request, applied.getCallbackContext(), proxyClient, logger);
+
+        assertThat(waiting.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(waiting.getCallbackDelaySeconds()).isBetween(5, 10);
+
+        final ProgressEvent<ResourceModel, CallbackContext> created = new CreateHandler().handleRequest(proxy, request, waiting.getCallbackContext(), proxyClient, logger);
+
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rds.getCallCount("describeDBParameters")).isEqualTo(3);
+        assertThat(rds.getCallCount("modifyDBParameterGroup")).isEqualTo(1);
+    }
+
+    @Test
+    public void update_stopsWaitingAfterMaxPropagationWait() {
+        drive(new CreateHandler(), request(model(ImmutableMap.of("param-001", "1")), null, ImmutableMap.of(), null));
+        rds.withPropagationLag(Integer.MAX_VALUE);
+
+        final Map<String, Object> desired = ImmutableMap.of("param-001", "10");
+        CallbackContext context = new CallbackContext();
+        int waitedSeconds = 0;
+        ProgressEvent<ResourceModel, CallbackContext> event;
+        do {
+            event = new UpdateHandler().handleRequest(proxy, request(model(desired), model(ImmutableMap.of("param-001", "1")), ImmutableMap.of(), null), context, proxyClient, logger);
+            waitedSeconds += event.getCallbackDelaySeconds();
+            context = event.getCallbackContext();
+        } while (event.getStatus() == OperationStatus.IN_PROGRESS);
+
+        assertThat(event.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // gives up once the shortest delays the jitter allows add up to the full wait; the actual ones run up to a
+        // third longer, plus the last capped 60 second delay
+        assertThat(waitedSeconds).isBetween(BaseHandlerStd.MAX_PROPAGATION_WAIT_SECONDS, BaseHandlerStd.MAX_PROPAGATION_WAIT_SECONDS * 4 / 3 + 60);
+        assertThat(rds.getUserParameters(GROUP_NAME)).isEqualTo(desired);
+    }
+
+    @Test
+    public void create_rejectsCatalogedUnmodifiableParameterBeforeAnyCall() {
+        final ResourceModel model = model(ImmutableMap.of("autocommit", "1", "basedir", "/tmp"));
+        model.setFamily("catalog-test1.0"); // bundled with the test resources
+
+        assertThatThrownBy(() -> new CreateHandler().handleRequest(proxy, request(model, null, ImmutableMap.of(), null), new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("Unmodifiable DB Parameter: basedir");
+        assertThat(rds.getTotalCallCount()).isZero();
+    }
+
+    @Test
+    public void update_modifiesOnlyChangedParameters() {
+        final Map<String, Object> initial = parameters(0, 45, "1");
+        drive(new CreateHandler(), request(model(initial), null, ImmutableMap.of(), null));
+
+        final Map<String, Object> desired = new LinkedHashMap<>(initial);
+        desired.put("param-007", "7");
+        desired.remove("param-044");
+        final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(),
+                request(model(desired), model(initial), ImmutableMap.of(), ImmutableMap.of()));
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rds.getUserParameters(GROUP_NAME)).isEqualTo(desired);
+        assertThat(rds.getCallCount("resetDBParameterGroup")).isEqualTo(1);
+        assertThat(rds.getCallCount("modifyDBParameterGroup")).isEqualTo(3 + 1);
+    }
+
+    @Test
+    public void update_revertsOutOfBandChanges() {
+        final Map<String, Object> parameters = ImmutableMap.of("param-001", "1");
+        drive(new CreateHandler(), request(model(parameters), null, ImmutableMap.of(), null));
+        // changed outside of CloudFormation; the template values are what the update restores
+        proxyClient.client().modifyDBParameterGroup(Translator.modifyDbParameterGroupRequest(model(parameters), ImmutableList.of(
+                Parameter.builder().parameterName("param-001").parameterValue("9").build(),
+                Parameter.builder().parameterName("param-002").parameterValue("9").build())));
+
+        final Map<String, Object> desired = ImmutableMap.of("param-001", "1", "param-003", "3");
+        drive(new UpdateHandler(), request(model(desired), model(parameters), ImmutableMap.of(), ImmutableMap.of()));
+
+        assertThat(rds.getUserParameters(GROUP_NAME)).isEqualTo(desired);
+    }
+
+    private static Map<String, Object> parameters(final int from, final int to, final String value) {
+        return IntStream.range(from, to).boxed()
+                .collect(Collectors.toMap(i -> String.format("param-%03d", i), i -> (Object) value, (a, b) -> b, LinkedHashMap::new));
+    }
+
+    private static List<Parameter> engineDefaults() {
+        return IntStream.range(0, ENGINE_DEFAULT_COUNT)
+                .mapToObj(i -> Parameter.builder()
+                        .parameterName(String.format("param-%03d", i))
+                        .parameterValue("0")
+                        .applyType(i % 2 == 0 ? "dynamic" : "static")
+                        .dataType("integer")
+                        .isModifiable(true)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private ResourceModel model(final Map<String, Object> parameters) {
+        return ResourceModel.builder()
+                .dBParameterGroupName(GROUP_NAME)
+                .description("test DB Parameter group description")
+                .family(FAMILY)
+                .parameters(parameters)
+                .build();
+    }
+
+    private ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired,
+                                                          final ResourceModel previous,
+                                                          final Map<String, String> tags,
+                                                          final Map<String, String> previousTags) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .desiredResourceTags(tags)
+                .previousResourceTags(previousTags)
+                .logicalResourceIdentifier(LOGICAL_RESOURCE_IDENTIFIER)
+                .clientRequestToken(getClientRequestToken())
+                .build();
+    }
+
+    // Re-invokes the handler the way CloudFormation does until it leaves IN_PROGRESS, ignoring callback delays.
+    private ProgressEvent<ResourceModel, CallbackContext> drive(final BaseHandlerStd handler,
+                                                                final ResourceHandlerRequest<ResourceModel> request) {
+        return drive(handler, request, new CallbackContext());
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> drive(final BaseHandlerStd handler,
+                                                                final ResourceHandlerRequest<ResourceModel> request,
+                                                                final CallbackContext callbackContext) {
+        CallbackContext context = callbackContext;
+        ProgressEvent<ResourceModel, CallbackContext> event = null;
+        for (int invocation = 0; invocation < MAX_INVOCATIONS; invocation++) {
+            event = handler.handleRequest(proxy, request, context, proxyClient, logger);
+            if (event.getStatus() != OperationStatus.IN_PROGRESS) {
+                break;
+            }
+            context = event.getCallbackContext();
+            if (event.getResourceModel() != null) {
+                request.setDesiredResourceState(event.getResourceModel());
+            }
+        }
+        assertThat(event.getStatus()).isNotEqualTo(OperationStatus.IN_PROGRESS);
+        return event;
+    }
+}
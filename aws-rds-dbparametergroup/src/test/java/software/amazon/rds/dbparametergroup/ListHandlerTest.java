@@ -3,11 +3,13 @@ package software.amazon.rds.dbparametergroup;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,9 +18,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBParameterGroup;
 import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsResponse;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rds.model.RdsException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -75,4 +82,92 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
         verify(proxyRdsClient.client()).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
     }
+
+    @Test
+    public void handleRequest_FullModels() {
+        handler = new ListHandler(true);
+        final DescribeDbParameterGroupsResponse describeDbParameterGroupsResponse = DescribeDbParameterGroupsResponse.builder()
+                .dbParameterGroups(Arrays.asList(dbParameterGroup("group-1"), dbParameterGroup("group-2")))
+                .marker("marker2")
+                .build();
+        when(proxyRdsClient.client().describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class))).thenReturn(describeDbParameterGroupsResponse);
+        when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenAnswer(invocation -> ListTagsForResourceResponse.builder()
+                .tagList(software.amazon.awssdk.services.rds.model.Tag.builder()
+                        .key("arn")
+                        .value(invocation.getArgument(0, ListTagsForResourceRequest.class).resourceName())
+                        .build())
+                .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo("marker2");
+        assertThat(response.getResourceModels()).containsExactly(
+                ResourceModel.builder()
+                        .dBParameterGroupName("group-1")
+                        .description("group-1 description")
+                        .family("mysql5.7")
+                        .tags(Arrays.asList(Tag.builder().key("arn").value("arn:aws:rds:us-east-1:123456789012:pg:group-1").build()))
+                        .build(),
+                ResourceModel.builder()
+                        .dBParameterGroupName("group-2")
+                        .description("group-2 description")
+                        .family("mysql5.7")
+                        .tags(Arrays.asList(Tag.builder().key("arn").value("arn:aws:rds:us-east-1:123456789012:pg:group-2").build()))
+                        .build());
+        verify(proxyRdsClient.client()).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
+        verify(proxyRdsClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_FullModelsWithoutTagAccess() {
+        handler = new ListHandler(true);
+        final DescribeDbParameterGroupsResponse describeDbParameterGroupsResponse = DescribeDbParameterGroupsResponse.builder()
+                .dbParameterGroups(Arrays.asList(dbParameterGroup("group-1"), dbParameterGroup("group-2")))
+                .build();
+        when(proxyRdsClient.client().describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class))).thenReturn(describeDbParameterGroupsResponse);
+        when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenAnswer(invocation -> {
+            final String arn = invocation.getArgument(0, ListTagsForResourceRequest.class).resourceName();
+            if (arn.endsWith(":group-1")) throw accessDenied();
+            return ListTagsForResourceResponse.builder()
+                    .tagList(software.amazon.awssdk.services.rds.model.Tag.builder().key("arn").value(arn).build())
+                    .build();
+        });
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getDBParameterGroupName).containsExactly("group-1", "group-2");
+        assertThat(response.getResourceModels().get(0).getTags()).isNull();
+        assertThat(response.getResourceModels().get(1).getTags()).containsExactly(
+                Tag.builder().key("arn").value("arn:aws:rds:us-east-1:123456789012:pg:group-2").build());
+        verify(proxyRdsClient.client()).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
+        verify(proxyRdsClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    private static RdsException accessDenied() {
+        return (RdsException) RdsException.builder()
+                .statusCode(403)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("AccessDenied").errorMessage("not authorized to list tags").build())
+                .build();
+    }
+
+    private static DBParameterGroup dbParameterGroup(final String name) {
+        return DBParameterGroup.builder()
+                .dbParameterGroupName(name)
+                .dbParameterGroupArn("arn:aws:rds:us-east-1:123456789012:pg:" + name)
+                .dbParameterGroupFamily("mysql5.7")
+                .description(name + " description")
+                .build();
+    }
 }
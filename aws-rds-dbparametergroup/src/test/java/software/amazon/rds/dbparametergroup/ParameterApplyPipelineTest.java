@@ -0,0 +1,81 @@
+package software.amazon.rds.dbparametergroup;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ParameterApplyPipelineTest {
+
+    @Test
+    public void run_keepsAtMostMaxInFlight() {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxObserved = new AtomicInteger();
+
+        final ParameterApplyPipeline.Result result = new ParameterApplyPipeline(3).run(batches(12), batch -> {
+            maxObserved.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Uninterruptibles.sleepUninterruptibly(20, TimeUnit.MILLISECONDS);
+            inFlight.decrementAndGet();
+        });
+
+        assertThat(result.getCommitted()).hasSize(12);
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(maxObserved.get()).isBetween(2, 3);
+    }
+
+    @Test
+    public void run_reportsInBatchOrder() {
+        // later batches finish first
+        final ParameterApplyPipeline.Result result = new ParameterApplyPipeline(4).run(batches(4), batch -> {
+            final int index = Integer.parseInt(batch.get(0).parameterName().substring("param-".length()));
+            Uninterruptibles.sleepUninterruptibly(40 - 10 * index, TimeUnit.MILLISECONDS);
+        });
+
+        assertThat(result.getCommitted()).containsExactly("batch-0", "batch-1", "batch-2", "batch-3");
+    }
+
+    @Test
+    public void run_collectsFailuresWithoutStoppingOtherBatches() {
+        final ParameterApplyPipeline.Result result = new ParameterApplyPipeline(2).run(batches(5), batch -> {
+            final String name = batch.get(0).parameterName();
+            if (name.endsWith("1") || name.endsWith("3")) throw new IllegalStateException("failed " + name);
+        });
+
+        assertThat(result.getCommitted()).containsExactly("batch-0", "batch-2", "batch-4");
+        assertThat(result.getFailures().keySet()).containsExactly("batch-1", "batch-3");
+        assertThat(result.getFailures().get("batch-3")).isInstanceOf(IllegalStateException.class).hasMessage("failed param-3");
+    }
+
+    @Test
+    public void run_isEmptyWithoutBatches() {
+        final ParameterApplyPipeline.Result result = new ParameterApplyPipeline(2).run(Collections.emptyMap(), batch -> {
+            throw new AssertionError("no batch to send");
+        });
+
+        assertThat(result.getCommitted()).isEmpty();
+        assertThat(result.getFailures()).isEmpty();
+    }
+
+    @Test
+    public void constructor_rejectsZeroInFlight() {
+        assertThatThrownBy(() -> new ParameterApplyPipeline(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // one single-parameter batch per key, named after its position
+    private static Map<String, List<Parameter>> batches(final int count) {
+        final Map<String, List<Parameter>> batches = new LinkedHashMap<>();
+        IntStream.range(0, count).forEach(i -> batches.put("batch-" + i,
+                Collections.singletonList(Parameter.builder().parameterName("param-" + i).parameterValue("1").build())));
+        return batches;
+    }
+}
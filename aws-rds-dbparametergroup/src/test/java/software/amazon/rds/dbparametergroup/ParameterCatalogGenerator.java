@@ -0,0 +1,74 @@
+package software.amazon.rds.dbparametergroup;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DescribeEngineDefaultParametersRequest;
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+/**
+ * Writes the {@link ParameterCatalog} of each family given on the command line from DescribeEngineDefaultParameters,
+ * using the default credentials and region of the environment.
+ *
+ * Usage: ParameterCatalogGenerator &lt;output directory&gt; &lt;family&gt;... , e.g. src/main/resources/parameter-catalog
+ * mysql5.7 postgres13. Not part of the unit test suite; the opt-in
+ * parameter-catalog Maven profile runs it for the common families.
+ */
+public class ParameterCatalogGenerator {
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: ParameterCatalogGenerator <output directory> <family>...");
+        }
+        final Path directory = Files.createDirectories(Paths.get(args[0]));
+        try (RdsClient rds = RdsClient.create()) {
+            for (int i = 1; i < args.length; i++) {
+                final String family = args[i].toLowerCase();
+                final Path file = directory.resolve(family + ".tsv.gz");
+                write(family, describeEngineDefaultParameters(rds, family), file);
+                System.out.println("Wrote " + file);
+            }
+        }
+    }
+
+    private static List<Parameter> describeEngineDefaultParameters(final RdsClient rds, final String family) {
+        return rds.describeEngineDefaultParametersPaginator(DescribeEngineDefaultParametersRequest.builder()
+                        .dbParameterGroupFamily(family)
+                        .maxRecords(BaseHandlerStd.RECORDS_PER_PAGE)
+                        .build())
+                .stream()
+                .flatMap(response -> response.engineDefaults().parameters().stream())
+                .sorted(Comparator.comparing(Parameter::parameterName))
+                .collect(Collectors.toList());
+    }
+
+    private static void write(final String family, final List<Parameter> parameters, final Path file) throws IOException {
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8)) {
+            writer.write(String.join("\t", ParameterCatalog.HEADER_PREFIX + ParameterCatalog.FORMAT_VERSION, family) + "\n");
+            for (final Parameter parameter : parameters) {
+                writer.write(String.join("\t",
+                        parameter.parameterName(),
+                        field(parameter.dataType()),
+                        field(parameter.applyType()),
+                        String.valueOf(Boolean.TRUE.equals(parameter.isModifiable())),
+                        field(parameter.allowedValues())) + "\n");
+            }
+        }
+    }
+
+    // Tabs and line breaks would split the record
+    private static String field(final String value) {
+        return Optional.ofNullable(value).orElse("").replaceAll("[\\t\\r\\n]", " ");
+    }
+}
@@ -0,0 +1,103 @@
+package software.amazon.rds.dbparametergroup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ParameterCatalogTest {
+
+    // bundled with the test resources
+    private static final String FAMILY = "catalog-test1.0";
+
+    @Test
+    public void forFamily_loadsBundledCatalog() {
+        final ParameterCatalog catalog = ParameterCatalog.forFamily(FAMILY).get();
+
+        final ParameterCatalog.Entry entry = catalog.get("max_connections").get();
+        assertThat(entry.getDataType()).isEqualTo("integer");
+        assertThat(entry.getApplyType()).isEqualTo("dynamic");
+        assertThat(entry.isModifiable()).isTrue();
+        assertThat(entry.getAllowedValues()).isEqualTo("1-100000");
+        assertThat(catalog.get("no_such_parameter")).isEmpty();
+        // loaded once for the container
+        assertThat(ParameterCatalog.forFamily(FAMILY.toUpperCase()).get()).isSameAs(catalog);
+    }
+
+    @Test
+    public void forFamily_isEmptyWithoutCatalog() {
+        assertThat(ParameterCatalog.forFamily("mysql5.7")).isEmpty();
+        assertThat(ParameterCatalog.forFamily(null)).isEmpty();
+    }
+
+    @Test
+    public void forFamily_isEmptyForUnreadableCatalog() {
+        // bundled with the test resources: one is not gzipped, the other has a line cut short
+        assertThat(ParameterCatalog.forFamily("catalog-corrupt1.0")).isEmpty();
+        assertThat(ParameterCatalog.forFamily("catalog-short1.0")).isEmpty();
+    }
+
+    @Test
+    public void parse_isEmptyForTruncatedLine() throws IOException {
+        assertThat(ParameterCatalog.parse(reader("#parameter-catalog v1\tfamily\nmax_connections\tinteger\tdynamic\n"))).isEmpty();
+    }
+
+    @Test
+    public void parse_ignoresOtherFormatVersion() throws IOException {
+        assertThat(ParameterCatalog.parse(reader("#parameter-catalog v2\tfamily\nautocommit\tboolean\tdynamic\ttrue\t0,1\n"))).isEmpty();
+        assertThat(ParameterCatalog.parse(reader("#parameter-catalog v10\tfamily\n"))).isEmpty();
+        assertThat(ParameterCatalog.parse(reader(""))).isEmpty();
+    }
+
+    @Test
+    public void validate_rejectsUnmodifiableParameter() {
+        assertThatThrownBy(() -> ParameterCatalog.forFamily(FAMILY).get().validate(ImmutableMap.of("autocommit", "1", "basedir", "/tmp")))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("Unmodifiable DB Parameter: basedir");
+    }
+
+    @Test
+    public void validate_rejectsValueOutsideAllowedValues() {
+        final ParameterCatalog catalog = ParameterCatalog.forFamily(FAMILY).get();
+
+        assertThatThrownBy(() -> catalog.validate(ImmutableMap.of("max_connections", "0")))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("max_connections");
+        assertThatThrownBy(() -> catalog.validate(ImmutableMap.of("max_connections", "many")))
+                .isInstanceOf(CfnInvalidRequestException.class);
+        assertThatThrownBy(() -> catalog.validate(ImmutableMap.of("log_output", "STDOUT")))
+                .isInstanceOf(CfnInvalidRequestException.class);
+    }
+
+    @Test
+    public void validate_acceptsAllowedValues() {
+        final ParameterCatalog catalog = ParameterCatalog.forFamily(FAMILY).get();
+
+        assertThatCode(() -> catalog.validate(ImmutableMap.<String, Object>builder()
+                .put("autocommit", 0)
+                .put("max_connections", "100000")
+                .put("log_output", "file")
+                // the formula in the allowed values is RDS's to evaluate, and so is one in the value
+                .put("innodb_buffer_pool_size", "1024")
+                .build())).doesNotThrowAnyException();
+        assertThatCode(() -> catalog.validate(ImmutableMap.of("max_connections", "{DBInstanceClassMemory/12582880}")))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    public void validate_leavesUnknownNamesToLiveLookup() {
+        assertThatCode(() -> ParameterCatalog.forFamily(FAMILY).get().validate(ImmutableMap.of("added_after_catalog", "1")))
+                .doesNotThrowAnyException();
+    }
+
+    private static BufferedReader reader(final String content) {
+        return new BufferedReader(new StringReader(content));
+    }
+}
@@ -0,0 +1,33 @@
+package software.amazon.rds.dbparametergroup;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParameterDeltaTest {
+
+    @Test
+    public void between_isEmptyForEqualValues() {
+        assertThat(ParameterDelta.between(ImmutableMap.of("max_connections", "100"), ImmutableMap.of("max_connections", 100)).isEmpty()).isTrue();
+        assertThat(ParameterDelta.between(null, ImmutableMap.of()).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void between_modifiesNewAndChangedValues() {
+        final ParameterDelta delta = ParameterDelta.between(
+                ImmutableMap.of("max_connections", "100", "autocommit", "1"),
+                ImmutableMap.of("max_connections", "200", "autocommit", "1", "wait_timeout", "60"));
+
+        assertThat(delta.getParametersToModify()).isEqualTo(ImmutableMap.of("max_connections", "200", "wait_timeout", "60"));
+        assertThat(delta.getParametersToReset()).isEmpty();
+    }
+
+    @Test
+    public void between_resetsRemovedKeys() {
+        final ParameterDelta delta = ParameterDelta.between(ImmutableMap.of("max_connections", "100", "autocommit", "1"), null);
+
+        assertThat(delta.getParametersToModify()).isEmpty();
+        assertThat(delta.getParametersToReset()).containsExactly("autocommit", "max_connections");
+    }
+}
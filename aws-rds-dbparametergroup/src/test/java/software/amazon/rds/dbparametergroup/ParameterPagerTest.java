@@ -0,0 +1,117 @@
+package software.amazon.rds.dbparametergroup;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.CreateDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ParameterPagerTest extends AbstractTestBase {
+
+    private static final String FAMILY = "mysql5.7";
+    private static final String GROUP_NAME = "testdbparametergroup";
+    private static final List<String> ALL_SOURCES = Collections.singletonList(null);
+
+    private FakeRdsClient rds;
+    private ProxyClient<RdsClient> proxyClient;
+    private ResourceModel model;
+
+    @BeforeEach
+    public void setup() {
+        rds = new FakeRdsClient().withEngineDefaults(FAMILY, IntStream.range(0, 700)
+                .mapToObj(i -> Parameter.builder()
+                        .parameterName(String.format("param-%03d", i))
+                        .parameterValue("0")
+                        .applyType("dynamic")
+                        .isModifiable(true)
+                        .build())
+                .collect(Collectors.toList()));
+        rds.createDBParameterGroup(CreateDbParameterGroupRequest.builder()
+                .dbParameterGroupName(GROUP_NAME)
+                .dbParameterGroupFamily(FAMILY)
+                .description("test")
+                .build());
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = MOCK_PROXY(proxy, rds);
+        model = ResourceModel.builder().dBParameterGroupName(GROUP_NAME).family(FAMILY).build();
+    }
+
+    @Test
+    public void find_stopsOnceEveryNameIsFound() {
+        final Map<String, Parameter> found = new ParameterPager(proxyClient, 100, 70)
+                .find(model, Arrays.asList("param-010", "param-150"), ALL_SOURCES);
+
+        assertThat(found.keySet()).containsExactlyInAnyOrder("param-010", "param-150");
+        // the group has 7 pages, the second one holds the last name
+        assertThat(rds.getCallCount("describeDBParameters")).isEqualTo(2);
+    }
+
+    @Test
+    public void find_readsEveryPageForMissingName() {
+        final Map<String, Parameter> found = new ParameterPager(proxyClient, 100, 70)
+                .find(model, Arrays.asList("param-010", "no-such-parameter"), ALL_SOURCES);
+
+        assertThat(found.keySet()).containsExactly("param-010");
+        assertThat(rds.getCallCount("describeDBParameters")).isEqualTo(7);
+    }
+
+    @Test
+    public void find_stopsAtPageBudget() {
+        final Map<String, Parameter> found = new ParameterPager(proxyClient, 100, 3)
+                .find(model, Arrays.asList("param-010", "param-650"), ALL_SOURCES);
+
+        assertThat(found.keySet()).containsExactly("param-010");
+        assertThat(rds.getCallCount("describeDBParameters")).isEqualTo(3);
+    }
+
+    @Test
+    public void find_triesNarrowerSourceFirst() {
+        rds.modifyDBParameterGroup(ModifyDbParameterGroupRequest.builder()
+                .dbParameterGroupName(GROUP_NAME)
+                .parameters(Parameter.builder().parameterName("param-650").parameterValue("1").build())
+                .build());
+
+        final Map<String, Parameter> found = new ParameterPager(proxyClient, 100, 70)
+                .find(model, Collections.singletonList("param-650"), Arrays.asList(FakeRdsClient.SOURCE_USER, null));
+
+        assertThat(found.get("param-650").parameterValue()).isEqualTo("1");
+        // one page of user parameters instead of seven of the whole group
+        assertThat(rds.getCallCount("describeDBParameters")).isEqualTo(1);
+    }
+
+    @Test
+    public void find_fallsBackToWiderSource() {
+        final Map<String, Parameter> found = new ParameterPager(proxyClient, 100, 70)
+                .find(model, Collections.singletonList("param-020"), Arrays.asList(FakeRdsClient.SOURCE_USER, null));
+
+        assertThat(found).containsOnlyKeys("param-020");
+        // an empty page of user parameters, then the first page of the group
+        assertThat(rds.getCallCount("describeDBParameters")).isEqualTo(2);
+    }
+
+    @Test
+    public void find_readsNothingWithoutNames() {
+        assertThat(new ParameterPager(proxyClient, 100, 70).find(model, ImmutableList.of(), ALL_SOURCES)).isEmpty();
+        assertThat(rds.getCallCount("describeDBParameters")).isZero();
+    }
+
+    @Test
+    public void constructor_rejectsEmptyBudget() {
+        assertThatThrownBy(() -> new ParameterPager(proxyClient, 100, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
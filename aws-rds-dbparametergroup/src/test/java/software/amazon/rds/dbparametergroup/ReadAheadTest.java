@@ -0,0 +1,71 @@
+package software.amazon.rds.dbparametergroup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ReadAheadTest {
+
+    private static final String ARN = "arn:aws:rds:us-east-1:123456789012:pg:my-parameter-group";
+
+    @Test
+    public void get_joinsReadStartedForExpectedArn() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final ReadAhead<String> readAhead = new ReadAhead<>(ARN);
+
+        readAhead.start(arn -> {
+            started.countDown();
+            return Thread.currentThread().getName() + " " + arn;
+        });
+
+        // the read runs without waiting for get
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(readAhead.get(ARN)).startsWith("rds-read-ahead-").endsWith(ARN);
+    }
+
+    @Test
+    public void get_readsOnCallerWhenArnDiffers() {
+        final ReadAhead<String> readAhead = new ReadAhead<>(ARN);
+        readAhead.start(arn -> Thread.currentThread().getName() + " " + arn);
+
+        assertThat(readAhead.get(ARN + "-other")).isEqualTo(Thread.currentThread().getName() + " " + ARN + "-other");
+    }
+
+    @Test
+    public void get_readsOnCallerWithoutExpectedArn() {
+        final ReadAhead<String> readAhead = new ReadAhead<>(null);
+        readAhead.start(arn -> Thread.currentThread().getName());
+
+        assertThat(readAhead.get(ARN)).isEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    public void get_rethrowsFailureOfRead() {
+        final ReadAhead<String> readAhead = new ReadAhead<>(ARN);
+        readAhead.start(arn -> {
+            throw new IllegalStateException("access denied");
+        });
+
+        assertThatThrownBy(() -> readAhead.get(ARN)).isInstanceOf(IllegalStateException.class).hasMessage("access denied");
+    }
+
+    @Test
+    public void cancel_dropsStartedReadAndGetReadsOnCaller() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final ReadAhead<String> readAhead = new ReadAhead<>(ARN);
+        readAhead.start(arn -> {
+            Uninterruptibles.awaitUninterruptibly(release);
+            return Thread.currentThread().getName();
+        });
+
+        readAhead.cancel();
+        release.countDown();
+
+        assertThat(readAhead.get(ARN)).isEqualTo(Thread.currentThread().getName());
+    }
+}
@@ -0,0 +1,85 @@
+package software.amazon.rds.dbparametergroup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+/**
+ * Measures matching one DescribeDBParameters page against the parameters declared in the template,
+ * which applyParameters repeats for every page of the group.
+ *
+ * Each page holds RECORDS_PER_PAGE parameters. Ten declared parameters is a typical template; one hundred
+ * that all land on the same page is the worst case, since every entry is then rebuilt as a modify request.
+ * Not part of the unit test suite; run the main method from the test classpath. The GC profiler reports the
+ * allocation rate (gc.alloc.rate.norm is bytes per operation) next to the throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    @Param({"10", "100"})
+    private int declaredParameterCount;
+
+    private ResourceModel model;
+    private List<Parameter> page;
+
+    @Setup
+    public void setup() {
+        page = IntStream.range(0, BaseHandlerStd.RECORDS_PER_PAGE)
+                .mapToObj(i -> Parameter.builder()
+                        .parameterName(String.format("param-%03d", i))
+                        .parameterValue("0")
+                        .applyType(i % 2 == 0 ? "dynamic" : "static")
+                        .dataType("integer")
+                        .allowedValues("0-65535")
+                        .description("benchmark parameter " + i)
+                        .source("engine-default")
+                        .isModifiable(true)
+                        .build())
+                .collect(Collectors.toList());
+        final Map<String, Object> parameters = IntStream.range(0, declaredParameterCount)
+                .boxed()
+                .collect(Collectors.toMap(i -> String.format("param-%03d", i), String::valueOf));
+        model = ResourceModel.builder()
+                .dBParameterGroupName("benchmark-parameter-group")
+                .family("mysql5.7")
+                .parameters(parameters)
+                .build();
+    }
+
+    @Benchmark
+    public Set<Parameter> getParametersToModify() {
+        return Translator.getParametersToModify(model, page);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TranslatorBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -1,6 +1,9 @@
 package software.amazon.rds.dbsubnetgroup;
 
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DbSubnetGroupNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -8,25 +11,21 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.cloudformation.proxy.Delay;
 
-import com.google.common.collect.Sets;
 import java.time.Duration;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Optional;
 import java.util.Set;
 
-import static software.amazon.rds.dbsubnetgroup.Translator.addTagsToResourceRequest;
 import static software.amazon.rds.dbsubnetgroup.Translator.listTagsForResourceRequest;
 import static software.amazon.rds.dbsubnetgroup.Translator.mapToTags;
-import static software.amazon.rds.dbsubnetgroup.Translator.removeTagsFromResourceRequest;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+    private static final String DEFAULT_PARTITION = "aws";
     protected static final int DB_SUBNET_GROUP_NAME_LENGTH = 255;
     protected static final String DB_SUBNET_GROUP_STATUS_COMPLETE = "Complete";
-    protected static final Constant CONSTANT = Constant.of().timeout(Duration.ofMinutes(120L))
-        .delay(Duration.ofSeconds(30L)).build();
+    // Subnet group changes usually complete within seconds, so polling starts at one second
+    protected static final Delay BACKOFF_STRATEGY = ExponentialBackoff.of().initialDelay(Duration.ofSeconds(1L))
+        .maxDelay(Duration.ofSeconds(15L)).timeout(Duration.ofMinutes(120L)).build();
 
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
@@ -68,27 +67,35 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
       }
     }
 
+    // previousTags are the tags of the previous resource state, or null when unknown, in which case the current tags
+    // are listed. No call is made at all when the previous and desired tags already match.
     protected ProgressEvent<ResourceModel, CallbackContext> tagResource(
         final AmazonWebServicesClientProxy proxy,
         final ProxyClient<RdsClient> proxyClient,
         final ProgressEvent<ResourceModel, CallbackContext> progress,
-        final Map<String, String> tags) {
+        final Map<String, String> tags,
+        final Map<String, String> previousTags) {
+      if (previousTags != null && TagDelta.between(mapToTags(previousTags), mapToTags(tags)).isEmpty()) return progress;
       return proxy.initiate("rds::tag-dbsubnet-group", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
           .translateToServiceRequest(Translator::describeDbSubnetGroupsRequest)
           .makeServiceCall((describeDbSubnetGroupsRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(describeDbSubnetGroupsRequest, proxyInvocation.client()::describeDBSubnetGroups))
           .done((describeDbSubnetGroupsRequest, describeDbSubnetGroupsResponse, proxyInvocation, resourceModel, context) -> {
             final String arn = describeDbSubnetGroupsResponse.dbSubnetGroups().stream().findFirst().get().dbSubnetGroupArn();
 
-            final Set<Tag> currentTags = mapToTags(tags);
-
-            final Set<Tag> existingTags = Translator.translateTagsFromSdk(proxyInvocation.injectCredentialsAndInvokeV2(listTagsForResourceRequest(arn), proxyInvocation.client()::listTagsForResource).tagList());
-
-            final Set<Tag> tagsToRemove = Sets.difference(existingTags, currentTags);
-            final Set<Tag> tagsToAdd = Sets.difference(currentTags, existingTags);
+            final Set<Tag> existingTags = previousTags != null ? mapToTags(previousTags) : Translator.translateTagsFromSdk(proxyInvocation.injectCredentialsAndInvokeV2(listTagsForResourceRequest(arn), proxyInvocation.client()::listTagsForResource).tagList());
 
-            proxyInvocation.injectCredentialsAndInvokeV2(removeTagsFromResourceRequest(arn, tagsToRemove), proxyInvocation.client()::removeTagsFromResource);
-            proxyInvocation.injectCredentialsAndInvokeV2(addTagsToResourceRequest(arn, tagsToAdd), proxyInvocation.client()::addTagsToResource);
+            TagDelta.between(existingTags, mapToTags(tags)).apply(proxyInvocation, arn);
             return ProgressEvent.progress(resourceModel, context);
           });
     }
+
+    // ARN the resource will have in the request's partition, account and region, or null when the request does not
+    // carry them. RDS lower-cases subnet group names.
+    protected static String resourceArn(final ResourceHandlerRequest<ResourceModel> request, final String resourceType, final String resourceName) {
+      if (StringUtils.isNullOrEmpty(request.getAwsAccountId()) || StringUtils.isNullOrEmpty(request.getRegion()) || StringUtils.isNullOrEmpty(resourceName)) {
+        return null;
+      }
+      final String partition = Optional.ofNullable(request.getAwsPartition()).orElse(DEFAULT_PARTITION);
+      return String.format("arn:%s:rds:%s:%s:%s:%s", partition, request.getRegion(), request.getAwsAccountId(), resourceType, resourceName.toLowerCase(Locale.ROOT));
+    }
 }
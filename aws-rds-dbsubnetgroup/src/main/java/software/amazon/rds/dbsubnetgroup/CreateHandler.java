@@ -29,7 +29,7 @@ public class CreateHandler extends BaseHandlerStd {
         })
         .then(progress -> proxy.initiate("rds::create-dbsubnet-group", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
             .translateToServiceRequest((resourceModel) -> Translator.createDbSubnetGroupRequest(resourceModel, request.getDesiredResourceTags()))
-            .backoffDelay(CONSTANT)
+            .backoffDelay(BACKOFF_STRATEGY)
             .makeServiceCall((createDbSubnetGroupRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(createDbSubnetGroupRequest, proxyInvocation.client()::createDBSubnetGroup))
             .stabilize(((createDbSubnetGroupRequest, createDbSubnetGroupResponse, proxyInvocation, resourceModel, context) -> isStabilized(resourceModel, proxyInvocation)))
             .handleError((createDbSubnetGroupRequest, exception, client, resourceModel, cxt) -> {
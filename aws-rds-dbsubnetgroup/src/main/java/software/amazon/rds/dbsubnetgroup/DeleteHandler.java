@@ -18,7 +18,7 @@ public class DeleteHandler extends BaseHandlerStd {
         final Logger logger) {
         return proxy.initiate("rds::delete-dbsubnet-group", proxyClient, request.getDesiredResourceState(), callbackContext)
             .translateToServiceRequest(Translator::deleteDbSubnetGroupRequest)
-            .backoffDelay(CONSTANT)
+            .backoffDelay(BACKOFF_STRATEGY)
             .makeServiceCall((deleteDbSubnetGroupRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(deleteDbSubnetGroupRequest, proxyInvocation.client()::deleteDBSubnetGroup))
             .stabilize((deleteDbSubnetGroupRequest, deleteDbSubnetGroupResponse, proxyInvocation, resourceModel, context) -> isDeleted(resourceModel, proxyInvocation))
             .handleError((deleteDbSubnetGroupRequest, exception, client, resourceModel, cxt) -> {
@@ -0,0 +1,48 @@
+package software.amazon.rds.dbsubnetgroup;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Classifies an update by comparing the previous and desired resource state field by field.
+ *
+ * Only the description and the subnets can be modified in place; the group name is create-only, so a change to it
+ * never reaches the update handler. Subnets are compared as a set, since their order means nothing to RDS. Tags are
+ * taken from the request rather than the model, and a request without previous tags is treated as a tag change
+ * because nothing is known about the tags the group has.
+ */
+public final class ModelComparator {
+
+    public enum Change {
+        NONE,
+        TAGS_ONLY,
+        CORE
+    }
+
+    private ModelComparator() {
+    }
+
+    public static Change classify(final ResourceModel previous,
+                                  final ResourceModel desired,
+                                  final Map<String, String> previousTags,
+                                  final Map<String, String> desiredTags) {
+        if (previous == null
+                || !Objects.equals(previous.getDBSubnetGroupDescription(), desired.getDBSubnetGroupDescription())
+                || !asSet(previous.getSubnetIds()).equals(asSet(desired.getSubnetIds()))) {
+            return Change.CORE;
+        }
+        if (previousTags == null || !previousTags.equals(Optional.ofNullable(desiredTags).orElse(Collections.emptyMap()))) {
+            return Change.TAGS_ONLY;
+        }
+        return Change.NONE;
+    }
+
+    private static Set<String> asSet(final Collection<String> values) {
+        return new HashSet<>(Optional.ofNullable(values).orElse(Collections.emptyList()));
+    }
+}
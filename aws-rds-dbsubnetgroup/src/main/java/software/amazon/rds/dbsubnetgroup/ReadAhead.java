@@ -0,0 +1,61 @@
+package software.amazon.rds.dbsubnetgroup;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * A read keyed by a resource ARN that is started on a shared, bounded pool before the ARN is confirmed.
+ *
+ * Read handlers only learn the ARN from the describe response, so listing tags has to wait for the describe. When
+ * the ARN can be derived up front, the list is started alongside the describe instead and joined afterwards. If the
+ * ARN turns out to be different, or could not be derived, the read runs on the calling thread as before. A handler
+ * whose describe fails cancels the read, so that it is not sent when it has not left the pool yet.
+ */
+public class ReadAhead<T> {
+    private static final int POOL_SIZE = 4;
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(POOL_SIZE,
+            new ThreadFactoryBuilder().setNameFormat("rds-read-ahead-%d").setDaemon(true).build());
+
+    private final String expectedArn;
+    private Function<String, T> read;
+    private CompletableFuture<T> future;
+
+    public ReadAhead(final String expectedArn) {
+        this.expectedArn = expectedArn;
+    }
+
+    public synchronized void start(final Function<String, T> read) {
+        this.read = read;
+        this.future = expectedArn == null ? null : CompletableFuture.supplyAsync(() -> read.apply(expectedArn), EXECUTOR);
+    }
+
+    // Gives up on the started read: a read still queued on the pool never runs, and the result of one in flight is dropped
+    public synchronized void cancel() {
+        if (future != null) future.cancel(false);
+    }
+
+    public T get(final String arn) {
+        final Function<String, T> read;
+        final CompletableFuture<T> future;
+        synchronized (this) {
+            read = this.read;
+            future = this.future;
+        }
+        if (future == null || future.isCancelled() || !Objects.equals(expectedArn, arn)) {
+            cancel();
+            return read.apply(arn);
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DBSubnetGroup;
 import software.amazon.awssdk.services.rds.model.DbParameterGroupNotFoundException;
 import software.amazon.awssdk.services.rds.model.DbSubnetGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.rds.model.Subnet;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -24,10 +25,20 @@ public class ReadHandler extends BaseHandlerStd {
       final CallbackContext callbackContext,
       final ProxyClient<RdsClient> proxyClient,
       final Logger logger) {
+    // tags are listed while the subnet group is described whenever its ARN can be derived from the request
+    final ReadAhead<ListTagsForResourceResponse> listTags = new ReadAhead<>(resourceArn(request, "subgrp", request.getDesiredResourceState().getDBSubnetGroupName()));
     return proxy.initiate("rds::read-dbsubnet-group", proxyClient, request.getDesiredResourceState(), callbackContext)
         .translateToServiceRequest(Translator::describeDbSubnetGroupsRequest)
-        .backoffDelay(CONSTANT)
-        .makeServiceCall((describeDbSubnetGroupRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(describeDbSubnetGroupRequest, proxyInvocation.client()::describeDBSubnetGroups))
+        .backoffDelay(BACKOFF_STRATEGY)
+        .makeServiceCall((describeDbSubnetGroupRequest, proxyInvocation) -> {
+          listTags.start(arn -> proxyInvocation.injectCredentialsAndInvokeV2(Translator.listTagsForResourceRequest(arn), proxyInvocation.client()::listTagsForResource));
+          try {
+            return proxyInvocation.injectCredentialsAndInvokeV2(describeDbSubnetGroupRequest, proxyInvocation.client()::describeDBSubnetGroups);
+          } catch (RuntimeException e) {
+            listTags.cancel();
+            throw e;
+          }
+        })
         .handleError((describeDbSubnetGroupRequest, exception, client, resourceModel, cxt) -> {
           if (exception instanceof DbSubnetGroupNotFoundException)
             return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.NotFound);
@@ -35,7 +46,7 @@ public class ReadHandler extends BaseHandlerStd {
         })
         .done((describeDbSubnetGroupsRequest, describeDbSubnetGroupsResponse, proxyInvocation, model, context) -> {
           final DBSubnetGroup dbSubnetGroup = describeDbSubnetGroupsResponse.dbSubnetGroups().stream().findFirst().get();
-          final Set<Tag> tags = translateTagsFromSdk(proxyInvocation.injectCredentialsAndInvokeV2(Translator.listTagsForResourceRequest(dbSubnetGroup.dbSubnetGroupArn()), proxyInvocation.client()::listTagsForResource).tagList());
+          final Set<Tag> tags = translateTagsFromSdk(listTags.get(dbSubnetGroup.dbSubnetGroupArn()).tagList());
 
           return ProgressEvent.defaultSuccessHandler(ResourceModel.builder()
               .dBSubnetGroupName(dbSubnetGroup.dbSubnetGroupName())
@@ -17,10 +17,16 @@ public class UpdateHandler extends BaseHandlerStd {
       final CallbackContext callbackContext,
       final ProxyClient<RdsClient> proxyClient,
       final Logger logger) {
+        final ModelComparator.Change change = ModelComparator.classify(request.getPreviousResourceState(), request.getDesiredResourceState(),
+            request.getPreviousResourceTags(), request.getDesiredResourceTags());
+        if (change == ModelComparator.Change.NONE) {
+            return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        }
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress -> proxy.initiate("rds::update-dbsubnet-group", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            .then(progress -> change != ModelComparator.Change.CORE ? progress : proxy.initiate("rds::update-dbsubnet-group", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::modifyDbSubnetGroupRequest)
-                .backoffDelay(CONSTANT)
+                .backoffDelay(BACKOFF_STRATEGY)
                 .makeServiceCall((modifyDbSubnetGroupRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(modifyDbSubnetGroupRequest, proxyInvocation.client()::modifyDBSubnetGroup))
                 .stabilize((modifyDbSubnetGroupRequest, modifyDbSubnetGroupResponse, proxyInvocation, resourceModel, context) -> isStabilized(resourceModel, proxyInvocation))
                 .handleError((modifyDbSubnetGroupRequest, exception, client, resourceModel, cxt) -> {
@@ -30,7 +36,7 @@ public class UpdateHandler extends BaseHandlerStd {
                 })
                 .progress()
             )
-            .then(progress -> tagResource(proxy, proxyClient, progress, request.getDesiredResourceTags()))
+            .then(progress -> tagResource(proxy, proxyClient, progress, request.getDesiredResourceTags(), request.getPreviousResourceTags()))
             .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 }
@@ -0,0 +1,58 @@
+package software.amazon.rds.dbsubnetgroup;
+
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+
+public class ClientBuilderTest {
+
+    @BeforeEach
+    public void setup() {
+        ClientBuilder.clearClients();
+    }
+
+    @Test
+    public void getClient_reusesClientForSameRegion() {
+        final RdsClient first = ClientBuilder.getClient("eu-west-1");
+        final long hits = ClientBuilder.getHitCount();
+        final long misses = ClientBuilder.getMissCount();
+
+        final RdsClient second = ClientBuilder.getClient("eu-west-1");
+
+        assertThat(second).isSameAs(first);
+        assertThat(ClientBuilder.getHitCount()).isEqualTo(hits + 1);
+        assertThat(ClientBuilder.getMissCount()).isEqualTo(misses);
+    }
+
+    @Test
+    public void getClient_buildsSeparateClientPerRegion() {
+        final RdsClient east = ClientBuilder.getClient("us-east-1");
+        final long misses = ClientBuilder.getMissCount();
+
+        final RdsClient west = ClientBuilder.getClient("us-west-2");
+
+        assertThat(west).isNotSameAs(east);
+        assertThat(ClientBuilder.getMissCount()).isEqualTo(misses + 1);
+    }
+
+    @Test
+    public void setting_fallsBackToDefaultForMissingOrInvalidValues() {
+        final Map<String, String> environment = ImmutableMap.of(
+                "RDS_DESCRIBE_RATE", "25",
+                "RDS_MUTATE_RATE", "fast",
+                "RDS_MIN_RATE", "-1",
+                "RDS_RATE_INCREMENT", " ");
+
+        assertThat(ClientBuilder.setting(environment::get, "RDS_DESCRIBE_RATE", 10.0)).isEqualTo(25.0);
+        assertThat(ClientBuilder.setting(environment::get, "RDS_MUTATE_RATE", 5.0)).isEqualTo(5.0);
+        assertThat(ClientBuilder.setting(environment::get, "RDS_MIN_RATE", 0.5)).isEqualTo(0.5);
+        assertThat(ClientBuilder.setting(environment::get, "RDS_RATE_INCREMENT", 0.1)).isEqualTo(0.1);
+        assertThat(ClientBuilder.setting(environment::get, "RDS_DESCRIBE_BURST", 20.0)).isEqualTo(20.0);
+    }
+}
@@ -0,0 +1,70 @@
+package software.amazon.rds.dbsubnetgroup;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ExponentialBackoffTest {
+
+    private static ExponentialBackoff.Builder backoff() {
+        return ExponentialBackoff.of()
+                .initialDelay(Duration.ofSeconds(5))
+                .maxDelay(Duration.ofSeconds(30))
+                .timeout(Duration.ofMinutes(2));
+    }
+
+    @Test
+    public void nextDelay_growsExponentiallyUpToMaxDelay() {
+        final ExponentialBackoff delay = backoff().jitter(0.0).build();
+
+        assertThat(delay.nextDelay(0)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(delay.nextDelay(4)).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    public void nextDelay_timesOutOnceScheduledDelaysCoverTimeout() {
+        final ExponentialBackoff delay = backoff().jitter(0.0).build();
+
+        // 5 + 10 + 20 + 30 + 30 = 95s is still short of the two minute timeout, a further 30s covers it
+        assertThat(delay.nextDelay(5)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(delay.nextDelay(6)).isEqualTo(Duration.ZERO);
+        assertThat(delay.nextDelay(500)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void nextDelay_waitsAtLeastTimeoutWhateverTheJitter() {
+        for (final double share : new double[]{0.0, 0.5, 1.0}) {
+            final ExponentialBackoff delay = backoff().jitter(0.5).random(() -> share).build();
+
+            Duration waited = Duration.ZERO;
+            int attempt = 0;
+            for (Duration next = delay.nextDelay(attempt); !next.isZero(); next = delay.nextDelay(++attempt)) {
+                waited = waited.plus(next);
+            }
+            assertThat(waited).isGreaterThanOrEqualTo(Duration.ofMinutes(2));
+        }
+    }
+
+    @Test
+    public void nextDelay_jitterShortensButNeverBelowInitialDelay() {
+        final ExponentialBackoff fullJitter = backoff().jitter(0.5).random(() -> 1.0).build();
+        final ExponentialBackoff noJitter = backoff().jitter(0.5).random(() -> 0.0).build();
+
+        assertThat(fullJitter.nextDelay(0)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(fullJitter.nextDelay(2)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(fullJitter.nextDelay(4)).isEqualTo(Duration.ofSeconds(15));
+        assertThat(noJitter.nextDelay(4)).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    public void build_rejectsMaxDelayBelowInitialDelay() {
+        assertThatThrownBy(() -> backoff().maxDelay(Duration.ofSeconds(1)).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
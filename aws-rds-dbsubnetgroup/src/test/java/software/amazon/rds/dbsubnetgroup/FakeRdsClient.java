@@ -0,0 +1,285 @@
+package software.amazon.rds.dbsubnetgroup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceResponse;
+import software.amazon.awssdk.services.rds.model.CreateDbSubnetGroupRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbSubnetGroupResponse;
+import software.amazon.awssdk.services.rds.model.DBSubnetGroup;
+import software.amazon.awssdk.services.rds.model.DbSubnetGroupAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbSubnetGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.DeleteDBSubnetGroupResponse;
+import software.amazon.awssdk.services.rds.model.DeleteDbSubnetGroupRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbSubnetGroupsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbSubnetGroupsResponse;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbSubnetGroupRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbSubnetGroupResponse;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceResponse;
+import software.amazon.awssdk.services.rds.model.Subnet;
+import software.amazon.awssdk.services.rds.model.Tag;
+
+/**
+ * Stateful in-memory stand-in for RdsClient that models DB subnet groups and their tags.
+ *
+ * Mutating calls move a group into a transitional status (Creating, Modifying, Deleting). Every describe that
+ * returns the group counts as one poll, and the group moves on to the next status once the configured number
+ * of polls has been observed. Each call can be delayed by a fixed latency and is counted per operation.
+ */
+public class FakeRdsClient implements RdsClient {
+
+    private static final String ARN_PREFIX = "arn:aws:rds:us-east-1:123456789012:subgrp:";
+    private static final String VPC_ID = "vpc-fake";
+
+    private final Map<String, Resource> groups = new LinkedHashMap<>();
+    private final Map<String, Map<String, String>> tags = new HashMap<>();
+    private final Map<String, Transition> transitions = new HashMap<>();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private volatile Duration latency = Duration.ZERO;
+
+    public FakeRdsClient() {
+        withTransition("Creating", "Complete", 0);
+        withTransition("Modifying", "Complete", 0);
+        withTransition("Deleting", null, 0);
+    }
+
+    /**
+     * A group in status {@code from} is reported as such by the next {@code polls} describe calls
+     * and as {@code to} afterwards. A {@code null} target removes the group.
+     */
+    public synchronized FakeRdsClient withTransition(final String from, final String to, final int polls) {
+        transitions.put(from, new Transition(to, polls));
+        return this;
+    }
+
+    public FakeRdsClient withLatency(final Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    public synchronized FakeRdsClient withSubnetGroup(final DBSubnetGroup group) {
+        groups.put(group.dbSubnetGroupName(), new Resource(group));
+        return this;
+    }
+
+    public int getCallCount(final String operation) {
+        return Optional.ofNullable(calls.get(operation)).map(AtomicInteger::get).orElse(0);
+    }
+
+    public int getTotalCallCount() {
+        return calls.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    public synchronized Optional<String> getStatus(final String dbSubnetGroupName) {
+        return Optional.ofNullable(groups.get(dbSubnetGroupName)).map(resource -> resource.status);
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public CreateDbSubnetGroupResponse createDBSubnetGroup(final CreateDbSubnetGroupRequest request) {
+        return call("createDBSubnetGroup", () -> {
+            if (groups.containsKey(request.dbSubnetGroupName())) {
+                throw DbSubnetGroupAlreadyExistsException.builder().message("DBSubnetGroup " + request.dbSubnetGroupName() + " already exists").build();
+            }
+            final Resource resource = new Resource(DBSubnetGroup.builder()
+                    .dbSubnetGroupName(request.dbSubnetGroupName())
+                    .dbSubnetGroupArn(ARN_PREFIX + request.dbSubnetGroupName())
+                    .dbSubnetGroupDescription(request.dbSubnetGroupDescription())
+                    .subnets(toSubnets(request.subnetIds()))
+                    .vpcId(VPC_ID)
+                    .build());
+            resource.transition("Creating");
+            groups.put(request.dbSubnetGroupName(), resource);
+            putTags(resource.group.dbSubnetGroupArn(), request.tags());
+            return CreateDbSubnetGroupResponse.builder().dbSubnetGroup(resource.describe()).build();
+        });
+    }
+
+    @Override
+    public DescribeDbSubnetGroupsResponse describeDBSubnetGroups(final DescribeDbSubnetGroupsRequest request) {
+        return call("describeDBSubnetGroups", () -> {
+            if (request.dbSubnetGroupName() != null) {
+                final Resource resource = getGroup(request.dbSubnetGroupName());
+                if (!poll(request.dbSubnetGroupName(), resource)) {
+                    throw notFound(request.dbSubnetGroupName());
+                }
+                return DescribeDbSubnetGroupsResponse.builder().dbSubnetGroups(resource.describe()).build();
+            }
+            final List<String> names = new ArrayList<>(groups.keySet());
+            final int from = request.marker() == null ? 0 : Integer.parseInt(request.marker());
+            final int to = request.maxRecords() == null ? names.size() : Math.min(names.size(), from + request.maxRecords());
+            final List<DBSubnetGroup> page = new ArrayList<>();
+            for (final String name : names.subList(from, to)) {
+                final Resource resource = groups.get(name);
+                if (poll(name, resource)) {
+                    page.add(resource.describe());
+                }
+            }
+            return DescribeDbSubnetGroupsResponse.builder()
+                    .dbSubnetGroups(page)
+                    .marker(to < names.size() ? String.valueOf(to) : null)
+                    .build();
+        });
+    }
+
+    @Override
+    public ModifyDbSubnetGroupResponse modifyDBSubnetGroup(final ModifyDbSubnetGroupRequest request) {
+        return call("modifyDBSubnetGroup", () -> {
+            final Resource resource = getGroup(request.dbSubnetGroupName());
+            final DBSubnetGroup.Builder builder = resource.group.toBuilder();
+            Optional.ofNullable(request.dbSubnetGroupDescription()).ifPresent(builder::dbSubnetGroupDescription);
+            if (request.hasSubnetIds()) {
+                builder.subnets(toSubnets(request.subnetIds()));
+            }
+            resource.group = builder.build();
+            resource.transition("Modifying");
+            return ModifyDbSubnetGroupResponse.builder().dbSubnetGroup(resource.describe()).build();
+        });
+    }
+
+    @Override
+    public DeleteDBSubnetGroupResponse deleteDBSubnetGroup(final DeleteDbSubnetGroupRequest request) {
+        return call("deleteDBSubnetGroup", () -> {
+            getGroup(request.dbSubnetGroupName()).transition("Deleting");
+            return DeleteDBSubnetGroupResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        return call("listTagsForResource", () -> ListTagsForResourceResponse.builder()
+                .tagList(tags.getOrDefault(request.resourceName(), Collections.emptyMap()).entrySet().stream()
+                        .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    @Override
+    public AddTagsToResourceResponse addTagsToResource(final AddTagsToResourceRequest request) {
+        return call("addTagsToResource", () -> {
+            putTags(request.resourceName(), request.tags());
+            return AddTagsToResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public RemoveTagsFromResourceResponse removeTagsFromResource(final RemoveTagsFromResourceRequest request) {
+        return call("removeTagsFromResource", () -> {
+            tags.getOrDefault(request.resourceName(), new HashMap<>()).keySet().removeAll(request.tagKeys());
+            return RemoveTagsFromResourceResponse.builder().build();
+        });
+    }
+
+    private <T> T call(final String operation, final Supplier<T> body) {
+        calls.computeIfAbsent(operation, key -> new AtomicInteger()).incrementAndGet();
+        final Duration delay = latency;
+        if (!delay.isZero()) {
+            Uninterruptibles.sleepUninterruptibly(delay.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        synchronized (this) {
+            return body.get();
+        }
+    }
+
+    private Resource getGroup(final String dbSubnetGroupName) {
+        final Resource resource = groups.get(dbSubnetGroupName);
+        if (resource == null) {
+            throw notFound(dbSubnetGroupName);
+        }
+        return resource;
+    }
+
+    private void putTags(final String arn, final Collection<Tag> newTags) {
+        final Map<String, String> resourceTags = tags.computeIfAbsent(arn, key -> new LinkedHashMap<>());
+        Optional.ofNullable(newTags).orElse(Collections.emptyList())
+                .forEach(tag -> resourceTags.put(tag.key(), tag.value()));
+    }
+
+    /**
+     * Counts a describe poll against the group and advances its status if the transition is due.
+     * Returns false if the group has been removed as a result.
+     */
+    private boolean poll(final String dbSubnetGroupName, final Resource resource) {
+        final Transition transition = transitions.get(resource.status);
+        if (transition == null) {
+            return true;
+        }
+        if (resource.polls < transition.polls) {
+            resource.polls++;
+            return true;
+        }
+        if (transition.to == null) {
+            groups.remove(dbSubnetGroupName);
+            tags.remove(resource.group.dbSubnetGroupArn());
+            return false;
+        }
+        resource.transition(transition.to);
+        return true;
+    }
+
+    private static DbSubnetGroupNotFoundException notFound(final String dbSubnetGroupName) {
+        return DbSubnetGroupNotFoundException.builder().message("DBSubnetGroup " + dbSubnetGroupName + " not found").build();
+    }
+
+    private static List<Subnet> toSubnets(final Collection<String> subnetIds) {
+        return Optional.ofNullable(subnetIds).orElse(Collections.emptyList()).stream()
+                .map(id -> Subnet.builder().subnetIdentifier(id).subnetStatus("Active").build())
+                .collect(Collectors.toList());
+    }
+
+    private static class Resource {
+        private DBSubnetGroup group;
+        private String status;
+        private int polls;
+
+        Resource(final DBSubnetGroup group) {
+            this.group = group;
+            this.status = Optional.ofNullable(group.subnetGroupStatus()).orElse("Complete");
+        }
+
+        void transition(final String status) {
+            this.status = status;
+            this.polls = 0;
+        }
+
+        DBSubnetGroup describe() {
+            return group.toBuilder().subnetGroupStatus(status).build();
+        }
+    }
+
+    private static class Transition {
+        private final String to;
+        private final int polls;
+
+        Transition(final String to, final int polls) {
+            this.to = to;
+            this.polls = polls;
+        }
+    }
+}
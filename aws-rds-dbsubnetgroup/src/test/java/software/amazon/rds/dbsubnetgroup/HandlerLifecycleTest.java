@@ -0,0 +1,115 @@
+package software.amazon.rds.dbsubnetgroup;
+
+import java.time.Duration;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the real handler chains against {@link FakeRdsClient} instead of per-call mocks.
+ */
+public class HandlerLifecycleTest extends AbstractTestBase {
+
+    private static final int MAX_INVOCATIONS = 20;
+    private static final String GROUP_NAME = "db-subnetgroup";
+    private static final Delay NO_WAIT = Constant.of().delay(Duration.ofMillis(1)).timeout(Duration.ofSeconds(10)).build();
+
+    private FakeRdsClient rds;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<RdsClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        rds = new FakeRdsClient();
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis(), (callGraph, delay) -> NO_WAIT);
+        proxyClient = MOCK_PROXY(proxy, rds);
+    }
+
+    @Test
+    public void createUpdateDelete() {
+        final ResourceModel created = drive(new CreateHandler(), request(model("sample description"), ImmutableMap.of("env", "test"))).getResourceModel();
+
+        assertThat(created.getSubnetIds()).containsExactly("subnetId1", "subnetId2");
+        assertThat(created.getTags()).containsExactly(Tag.builder().key("env").value("test").build());
+        assertThat(rds.getStatus(GROUP_NAME)).contains("Complete");
+
+        final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(), request(model("new description"), ImmutableMap.of("env", "prod")));
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getDBSubnetGroupDescription()).isEqualTo("new description");
+        assertThat(updated.getResourceModel().getTags()).containsExactly(Tag.builder().key("env").value("prod").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = drive(new DeleteHandler(), request(model("new description"), ImmutableMap.of()));
+
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rds.getStatus(GROUP_NAME)).isEmpty();
+
+        final ProgressEvent<ResourceModel, CallbackContext> read = drive(new ReadHandler(), request(model("new description"), ImmutableMap.of()));
+
+        assertThat(read.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(read.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void create_pollsUntilComplete() {
+        rds.withTransition("Creating", "Complete", 2);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = drive(new CreateHandler(), request(model("sample description"), ImmutableMap.of()));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rds.getCallCount("createDBSubnetGroup")).isEqualTo(1);
+        // 3 polls to leave "Creating", then one for the read
+        assertThat(rds.getCallCount("describeDBSubnetGroups")).isEqualTo(4);
+        assertThat(rds.getCallCount("listTagsForResource")).isEqualTo(1);
+    }
+
+    private ResourceModel model(final String description) {
+        return ResourceModel.builder()
+                .dBSubnetGroupName(GROUP_NAME)
+                .dBSubnetGroupDescription(description)
+                .subnetIds(Lists.newArrayList("subnetId1", "subnetId2"))
+                .build();
+    }
+
+    private ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final Map<String, String> tags) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .desiredResourceTags(tags)
+                .logicalResourceIdentifier("dbsubnetgroup")
+                .clientRequestToken("token")
+                .build();
+    }
+
+    // Re-invokes the handler the way CloudFormation does until it leaves IN_PROGRESS, ignoring callback delays.
+    private ProgressEvent<ResourceModel, CallbackContext> drive(final BaseHandlerStd handler,
+                                                                final ResourceHandlerRequest<ResourceModel> request) {
+        CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> event = null;
+        for (int invocation = 0; invocation < MAX_INVOCATIONS; invocation++) {
+            event = handler.handleRequest(proxy, request, context, proxyClient, logger);
+            if (event.getStatus() != OperationStatus.IN_PROGRESS) {
+                break;
+            }
+            context = event.getCallbackContext();
+            if (event.getResourceModel() != null) {
+                request.setDesiredResourceState(event.getResourceModel());
+            }
+        }
+        assertThat(event.getStatus()).isNotEqualTo(OperationStatus.IN_PROGRESS);
+        return event;
+    }
+}
@@ -0,0 +1,45 @@
+package software.amazon.rds.dbsubnetgroup;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ModelComparatorTest {
+
+    private static final ImmutableMap<String, String> TAGS = ImmutableMap.of("env", "test");
+
+    @Test
+    public void classify_noneWhenNothingChanged() {
+        assertThat(ModelComparator.classify(model("description", "subnet-1", "subnet-2"), model("description", "subnet-2", "subnet-1"), TAGS, TAGS))
+                .isEqualTo(ModelComparator.Change.NONE);
+    }
+
+    @Test
+    public void classify_tagsOnly() {
+        assertThat(ModelComparator.classify(model("description", "subnet-1"), model("description", "subnet-1"), TAGS, ImmutableMap.of("env", "prod")))
+                .isEqualTo(ModelComparator.Change.TAGS_ONLY);
+        // nothing is known about the previous tags
+        assertThat(ModelComparator.classify(model("description", "subnet-1"), model("description", "subnet-1"), null, TAGS))
+                .isEqualTo(ModelComparator.Change.TAGS_ONLY);
+    }
+
+    @Test
+    public void classify_coreWhenDescriptionOrSubnetsChanged() {
+        assertThat(ModelComparator.classify(model("description", "subnet-1"), model("new description", "subnet-1"), TAGS, TAGS))
+                .isEqualTo(ModelComparator.Change.CORE);
+        assertThat(ModelComparator.classify(model("description", "subnet-1"), model("description", "subnet-1", "subnet-2"), TAGS, TAGS))
+                .isEqualTo(ModelComparator.Change.CORE);
+        assertThat(ModelComparator.classify(null, model("description", "subnet-1"), TAGS, TAGS))
+                .isEqualTo(ModelComparator.Change.CORE);
+    }
+
+    private static ResourceModel model(final String description, final String... subnetIds) {
+        return ResourceModel.builder()
+                .dBSubnetGroupName("group")
+                .dBSubnetGroupDescription(description)
+                .subnetIds(Lists.newArrayList(subnetIds))
+                .build();
+    }
+}
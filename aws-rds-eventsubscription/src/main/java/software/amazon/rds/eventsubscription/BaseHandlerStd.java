@@ -1,15 +1,9 @@
 package software.amazon.rds.eventsubscription;
 
-import static software.amazon.rds.eventsubscription.Translator.addTagsToResourceRequest;
 import static software.amazon.rds.eventsubscription.Translator.listTagsForResourceRequest;
 import static software.amazon.rds.eventsubscription.Translator.mapToTags;
-import static software.amazon.rds.eventsubscription.Translator.removeTagsFromResourceRequest;
 
-import com.google.common.collect.Sets;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -69,26 +63,24 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         .stabilize((resourceModel, response, proxyInvocation, model, callbackContext) -> isStabilized(resourceModel, proxyInvocation)).progress();
   }
 
+  // previousTags are the tags of the previous resource state, or null when unknown, in which case the current tags
+  // are listed. No call is made at all when the previous and desired tags already match.
   protected ProgressEvent<ResourceModel, CallbackContext> tagResource(
       final AmazonWebServicesClientProxy proxy,
       final ProxyClient<RdsClient> proxyClient,
       final ProgressEvent<ResourceModel, CallbackContext> progress,
-      final Map<String, String> tags) {
+      final Map<String, String> tags,
+      final Map<String, String> previousTags) {
+    if (previousTags != null && TagDelta.between(mapToTags(previousTags), mapToTags(tags)).isEmpty()) return progress;
     return proxy.initiate("rds::tag-event-subscription", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
         .translateToServiceRequest(Translator::describeEventSubscriptionsRequest)
         .makeServiceCall((describeEventSubscriptionsRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(describeEventSubscriptionsRequest, proxyInvocation.client()::describeEventSubscriptions))
         .done((describeEventSubscriptionsRequest, describeEventSubscriptionsResponse, proxyInvocation, resourceModel, context) -> {
           final String arn = describeEventSubscriptionsResponse.eventSubscriptionsList().stream().findFirst().get().eventSubscriptionArn();
 
-          final Set<Tag> currentTags = new HashSet<>(Optional.ofNullable(mapToTags(tags)).orElse(Collections.emptySet()));
+          final Set<Tag> existingTags = previousTags != null ? mapToTags(previousTags) : Translator.translateTagsFromSdk(proxyInvocation.injectCredentialsAndInvokeV2(listTagsForResourceRequest(arn), proxyInvocation.client()::listTagsForResource).tagList());
 
-          final Set<Tag> existingTags = Translator.translateTagsFromSdk(proxyInvocation.injectCredentialsAndInvokeV2(listTagsForResourceRequest(arn), proxyInvocation.client()::listTagsForResource).tagList());
-
-          final Set<Tag> tagsToRemove = Sets.difference(existingTags, currentTags);
-          final Set<Tag> tagsToAdd = Sets.difference(currentTags, existingTags);
-
-          proxyInvocation.injectCredentialsAndInvokeV2(removeTagsFromResourceRequest(arn, tagsToRemove), proxyInvocation.client()::removeTagsFromResource);
-          proxyInvocation.injectCredentialsAndInvokeV2(addTagsToResourceRequest(arn, tagsToAdd), proxyInvocation.client()::addTagsToResource);
+          TagDelta.between(existingTags, mapToTags(tags)).apply(proxyInvocation, arn);
           return ProgressEvent.progress(resourceModel, context);
         });
   }
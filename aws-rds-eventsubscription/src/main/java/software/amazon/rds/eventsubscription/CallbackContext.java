@@ -1,5 +1,8 @@
 package software.amazon.rds.eventsubscription;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 @lombok.Getter
@@ -7,4 +10,11 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+  // Source identifiers this update has already added or removed, so that a re-invocation does not send them again
+  private Set<String> addedSourceIds = new HashSet<>();
+  private Set<String> removedSourceIds = new HashSet<>();
+  // Source identifiers the subscription actually had when the last check disagreed with the model; null until then
+  private Set<String> sourceIdsBaseline;
+  private int sourceIdChecks;
+  private boolean sourceIdsReconciled;
 }
@@ -1,30 +1,87 @@
 package software.amazon.rds.eventsubscription;
 
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.amazonaws.util.StringUtils;
+import com.google.common.base.Preconditions;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DescribeEventSubscriptionsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
-import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.ArrayList;
-import java.util.List;
+public class ListHandler extends BaseHandlerStd {
+  // DescribeEventSubscriptions returns 20 to 100 records a page. RDS_LIST_PAGE_SIZE in the function's environment
+  // picks the page size; a value that is not a number in that range is ignored with a warning.
+  static final String PAGE_SIZE_VARIABLE = "RDS_LIST_PAGE_SIZE";
+  static final int MIN_PAGE_SIZE = 20;
+  static final int MAX_PAGE_SIZE = 100;
+
+  private final int pageSize;
+  private final String ignoredPageSize;
 
-public class ListHandler extends BaseHandler<CallbackContext> {
+  public ListHandler() {
+    this(System::getenv);
+  }
 
-    @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
-        final AmazonWebServicesClientProxy proxy,
-        final ResourceHandlerRequest<ResourceModel> request,
-        final CallbackContext callbackContext,
-        final Logger logger) {
+  ListHandler(final Function<String, String> env) {
+    final String value = env.apply(PAGE_SIZE_VARIABLE);
+    final Integer parsed = parsePageSize(value);
+    this.pageSize = parsed == null ? MAX_PAGE_SIZE : parsed;
+    this.ignoredPageSize = parsed == null && !StringUtils.isNullOrEmpty(value) ? value : null;
+  }
+
+  ListHandler(final int pageSize) {
+    Preconditions.checkArgument(pageSize >= MIN_PAGE_SIZE && pageSize <= MAX_PAGE_SIZE,
+        "page size must be between %s and %s", MIN_PAGE_SIZE, MAX_PAGE_SIZE);
+    this.pageSize = pageSize;
+    this.ignoredPageSize = null;
+  }
+
+  @Override
+  protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+      final AmazonWebServicesClientProxy proxy,
+      final ResourceHandlerRequest<ResourceModel> request,
+      final CallbackContext callbackContext,
+      final ProxyClient<RdsClient> proxyClient,
+      final Logger logger) {
+
+    if (ignoredPageSize != null) {
+      logger.log(String.format("WARNING: ignoring %s=%s, not a number between %s and %s; listing %s per page",
+          PAGE_SIZE_VARIABLE, ignoredPageSize, MIN_PAGE_SIZE, MAX_PAGE_SIZE, pageSize));
+    }
+    final DescribeEventSubscriptionsResponse page = proxyClient.injectCredentialsAndInvokeV2(
+        Translator.describeEventSubscriptionsRequest(request.getNextToken(), pageSize),
+        proxyClient.client()::describeEventSubscriptions);
 
-        final List<ResourceModel> models = new ArrayList<>();
+    return ProgressEvent.<ResourceModel, CallbackContext>builder()
+        .resourceModels(page.eventSubscriptionsList()
+            .stream()
+            .map(eventSubscription -> ResourceModel.builder()
+                .subscriptionName(eventSubscription.custSubscriptionId())
+                .build())
+            .collect(Collectors.toList()))
+        .nextToken(page.marker())
+        .status(OperationStatus.SUCCESS)
+        .build();
+  }
 
-        // TODO : put your code here
+  int getPageSize() {
+    return pageSize;
+  }
 
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .resourceModels(models)
-            .status(OperationStatus.SUCCESS)
-            .build();
+  // The page size set in the environment, or null when it is unset or unusable
+  private static Integer parsePageSize(final String value) {
+    if (StringUtils.isNullOrEmpty(value)) return null;
+    try {
+      final int pageSize = Integer.parseInt(value.trim());
+      return pageSize >= MIN_PAGE_SIZE && pageSize <= MAX_PAGE_SIZE ? pageSize : null;
+    } catch (NumberFormatException e) {
+      return null;
     }
+  }
 }
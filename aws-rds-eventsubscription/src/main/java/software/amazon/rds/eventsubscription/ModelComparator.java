@@ -0,0 +1,56 @@
+package software.amazon.rds.eventsubscription;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Classifies an update by comparing the previous and desired resource state field by field.
+ *
+ * A subscription changes in two places: ModifyEventSubscription takes the topic, source type, categories and the
+ * enabled flag, while source identifiers are added and removed one by one. Either is a core change. Categories and
+ * source identifiers are compared as sets. Tags come from the request, and missing previous tags count as a tag change.
+ */
+public final class ModelComparator {
+
+  public enum Change {
+    NONE,
+    TAGS_ONLY,
+    CORE
+  }
+
+  private ModelComparator() {
+  }
+
+  public static Change classify(final ResourceModel previous,
+                                final ResourceModel desired,
+                                final Map<String, String> previousTags,
+                                final Map<String, String> desiredTags) {
+    if (subscriptionChanged(previous, desired) || !asSet(previous.getSourceIds()).equals(asSet(desired.getSourceIds()))) {
+      return Change.CORE;
+    }
+    if (previousTags == null || !previousTags.equals(Optional.ofNullable(desiredTags).orElse(Collections.emptyMap()))) {
+      return Change.TAGS_ONLY;
+    }
+    return Change.NONE;
+  }
+
+  /**
+   * Whether any of the properties ModifyEventSubscription sets differs.
+   */
+  public static boolean subscriptionChanged(final ResourceModel previous, final ResourceModel desired) {
+    return previous == null
+        || !Objects.equals(previous.getSnsTopicArn(), desired.getSnsTopicArn())
+        || !Objects.equals(previous.getSourceType(), desired.getSourceType())
+        || !Objects.equals(previous.getEnabled(), desired.getEnabled())
+        || !asSet(previous.getEventCategories()).equals(asSet(desired.getEventCategories()));
+  }
+
+  private static Set<String> asSet(final Collection<String> values) {
+    return new HashSet<>(Optional.ofNullable(values).orElse(Collections.emptyList()));
+  }
+}
@@ -0,0 +1,125 @@
+package software.amazon.rds.eventsubscription;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Adds and removes the source identifiers of a subscription with a bounded number of calls in flight, on a shared
+ * pool.
+ *
+ * Every call goes through the handler's RdsClient, so the container's RateLimitingInterceptor paces them along with
+ * everything else; the in-flight bound only caps how many wait on it at once. A run makes at most maxCallsPerRun
+ * calls, removals first, each set in identifier order, and reports what went through, what failed and how many
+ * changes it left for the next run. A failed call does not stop the others.
+ */
+public class SourceIdReconciler {
+  private static final int POOL_SIZE = 8;
+  private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(POOL_SIZE,
+      new ThreadFactoryBuilder().setNameFormat("rds-source-id-%d").setDaemon(true).build());
+
+  private final int maxInFlight;
+  private final int maxCallsPerRun;
+
+  public SourceIdReconciler(final int maxInFlight, final int maxCallsPerRun) {
+    Preconditions.checkArgument(maxInFlight >= 1, "maxInFlight must be >= 1");
+    Preconditions.checkArgument(maxCallsPerRun >= 1, "maxCallsPerRun must be >= 1");
+    this.maxInFlight = maxInFlight;
+    this.maxCallsPerRun = maxCallsPerRun;
+  }
+
+  public Result run(final Set<String> toAdd, final Set<String> toRemove, final Consumer<String> add, final Consumer<String> remove) {
+    final Semaphore inFlight = new Semaphore(maxInFlight);
+    final Map<String, CompletableFuture<Void>> removals = new LinkedHashMap<>();
+    final Map<String, CompletableFuture<Void>> additions = new LinkedHashMap<>();
+    int calls = 0;
+    for (final String sourceId : new TreeSet<>(toRemove)) {
+      if (calls++ >= maxCallsPerRun) break;
+      removals.put(sourceId, submit(inFlight, () -> remove.accept(sourceId)));
+    }
+    for (final String sourceId : new TreeSet<>(toAdd)) {
+      if (calls++ >= maxCallsPerRun) break;
+      additions.put(sourceId, submit(inFlight, () -> add.accept(sourceId)));
+    }
+
+    final List<RuntimeException> failures = new ArrayList<>();
+    final Set<String> removed = collect(removals, failures);
+    final Set<String> added = collect(additions, failures);
+    final int deferred = toAdd.size() + toRemove.size() - removals.size() - additions.size();
+    return new Result(added, removed, failures, deferred);
+  }
+
+  private static CompletableFuture<Void> submit(final Semaphore inFlight, final Runnable call) {
+    inFlight.acquireUninterruptibly();
+    return CompletableFuture.runAsync(() -> {
+      try {
+        call.run();
+      } finally {
+        inFlight.release();
+      }
+    }, EXECUTOR);
+  }
+
+  private static Set<String> collect(final Map<String, CompletableFuture<Void>> futures, final List<RuntimeException> failures) {
+    final Set<String> done = new LinkedHashSet<>();
+    futures.forEach((sourceId, future) -> {
+      try {
+        future.join();
+        done.add(sourceId);
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof Error) throw (Error) e.getCause();
+        failures.add(e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e);
+      }
+    });
+    return done;
+  }
+
+  public static class Result {
+    private final Set<String> added;
+    private final Set<String> removed;
+    private final List<RuntimeException> failures;
+    private final int deferred;
+
+    Result(final Set<String> added, final Set<String> removed, final List<RuntimeException> failures, final int deferred) {
+      this.added = added;
+      this.removed = removed;
+      this.failures = failures;
+      this.deferred = deferred;
+    }
+
+    public Set<String> getAdded() {
+      return added;
+    }
+
+    public Set<String> getRemoved() {
+      return removed;
+    }
+
+    /**
+     * Failures in call order, removals first.
+     */
+    public List<RuntimeException> getFailures() {
+      return failures;
+    }
+
+    /**
+     * Changes left out of the run by maxCallsPerRun.
+     */
+    public int getDeferred() {
+      return deferred;
+    }
+  }
+}
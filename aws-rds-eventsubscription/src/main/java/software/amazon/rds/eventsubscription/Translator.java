@@ -44,6 +44,13 @@ public class Translator {
         .build();
   }
 
+  static DescribeEventSubscriptionsRequest describeEventSubscriptionsRequest(final String nextToken, final int maxRecords) {
+    return DescribeEventSubscriptionsRequest.builder()
+        .marker(nextToken)
+        .maxRecords(maxRecords)
+        .build();
+  }
+
   static DeleteEventSubscriptionRequest deleteEventSubscriptionRequest(final ResourceModel model) {
     return DeleteEventSubscriptionRequest.builder()
         .subscriptionName(model.getSubscriptionName())
@@ -2,9 +2,13 @@ package software.amazon.rds.eventsubscription;
 
 import com.google.common.collect.Sets;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.SourceNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -12,6 +16,16 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class UpdateHandler extends BaseHandlerStd {
+    // Source identifier changes are sent MAX_SOURCE_ID_CALLS_IN_FLIGHT at a time, at most MAX_SOURCE_ID_CALLS_PER_INVOCATION
+    // per invocation. The result is checked with one describe and, should it still differ, reconciled again from what
+    // the subscription actually has, up to MAX_SOURCE_ID_CHECKS times.
+    static final int MAX_SOURCE_ID_CALLS_IN_FLIGHT = 4;
+    static final int MAX_SOURCE_ID_CALLS_PER_INVOCATION = 100;
+    static final int MAX_SOURCE_ID_CHECKS = 3;
+    static final int SOURCE_ID_CONTINUE_DELAY_SECONDS = 1;
+    static final int SOURCE_ID_RETRY_DELAY_SECONDS = 10;
+    static final SourceIdReconciler SOURCE_ID_RECONCILER = new SourceIdReconciler(MAX_SOURCE_ID_CALLS_IN_FLIGHT, MAX_SOURCE_ID_CALLS_PER_INVOCATION);
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
       final AmazonWebServicesClientProxy proxy,
       final ResourceHandlerRequest<ResourceModel> request,
@@ -20,31 +34,81 @@ public class UpdateHandler extends BaseHandlerStd {
       final Logger logger) {
       final ResourceModel model = request.getDesiredResourceState();
       final ResourceModel previousModel = request.getPreviousResourceState();
-      final Set<String> currentSourceIds = Optional.ofNullable(model.getSourceIds()).orElse(Collections.emptySet());
       final Set<String> previousSourceIds = Optional.ofNullable(previousModel.getSourceIds()).orElse(Collections.emptySet());
+      final ModelComparator.Change change = ModelComparator.classify(previousModel, model,
+          request.getPreviousResourceTags(), request.getDesiredResourceTags());
+      if (change == ModelComparator.Change.NONE) {
+        return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+      }
 
-      return proxy.initiate("rds::update-event-subscription", proxyClient, model, callbackContext)
-          .translateToServiceRequest(Translator::modifyEventSubscriptionRequest)
-          .makeServiceCall((modifyEventSubscriptionRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(modifyEventSubscriptionRequest, proxyInvocation.client()::modifyEventSubscription))
-          .progress()
-          .then(progress -> {
-            Sets.difference(currentSourceIds, previousSourceIds).forEach(
-                sourceId -> proxy.initiate("rds::add-source-id-event-subscription", proxyClient, model, callbackContext)
-                    .translateToServiceRequest((resourceModel) -> Translator.addSourceIdentifierToSubscriptionRequest(resourceModel, sourceId))
-                    .makeServiceCall((addSourceIdentifierToSubscriptionRequest, proxyCall) -> proxyCall.injectCredentialsAndInvokeV2(addSourceIdentifierToSubscriptionRequest, proxyCall.client()::addSourceIdentifierToSubscription))
-            );
-            return progress;
-          })
-          .then(progress -> {
-            Sets.difference(previousSourceIds, currentSourceIds).forEach(
-                sourceId -> proxy.initiate("rds::remove-source-id-event-subscription", proxyClient, model, callbackContext)
-                    .translateToServiceRequest((resourceModel) -> Translator.removeSourceIdentifierFromSubscriptionRequest(resourceModel, sourceId))
-                    .makeServiceCall((removeSourceIdentifierFromSubscriptionRequest, proxyCall) -> proxyCall.injectCredentialsAndInvokeV2(removeSourceIdentifierFromSubscriptionRequest, proxyCall.client()::removeSourceIdentifierFromSubscription))
-            );
-            return progress;
-          })
-          .then(progress -> waitForEventSubscription(proxy, proxyClient, progress))
-          .then(progress -> tagResource(proxy, proxyClient, progress, request.getDesiredResourceTags()))
+      return ProgressEvent.progress(model, callbackContext)
+          .then(progress -> !ModelComparator.subscriptionChanged(previousModel, model) ? progress :
+              proxy.initiate("rds::update-event-subscription", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                  .translateToServiceRequest(Translator::modifyEventSubscriptionRequest)
+                  .makeServiceCall((modifyEventSubscriptionRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(modifyEventSubscriptionRequest, proxyInvocation.client()::modifyEventSubscription))
+                  .progress())
+          .then(progress -> reconcileSourceIds(proxyClient, progress, previousSourceIds))
+          // a tags-only update leaves the subscription active, so there is nothing to wait for
+          .then(progress -> change != ModelComparator.Change.CORE ? progress : waitForEventSubscription(proxy, proxyClient, progress))
+          .then(progress -> tagResource(proxy, proxyClient, progress, request.getDesiredResourceTags(), request.getPreviousResourceTags()))
           .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
+
+    private ProgressEvent<ResourceModel, CallbackContext> reconcileSourceIds(
+      final ProxyClient<RdsClient> proxyClient,
+      final ProgressEvent<ResourceModel, CallbackContext> progress,
+      final Set<String> previousSourceIds) {
+      final ResourceModel model = progress.getResourceModel();
+      final CallbackContext callbackContext = progress.getCallbackContext();
+      if (callbackContext.isSourceIdsReconciled()) return progress;
+
+      final Set<String> desiredSourceIds = Optional.ofNullable(model.getSourceIds()).orElse(Collections.emptySet());
+      final Set<String> baseline = Optional.ofNullable(callbackContext.getSourceIdsBaseline()).orElse(previousSourceIds);
+      if (callbackContext.getSourceIdsBaseline() == null && desiredSourceIds.equals(baseline)) return progress;
+
+      final Set<String> toAdd = new HashSet<>(Sets.difference(Sets.difference(desiredSourceIds, baseline), callbackContext.getAddedSourceIds()));
+      final Set<String> toRemove = new HashSet<>(Sets.difference(Sets.difference(baseline, desiredSourceIds), callbackContext.getRemovedSourceIds()));
+      if (!toAdd.isEmpty() || !toRemove.isEmpty()) {
+        final SourceIdReconciler.Result result = SOURCE_ID_RECONCILER.run(toAdd, toRemove,
+            sourceId -> proxyClient.injectCredentialsAndInvokeV2(Translator.addSourceIdentifierToSubscriptionRequest(model, sourceId), proxyClient.client()::addSourceIdentifierToSubscription),
+            sourceId -> removeSourceIdentifier(proxyClient, model, sourceId));
+        callbackContext.getAddedSourceIds().addAll(result.getAdded());
+        callbackContext.getRemovedSourceIds().addAll(result.getRemoved());
+        if (!result.getFailures().isEmpty()) {
+          final RuntimeException failure = result.getFailures().get(0);
+          if (failure instanceof AwsServiceException && ((AwsServiceException) failure).isThrottlingException()) {
+            return ProgressEvent.defaultInProgressHandler(callbackContext, SOURCE_ID_RETRY_DELAY_SECONDS, model);
+          }
+          throw failure;
+        }
+        if (result.getDeferred() > 0) {
+          return ProgressEvent.defaultInProgressHandler(callbackContext, SOURCE_ID_CONTINUE_DELAY_SECONDS, model);
+        }
+      }
+
+      final Set<String> actualSourceIds = new HashSet<>(proxyClient.injectCredentialsAndInvokeV2(
+          Translator.describeEventSubscriptionsRequest(model),
+          proxyClient.client()::describeEventSubscriptions).eventSubscriptionsList().stream().findFirst().get().sourceIdsList());
+      if (actualSourceIds.equals(desiredSourceIds)) {
+        callbackContext.setSourceIdsReconciled(true);
+        return progress;
+      }
+      callbackContext.setSourceIdChecks(callbackContext.getSourceIdChecks() + 1);
+      if (callbackContext.getSourceIdChecks() >= MAX_SOURCE_ID_CHECKS) {
+        throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getSubscriptionName());
+      }
+      callbackContext.setSourceIdsBaseline(actualSourceIds);
+      callbackContext.getAddedSourceIds().clear();
+      callbackContext.getRemovedSourceIds().clear();
+      return ProgressEvent.defaultInProgressHandler(callbackContext, SOURCE_ID_RETRY_DELAY_SECONDS, model);
+    }
+
+    // A source identifier that is already gone needs no removal
+    private void removeSourceIdentifier(final ProxyClient<RdsClient> proxyClient, final ResourceModel model, final String sourceId) {
+      try {
+        proxyClient.injectCredentialsAndInvokeV2(Translator.removeSourceIdentifierFromSubscriptionRequest(model, sourceId), proxyClient.client()::removeSourceIdentifierFromSubscription);
+      } catch (SourceNotFoundException e) {
+        // nothing to remove
+      }
+    }
 }
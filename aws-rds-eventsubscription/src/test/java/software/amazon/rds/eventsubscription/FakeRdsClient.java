@@ -0,0 +1,320 @@
+package software.amazon.rds.eventsubscription;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.AddSourceIdentifierToSubscriptionRequest;
+import software.amazon.awssdk.services.rds.model.AddSourceIdentifierToSubscriptionResponse;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceResponse;
+import software.amazon.awssdk.services.rds.model.CreateEventSubscriptionRequest;
+import software.amazon.awssdk.services.rds.model.CreateEventSubscriptionResponse;
+import software.amazon.awssdk.services.rds.model.DeleteEventSubscriptionRequest;
+import software.amazon.awssdk.services.rds.model.DeleteEventSubscriptionResponse;
+import software.amazon.awssdk.services.rds.model.DescribeEventSubscriptionsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeEventSubscriptionsResponse;
+import software.amazon.awssdk.services.rds.model.EventSubscription;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rds.model.ModifyEventSubscriptionRequest;
+import software.amazon.awssdk.services.rds.model.ModifyEventSubscriptionResponse;
+import software.amazon.awssdk.services.rds.model.RemoveSourceIdentifierFromSubscriptionRequest;
+import software.amazon.awssdk.services.rds.model.RemoveSourceIdentifierFromSubscriptionResponse;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceResponse;
+import software.amazon.awssdk.services.rds.model.SourceNotFoundException;
+import software.amazon.awssdk.services.rds.model.SubscriptionAlreadyExistException;
+import software.amazon.awssdk.services.rds.model.SubscriptionNotFoundException;
+import software.amazon.awssdk.services.rds.model.Tag;
+
+/**
+ * Stateful in-memory stand-in for RdsClient that models event subscriptions, their source identifiers and tags.
+ *
+ * Mutating calls move a subscription into a transitional status (creating, modifying, deleting). Every describe
+ * that returns the subscription counts as one poll, and the subscription moves on to the next status once the
+ * configured number of polls has been observed. Each call can be delayed by a fixed latency and is counted per
+ * operation.
+ */
+public class FakeRdsClient implements RdsClient {
+
+  private static final String ACCOUNT_ID = "123456789012";
+  private static final String ARN_PREFIX = "arn:aws:rds:us-east-1:" + ACCOUNT_ID + ":es:";
+
+  private final Map<String, Resource> subscriptions = new LinkedHashMap<>();
+  private final Map<String, Map<String, String>> tags = new HashMap<>();
+  private final Map<String, Transition> transitions = new HashMap<>();
+  private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+  private volatile Duration latency = Duration.ZERO;
+
+  public FakeRdsClient() {
+    withTransition("creating", "active", 0);
+    withTransition("modifying", "active", 0);
+    withTransition("deleting", null, 0);
+  }
+
+  /**
+   * A subscription in status {@code from} is reported as such by the next {@code polls} describe calls
+   * and as {@code to} afterwards. A {@code null} target removes the subscription.
+   */
+  public synchronized FakeRdsClient withTransition(final String from, final String to, final int polls) {
+    transitions.put(from, new Transition(to, polls));
+    return this;
+  }
+
+  public FakeRdsClient withLatency(final Duration latency) {
+    this.latency = latency;
+    return this;
+  }
+
+  public synchronized FakeRdsClient withSubscription(final EventSubscription subscription) {
+    subscriptions.put(subscription.custSubscriptionId(), new Resource(subscription));
+    return this;
+  }
+
+  public int getCallCount(final String operation) {
+    return Optional.ofNullable(calls.get(operation)).map(AtomicInteger::get).orElse(0);
+  }
+
+  public int getTotalCallCount() {
+    return calls.values().stream().mapToInt(AtomicInteger::get).sum();
+  }
+
+  public synchronized Optional<String> getStatus(final String subscriptionName) {
+    return Optional.ofNullable(subscriptions.get(subscriptionName)).map(resource -> resource.status);
+  }
+
+  public synchronized List<String> getSourceIds(final String subscriptionName) {
+    return new ArrayList<>(getSubscription(subscriptionName).subscription.sourceIdsList());
+  }
+
+  @Override
+  public String serviceName() {
+    return SERVICE_NAME;
+  }
+
+  @Override
+  public void close() {
+  }
+
+  @Override
+  public CreateEventSubscriptionResponse createEventSubscription(final CreateEventSubscriptionRequest request) {
+    return call("createEventSubscription", () -> {
+      if (subscriptions.containsKey(request.subscriptionName())) {
+        throw SubscriptionAlreadyExistException.builder().message("Subscription " + request.subscriptionName() + " already exists").build();
+      }
+      final Resource resource = new Resource(EventSubscription.builder()
+          .custSubscriptionId(request.subscriptionName())
+          .customerAwsId(ACCOUNT_ID)
+          .eventSubscriptionArn(ARN_PREFIX + request.subscriptionName())
+          .snsTopicArn(request.snsTopicArn())
+          .sourceType(request.sourceType())
+          .sourceIdsList(Optional.ofNullable(request.sourceIds()).orElse(Collections.emptyList()))
+          .eventCategoriesList(Optional.ofNullable(request.eventCategories()).orElse(Collections.emptyList()))
+          .enabled(Optional.ofNullable(request.enabled()).orElse(true))
+          .build());
+      resource.transition("creating");
+      subscriptions.put(request.subscriptionName(), resource);
+      putTags(resource.subscription.eventSubscriptionArn(), request.tags());
+      return CreateEventSubscriptionResponse.builder().eventSubscription(resource.describe()).build();
+    });
+  }
+
+  @Override
+  public DescribeEventSubscriptionsResponse describeEventSubscriptions(final DescribeEventSubscriptionsRequest request) {
+    return call("describeEventSubscriptions", () -> {
+      if (request.subscriptionName() != null) {
+        final Resource resource = getSubscription(request.subscriptionName());
+        if (!poll(request.subscriptionName(), resource)) {
+          throw notFound(request.subscriptionName());
+        }
+        return DescribeEventSubscriptionsResponse.builder().eventSubscriptionsList(resource.describe()).build();
+      }
+      final List<String> names = new ArrayList<>(subscriptions.keySet());
+      final int from = request.marker() == null ? 0 : Integer.parseInt(request.marker());
+      final int to = request.maxRecords() == null ? names.size() : Math.min(names.size(), from + request.maxRecords());
+      final List<EventSubscription> page = new ArrayList<>();
+      for (final String name : names.subList(from, to)) {
+        final Resource resource = subscriptions.get(name);
+        if (poll(name, resource)) {
+          page.add(resource.describe());
+        }
+      }
+      return DescribeEventSubscriptionsResponse.builder()
+          .eventSubscriptionsList(page)
+          .marker(to < names.size() ? String.valueOf(to) : null)
+          .build();
+    });
+  }
+
+  @Override
+  public ModifyEventSubscriptionResponse modifyEventSubscription(final ModifyEventSubscriptionRequest request) {
+    return call("modifyEventSubscription", () -> {
+      final Resource resource = getSubscription(request.subscriptionName());
+      final EventSubscription.Builder builder = resource.subscription.toBuilder();
+      Optional.ofNullable(request.snsTopicArn()).ifPresent(builder::snsTopicArn);
+      Optional.ofNullable(request.sourceType()).ifPresent(builder::sourceType);
+      Optional.ofNullable(request.enabled()).ifPresent(builder::enabled);
+      if (request.hasEventCategories()) {
+        builder.eventCategoriesList(request.eventCategories());
+      }
+      resource.subscription = builder.build();
+      resource.transition("modifying");
+      return ModifyEventSubscriptionResponse.builder().eventSubscription(resource.describe()).build();
+    });
+  }
+
+  @Override
+  public DeleteEventSubscriptionResponse deleteEventSubscription(final DeleteEventSubscriptionRequest request) {
+    return call("deleteEventSubscription", () -> {
+      final Resource resource = getSubscription(request.subscriptionName());
+      resource.transition("deleting");
+      return DeleteEventSubscriptionResponse.builder().eventSubscription(resource.describe()).build();
+    });
+  }
+
+  @Override
+  public AddSourceIdentifierToSubscriptionResponse addSourceIdentifierToSubscription(final AddSourceIdentifierToSubscriptionRequest request) {
+    return call("addSourceIdentifierToSubscription", () -> {
+      final Resource resource = getSubscription(request.subscriptionName());
+      final List<String> sourceIds = new ArrayList<>(resource.subscription.sourceIdsList());
+      if (!sourceIds.contains(request.sourceIdentifier())) {
+        sourceIds.add(request.sourceIdentifier());
+      }
+      resource.subscription = resource.subscription.toBuilder().sourceIdsList(sourceIds).build();
+      return AddSourceIdentifierToSubscriptionResponse.builder().eventSubscription(resource.describe()).build();
+    });
+  }
+
+  @Override
+  public RemoveSourceIdentifierFromSubscriptionResponse removeSourceIdentifierFromSubscription(final RemoveSourceIdentifierFromSubscriptionRequest request) {
+    return call("removeSourceIdentifierFromSubscription", () -> {
+      final Resource resource = getSubscription(request.subscriptionName());
+      final List<String> sourceIds = new ArrayList<>(resource.subscription.sourceIdsList());
+      if (!sourceIds.remove(request.sourceIdentifier())) {
+        throw SourceNotFoundException.builder().message("Source " + request.sourceIdentifier() + " not found").build();
+      }
+      resource.subscription = resource.subscription.toBuilder().sourceIdsList(sourceIds).build();
+      return RemoveSourceIdentifierFromSubscriptionResponse.builder().eventSubscription(resource.describe()).build();
+    });
+  }
+
+  @Override
+  public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+    return call("listTagsForResource", () -> ListTagsForResourceResponse.builder()
+        .tagList(tags.getOrDefault(request.resourceName(), Collections.emptyMap()).entrySet().stream()
+            .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+            .collect(Collectors.toList()))
+        .build());
+  }
+
+  @Override
+  public AddTagsToResourceResponse addTagsToResource(final AddTagsToResourceRequest request) {
+    return call("addTagsToResource", () -> {
+      putTags(request.resourceName(), request.tags());
+      return AddTagsToResourceResponse.builder().build();
+    });
+  }
+
+  @Override
+  public RemoveTagsFromResourceResponse removeTagsFromResource(final RemoveTagsFromResourceRequest request) {
+    return call("removeTagsFromResource", () -> {
+      tags.getOrDefault(request.resourceName(), new HashMap<>()).keySet().removeAll(request.tagKeys());
+      return RemoveTagsFromResourceResponse.builder().build();
+    });
+  }
+
+  private <T> T call(final String operation, final Supplier<T> body) {
+    calls.computeIfAbsent(operation, key -> new AtomicInteger()).incrementAndGet();
+    final Duration delay = latency;
+    if (!delay.isZero()) {
+      Uninterruptibles.sleepUninterruptibly(delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+    synchronized (this) {
+      return body.get();
+    }
+  }
+
+  private Resource getSubscription(final String subscriptionName) {
+    final Resource resource = subscriptions.get(subscriptionName);
+    if (resource == null) {
+      throw notFound(subscriptionName);
+    }
+    return resource;
+  }
+
+  private void putTags(final String arn, final Collection<Tag> newTags) {
+    final Map<String, String> resourceTags = tags.computeIfAbsent(arn, key -> new LinkedHashMap<>());
+    Optional.ofNullable(newTags).orElse(Collections.emptyList())
+        .forEach(tag -> resourceTags.put(tag.key(), tag.value()));
+  }
+
+  /**
+   * Counts a describe poll against the subscription and advances its status if the transition is due.
+   * Returns false if the subscription has been removed as a result.
+   */
+  private boolean poll(final String subscriptionName, final Resource resource) {
+    final Transition transition = transitions.get(resource.status);
+    if (transition == null) {
+      return true;
+    }
+    if (resource.polls < transition.polls) {
+      resource.polls++;
+      return true;
+    }
+    if (transition.to == null) {
+      subscriptions.remove(subscriptionName);
+      tags.remove(resource.subscription.eventSubscriptionArn());
+      return false;
+    }
+    resource.transition(transition.to);
+    return true;
+  }
+
+  private static SubscriptionNotFoundException notFound(final String subscriptionName) {
+    return SubscriptionNotFoundException.builder().message("Subscription " + subscriptionName + " not found").build();
+  }
+
+  private static class Resource {
+    private EventSubscription subscription;
+    private String status;
+    private int polls;
+
+    Resource(final EventSubscription subscription) {
+      this.subscription = subscription;
+      this.status = Optional.ofNullable(subscription.status()).orElse("active");
+    }
+
+    void transition(final String status) {
+      this.status = status;
+      this.polls = 0;
+    }
+
+    EventSubscription describe() {
+      return subscription.toBuilder().status(status).build();
+    }
+  }
+
+  private static class Transition {
+    private final String to;
+    private final int polls;
+
+    Transition(final String to, final int polls) {
+      this.to = to;
+      this.polls = polls;
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package software.amazon.rds.eventsubscription;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.AddSourceIdentifierToSubscriptionRequest;
+import software.amazon.awssdk.services.rds.model.EventSubscription;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the real handler chains against {@link FakeRdsClient} instead of per-call mocks.
+ */
+public class HandlerLifecycleTest extends AbstractTestBase {
+
+  private static final int MAX_INVOCATIONS = 20;
+  private static final Delay NO_WAIT = Constant.of().delay(Duration.ofMillis(1)).timeout(Duration.ofSeconds(10)).build();
+
+  private FakeRdsClient rds;
+  private AmazonWebServicesClientProxy proxy;
+  private ProxyClient<RdsClient> proxyClient;
+
+  @BeforeEach
+  public void setup() {
+    rds = new FakeRdsClient();
+    proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis(), (callGraph, delay) -> NO_WAIT);
+    proxyClient = MOCK_PROXY(proxy, rds);
+  }
+
+  @Test
+  public void createUpdateDelete() {
+    final ResourceModel created = drive(new CreateHandler(), request(model(true), null, ImmutableMap.of("env", "test"))).getResourceModel();
+    final String name = created.getSubscriptionName();
+
+    assertThat(name).isNotEmpty();
+    assertThat(created.getEnabled()).isTrue();
+    assertThat(created.getSourceIds()).containsExactlyInAnyOrder("db-1", "db-2");
+    assertThat(created.getTags()).containsExactly(Tag.builder().key("env").value("test").build());
+    assertThat(rds.getStatus(name)).contains("active");
+
+    final ResourceModel desired = model(false);
+    desired.setSubscriptionName(name);
+    final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(), request(desired, created, ImmutableMap.of("env", "prod")));
+
+    assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(updated.getResourceModel().getEnabled()).isFalse();
+    assertThat(updated.getResourceModel().getTags()).containsExactly(Tag.builder().key("env").value("prod").build());
+    assertThat(rds.getCallCount("modifyEventSubscription")).isEqualTo(1);
+
+    final ProgressEvent<ResourceModel, CallbackContext> deleted = drive(new DeleteHandler(), request(desired, null, ImmutableMap.of()));
+
+    assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(rds.getStatus(name)).isEmpty();
+  }
+
+  @Test
+  public void create_pollsUntilActive() {
+    rds.withTransition("creating", "active", 2);
+
+    final ProgressEvent<ResourceModel, CallbackContext> response = drive(new CreateHandler(), request(model(true), null, ImmutableMap.of()));
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(rds.getCallCount("createEventSubscription")).isEqualTo(1);
+    // 3 polls to leave "creating", then one for the read
+    assertThat(rds.getCallCount("describeEventSubscriptions")).isEqualTo(4);
+  }
+
+  @Test
+  public void update_reconcilesManySourceIdsAcrossInvocations() {
+    final ResourceModel created = drive(new CreateHandler(), request(model(true), null, ImmutableMap.of())).getResourceModel();
+    final ResourceModel desired = model(true);
+    desired.setSubscriptionName(created.getSubscriptionName());
+    desired.setSourceIds(IntStream.rangeClosed(3, 150).mapToObj(i -> "db-" + i).collect(Collectors.toSet()));
+
+    final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(), request(desired, created, ImmutableMap.of()));
+
+    assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(rds.getSourceIds(created.getSubscriptionName())).containsExactlyInAnyOrderElementsOf(desired.getSourceIds());
+    // 150 changes take two invocations, and none is sent twice
+    assertThat(rds.getCallCount("removeSourceIdentifierFromSubscription")).isEqualTo(2);
+    assertThat(rds.getCallCount("addSourceIdentifierToSubscription")).isEqualTo(148);
+    // only the source identifiers changed
+    assertThat(rds.getCallCount("modifyEventSubscription")).isZero();
+  }
+
+  @Test
+  public void update_reconcilesAgainFromActualSourceIds() {
+    final ResourceModel created = drive(new CreateHandler(), request(model(true), null, ImmutableMap.of())).getResourceModel();
+    // added outside of the stack, so the previous model does not know about it
+    rds.addSourceIdentifierToSubscription(AddSourceIdentifierToSubscriptionRequest.builder()
+        .subscriptionName(created.getSubscriptionName())
+        .sourceIdentifier("db-9")
+        .build());
+    final ResourceModel desired = model(true);
+    desired.setSubscriptionName(created.getSubscriptionName());
+    desired.setSourceIds(Sets.newHashSet("db-1", "db-3"));
+
+    final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(), request(desired, created, ImmutableMap.of()));
+
+    assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(rds.getSourceIds(created.getSubscriptionName())).containsExactlyInAnyOrder("db-1", "db-3");
+    // db-2 on the first pass, db-9 once the check found it
+    assertThat(rds.getCallCount("removeSourceIdentifierFromSubscription")).isEqualTo(2);
+    assertThat(rds.getCallCount("addSourceIdentifierToSubscription")).isEqualTo(2);
+  }
+
+  @Test
+  public void list_pagesThroughEverySubscription() {
+    IntStream.range(0, 45).forEach(i -> rds.withSubscription(EventSubscription.builder()
+        .custSubscriptionId(String.format("subscription-%02d", i))
+        .build()));
+    final ListHandler handler = new ListHandler(20);
+
+    final List<String> names = new ArrayList<>();
+    String nextToken = null;
+    int pages = 0;
+    do {
+      final ProgressEvent<ResourceModel, CallbackContext> page = handler.handleRequest(proxy,
+          ResourceHandlerRequest.<ResourceModel>builder().nextToken(nextToken).build(), new CallbackContext(), proxyClient, logger);
+      assertThat(page.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+      assertThat(page.getResourceModels().size()).isLessThanOrEqualTo(20);
+      page.getResourceModels().forEach(model -> names.add(model.getSubscriptionName()));
+      nextToken = page.getNextToken();
+      pages++;
+    } while (nextToken != null);
+
+    assertThat(pages).isEqualTo(3);
+    assertThat(names).containsExactlyElementsOf(IntStream.range(0, 45)
+        .mapToObj(i -> String.format("subscription-%02d", i))
+        .collect(Collectors.toList()));
+    // one call per page
+    assertThat(rds.getCallCount("describeEventSubscriptions")).isEqualTo(3);
+  }
+
+  private ResourceModel model(final boolean enabled) {
+    return ResourceModel.builder()
+        .enabled(enabled)
+        .snsTopicArn("arn:aws:sns:us-east-1:123456789012:topic")
+        .sourceType("db-instance")
+        .eventCategories(Lists.newArrayList("availability"))
+        .sourceIds(Sets.newHashSet("db-1", "db-2"))
+        .build();
+  }
+
+  private ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired,
+                                                        final ResourceModel previous,
+                                                        final Map<String, String> tags) {
+    return ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(desired)
+        .previousResourceState(previous)
+        .desiredResourceTags(tags)
+        .logicalResourceIdentifier("eventsubscription")
+        .clientRequestToken("token")
+        .build();
+  }
+
+  // Re-invokes the handler the way CloudFormation does until it leaves IN_PROGRESS, ignoring callback delays.
+  private ProgressEvent<ResourceModel, CallbackContext> drive(final BaseHandlerStd handler,
+                                                              final ResourceHandlerRequest<ResourceModel> request) {
+    CallbackContext context = new CallbackContext();
+    ProgressEvent<ResourceModel, CallbackContext> event = null;
+    for (int invocation = 0; invocation < MAX_INVOCATIONS; invocation++) {
+      event = handler.handleRequest(proxy, request, context, proxyClient, logger);
+      if (event.getStatus() != OperationStatus.IN_PROGRESS) {
+        break;
+      }
+      context = event.getCallbackContext();
+      if (event.getResourceModel() != null) {
+        request.setDesiredResourceState(event.getResourceModel());
+      }
+    }
+    assertThat(event.getStatus()).isNotEqualTo(OperationStatus.IN_PROGRESS);
+    return event;
+  }
+}
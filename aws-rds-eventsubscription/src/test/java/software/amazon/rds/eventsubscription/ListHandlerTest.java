@@ -1,55 +1,126 @@
 package software.amazon.rds.eventsubscription;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DescribeEventSubscriptionsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeEventSubscriptionsResponse;
+import software.amazon.awssdk.services.rds.model.EventSubscription;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
-public class ListHandlerTest {
+public class ListHandlerTest extends AbstractTestBase {
+
+  @Mock
+  private AmazonWebServicesClientProxy proxy;
+
+  @Mock
+  private ProxyClient<RdsClient> proxyRdsClient;
+
+  @Mock
+  RdsClient rds;
+
+  @AfterEach
+  public void post_execute() {
+    verifyNoMoreInteractions(rds);
+  }
+
+  @BeforeEach
+  public void setup() {
+    rds = mock(RdsClient.class);
+    proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+    proxyRdsClient = MOCK_PROXY(proxy, rds);
+  }
+
+  @Test
+  public void handleRequest_SimpleSuccess() {
+    final ListHandler handler = new ListHandler(50);
+    when(rds.describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class))).thenReturn(DescribeEventSubscriptionsResponse.builder()
+        .eventSubscriptionsList(Arrays.asList(
+            EventSubscription.builder().custSubscriptionId("subscription-1").build(),
+            EventSubscription.builder().custSubscriptionId("subscription-2").build()))
+        .marker("marker2")
+        .build());
+
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().build())
+        .nextToken("marker1")
+        .build();
 
-    @Mock
-    private AmazonWebServicesClientProxy proxy;
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
 
-    @Mock
-    private Logger logger;
+    assertThat(response).isNotNull();
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getCallbackContext()).isNull();
+    assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+    assertThat(response.getResourceModel()).isNull();
+    assertThat(response.getResourceModels()).containsExactly(
+        ResourceModel.builder().subscriptionName("subscription-1").build(),
+        ResourceModel.builder().subscriptionName("subscription-2").build());
+    assertThat(response.getMessage()).isNull();
+    assertThat(response.getErrorCode()).isNull();
+    assertThat(response.getNextToken()).isEqualTo("marker2");
 
-    @BeforeEach
-    public void setup() {
-        proxy = mock(AmazonWebServicesClientProxy.class);
-        logger = mock(Logger.class);
-    }
+    final ArgumentCaptor<DescribeEventSubscriptionsRequest> captor = ArgumentCaptor.forClass(DescribeEventSubscriptionsRequest.class);
+    verify(rds).describeEventSubscriptions(captor.capture());
+    assertThat(captor.getValue().marker()).isEqualTo("marker1");
+    assertThat(captor.getValue().maxRecords()).isEqualTo(50);
+  }
 
-    @Test
-    public void handleRequest_SimpleSuccess() {
+  @Test
+  public void handleRequest_LastPage() {
+    final ListHandler handler = new ListHandler(100);
+    when(rds.describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class))).thenReturn(DescribeEventSubscriptionsResponse.builder()
+        .eventSubscriptionsList(Collections.emptyList())
+        .build());
 
-        final ListHandler handler = new ListHandler();
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().build())
+        .build();
 
-        final ResourceModel model = ResourceModel.builder().build();
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
 
-        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
-            .desiredResourceState(model)
-            .build();
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getResourceModels()).isEmpty();
+    assertThat(response.getNextToken()).isNull();
+    verify(rds).describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class));
+  }
 
-        final ProgressEvent<ResourceModel, CallbackContext> response =
-            handler.handleRequest(proxy, request, null, logger);
+  @Test
+  public void constructor_rejectsPageSizeOutsideServiceLimits() {
+    assertThatThrownBy(() -> new ListHandler(19)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new ListHandler(101)).isInstanceOf(IllegalArgumentException.class);
+  }
 
-        assertThat(response).isNotNull();
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
-        assertThat(response.getCallbackContext()).isNull();
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
-        assertThat(response.getResourceModel()).isNull();
-        assertThat(response.getResourceModels()).isNotNull();
-        assertThat(response.getMessage()).isNull();
-        assertThat(response.getErrorCode()).isNull();
-    }
+  @Test
+  public void constructor_fallsBackToLargestPageForUnusableSetting() {
+    assertThat(new ListHandler(name -> null).getPageSize()).isEqualTo(100);
+    assertThat(new ListHandler(name -> "50").getPageSize()).isEqualTo(50);
+    assertThat(new ListHandler(name -> "fifty").getPageSize()).isEqualTo(100);
+    assertThat(new ListHandler(name -> "500").getPageSize()).isEqualTo(100);
+    assertThat(new ListHandler(name -> "19").getPageSize()).isEqualTo(100);
+  }
 }
@@ -0,0 +1,61 @@
+package software.amazon.rds.eventsubscription;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ModelComparatorTest {
+
+  private static final ImmutableMap<String, String> TAGS = ImmutableMap.of("env", "test");
+
+  @Test
+  public void classify_noneIgnoresOrderOfCategories() {
+    final ResourceModel previous = model(true, "db-1");
+    final ResourceModel desired = model(true, "db-1");
+    desired.setEventCategories(Lists.newArrayList("failure", "availability"));
+
+    assertThat(ModelComparator.classify(previous, desired, TAGS, TAGS)).isEqualTo(ModelComparator.Change.NONE);
+  }
+
+  @Test
+  public void classify_tagsOnly() {
+    assertThat(ModelComparator.classify(model(true, "db-1"), model(true, "db-1"), TAGS, ImmutableMap.of()))
+        .isEqualTo(ModelComparator.Change.TAGS_ONLY);
+    assertThat(ModelComparator.classify(model(true, "db-1"), model(true, "db-1"), null, TAGS))
+        .isEqualTo(ModelComparator.Change.TAGS_ONLY);
+  }
+
+  @Test
+  public void classify_coreWhenSourceIdsChanged() {
+    final ResourceModel previous = model(true, "db-1");
+    final ResourceModel desired = model(true, "db-1", "db-2");
+
+    assertThat(ModelComparator.classify(previous, desired, TAGS, TAGS)).isEqualTo(ModelComparator.Change.CORE);
+    // source identifiers are not part of ModifyEventSubscription
+    assertThat(ModelComparator.subscriptionChanged(previous, desired)).isFalse();
+  }
+
+  @Test
+  public void classify_coreWhenSubscriptionChanged() {
+    final ResourceModel previous = model(true, "db-1");
+    final ResourceModel desired = model(false, "db-1");
+
+    assertThat(ModelComparator.classify(previous, desired, TAGS, TAGS)).isEqualTo(ModelComparator.Change.CORE);
+    assertThat(ModelComparator.subscriptionChanged(previous, desired)).isTrue();
+    assertThat(ModelComparator.subscriptionChanged(null, desired)).isTrue();
+  }
+
+  private static ResourceModel model(final boolean enabled, final String... sourceIds) {
+    return ResourceModel.builder()
+        .subscriptionName("subscription")
+        .enabled(enabled)
+        .snsTopicArn("arn:aws:sns:us-east-1:123456789012:topic")
+        .sourceType("db-instance")
+        .eventCategories(Lists.newArrayList("availability", "failure"))
+        .sourceIds(Sets.newHashSet(sourceIds))
+        .build();
+  }
+}
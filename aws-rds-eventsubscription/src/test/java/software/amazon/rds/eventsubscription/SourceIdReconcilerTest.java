@@ -0,0 +1,86 @@
+package software.amazon.rds.eventsubscription;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SourceIdReconcilerTest {
+
+  private static final Consumer<String> NO_CALL = sourceId -> {
+    throw new AssertionError("unexpected call for " + sourceId);
+  };
+
+  @Test
+  public void run_keepsAtMostMaxInFlight() {
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxObserved = new AtomicInteger();
+    final Consumer<String> call = sourceId -> {
+      maxObserved.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      Uninterruptibles.sleepUninterruptibly(20, TimeUnit.MILLISECONDS);
+      inFlight.decrementAndGet();
+    };
+
+    final SourceIdReconciler.Result result = new SourceIdReconciler(3, 100).run(sourceIds("db-", 8), sourceIds("old-", 4), call, call);
+
+    assertThat(result.getAdded()).hasSize(8);
+    assertThat(result.getRemoved()).hasSize(4);
+    assertThat(result.getFailures()).isEmpty();
+    assertThat(maxObserved.get()).isBetween(2, 3);
+  }
+
+  @Test
+  public void run_removesFirstAndDefersBeyondMaxCalls() {
+    final List<String> calls = new CopyOnWriteArrayList<>();
+
+    final SourceIdReconciler.Result result = new SourceIdReconciler(1, 5).run(sourceIds("db-", 4), sourceIds("old-", 3),
+        sourceId -> calls.add("+" + sourceId), sourceId -> calls.add("-" + sourceId));
+
+    assertThat(calls).containsExactly("-old-0", "-old-1", "-old-2", "+db-0", "+db-1");
+    assertThat(result.getRemoved()).containsExactly("old-0", "old-1", "old-2");
+    assertThat(result.getAdded()).containsExactly("db-0", "db-1");
+    assertThat(result.getDeferred()).isEqualTo(2);
+  }
+
+  @Test
+  public void run_collectsFailuresWithoutStoppingOtherCalls() {
+    final SourceIdReconciler.Result result = new SourceIdReconciler(2, 100).run(sourceIds("db-", 5), Collections.emptySet(), sourceId -> {
+      if (sourceId.endsWith("1") || sourceId.endsWith("3")) throw new IllegalStateException("failed " + sourceId);
+    }, NO_CALL);
+
+    assertThat(result.getAdded()).containsExactly("db-0", "db-2", "db-4");
+    assertThat(result.getFailures()).extracting(Throwable::getMessage).containsExactly("failed db-1", "failed db-3");
+    assertThat(result.getDeferred()).isZero();
+  }
+
+  @Test
+  public void run_isEmptyWithoutChanges() {
+    final SourceIdReconciler.Result result = new SourceIdReconciler(2, 100).run(Collections.emptySet(), Collections.emptySet(), NO_CALL, NO_CALL);
+
+    assertThat(result.getAdded()).isEmpty();
+    assertThat(result.getRemoved()).isEmpty();
+    assertThat(result.getFailures()).isEmpty();
+  }
+
+  @Test
+  public void constructor_rejectsZeroBounds() {
+    assertThatThrownBy(() -> new SourceIdReconciler(0, 100)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new SourceIdReconciler(4, 0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static Set<String> sourceIds(final String prefix, final int count) {
+    return Sets.newHashSet(IntStream.range(0, count).mapToObj(i -> prefix + i).collect(Collectors.toList()));
+  }
+}
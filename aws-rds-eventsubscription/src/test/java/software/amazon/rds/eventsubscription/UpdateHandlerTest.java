@@ -5,6 +5,8 @@ import com.google.common.collect.Sets;
 import java.time.Duration;
 import org.junit.jupiter.api.AfterEach;
 import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.AddSourceIdentifierToSubscriptionRequest;
+import software.amazon.awssdk.services.rds.model.AddSourceIdentifierToSubscriptionResponse;
 import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
 import software.amazon.awssdk.services.rds.model.AddTagsToResourceResponse;
 import software.amazon.awssdk.services.rds.model.DescribeEventSubscriptionsRequest;
@@ -14,6 +16,8 @@ import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.rds.model.ModifyEventSubscriptionRequest;
 import software.amazon.awssdk.services.rds.model.ModifyEventSubscriptionResponse;
+import software.amazon.awssdk.services.rds.model.RemoveSourceIdentifierFromSubscriptionRequest;
+import software.amazon.awssdk.services.rds.model.RemoveSourceIdentifierFromSubscriptionResponse;
 import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
 import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -86,15 +90,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyRdsClient.client().listTagsForResource(any(
             ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
 
-        final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
-        when(proxyRdsClient.client().removeTagsFromResource(any(
-            RemoveTagsFromResourceRequest.class))).thenReturn(removeTagsFromResourceResponse);
-
-        final AddTagsToResourceResponse addTagsToResourceResponse = AddTagsToResourceResponse.builder().build();
-        when(proxyRdsClient.client().addTagsToResource(any(
-            AddTagsToResourceRequest.class))).thenReturn(addTagsToResourceResponse);
-
-        final ResourceModel model = ResourceModel.builder().build();
+        final ResourceModel model = ResourceModel.builder().enabled(true).build();
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
             .desiredResourceState(model)
@@ -112,9 +108,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         verify(proxyRdsClient.client()).modifyEventSubscription(any(ModifyEventSubscriptionRequest.class));
         verify(proxyRdsClient.client(), times(3)).describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class));
+        // no tags before or after, so the tag step only lists the current tags
         verify(proxyRdsClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
-        verify(proxyRdsClient.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
-        verify(proxyRdsClient.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
     }
 
     @Test
@@ -133,7 +128,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .eventCategoriesList("sampleCategory")
                 .snsTopicArn("sampleSnsArn")
                 .sourceType("sampleSourceType")
-                .sourceIdsList("sampleSourceId")
+                .sourceIdsList("sampleNewId")
                 .status("active").build())
             .build();
         when(proxyRdsClient.client().describeEventSubscriptions(any(
@@ -143,6 +138,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyRdsClient.client().listTagsForResource(any(
             ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
 
+        when(proxyRdsClient.client().addSourceIdentifierToSubscription(any(
+            AddSourceIdentifierToSubscriptionRequest.class))).thenReturn(AddSourceIdentifierToSubscriptionResponse.builder().build());
+        when(proxyRdsClient.client().removeSourceIdentifierFromSubscription(any(
+            RemoveSourceIdentifierFromSubscriptionRequest.class))).thenReturn(RemoveSourceIdentifierFromSubscriptionResponse.builder().build());
+
         final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
         when(proxyRdsClient.client().removeTagsFromResource(any(
             RemoveTagsFromResourceRequest.class))).thenReturn(removeTagsFromResourceResponse);
@@ -153,11 +153,13 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         final ResourceModel model = ResourceModel.builder()
             .subscriptionName("sampleId")
+            .enabled(true)
             .sourceIds(Sets.newHashSet("sampleNewId")).build();
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
             .desiredResourceState(model)
             .desiredResourceTags(ImmutableMap.of("sampleNewKey", "sampleNewValue"))
+            .previousResourceTags(ImmutableMap.of("sampleKey", "sampleValue"))
             .previousResourceState(ResourceModel.builder()
                 .sourceIds(Sets.newHashSet("sampleId"))
                 .build())
@@ -173,9 +175,85 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyRdsClient.client()).modifyEventSubscription(any(ModifyEventSubscriptionRequest.class));
-        verify(proxyRdsClient.client(), times(3)).describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class));
-        verify(proxyRdsClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyRdsClient.client()).addSourceIdentifierToSubscription(any(AddSourceIdentifierToSubscriptionRequest.class));
+        verify(proxyRdsClient.client()).removeSourceIdentifierFromSubscription(any(RemoveSourceIdentifierFromSubscriptionRequest.class));
+        // one more describe checks the source identifiers once they are reconciled
+        verify(proxyRdsClient.client(), times(4)).describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class));
+        // the previous tags stand in for ListTagsForResource in the tag step
+        verify(proxyRdsClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
         verify(proxyRdsClient.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
         verify(proxyRdsClient.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
     }
+
+    @Test
+    public void handleRequest_TagsOnlyChangeSkipsModifyAndWait() {
+
+        final UpdateHandler handler = new UpdateHandler();
+
+        final DescribeEventSubscriptionsResponse describeEventSubscriptionsResponse = DescribeEventSubscriptionsResponse.builder()
+            .eventSubscriptionsList(EventSubscription.builder()
+                .enabled(true)
+                .sourceIdsList("sampleSourceId")
+                .status("active").build())
+            .build();
+        when(proxyRdsClient.client().describeEventSubscriptions(any(
+            DescribeEventSubscriptionsRequest.class))).thenReturn(describeEventSubscriptionsResponse);
+        when(proxyRdsClient.client().listTagsForResource(any(
+            ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder().build());
+        when(proxyRdsClient.client().addTagsToResource(any(
+            AddTagsToResourceRequest.class))).thenReturn(AddTagsToResourceResponse.builder().build());
+
+        final ResourceModel model = ResourceModel.builder()
+            .subscriptionName("sampleId")
+            .enabled(true)
+            .sourceIds(Sets.newHashSet("sampleSourceId")).build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .previousResourceState(model)
+            .desiredResourceTags(ImmutableMap.of("sampleKey", "sampleValue"))
+            .previousResourceTags(ImmutableMap.of())
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        // one describe for the ARN to tag, one for the read
+        verify(proxyRdsClient.client(), times(2)).describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class));
+        verify(proxyRdsClient.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
+        verify(proxyRdsClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NoChangeOnlyReads() {
+
+        final UpdateHandler handler = new UpdateHandler();
+
+        final DescribeEventSubscriptionsResponse describeEventSubscriptionsResponse = DescribeEventSubscriptionsResponse.builder()
+            .eventSubscriptionsList(EventSubscription.builder()
+                .enabled(true)
+                .status("active").build())
+            .build();
+        when(proxyRdsClient.client().describeEventSubscriptions(any(
+            DescribeEventSubscriptionsRequest.class))).thenReturn(describeEventSubscriptionsResponse);
+        when(proxyRdsClient.client().listTagsForResource(any(
+            ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final ResourceModel model = ResourceModel.builder().subscriptionName("sampleId").enabled(true).build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .previousResourceState(model)
+            .desiredResourceTags(ImmutableMap.of("sampleKey", "sampleValue"))
+            .previousResourceTags(ImmutableMap.of("sampleKey", "sampleValue"))
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        verify(proxyRdsClient.client()).describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class));
+        verify(proxyRdsClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
 }
@@ -15,7 +15,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.cloudformation.proxy.Delay;
 
 import java.util.Optional;
 import java.util.function.Function;
@@ -29,7 +29,11 @@ import java.util.List;
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   protected static final int GLOBAL_CLUSTER_ID_MAX_LENGTH = 63;
   protected static final int PAUSE_TIME_SECONDS = 60;
-  protected static final Constant BACKOFF_STRATEGY = Constant.of().timeout(Duration.ofMinutes(180L)).delay(Duration.ofSeconds(30L)).build();
+  // Backoff schedules keyed by the transitional status being waited out; global cluster creates and deletes
+  // settle at a longer interval than membership changes and modifications.
+  protected static final Delay CREATING_BACKOFF = ExponentialBackoff.of().initialDelay(Duration.ofSeconds(10L)).maxDelay(Duration.ofSeconds(60L)).timeout(Duration.ofMinutes(180L)).build();
+  protected static final Delay MODIFYING_BACKOFF = ExponentialBackoff.of().initialDelay(Duration.ofSeconds(5L)).maxDelay(Duration.ofSeconds(30L)).timeout(Duration.ofMinutes(180L)).build();
+  protected static final Delay DELETING_BACKOFF = ExponentialBackoff.of().initialDelay(Duration.ofSeconds(10L)).maxDelay(Duration.ofSeconds(60L)).timeout(Duration.ofMinutes(180L)).build();
   private static final String MESSAGE_FORMAT_FAILED_TO_STABILIZE = "GlobalCluster %s failed to stabilize.";
   protected static final BiFunction<ResourceModel, ProxyClient<RdsClient>, ResourceModel> EMPTY_CALL = (model, proxyClient) -> model;
 
@@ -143,6 +147,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             // Function.identity() takes ResourceModel as an input and returns (the same) ResourceModel
             // Function.identity() is roughly similar to `model -> model`
             .translateToServiceRequest(Function.identity())
+            .backoffDelay(MODIFYING_BACKOFF)
             // this skips the call and goes directly to stabilization
             .makeServiceCall(EMPTY_CALL)
             .stabilize((resourceModel, response, proxyInvocation, model, callbackContext) ->
@@ -159,6 +164,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             // Function.identity() takes ResourceModel as an input and returns (the same) ResourceModel
             // Function.identity() is roughly similar to `model -> model`
             .translateToServiceRequest(Function.identity())
+            .backoffDelay(CREATING_BACKOFF)
             // this skips the call and goes directly to stabilization
             .makeServiceCall(EMPTY_CALL)
             .stabilize((resourceModel, response, proxyInvocation, model, callbackContext) ->
@@ -173,7 +179,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     //check if sourceDbCluster is not null and is in format of Identifier
     return proxy.initiate("rds::remove-from-global-cluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
             .translateToServiceRequest(Translator::describeDbClustersRequest)
-            .backoffDelay(BACKOFF_STRATEGY)
+            .backoffDelay(MODIFYING_BACKOFF)
             .makeServiceCall((describeDbClustersRequest, proxyClient1) -> proxyClient1.injectCredentialsAndInvokeV2(describeDbClustersRequest, proxyClient1.client()::describeDBClusters))
             .done((describeDbClusterRequest, describeDbClusterResponse, proxyClient2, resourceModel, callbackContext) -> {
               final String arn = describeDbClusterResponse.dbClusters().get(0).dbClusterArn();
@@ -192,7 +198,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     //check if sourceDbCluster is not null and is in format of Identifier
     return proxy.initiate("rds::create-global-cluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
             .translateToServiceRequest(Translator::describeDbClustersRequest)
-            .backoffDelay(BACKOFF_STRATEGY)
+            .backoffDelay(CREATING_BACKOFF)
             .makeServiceCall((describeDbClustersRequest, proxyClient1) -> proxyClient1.injectCredentialsAndInvokeV2(describeDbClustersRequest, proxyClient1.client()::describeDBClusters))
             .done((describeDbClusterRequest, describeDbClusterResponse, proxyClient2, resourceModel, callbackContext) -> {
               final String arn = describeDbClusterResponse.dbClusters().get(0).dbClusterArn();
@@ -213,7 +219,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
       return proxy.initiate("rds::create-global-cluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
               // request to create global cluster
               .translateToServiceRequest(Translator::createGlobalClusterRequest)
-              .backoffDelay(BACKOFF_STRATEGY)
+              .backoffDelay(CREATING_BACKOFF)
               .makeServiceCall((createGlobalClusterRequest, proxyClient1) -> {
                 try{
                   return proxyClient1.injectCredentialsAndInvokeV2(createGlobalClusterRequest, proxyClient1.client()::createGlobalCluster);
@@ -26,7 +26,7 @@ public class DeleteHandler extends BaseHandlerStd {
                 .then(progress -> waitForDBClusterAvailableStatus(proxy, proxyClient, progress))
                 .then(progress -> proxy.initiate("rds::delete-global-cluster", proxyClient, request.getDesiredResourceState(), callbackContext)
                         .translateToServiceRequest(Translator::deleteGlobalClusterRequest)
-                        .backoffDelay(BACKOFF_STRATEGY)
+                        .backoffDelay(DELETING_BACKOFF)
                         .makeServiceCall((deleteGlobalClusterRequest1, proxyInvocation) -> deleteGlobalCluster(deleteGlobalClusterRequest1, proxyInvocation, callbackContext))
                         // wait until deleted
                         .stabilize((deleteGlobalClusterRequest, deleteGlobalClusterResponse, stabilizeProxy, stabilizeModel, context)
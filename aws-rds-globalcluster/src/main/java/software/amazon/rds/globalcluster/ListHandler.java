@@ -12,6 +12,19 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import java.util.stream.Collectors;
 
 public class ListHandler extends BaseHandlerStd {
+    // With RDS_LIST_FULL_MODELS=true in the function's environment List returns global clusters the way Read does.
+    // Everything Read returns is in the describe response, so this costs no calls beyond the page itself.
+    static final String FULL_MODELS_VARIABLE = "RDS_LIST_FULL_MODELS";
+
+    private final boolean fullModels;
+
+    public ListHandler() {
+        this(Boolean.parseBoolean(System.getenv(FULL_MODELS_VARIABLE)));
+    }
+
+    ListHandler(final boolean fullModels) {
+        this.fullModels = fullModels;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -28,8 +41,10 @@ public class ListHandler extends BaseHandlerStd {
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                 .resourceModels(describeDbClustersResponse.globalClusters()
                         .stream()
-                        .map(globalCluster -> ResourceModel.builder()
-                                .globalClusterIdentifier(globalCluster.globalClusterIdentifier()).build())
+                        .map(globalCluster -> fullModels
+                                ? ReadHandler.toResourceModel(globalCluster)
+                                : ResourceModel.builder()
+                                        .globalClusterIdentifier(globalCluster.globalClusterIdentifier()).build())
                         .collect(Collectors.toList()))
                 .nextToken(describeDbClustersResponse.marker())
                 .status(OperationStatus.SUCCESS)
@@ -0,0 +1,28 @@
+package software.amazon.rds.globalcluster;
+
+import java.util.Objects;
+
+/**
+ * Classifies an update by comparing the previous and desired resource state field by field.
+ *
+ * DeletionProtection is the only property of a global cluster that ModifyGlobalCluster changes in place; every
+ * other property is create-only and replaces the resource instead. Global clusters carry no tags, so an update is
+ * either a no-op or a core change.
+ */
+public final class ModelComparator {
+
+  public enum Change {
+    NONE,
+    CORE
+  }
+
+  private ModelComparator() {
+  }
+
+  public static Change classify(final ResourceModel previous, final ResourceModel desired) {
+    if (previous == null || !Objects.equals(previous.getDeletionProtection(), desired.getDeletionProtection())) {
+      return Change.CORE;
+    }
+    return Change.NONE;
+  }
+}
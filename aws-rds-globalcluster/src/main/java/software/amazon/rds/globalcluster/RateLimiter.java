@@ -0,0 +1,83 @@
+package software.amazon.rds.globalcluster;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Token bucket whose refill rate adapts to throttling with additive increase and multiplicative decrease.
+ *
+ * Every successful call raises the rate by a fixed increment up to maxRate; every throttled call halves it, down to
+ * minRate, and drops any saved-up burst. Callers reserve a token and sleep outside the lock until it is due, so
+ * concurrent handlers are spaced out instead of all waking at once.
+ */
+public class RateLimiter {
+  private static final double DECREASE_FACTOR = 0.5;
+
+  private final double minRate;
+  private final double maxRate;
+  private final double increment;
+  private final double burst;
+  private final LongSupplier nanoTime;
+
+  private double rate;
+  private double tokens;
+  private long lastRefillNanos;
+
+  public RateLimiter(final double minRate, final double maxRate, final double increment, final double burst) {
+    this(minRate, maxRate, increment, burst, System::nanoTime);
+  }
+
+  RateLimiter(final double minRate, final double maxRate, final double increment, final double burst, final LongSupplier nanoTime) {
+    Preconditions.checkArgument(minRate > 0 && maxRate >= minRate, "rates must satisfy 0 < minRate <= maxRate");
+    Preconditions.checkArgument(increment >= 0, "increment must be >= 0");
+    Preconditions.checkArgument(burst >= 1, "burst must be >= 1");
+    this.minRate = minRate;
+    this.maxRate = maxRate;
+    this.increment = increment;
+    this.burst = burst;
+    this.nanoTime = nanoTime;
+    this.rate = maxRate;
+    this.tokens = burst;
+    this.lastRefillNanos = nanoTime.getAsLong();
+  }
+
+  public void acquire() {
+    final long waitNanos = reserve();
+    if (waitNanos <= 0) return;
+    try {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // Takes a token, possibly one that is only refilled in the future, and returns how long to wait for it
+  synchronized long reserve() {
+    refill();
+    tokens -= 1;
+    return tokens >= 0 ? 0L : (long) (-tokens / rate * TimeUnit.SECONDS.toNanos(1));
+  }
+
+  public synchronized void onSuccess() {
+    refill();
+    rate = Math.min(maxRate, rate + increment);
+  }
+
+  public synchronized void onThrottle() {
+    refill();
+    rate = Math.max(minRate, rate * DECREASE_FACTOR);
+    tokens = Math.min(tokens, 0);
+  }
+
+  public synchronized double getRate() {
+    return rate;
+  }
+
+  private void refill() {
+    final long now = nanoTime.getAsLong();
+    tokens = Math.min(burst, tokens + (now - lastRefillNanos) * rate / TimeUnit.SECONDS.toNanos(1));
+    lastRefillNanos = now;
+  }
+}
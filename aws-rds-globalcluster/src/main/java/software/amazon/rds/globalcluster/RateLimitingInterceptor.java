@@ -0,0 +1,91 @@
+package software.amazon.rds.globalcluster;
+
+import java.util.Objects;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.RetryUtils;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+
+/**
+ * Client-side throttle for one RdsClient, shared by every invocation served by the container.
+ *
+ * Describe and List operations draw from one RateLimiter and all other operations from another, since RDS throttles
+ * the two classes separately. Each attempt, including SDK retries, waits for a token before it is sent; the outcome of
+ * the call then feeds back into the limiter of its class. Interceptors only see the final outcome of a call, so
+ * throttled attempts that the SDK goes on to retry are reported by the RetryCondition from throttleFeedback; every
+ * throttled attempt counts once, whichever of the two sees it.
+ */
+public class RateLimitingInterceptor implements ExecutionInterceptor {
+  private static final ExecutionAttribute<Integer> ATTEMPTS = new ExecutionAttribute<>("RateLimitingAttempts");
+  private static final ExecutionAttribute<Integer> THROTTLED_ATTEMPT = new ExecutionAttribute<>("RateLimitingThrottledAttempt");
+
+  private final RateLimiter describeLimiter;
+  private final RateLimiter mutateLimiter;
+
+  public RateLimitingInterceptor(final RateLimiter describeLimiter, final RateLimiter mutateLimiter) {
+    this.describeLimiter = describeLimiter;
+    this.mutateLimiter = mutateLimiter;
+  }
+
+  @Override
+  public void beforeTransmission(final Context.BeforeTransmission context, final ExecutionAttributes executionAttributes) {
+    limiterFor(executionAttributes).acquire();
+    executionAttributes.putAttribute(ATTEMPTS, attempts(executionAttributes) + 1);
+  }
+
+  @Override
+  public void afterExecution(final Context.AfterExecution context, final ExecutionAttributes executionAttributes) {
+    limiterFor(executionAttributes).onSuccess();
+  }
+
+  @Override
+  public void onExecutionFailure(final Context.FailedExecution context, final ExecutionAttributes executionAttributes) {
+    recordThrottle(context.exception(), executionAttributes);
+  }
+
+  // Wraps the retry condition of the client so that every throttled attempt slows the limiter down, not only the last
+  public RetryCondition throttleFeedback(final RetryCondition delegate) {
+    return new RetryCondition() {
+      @Override
+      public boolean shouldRetry(final RetryPolicyContext context) {
+        recordThrottle(context.exception(), context.executionAttributes());
+        return delegate.shouldRetry(context);
+      }
+
+      @Override
+      public void requestWillNotBeRetried(final RetryPolicyContext context) {
+        delegate.requestWillNotBeRetried(context);
+      }
+
+      @Override
+      public void requestSucceeded(final RetryPolicyContext context) {
+        delegate.requestSucceeded(context);
+      }
+    };
+  }
+
+  RateLimiter limiterFor(final ExecutionAttributes executionAttributes) {
+    final String operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+    final boolean readOnly = operation != null && (operation.startsWith("Describe") || operation.startsWith("List"));
+    return readOnly ? describeLimiter : mutateLimiter;
+  }
+
+  private void recordThrottle(final Throwable exception, final ExecutionAttributes executionAttributes) {
+    if (!(exception instanceof SdkException) || !RetryUtils.isThrottlingException((SdkException) exception)) return;
+    final int attempt = attempts(executionAttributes);
+    if (Objects.equals(executionAttributes.getAttribute(THROTTLED_ATTEMPT), attempt)) return;
+    executionAttributes.putAttribute(THROTTLED_ATTEMPT, attempt);
+    limiterFor(executionAttributes).onThrottle();
+  }
+
+  private static int attempts(final ExecutionAttributes executionAttributes) {
+    final Integer attempts = executionAttributes.getAttribute(ATTEMPTS);
+    return attempts == null ? 0 : attempts;
+  }
+}
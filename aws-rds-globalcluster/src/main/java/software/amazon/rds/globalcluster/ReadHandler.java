@@ -31,7 +31,7 @@ public class ReadHandler extends BaseHandlerStd {
     }
 
     @VisibleForTesting
-    ResourceModel toResourceModel(GlobalCluster cluster) {
+    static ResourceModel toResourceModel(GlobalCluster cluster) {
 
         ResourceModel.ResourceModelBuilder builder = ResourceModel.builder();
 
@@ -17,10 +17,15 @@ public class UpdateHandler extends BaseHandlerStd {
 
         ResourceModel model = request.getDesiredResourceState();
 
+        // nothing to modify, so there is nothing to wait for either
+        if (ModelComparator.classify(request.getPreviousResourceState(), model) == ModelComparator.Change.NONE) {
+            return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        }
+
         return proxy.initiate("rds::update-global-cluster", proxyClient, request.getDesiredResourceState(), callbackContext)
                 // request to update global cluster
                 .translateToServiceRequest(Translator::modifyGlobalClusterRequest)
-                .backoffDelay(BACKOFF_STRATEGY)
+                .backoffDelay(MODIFYING_BACKOFF)
                 .makeServiceCall((modifyGlobalClusterRequest, proxyClient1) -> proxyClient1.injectCredentialsAndInvokeV2(modifyGlobalClusterRequest, proxyClient1.client()::modifyGlobalCluster))
                 .stabilize(((modifyGlobalClusterRequest, modifyGlobalClusterResponse, proxyClient1, resourceModel, callbackContext1) ->
                         isGlobalClusterStabilized(proxyClient1, model)))
@@ -93,7 +93,8 @@ public class DeleteHandlerWithProgressTest extends AbstractTestBase {
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(30);
+        // jittered step of the deleting backoff schedule
+        assertThat(response.getCallbackDelaySeconds()).isBetween(10, 60);
         assertThat(response.getResourceModel()).isSameAs(RESOURCE_MODEL);
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
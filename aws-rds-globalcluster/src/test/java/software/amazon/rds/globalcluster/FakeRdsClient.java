@@ -0,0 +1,294 @@
+package software.amazon.rds.globalcluster;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.CreateGlobalClusterRequest;
+import software.amazon.awssdk.services.rds.model.CreateGlobalClusterResponse;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DbClusterNotFoundException;
+import software.amazon.awssdk.services.rds.model.DeleteGlobalClusterRequest;
+import software.amazon.awssdk.services.rds.model.DeleteGlobalClusterResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
+import software.amazon.awssdk.services.rds.model.DescribeGlobalClustersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeGlobalClustersResponse;
+import software.amazon.awssdk.services.rds.model.GlobalCluster;
+import software.amazon.awssdk.services.rds.model.GlobalClusterAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.GlobalClusterMember;
+import software.amazon.awssdk.services.rds.model.GlobalClusterNotFoundException;
+import software.amazon.awssdk.services.rds.model.ModifyGlobalClusterRequest;
+import software.amazon.awssdk.services.rds.model.ModifyGlobalClusterResponse;
+import software.amazon.awssdk.services.rds.model.RemoveFromGlobalClusterRequest;
+import software.amazon.awssdk.services.rds.model.RemoveFromGlobalClusterResponse;
+
+/**
+ * Stateful in-memory stand-in for RdsClient that models global clusters and their member DB clusters.
+ *
+ * Mutating calls move a global cluster into a transitional status (creating, modifying, deleting). Every describe
+ * that returns the global cluster counts as one poll, and it moves on to the next status once the configured number
+ * of polls has been observed. DB clusters are seeded with {@link #withCluster} and only change membership.
+ * Each call can be delayed by a fixed latency and is counted per operation.
+ */
+public class FakeRdsClient implements RdsClient {
+
+  private static final String ARN_PREFIX = "arn:rds::123456789012:global-cluster:";
+
+  private final Map<String, Resource> globalClusters = new LinkedHashMap<>();
+  private final Map<String, DBCluster> clusters = new LinkedHashMap<>();
+  private final Map<String, Transition> transitions = new HashMap<>();
+  private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+  private volatile Duration latency = Duration.ZERO;
+
+  public FakeRdsClient() {
+    withTransition("creating", "available", 0);
+    withTransition("modifying", "available", 0);
+    withTransition("deleting", null, 0);
+  }
+
+  /**
+   * A global cluster in status {@code from} is reported as such by the next {@code polls} describe calls
+   * and as {@code to} afterwards. A {@code null} target removes the global cluster.
+   */
+  public synchronized FakeRdsClient withTransition(final String from, final String to, final int polls) {
+    transitions.put(from, new Transition(to, polls));
+    return this;
+  }
+
+  public FakeRdsClient withLatency(final Duration latency) {
+    this.latency = latency;
+    return this;
+  }
+
+  public synchronized FakeRdsClient withCluster(final DBCluster cluster) {
+    clusters.put(cluster.dbClusterIdentifier(), cluster);
+    return this;
+  }
+
+  public int getCallCount(final String operation) {
+    return Optional.ofNullable(calls.get(operation)).map(AtomicInteger::get).orElse(0);
+  }
+
+  public int getTotalCallCount() {
+    return calls.values().stream().mapToInt(AtomicInteger::get).sum();
+  }
+
+  public synchronized Optional<String> getStatus(final String globalClusterIdentifier) {
+    return Optional.ofNullable(globalClusters.get(globalClusterIdentifier)).map(resource -> resource.status);
+  }
+
+  public synchronized List<String> getMembers(final String globalClusterIdentifier) {
+    return getGlobalCluster(globalClusterIdentifier).globalCluster.globalClusterMembers().stream()
+        .map(GlobalClusterMember::dbClusterArn)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public String serviceName() {
+    return SERVICE_NAME;
+  }
+
+  @Override
+  public void close() {
+  }
+
+  @Override
+  public CreateGlobalClusterResponse createGlobalCluster(final CreateGlobalClusterRequest request) {
+    return call("createGlobalCluster", () -> {
+      if (globalClusters.containsKey(request.globalClusterIdentifier())) {
+        throw GlobalClusterAlreadyExistsException.builder().message("GlobalCluster " + request.globalClusterIdentifier() + " already exists").build();
+      }
+      final GlobalCluster.Builder builder = GlobalCluster.builder()
+          .globalClusterIdentifier(request.globalClusterIdentifier())
+          .globalClusterArn(ARN_PREFIX + request.globalClusterIdentifier())
+          .globalClusterResourceId("cluster-" + request.globalClusterIdentifier())
+          .databaseName(request.databaseName())
+          .engine(request.engine())
+          .engineVersion(request.engineVersion())
+          .storageEncrypted(request.storageEncrypted())
+          .deletionProtection(Optional.ofNullable(request.deletionProtection()).orElse(false))
+          .globalClusterMembers(Collections.emptyList());
+      if (request.sourceDBClusterIdentifier() != null) {
+        final DBCluster source = getCluster(request.sourceDBClusterIdentifier());
+        builder.engine(Optional.ofNullable(request.engine()).orElse(source.engine()))
+            .engineVersion(Optional.ofNullable(request.engineVersion()).orElse(source.engineVersion()))
+            .globalClusterMembers(GlobalClusterMember.builder()
+                .dbClusterArn(source.dbClusterArn())
+                .isWriter(true)
+                .readers(Collections.emptyList())
+                .build());
+      }
+      final Resource resource = new Resource(builder.build());
+      resource.transition("creating");
+      globalClusters.put(request.globalClusterIdentifier(), resource);
+      return CreateGlobalClusterResponse.builder().globalCluster(resource.describe()).build();
+    });
+  }
+
+  @Override
+  public DescribeGlobalClustersResponse describeGlobalClusters(final DescribeGlobalClustersRequest request) {
+    return call("describeGlobalClusters", () -> {
+      if (request.globalClusterIdentifier() != null) {
+        final Resource resource = getGlobalCluster(request.globalClusterIdentifier());
+        if (!poll(request.globalClusterIdentifier(), resource)) {
+          throw notFound(request.globalClusterIdentifier());
+        }
+        return DescribeGlobalClustersResponse.builder().globalClusters(resource.describe()).build();
+      }
+      final List<String> identifiers = new ArrayList<>(globalClusters.keySet());
+      final int from = request.marker() == null ? 0 : Integer.parseInt(request.marker());
+      final int to = request.maxRecords() == null ? identifiers.size() : Math.min(identifiers.size(), from + request.maxRecords());
+      final List<GlobalCluster> page = new ArrayList<>();
+      for (final String identifier : identifiers.subList(from, to)) {
+        final Resource resource = globalClusters.get(identifier);
+        if (poll(identifier, resource)) {
+          page.add(resource.describe());
+        }
+      }
+      return DescribeGlobalClustersResponse.builder()
+          .globalClusters(page)
+          .marker(to < identifiers.size() ? String.valueOf(to) : null)
+          .build();
+    });
+  }
+
+  @Override
+  public ModifyGlobalClusterResponse modifyGlobalCluster(final ModifyGlobalClusterRequest request) {
+    return call("modifyGlobalCluster", () -> {
+      final Resource resource = getGlobalCluster(request.globalClusterIdentifier());
+      final GlobalCluster.Builder builder = resource.globalCluster.toBuilder();
+      Optional.ofNullable(request.deletionProtection()).ifPresent(builder::deletionProtection);
+      resource.globalCluster = builder.build();
+      resource.transition("modifying");
+      return ModifyGlobalClusterResponse.builder().globalCluster(resource.describe()).build();
+    });
+  }
+
+  @Override
+  public DeleteGlobalClusterResponse deleteGlobalCluster(final DeleteGlobalClusterRequest request) {
+    return call("deleteGlobalCluster", () -> {
+      final Resource resource = getGlobalCluster(request.globalClusterIdentifier());
+      resource.transition("deleting");
+      return DeleteGlobalClusterResponse.builder().globalCluster(resource.describe()).build();
+    });
+  }
+
+  @Override
+  public RemoveFromGlobalClusterResponse removeFromGlobalCluster(final RemoveFromGlobalClusterRequest request) {
+    return call("removeFromGlobalCluster", () -> {
+      final Resource resource = getGlobalCluster(request.globalClusterIdentifier());
+      final DBCluster member = getCluster(request.dbClusterIdentifier());
+      resource.globalCluster = resource.globalCluster.toBuilder()
+          .globalClusterMembers(resource.globalCluster.globalClusterMembers().stream()
+              .filter(existing -> !existing.dbClusterArn().equals(member.dbClusterArn()))
+              .collect(Collectors.toList()))
+          .build();
+      return RemoveFromGlobalClusterResponse.builder().globalCluster(resource.describe()).build();
+    });
+  }
+
+  @Override
+  public DescribeDbClustersResponse describeDBClusters(final DescribeDbClustersRequest request) {
+    return call("describeDBClusters", () -> {
+      if (request.dbClusterIdentifier() != null) {
+        return DescribeDbClustersResponse.builder().dbClusters(getCluster(request.dbClusterIdentifier())).build();
+      }
+      return DescribeDbClustersResponse.builder().dbClusters(clusters.values()).build();
+    });
+  }
+
+  private <T> T call(final String operation, final Supplier<T> body) {
+    calls.computeIfAbsent(operation, key -> new AtomicInteger()).incrementAndGet();
+    final Duration delay = latency;
+    if (!delay.isZero()) {
+      Uninterruptibles.sleepUninterruptibly(delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+    synchronized (this) {
+      return body.get();
+    }
+  }
+
+  private Resource getGlobalCluster(final String globalClusterIdentifier) {
+    final Resource resource = globalClusters.get(globalClusterIdentifier);
+    if (resource == null) {
+      throw notFound(globalClusterIdentifier);
+    }
+    return resource;
+  }
+
+  // RDS accepts either the identifier or the ARN of a DB cluster
+  private DBCluster getCluster(final String dbClusterIdentifier) {
+    return clusters.values().stream()
+        .filter(cluster -> dbClusterIdentifier.equals(cluster.dbClusterIdentifier()) || dbClusterIdentifier.equals(cluster.dbClusterArn()))
+        .findFirst()
+        .orElseThrow(() -> DbClusterNotFoundException.builder().message("DBCluster " + dbClusterIdentifier + " not found").build());
+  }
+
+  /**
+   * Counts a describe poll against the global cluster and advances its status if the transition is due.
+   * Returns false if the global cluster has been removed as a result.
+   */
+  private boolean poll(final String globalClusterIdentifier, final Resource resource) {
+    final Transition transition = transitions.get(resource.status);
+    if (transition == null) {
+      return true;
+    }
+    if (resource.polls < transition.polls) {
+      resource.polls++;
+      return true;
+    }
+    if (transition.to == null) {
+      globalClusters.remove(globalClusterIdentifier);
+      return false;
+    }
+    resource.transition(transition.to);
+    return true;
+  }
+
+  private static GlobalClusterNotFoundException notFound(final String globalClusterIdentifier) {
+    return GlobalClusterNotFoundException.builder().message("GlobalCluster " + globalClusterIdentifier + " not found").build();
+  }
+
+  private static class Resource {
+    private GlobalCluster globalCluster;
+    private String status;
+    private int polls;
+
+    Resource(final GlobalCluster globalCluster) {
+      this.globalCluster = globalCluster;
+      this.status = Optional.ofNullable(globalCluster.status()).orElse("available");
+    }
+
+    void transition(final String status) {
+      this.status = status;
+      this.polls = 0;
+    }
+
+    GlobalCluster describe() {
+      return globalCluster.toBuilder().status(status).build();
+    }
+  }
+
+  private static class Transition {
+    private final String to;
+    private final int polls;
+
+    Transition(final String to, final int polls) {
+      this.to = to;
+      this.polls = polls;
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package software.amazon.rds.globalcluster;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the real handler chains against {@link FakeRdsClient} instead of per-call mocks.
+ */
+public class HandlerLifecycleTest extends AbstractTestBase {
+
+  private static final int MAX_INVOCATIONS = 20;
+  private static final Delay NO_WAIT = Constant.of().delay(Duration.ofMillis(1)).timeout(Duration.ofSeconds(10)).build();
+
+  private FakeRdsClient rds;
+  private AmazonWebServicesClientProxy proxy;
+  private ProxyClient<RdsClient> proxyClient;
+
+  @BeforeEach
+  public void setup() {
+    rds = new FakeRdsClient().withCluster(DBCluster.builder()
+        .dbClusterIdentifier(SOURCECLUSTER_IDENTIFIER)
+        .dbClusterArn(SOURCECLUSTER_ARN)
+        .engine(ENGINE)
+        .engineVersion(ENGINE_VERSION)
+        .status("available")
+        .build());
+    proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis(), (callGraph, delay) -> NO_WAIT);
+    proxyClient = MOCK_PROXY(proxy, rds);
+  }
+
+  @Test
+  public void createUpdateDelete_withSourceCluster() {
+    final ResourceModel created = drive(new CreateHandler(), request(model(SOURCECLUSTER_IDENTIFIER, false))).getResourceModel();
+
+    assertThat(created.getSourceDBClusterIdentifier()).isEqualTo(SOURCECLUSTER_ARN);
+    assertThat(created.getDeletionProtection()).isFalse();
+    assertThat(rds.getMembers(GLOBALCLUSTER_IDENTIFIER)).containsExactly(SOURCECLUSTER_ARN);
+
+    final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(), request(model(SOURCECLUSTER_IDENTIFIER, true)));
+
+    assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(updated.getResourceModel().getDeletionProtection()).isTrue();
+
+    final ProgressEvent<ResourceModel, CallbackContext> deleted = drive(new DeleteHandler(), request(model(SOURCECLUSTER_IDENTIFIER, false)));
+
+    assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(rds.getCallCount("removeFromGlobalCluster")).isEqualTo(1);
+    assertThat(rds.getCallCount("deleteGlobalCluster")).isEqualTo(1);
+    assertThat(rds.getStatus(GLOBALCLUSTER_IDENTIFIER)).isEmpty();
+  }
+
+  @Test
+  public void create_pollsUntilAvailable() {
+    rds.withTransition("creating", "available", 2);
+
+    final ProgressEvent<ResourceModel, CallbackContext> response = drive(new CreateHandler(), request(model(null, false)));
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(rds.getCallCount("createGlobalCluster")).isEqualTo(1);
+    // 3 polls to leave "creating", then one for the read
+    assertThat(rds.getCallCount("describeGlobalClusters")).isEqualTo(4);
+    assertThat(rds.getCallCount("describeDBClusters")).isZero();
+  }
+
+  private ResourceModel model(final String sourceDBClusterIdentifier, final boolean deletionProtection) {
+    return ResourceModel.builder()
+        .globalClusterIdentifier(GLOBALCLUSTER_IDENTIFIER)
+        .sourceDBClusterIdentifier(sourceDBClusterIdentifier)
+        .engine(ENGINE)
+        .engineVersion(ENGINE_VERSION)
+        .deletionProtection(deletionProtection)
+        .build();
+  }
+
+  private ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired) {
+    return ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(desired)
+        .logicalResourceIdentifier("globalcluster")
+        .clientRequestToken("token")
+        .build();
+  }
+
+  // Re-invokes the handler the way CloudFormation does until it leaves IN_PROGRESS, ignoring callback delays.
+  private ProgressEvent<ResourceModel, CallbackContext> drive(final BaseHandlerStd handler,
+                                                              final ResourceHandlerRequest<ResourceModel> request) {
+    CallbackContext context = new CallbackContext();
+    ProgressEvent<ResourceModel, CallbackContext> event = null;
+    for (int invocation = 0; invocation < MAX_INVOCATIONS; invocation++) {
+      event = handler.handleRequest(proxy, request, context, proxyClient, logger);
+      if (event.getStatus() != OperationStatus.IN_PROGRESS) {
+        break;
+      }
+      context = event.getCallbackContext();
+      if (event.getResourceModel() != null) {
+        request.setDesiredResourceState(event.getResourceModel());
+      }
+    }
+    assertThat(event.getStatus()).isNotEqualTo(OperationStatus.IN_PROGRESS);
+    return event;
+  }
+}
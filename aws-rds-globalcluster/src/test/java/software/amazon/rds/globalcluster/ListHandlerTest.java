@@ -10,6 +10,7 @@ import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DescribeGlobalClustersRequest;
 import software.amazon.awssdk.services.rds.model.DescribeGlobalClustersResponse;
 import software.amazon.awssdk.services.rds.model.GlobalCluster;
+import software.amazon.awssdk.services.rds.model.GlobalClusterMember;
 import software.amazon.cloudformation.proxy.*;
 
 import java.time.Duration;
@@ -76,4 +77,43 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
         verify(proxyRdsClient.client()).describeGlobalClusters(any(DescribeGlobalClustersRequest.class));
     }
+
+    @Test
+    public void handleRequest_FullModels() {
+        handler = new ListHandler(true);
+        final DescribeGlobalClustersResponse describeGlobalClusterResponse =
+                DescribeGlobalClustersResponse.builder().globalClusters(
+                        GlobalCluster.builder()
+                                .globalClusterIdentifier("sampleId")
+                                .engine("aurora-mysql")
+                                .engineVersion("5.7.mysql_aurora.2.07.2")
+                                .storageEncrypted(true)
+                                .deletionProtection(false)
+                                .globalClusterMembers(GlobalClusterMember.builder()
+                                        .dbClusterArn("arn:aws:rds:us-east-1:123456789012:cluster:primary")
+                                        .isWriter(true)
+                                        .build())
+                                .build()
+                ).marker("marker2").build();
+
+        when(proxyRdsClient.client().describeGlobalClusters(any(DescribeGlobalClustersRequest.class))).thenReturn(describeGlobalClusterResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo("marker2");
+        assertThat(response.getResourceModels()).containsExactly(ResourceModel.builder()
+                .globalClusterIdentifier("sampleId")
+                .engine("aurora-mysql")
+                .engineVersion("5.7.mysql_aurora.2.07.2")
+                .storageEncrypted(true)
+                .deletionProtection(false)
+                .sourceDBClusterIdentifier("arn:aws:rds:us-east-1:123456789012:cluster:primary")
+                .build());
+        verify(proxyRdsClient.client()).describeGlobalClusters(any(DescribeGlobalClustersRequest.class));
+    }
 }
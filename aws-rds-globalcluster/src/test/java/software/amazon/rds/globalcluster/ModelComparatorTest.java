@@ -0,0 +1,26 @@
+package software.amazon.rds.globalcluster;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ModelComparatorTest {
+
+  @Test
+  public void classify_noneWhenDeletionProtectionUnchanged() {
+    assertThat(ModelComparator.classify(model(true), model(true))).isEqualTo(ModelComparator.Change.NONE);
+  }
+
+  @Test
+  public void classify_coreWhenDeletionProtectionChanged() {
+    assertThat(ModelComparator.classify(model(false), model(true))).isEqualTo(ModelComparator.Change.CORE);
+    assertThat(ModelComparator.classify(null, model(true))).isEqualTo(ModelComparator.Change.CORE);
+  }
+
+  private static ResourceModel model(final boolean deletionProtection) {
+    return ResourceModel.builder()
+        .globalClusterIdentifier("global-cluster")
+        .deletionProtection(deletionProtection)
+        .build();
+  }
+}
@@ -66,6 +66,25 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verifyNoMoreInteractions(rds);
     }
 
+    @Test
+    public void handleRequest_UnchangedDeletionProtectionSkipsModify() {
+        final DescribeGlobalClustersResponse describeGlobalClustersResponse = DescribeGlobalClustersResponse.builder().globalClusters(GLOBAL_CLUSTER_ACTIVE).build();
+        when(proxyRdsClient.client().describeGlobalClusters(any(DescribeGlobalClustersRequest.class))).thenReturn(describeGlobalClustersResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(RESOURCE_MODEL_UPDATE)
+                .previousResourceState(RESOURCE_MODEL_UPDATE)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        // the read is all that is left
+        verify(proxyRdsClient.client()).describeGlobalClusters(any(DescribeGlobalClustersRequest.class));
+        verify(rds).serviceName();
+        verifyNoMoreInteractions(rds);
+    }
+
     @Test
     public void handleRequest_ReturnsFailedResponse_WhenRdsClientThrowsClusterNotFoundException() {
         AwsErrorDetails awsErr = AwsErrorDetails.builder().sdkHttpResponse(SdkHttpResponse.builder().statusCode(404).build()).build();
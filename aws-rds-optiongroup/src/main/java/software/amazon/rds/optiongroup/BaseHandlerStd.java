@@ -1,13 +1,16 @@
 package software.amazon.rds.optiongroup;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
-import com.google.common.collect.Sets;
+import com.amazonaws.util.StringUtils;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.rds.model.OptionGroupAlreadyExistsException;
@@ -15,17 +18,19 @@ import software.amazon.awssdk.services.rds.model.OptionGroupNotFoundException;
 import software.amazon.awssdk.services.rds.model.OptionGroupQuotaExceededException;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
-    protected static final Constant BACKOFF_DELAY = Constant.of()
+    private static final String DEFAULT_PARTITION = "aws";
+    protected static final Delay BACKOFF_DELAY = ExponentialBackoff.of()
+            .initialDelay(Duration.ofSeconds(1L))
+            .maxDelay(Duration.ofSeconds(15L))
             .timeout(Duration.ofSeconds(150L))
-            .delay(Duration.ofSeconds(5L))
             .build();
 
     @Override
@@ -67,12 +72,19 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 .progress();
     }
 
+    // previousTags are the tags of the previous resource state, or null when unknown, in which case the current tags
+    // are listed. No call is made at all when the previous and desired tags already match.
     protected ProgressEvent<ResourceModel, CallbackContext> tagResource(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> proxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress,
-            final Map<String, String> tags
+            final Map<String, String> tags,
+            final Map<String, String> previousTags
     ) {
+        final Set<Tag> desiredTags = Translator.translateTagsToModelResource(tags);
+        if (previousTags != null && TagDelta.between(Translator.translateTagsToModelResource(previousTags), desiredTags).isEmpty()) {
+            return progress;
+        }
         return proxy.initiate("rds::tag-option-group", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::describeOptionGroupsRequest)
                 .makeServiceCall(((describeRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
@@ -84,19 +96,10 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 })
                 .done((request, response, invocation, model, context) -> {
                     final String arn = response.optionGroupsList().stream().findFirst().get().optionGroupArn();
-                    final Set<Tag> currentTags = new HashSet<>(Translator.translateTagsToModelResource(tags));
-                    final Set<Tag> existingTags = new HashSet<>(listTags(proxyClient, arn));
-                    final Set<Tag> tagsToRemove = Sets.difference(existingTags, currentTags);
-                    final Set<Tag> tagsToAdd = Sets.difference(currentTags, existingTags);
-
-                    proxyClient.injectCredentialsAndInvokeV2(
-                            Translator.removeTagsFromResourceRequest(arn, tagsToRemove),
-                            proxyClient.client()::removeTagsFromResource
-                    );
-                    proxyClient.injectCredentialsAndInvokeV2(
-                            Translator.addTagsToResourceRequest(arn, tagsToAdd),
-                            proxyClient.client()::addTagsToResource
-                    );
+                    final Collection<Tag> existingTags = previousTags != null
+                            ? Translator.translateTagsToModelResource(previousTags)
+                            : listTags(proxyClient, arn);
+                    TagDelta.between(existingTags, desiredTags).apply(proxyClient, arn);
                     return ProgressEvent.progress(model, context);
                 });
     }
@@ -105,10 +108,11 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> proxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress,
-            final Map<String, String> tags
+            final Map<String, String> tags,
+            final Map<String, String> previousTags
     ) {
         try {
-            return tagResource(proxy, proxyClient, progress, tags);
+            return tagResource(proxy, proxyClient, progress, tags, previousTags);
         } catch (CfnAccessDeniedException e) {
             return ProgressEvent.defaultSuccessHandler(progress.getResourceModel());
         }
@@ -125,11 +129,22 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected List<Tag> listTagsSoftFailOnAccessDenied(final ProxyClient<RdsClient> proxyClient, final String arn) {
         try {
             return listTags(proxyClient, arn);
-        } catch (CfnAccessDeniedException e) {
+        } catch (RuntimeException e) {
+            if (!isAccessDenied(e)) throw e;
             return Collections.emptyList();
         }
     }
 
+    // The proxy's call chain reports AccessDenied as CfnAccessDeniedException; a direct injectCredentialsAndInvokeV2
+    // call lets the service's 403 through as it is
+    protected static boolean isAccessDenied(final Exception e) {
+        if (e instanceof CfnAccessDeniedException) return true;
+        if (!(e instanceof AwsServiceException)) return false;
+        final AwsServiceException serviceException = (AwsServiceException) e;
+        return serviceException.statusCode() == 403
+                || (serviceException.awsErrorDetails() != null && "AccessDenied".equals(serviceException.awsErrorDetails().errorCode()));
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleException(
             final ProgressEvent<ResourceModel, CallbackContext> progress,
             final Exception e
@@ -143,4 +158,14 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         }
         return ProgressEvent.defaultFailureHandler(e, HandlerErrorCode.InternalFailure);
     }
+
+    // ARN the resource will have in the request's partition, account and region, or null when the request does not
+    // carry them. Option group names are stored in lower case.
+    protected static String resourceArn(final ResourceHandlerRequest<ResourceModel> request, final String resourceType, final String resourceName) {
+        if (StringUtils.isNullOrEmpty(request.getAwsAccountId()) || StringUtils.isNullOrEmpty(request.getRegion()) || StringUtils.isNullOrEmpty(resourceName)) {
+            return null;
+        }
+        final String partition = Optional.ofNullable(request.getAwsPartition()).orElse(DEFAULT_PARTITION);
+        return String.format("arn:%s:rds:%s:%s:%s:%s", partition, request.getRegion(), request.getAwsAccountId(), resourceType, resourceName.toLowerCase(Locale.ROOT));
+    }
 }
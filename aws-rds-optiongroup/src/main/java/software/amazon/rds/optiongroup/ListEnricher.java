@@ -0,0 +1,68 @@
+package software.amazon.rds.optiongroup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Builds the models of one listed page, running the per-item reads on a pool shared by the container with at most
+ * maxInFlight of them at a time.
+ *
+ * The reads use the handler's RdsClient, so the container-wide RateLimitingInterceptor still decides how fast they
+ * go; the bound only keeps a large page from queueing all of its reads at once. The result follows the order of the
+ * page, and a failed read is rethrown only once the rest of the page has been read. Failures the page can live
+ * without, such as AccessDenied on an item's tags, are for the enrich function to absorb.
+ */
+public class ListEnricher {
+    private static final int POOL_SIZE = 8;
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(POOL_SIZE,
+            new ThreadFactoryBuilder().setNameFormat("rds-list-enricher-%d").setDaemon(true).build());
+
+    private final int maxInFlight;
+
+    public ListEnricher(final int maxInFlight) {
+        Preconditions.checkArgument(maxInFlight >= 1, "maxInFlight must be >= 1");
+        this.maxInFlight = maxInFlight;
+    }
+
+    public <T, R> List<R> map(final List<T> items, final Function<T, R> enrich) {
+        final Semaphore inFlight = new Semaphore(maxInFlight);
+        final List<CompletableFuture<R>> futures = new ArrayList<>(items.size());
+        for (final T item : items) {
+            inFlight.acquireUninterruptibly();
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return enrich.apply(item);
+                } finally {
+                    inFlight.release();
+                }
+            }, EXECUTOR));
+        }
+
+        final List<R> results = new ArrayList<>(items.size());
+        RuntimeException failure = null;
+        for (final CompletableFuture<R> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) failure = unwrap(e);
+            }
+        }
+        if (failure != null) throw failure;
+        return results;
+    }
+
+    private static RuntimeException unwrap(final CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) return (RuntimeException) e.getCause();
+        if (e.getCause() instanceof Error) throw (Error) e.getCause();
+        return e;
+    }
+}
@@ -1,5 +1,6 @@
 package software.amazon.rds.optiongroup;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 import software.amazon.awssdk.services.rds.RdsClient;
@@ -12,6 +13,20 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ListHandler extends BaseHandlerStd {
+    // RDS_LIST_FULL_MODELS=true in the function's environment makes List return option groups the way Read does,
+    // option configurations and tags included. Tags are listed MAX_TAG_LISTS_IN_FLIGHT groups at a time.
+    static final String FULL_MODELS_VARIABLE = "RDS_LIST_FULL_MODELS";
+    static final int MAX_TAG_LISTS_IN_FLIGHT = 4;
+
+    private final boolean fullModels;
+
+    public ListHandler() {
+        this(Boolean.parseBoolean(System.getenv(FULL_MODELS_VARIABLE)));
+    }
+
+    ListHandler(final boolean fullModels) {
+        this.fullModels = fullModels;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -22,23 +37,30 @@ public class ListHandler extends BaseHandlerStd {
             final Logger logger) {
 
         DescribeOptionGroupsResponse describeOptionGroupsResponse;
+        List<ResourceModel> models;
         try {
             describeOptionGroupsResponse = proxy.injectCredentialsAndInvokeV2(
                     Translator.describeOptionGroupsRequest(request.getNextToken()),
                     proxyClient.client()::describeOptionGroups);
+            models = fullModels
+                    ? new ListEnricher(MAX_TAG_LISTS_IN_FLIGHT).map(
+                            describeOptionGroupsResponse.optionGroupsList(),
+                            optionGroup -> Translator.translateOptionGroupFromSdk(
+                                    optionGroup,
+                                    listTagsSoftFailOnAccessDenied(proxyClient, optionGroup.optionGroupArn())))
+                    : describeOptionGroupsResponse.optionGroupsList()
+                            .stream()
+                            .map(optionGroup -> ResourceModel.builder()
+                                    .optionGroupName(optionGroup.optionGroupName())
+                                    .build()
+                            ).collect(Collectors.toList());
         } catch (Exception e) {
             return handleException(ProgressEvent.progress(request.getPreviousResourceState(), callbackContext), e);
         }
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModels(
-                        describeOptionGroupsResponse.optionGroupsList()
-                                .stream()
-                                .map(optionGroup -> ResourceModel.builder()
-                                        .optionGroupName(optionGroup.optionGroupName())
-                                        .build()
-                                ).collect(Collectors.toList())
-                ).nextToken(describeOptionGroupsResponse.marker())
+                .resourceModels(models)
+                .nextToken(describeOptionGroupsResponse.marker())
                 .status(OperationStatus.SUCCESS)
                 .build();
     }
@@ -20,32 +20,31 @@ public class ReadHandler extends BaseHandlerStd {
             final ProxyClient<RdsClient> proxyClient,
             final Logger logger) {
 
+        // tags are listed while the option group is described whenever its ARN can be derived from the request
+        final ReadAhead<List<Tag>> listTags = new ReadAhead<>(resourceArn(request, "og", request.getDesiredResourceState().getOptionGroupName()));
         return proxy.initiate("rds::read-option-group", proxyClient, request.getDesiredResourceState(), callbackContext)
                 .translateToServiceRequest(Translator::describeOptionGroupsRequest)
                 .backoffDelay(BACKOFF_DELAY)
-                .makeServiceCall((describeRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
-                        describeRequest,
-                        proxyInvocation.client()::describeOptionGroups
-                ))
+                .makeServiceCall((describeRequest, proxyInvocation) -> {
+                    listTags.start(arn -> listTagsSoftFailOnAccessDenied(proxyInvocation, arn));
+                    try {
+                        return proxyInvocation.injectCredentialsAndInvokeV2(
+                                describeRequest,
+                                proxyInvocation.client()::describeOptionGroups
+                        );
+                    } catch (RuntimeException e) {
+                        listTags.cancel();
+                        throw e;
+                    }
+                })
                 .handleError((describeRequest, exception, client, resourceModel, ctx) -> handleException(
                         ProgressEvent.progress(resourceModel, ctx),
                         exception
                 ))
                 .done((describeRequest, describeResponse, proxyInvocation, model, context) -> {
                     final OptionGroup optionGroup = describeResponse.optionGroupsList().stream().findFirst().get();
-                    final List<OptionConfiguration> optionConfigurations = Translator.translateOptionConfigurationsFromSdk(optionGroup.options());
-                    final List<Tag> tags = listTagsSoftFailOnAccessDenied(proxyInvocation, optionGroup.optionGroupArn());
-                    return ProgressEvent.success(
-                            ResourceModel.builder()
-                                    .optionGroupName(optionGroup.optionGroupName())
-                                    .engineName(optionGroup.engineName())
-                                    .majorEngineVersion(optionGroup.majorEngineVersion())
-                                    .optionGroupDescription(optionGroup.optionGroupDescription())
-                                    .optionConfigurations(optionConfigurations)
-                                    .tags(tags)
-                                    .build(),
-                            context
-                    );
+                    final List<Tag> tags = listTags.get(optionGroup.optionGroupArn());
+                    return ProgressEvent.success(Translator.translateOptionGroupFromSdk(optionGroup, tags), context);
                 });
     }
 }
@@ -0,0 +1,68 @@
+package software.amazon.rds.optiongroup;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Minimal set of tagging calls that turns one tag set into another.
+ *
+ * Keys that disappear are removed. New tags and tags whose value changed go into a single add, since
+ * AddTagsToResource overwrites the value of an existing key. An empty delta sends no calls at all.
+ */
+public class TagDelta {
+    private final Set<Tag> tagsToAdd;
+    private final Set<Tag> tagsToRemove;
+
+    private TagDelta(final Set<Tag> tagsToAdd, final Set<Tag> tagsToRemove) {
+        this.tagsToAdd = tagsToAdd;
+        this.tagsToRemove = tagsToRemove;
+    }
+
+    public static TagDelta between(final Collection<Tag> existing, final Collection<Tag> desired) {
+        final Map<String, String> existingValues = toMap(existing);
+        final Map<String, String> desiredValues = toMap(desired);
+        final Set<Tag> tagsToAdd = Optional.ofNullable(desired).orElse(Collections.emptySet()).stream()
+                .filter(tag -> !existingValues.containsKey(tag.getKey()) || !Objects.equals(existingValues.get(tag.getKey()), tag.getValue()))
+                .collect(Collectors.toSet());
+        final Set<Tag> tagsToRemove = Optional.ofNullable(existing).orElse(Collections.emptySet()).stream()
+                .filter(tag -> !desiredValues.containsKey(tag.getKey()))
+                .collect(Collectors.toSet());
+        return new TagDelta(tagsToAdd, tagsToRemove);
+    }
+
+    public boolean isEmpty() {
+        return tagsToAdd.isEmpty() && tagsToRemove.isEmpty();
+    }
+
+    public Set<Tag> getTagsToAdd() {
+        return tagsToAdd;
+    }
+
+    public Set<Tag> getTagsToRemove() {
+        return tagsToRemove;
+    }
+
+    public void apply(final ProxyClient<RdsClient> proxyClient, final String arn) {
+        if (!tagsToRemove.isEmpty()) {
+            proxyClient.injectCredentialsAndInvokeV2(Translator.removeTagsFromResourceRequest(arn, tagsToRemove), proxyClient.client()::removeTagsFromResource);
+        }
+        if (!tagsToAdd.isEmpty()) {
+            proxyClient.injectCredentialsAndInvokeV2(Translator.addTagsToResourceRequest(arn, tagsToAdd), proxyClient.client()::addTagsToResource);
+        }
+    }
+
+    private static Map<String, String> toMap(final Collection<Tag> tags) {
+        final Map<String, String> values = new HashMap<>();
+        Optional.ofNullable(tags).orElse(Collections.emptySet()).forEach(tag -> values.put(tag.getKey(), tag.getValue()));
+        return values;
+    }
+}
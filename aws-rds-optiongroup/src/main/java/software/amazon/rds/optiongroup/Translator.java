@@ -16,6 +16,7 @@ import software.amazon.awssdk.services.rds.model.DeleteOptionGroupRequest;
 import software.amazon.awssdk.services.rds.model.DescribeOptionGroupsRequest;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.rds.model.ModifyOptionGroupRequest;
+import software.amazon.awssdk.services.rds.model.OptionGroup;
 import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
 import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
 
@@ -70,6 +71,17 @@ public class Translator {
                 .build();
     }
 
+    static ResourceModel translateOptionGroupFromSdk(final OptionGroup optionGroup, final List<Tag> tags) {
+        return ResourceModel.builder()
+                .optionGroupName(optionGroup.optionGroupName())
+                .engineName(optionGroup.engineName())
+                .majorEngineVersion(optionGroup.majorEngineVersion())
+                .optionGroupDescription(optionGroup.optionGroupDescription())
+                .optionConfigurations(translateOptionConfigurationsFromSdk(optionGroup.options()))
+                .tags(tags)
+                .build();
+    }
+
     static List<OptionConfiguration> translateOptionConfigurationsFromSdk(final Collection<software.amazon.awssdk.services.rds.model.Option> options) {
         return Optional.ofNullable(options).orElse(Collections.emptyList())
                 .stream()
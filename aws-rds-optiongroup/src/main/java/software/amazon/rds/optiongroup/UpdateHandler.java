@@ -63,7 +63,7 @@ public class UpdateHandler extends BaseHandlerStd {
                             ))
                             .progress();
                 })
-                .then(progress -> tagResourceSoftFailOnAccessDenied(proxy, proxyClient, progress, request.getDesiredResourceTags()))
+                .then(progress -> tagResourceSoftFailOnAccessDenied(proxy, proxyClient, progress, request.getDesiredResourceTags(), request.getPreviousResourceTags()))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
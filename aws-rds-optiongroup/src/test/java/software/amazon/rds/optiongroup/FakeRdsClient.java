@@ -0,0 +1,218 @@
+package software.amazon.rds.optiongroup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceResponse;
+import software.amazon.awssdk.services.rds.model.CreateOptionGroupRequest;
+import software.amazon.awssdk.services.rds.model.CreateOptionGroupResponse;
+import software.amazon.awssdk.services.rds.model.DBSecurityGroupMembership;
+import software.amazon.awssdk.services.rds.model.DeleteOptionGroupRequest;
+import software.amazon.awssdk.services.rds.model.DeleteOptionGroupResponse;
+import software.amazon.awssdk.services.rds.model.DescribeOptionGroupsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeOptionGroupsResponse;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rds.model.ModifyOptionGroupRequest;
+import software.amazon.awssdk.services.rds.model.ModifyOptionGroupResponse;
+import software.amazon.awssdk.services.rds.model.Option;
+import software.amazon.awssdk.services.rds.model.OptionConfiguration;
+import software.amazon.awssdk.services.rds.model.OptionGroup;
+import software.amazon.awssdk.services.rds.model.OptionGroupAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.OptionGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceResponse;
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
+
+/**
+ * Stateful in-memory stand-in for RdsClient that models option groups, their options and tags.
+ *
+ * Option groups have no lifecycle status: option changes are applied as soon as ModifyOptionGroup returns.
+ * Each call can be delayed by a fixed latency and is counted per operation, so the real handler chains can be
+ * driven end-to-end and measured without network access.
+ */
+public class FakeRdsClient implements RdsClient {
+
+    private static final String ARN_PREFIX = "arn:aws:rds:us-east-1:123456789012:og:";
+
+    private final Map<String, OptionGroup> optionGroups = new LinkedHashMap<>();
+    private final Map<String, Map<String, String>> tags = new HashMap<>();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private volatile Duration latency = Duration.ZERO;
+
+    public FakeRdsClient withLatency(final Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    public synchronized FakeRdsClient withOptionGroup(final OptionGroup optionGroup) {
+        optionGroups.put(optionGroup.optionGroupName(), optionGroup);
+        return this;
+    }
+
+    public int getCallCount(final String operation) {
+        return Optional.ofNullable(calls.get(operation)).map(AtomicInteger::get).orElse(0);
+    }
+
+    public int getTotalCallCount() {
+        return calls.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    public synchronized Optional<OptionGroup> getOptionGroup(final String optionGroupName) {
+        return Optional.ofNullable(optionGroups.get(optionGroupName));
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public CreateOptionGroupResponse createOptionGroup(final CreateOptionGroupRequest request) {
+        return call("createOptionGroup", () -> {
+            if (optionGroups.containsKey(request.optionGroupName())) {
+                throw OptionGroupAlreadyExistsException.builder().message("OptionGroup " + request.optionGroupName() + " already exists").build();
+            }
+            final OptionGroup optionGroup = OptionGroup.builder()
+                    .optionGroupName(request.optionGroupName())
+                    .optionGroupArn(ARN_PREFIX + request.optionGroupName())
+                    .optionGroupDescription(request.optionGroupDescription())
+                    .engineName(request.engineName())
+                    .majorEngineVersion(request.majorEngineVersion())
+                    .allowsVpcAndNonVpcInstanceMemberships(true)
+                    .options(Collections.emptyList())
+                    .build();
+            optionGroups.put(optionGroup.optionGroupName(), optionGroup);
+            putTags(optionGroup.optionGroupArn(), request.tags());
+            return CreateOptionGroupResponse.builder().optionGroup(optionGroup).build();
+        });
+    }
+
+    @Override
+    public DescribeOptionGroupsResponse describeOptionGroups(final DescribeOptionGroupsRequest request) {
+        return call("describeOptionGroups", () -> {
+            if (request.optionGroupName() != null) {
+                return DescribeOptionGroupsResponse.builder().optionGroupsList(getExisting(request.optionGroupName())).build();
+            }
+            final List<OptionGroup> all = new ArrayList<>(optionGroups.values());
+            final int from = request.marker() == null ? 0 : Integer.parseInt(request.marker());
+            final int to = request.maxRecords() == null ? all.size() : Math.min(all.size(), from + request.maxRecords());
+            return DescribeOptionGroupsResponse.builder()
+                    .optionGroupsList(all.subList(from, to))
+                    .marker(to < all.size() ? String.valueOf(to) : null)
+                    .build();
+        });
+    }
+
+    @Override
+    public ModifyOptionGroupResponse modifyOptionGroup(final ModifyOptionGroupRequest request) {
+        return call("modifyOptionGroup", () -> {
+            final OptionGroup optionGroup = getExisting(request.optionGroupName());
+            final Map<String, Option> options = new LinkedHashMap<>();
+            optionGroup.options().forEach(option -> options.put(option.optionName(), option));
+            Optional.ofNullable(request.optionsToRemove()).orElse(Collections.emptyList()).forEach(options::remove);
+            Optional.ofNullable(request.optionsToInclude()).orElse(Collections.emptyList())
+                    .forEach(configuration -> options.put(configuration.optionName(), toOption(configuration)));
+            final OptionGroup modified = optionGroup.toBuilder().options(new ArrayList<>(options.values())).build();
+            optionGroups.put(modified.optionGroupName(), modified);
+            return ModifyOptionGroupResponse.builder().optionGroup(modified).build();
+        });
+    }
+
+    @Override
+    public DeleteOptionGroupResponse deleteOptionGroup(final DeleteOptionGroupRequest request) {
+        return call("deleteOptionGroup", () -> {
+            final OptionGroup optionGroup = getExisting(request.optionGroupName());
+            optionGroups.remove(optionGroup.optionGroupName());
+            tags.remove(optionGroup.optionGroupArn());
+            return DeleteOptionGroupResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        return call("listTagsForResource", () -> ListTagsForResourceResponse.builder()
+                .tagList(tags.getOrDefault(request.resourceName(), Collections.emptyMap()).entrySet().stream()
+                        .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    @Override
+    public AddTagsToResourceResponse addTagsToResource(final AddTagsToResourceRequest request) {
+        return call("addTagsToResource", () -> {
+            putTags(request.resourceName(), request.tags());
+            return AddTagsToResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public RemoveTagsFromResourceResponse removeTagsFromResource(final RemoveTagsFromResourceRequest request) {
+        return call("removeTagsFromResource", () -> {
+            tags.getOrDefault(request.resourceName(), new HashMap<>()).keySet().removeAll(request.tagKeys());
+            return RemoveTagsFromResourceResponse.builder().build();
+        });
+    }
+
+    private <T> T call(final String operation, final Supplier<T> body) {
+        calls.computeIfAbsent(operation, key -> new AtomicInteger()).incrementAndGet();
+        final Duration delay = latency;
+        if (!delay.isZero()) {
+            Uninterruptibles.sleepUninterruptibly(delay.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        synchronized (this) {
+            return body.get();
+        }
+    }
+
+    private OptionGroup getExisting(final String optionGroupName) {
+        final OptionGroup optionGroup = optionGroups.get(optionGroupName);
+        if (optionGroup == null) {
+            throw OptionGroupNotFoundException.builder().message("OptionGroup " + optionGroupName + " not found").build();
+        }
+        return optionGroup;
+    }
+
+    private void putTags(final String arn, final Collection<Tag> newTags) {
+        final Map<String, String> resourceTags = tags.computeIfAbsent(arn, key -> new LinkedHashMap<>());
+        Optional.ofNullable(newTags).orElse(Collections.emptyList())
+                .forEach(tag -> resourceTags.put(tag.key(), tag.value()));
+    }
+
+    private static Option toOption(final OptionConfiguration configuration) {
+        return Option.builder()
+                .optionName(configuration.optionName())
+                .optionVersion(configuration.optionVersion())
+                .port(configuration.port())
+                .optionSettings(configuration.optionSettings())
+                .dbSecurityGroupMemberships(Optional.ofNullable(configuration.dbSecurityGroupMemberships()).orElse(Collections.emptyList()).stream()
+                        .map(name -> DBSecurityGroupMembership.builder().dbSecurityGroupName(name).status("authorized").build())
+                        .collect(Collectors.toList()))
+                .vpcSecurityGroupMemberships(Optional.ofNullable(configuration.vpcSecurityGroupMemberships()).orElse(Collections.emptyList()).stream()
+                        .map(id -> VpcSecurityGroupMembership.builder().vpcSecurityGroupId(id).status("active").build())
+                        .collect(Collectors.toList()))
+                .persistent(false)
+                .permanent(false)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package software.amazon.rds.optiongroup;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the real handler chains against {@link FakeRdsClient} instead of per-call mocks.
+ */
+public class HandlerLifecycleTest extends AbstractTestBase {
+
+    private static final int MAX_INVOCATIONS = 20;
+    private static final String OPTION_GROUP_NAME = "testoptiongroup";
+
+    private FakeRdsClient rds;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<RdsClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        rds = new FakeRdsClient();
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = MOCK_PROXY(proxy, rds);
+    }
+
+    @Test
+    public void createUpdateDelete() {
+        final ResourceModel initial = model(option("MEMCACHED", 11211));
+        final ResourceModel created = drive(new CreateHandler(), request(initial, null, ImmutableMap.of("env", "test"))).getResourceModel();
+
+        assertThat(created.getOptionConfigurations()).extracting(OptionConfiguration::getOptionName).containsExactly("MEMCACHED");
+        assertThat(created.getOptionConfigurations().get(0).getPort()).isEqualTo(11211);
+        assertThat(created.getTags()).containsExactly(Tag.builder().key("env").value("test").build());
+
+        final ResourceModel desired = model(option("MARIADB_AUDIT_PLUGIN", null));
+        final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(), request(desired, initial, ImmutableMap.of("env", "prod")));
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getOptionConfigurations()).extracting(OptionConfiguration::getOptionName).containsExactly("MARIADB_AUDIT_PLUGIN");
+        assertThat(updated.getResourceModel().getTags()).containsExactly(Tag.builder().key("env").value("prod").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = drive(new DeleteHandler(), request(desired, null, ImmutableMap.of()));
+
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rds.getOptionGroup(OPTION_GROUP_NAME)).isEmpty();
+
+        final ProgressEvent<ResourceModel, CallbackContext> read = drive(new ReadHandler(), request(desired, null, ImmutableMap.of()));
+
+        assertThat(read.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(read.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void update_tagsOnly_skipsModify() {
+        final ResourceModel initial = model(option("MEMCACHED", 11211));
+        drive(new CreateHandler(), request(initial, null, ImmutableMap.of()));
+
+        final ProgressEvent<ResourceModel, CallbackContext> updated = drive(new UpdateHandler(), request(model(option("MEMCACHED", 11211)), initial, ImmutableMap.of("env", "prod")));
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // the only modify call is the one issued by create
+        assertThat(rds.getCallCount("modifyOptionGroup")).isEqualTo(1);
+        assertThat(rds.getCallCount("addTagsToResource")).isEqualTo(1);
+    }
+
+    private ResourceModel model(final OptionConfiguration... options) {
+        return ResourceModel.builder()
+                .optionGroupName(OPTION_GROUP_NAME)
+                .optionGroupDescription("test option group")
+                .engineName("mysql")
+                .majorEngineVersion("5.6")
+                .optionConfigurations(Lists.newArrayList(options))
+                .build();
+    }
+
+    private static OptionConfiguration option(final String name, final Integer port) {
+        return OptionConfiguration.builder()
+                .optionName(name)
+                .port(port)
+                .optionSettings(Collections.emptyList())
+                .build();
+    }
+
+    private ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired,
+                                                          final ResourceModel previous,
+                                                          final Map<String, String> tags) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .desiredResourceTags(tags)
+                .logicalResourceIdentifier("optiongroup")
+                .clientRequestToken("token")
+                .build();
+    }
+
+    // Re-invokes the handler the way CloudFormation does until it leaves IN_PROGRESS, ignoring callback delays.
+    private ProgressEvent<ResourceModel, CallbackContext> drive(final BaseHandlerStd handler,
+                                                                final ResourceHandlerRequest<ResourceModel> request) {
+        CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> event = null;
+        for (int invocation = 0; invocation < MAX_INVOCATIONS; invocation++) {
+            event = handler.handleRequest(proxy, request, context, proxyClient, logger);
+            if (event.getStatus() != OperationStatus.IN_PROGRESS) {
+                break;
+            }
+            context = event.getCallbackContext();
+            if (event.getResourceModel() != null) {
+                request.setDesiredResourceState(event.getResourceModel());
+            }
+        }
+        assertThat(event.getStatus()).isNotEqualTo(OperationStatus.IN_PROGRESS);
+        return event;
+    }
+}
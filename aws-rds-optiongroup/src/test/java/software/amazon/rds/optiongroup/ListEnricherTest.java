@@ -0,0 +1,79 @@
+package software.amazon.rds.optiongroup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ListEnricherTest {
+
+    @Test
+    public void map_keepsAtMostMaxInFlight() {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxObserved = new AtomicInteger();
+
+        final List<Integer> results = new ListEnricher(3).map(items(12), item -> {
+            maxObserved.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Uninterruptibles.sleepUninterruptibly(20, TimeUnit.MILLISECONDS);
+            inFlight.decrementAndGet();
+            return item;
+        });
+
+        assertThat(results).hasSize(12);
+        assertThat(maxObserved.get()).isBetween(2, 3);
+    }
+
+    @Test
+    public void map_keepsPageOrder() {
+        // later items finish first
+        final List<String> results = new ListEnricher(4).map(items(4), item -> {
+            Uninterruptibles.sleepUninterruptibly(40 - 10 * item, TimeUnit.MILLISECONDS);
+            return "option-group-" + item;
+        });
+
+        assertThat(results).containsExactly("option-group-0", "option-group-1", "option-group-2", "option-group-3");
+    }
+
+    @Test
+    public void map_rethrowsFirstFailureAfterEveryCall() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> new ListEnricher(2).map(items(5), item -> {
+            calls.incrementAndGet();
+            if (item == 1 || item == 3) throw new IllegalStateException("failed " + item);
+            return item;
+        })).isInstanceOf(IllegalStateException.class).hasMessage("failed 1");
+        assertThat(calls.get()).isEqualTo(5);
+    }
+
+    @Test
+    public void map_isEmptyWithoutItems() {
+        assertThat(new ListEnricher(2).map(Collections.<Integer>emptyList(), item -> {
+            throw new AssertionError("nothing to enrich");
+        })).isEmpty();
+    }
+
+    @Test
+    public void map_runsOnSharedPool() {
+        assertThat(new ListEnricher(1).map(Arrays.asList(0, 1), item -> Thread.currentThread().getName()))
+                .allMatch(name -> name.startsWith("rds-list-enricher-"));
+    }
+
+    @Test
+    public void constructor_rejectsZeroInFlight() {
+        assertThatThrownBy(() -> new ListEnricher(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Integer> items(final int count) {
+        return IntStream.range(0, count).boxed().collect(Collectors.toList());
+    }
+}
@@ -3,10 +3,12 @@ package software.amazon.rds.optiongroup;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -15,10 +17,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DescribeOptionGroupsRequest;
 import software.amazon.awssdk.services.rds.model.DescribeOptionGroupsResponse;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rds.model.Option;
 import software.amazon.awssdk.services.rds.model.OptionGroup;
+import software.amazon.awssdk.services.rds.model.RdsException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -88,4 +95,102 @@ public class ListHandlerTest extends AbstractTestBase {
 
         verify(proxyRdsClient.client()).describeOptionGroups(any(DescribeOptionGroupsRequest.class));
     }
+
+    @Test
+    public void handleRequest_FullModels() {
+        handler = new ListHandler(true);
+
+        final DescribeOptionGroupsResponse describeOptionGroupsResponse = DescribeOptionGroupsResponse.builder()
+                .optionGroupsList(Arrays.asList(optionGroup("option-group-1"), optionGroup("option-group-2")))
+                .marker("testMarker")
+                .build();
+
+        when(proxyRdsClient.client()
+                .describeOptionGroups(any(DescribeOptionGroupsRequest.class)))
+                .thenReturn(describeOptionGroupsResponse);
+        when(proxyRdsClient.client()
+                .listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenAnswer(invocation -> ListTagsForResourceResponse.builder()
+                        .tagList(software.amazon.awssdk.services.rds.model.Tag.builder()
+                                .key("arn")
+                                .value(invocation.getArgument(0, ListTagsForResourceRequest.class).resourceName())
+                                .build())
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo("testMarker");
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getOptionGroupName)
+                .containsExactly("option-group-1", "option-group-2");
+        final ResourceModel second = response.getResourceModels().get(1);
+        assertThat(second.getEngineName()).isEqualTo("mysql");
+        assertThat(second.getOptionConfigurations()).extracting(OptionConfiguration::getOptionName).containsExactly("MEMCACHED");
+        assertThat(second.getTags()).containsExactly(Tag.builder().key("arn").value("arn:aws:rds:us-east-1:123456789012:og:option-group-2").build());
+
+        verify(proxyRdsClient.client()).describeOptionGroups(any(DescribeOptionGroupsRequest.class));
+        verify(proxyRdsClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_FullModelsWithoutTagAccess() {
+        handler = new ListHandler(true);
+
+        final DescribeOptionGroupsResponse describeOptionGroupsResponse = DescribeOptionGroupsResponse.builder()
+                .optionGroupsList(Arrays.asList(optionGroup("option-group-1"), optionGroup("option-group-2")))
+                .build();
+
+        when(proxyRdsClient.client()
+                .describeOptionGroups(any(DescribeOptionGroupsRequest.class)))
+                .thenReturn(describeOptionGroupsResponse);
+        when(proxyRdsClient.client()
+                .listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenAnswer(invocation -> {
+                    final String arn = invocation.getArgument(0, ListTagsForResourceRequest.class).resourceName();
+                    if (arn.endsWith(":option-group-1")) throw accessDenied();
+                    return ListTagsForResourceResponse.builder()
+                            .tagList(software.amazon.awssdk.services.rds.model.Tag.builder().key("arn").value(arn).build())
+                            .build();
+                });
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getOptionGroupName)
+                .containsExactly("option-group-1", "option-group-2");
+        assertThat(response.getResourceModels().get(0).getTags()).isEmpty();
+        assertThat(response.getResourceModels().get(1).getTags())
+                .containsExactly(Tag.builder().key("arn").value("arn:aws:rds:us-east-1:123456789012:og:option-group-2").build());
+
+        verify(proxyRdsClient.client()).describeOptionGroups(any(DescribeOptionGroupsRequest.class));
+        verify(proxyRdsClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    private static RdsException accessDenied() {
+        return (RdsException) RdsException.builder()
+                .statusCode(403)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("AccessDenied").errorMessage("not authorized to list tags").build())
+                .build();
+    }
+
+    private static OptionGroup optionGroup(final String optionGroupName) {
+        return OptionGroup.builder()
+                .optionGroupName(optionGroupName)
+                .optionGroupArn("arn:aws:rds:us-east-1:123456789012:og:" + optionGroupName)
+                .engineName("mysql")
+                .majorEngineVersion("5.7")
+                .optionGroupDescription(optionGroupName + " description")
+                .options(Option.builder().optionName("MEMCACHED").build())
+                .build();
+    }
 }
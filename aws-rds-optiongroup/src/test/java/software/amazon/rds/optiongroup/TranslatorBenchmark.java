@@ -0,0 +1,90 @@
+package software.amazon.rds.optiongroup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.services.rds.model.DBSecurityGroupMembership;
+import software.amazon.awssdk.services.rds.model.Option;
+import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
+
+/**
+ * Measures the translation of a described option group back into the resource model, which every
+ * read, create and update handler performs.
+ *
+ * Two options with a handful of settings each is a typical MySQL/MariaDB group; twenty options with
+ * forty settings each approximates a fully loaded Oracle or SQL Server group.
+ * Not part of the unit test suite; run the main method from the test classpath. The GC profiler reports the
+ * allocation rate (gc.alloc.rate.norm is bytes per operation) next to the throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    @Param({"2", "20"})
+    private int optionCount;
+
+    @Param({"5", "40"})
+    private int settingsPerOption;
+
+    private List<Option> options;
+
+    @Setup
+    public void setup() {
+        options = IntStream.range(0, optionCount)
+                .mapToObj(i -> Option.builder()
+                        .optionName("OPTION_" + i)
+                        .optionVersion("1.0." + i)
+                        .port(11211 + i)
+                        .optionSettings(IntStream.range(0, settingsPerOption)
+                                .mapToObj(j -> software.amazon.awssdk.services.rds.model.OptionSetting.builder()
+                                        .name("SETTING_" + j)
+                                        .value("value-" + j)
+                                        .defaultValue("default-" + j)
+                                        .applyType("DYNAMIC")
+                                        .dataType("STRING")
+                                        .isModifiable(true)
+                                        .build())
+                                .collect(Collectors.toList()))
+                        .dbSecurityGroupMemberships(DBSecurityGroupMembership.builder().dbSecurityGroupName("default").status("authorized").build())
+                        .vpcSecurityGroupMemberships(IntStream.range(0, 3)
+                                .mapToObj(j -> VpcSecurityGroupMembership.builder().vpcSecurityGroupId(String.format("sg-%017d", j)).status("active").build())
+                                .collect(Collectors.toList()))
+                        .persistent(false)
+                        .permanent(false)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<OptionConfiguration> translateOptionConfigurationsFromSdk() {
+        return Translator.translateOptionConfigurationsFromSdk(options);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TranslatorBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}